@@ -199,6 +199,29 @@ public interface ParallelIterable<T>
 
     <V extends Comparable<? super V>> T maxBy(Function<? super T, ? extends V> function);
 
+    /**
+     * Returns the {@code n} least elements according to the comparator, in ascending order. Each batch keeps its own
+     * bounded heap in parallel and the partial results are merged at the end.
+     *
+     * @since 7.0
+     */
+    MutableList<T> minN(int n, Comparator<? super T> comparator);
+
+    /**
+     * Returns the {@code n} greatest elements according to the comparator, in descending order.
+     *
+     * @since 7.0
+     */
+    MutableList<T> maxN(int n, Comparator<? super T> comparator);
+
+    /**
+     * Returns the {@code n} elements with the greatest values of the attribute returned by Function, in descending
+     * order of that attribute.
+     *
+     * @since 7.0
+     */
+    <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function);
+
     /**
      * Returns the final long result of evaluating function for each element of the iterable in parallel
      * and adding the results together.
@@ -1530,6 +1530,63 @@ public interface
      */
     <V extends Comparable<? super V>> T maxBy(Function<? super T, ? extends V> function);
 
+    /**
+     * Returns the {@code n} least elements out of this container based on the comparator, in ascending order. If the
+     * container has fewer than {@code n} elements, all of them are returned. The elements are selected with a bounded
+     * heap in O(size log n) time, without sorting the whole container.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @since 7.0
+     */
+    MutableList<T> minN(int n, Comparator<? super T> comparator);
+
+    /**
+     * Returns the {@code n} greatest elements out of this container based on the comparator, in descending order. If
+     * the container has fewer than {@code n} elements, all of them are returned. The elements are selected with a
+     * bounded heap in O(size log n) time, without sorting the whole container.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @since 7.0
+     */
+    MutableList<T> maxN(int n, Comparator<? super T> comparator);
+
+    /**
+     * Returns the {@code n} elements out of this container with the greatest values of the attribute returned by
+     * Function, in descending order of that attribute. This is equivalent to, but cheaper than,
+     * {@code toSortedListBy(function).reverseThis().take(n)}.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @since 7.0
+     */
+    <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function);
+
+    /**
+     * Same as {@link #topNBy(int, Function)}, but the attribute is an int which is computed once per element and never
+     * boxed.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @since 7.0
+     */
+    MutableList<T> topNByInt(int n, IntFunction<? super T> function);
+
+    /**
+     * Same as {@link #topNBy(int, Function)}, but the attribute is a long which is computed once per element and never
+     * boxed.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @since 7.0
+     */
+    MutableList<T> topNByLong(int n, LongFunction<? super T> function);
+
+    /**
+     * Same as {@link #topNBy(int, Function)}, but the attribute is a double which is computed once per element and
+     * never boxed. Attributes are ordered as by {@link Double#compare(double, double)}.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @since 7.0
+     */
+    MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function);
+
     /**
      * Returns the final long result of evaluating function for each element of the iterable and adding the results
      * together.
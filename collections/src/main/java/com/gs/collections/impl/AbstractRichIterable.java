@@ -80,9 +80,12 @@ import com.gs.collections.impl.block.procedure.InjectIntoProcedure;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
 import com.gs.collections.impl.block.procedure.MaxByProcedure;
 import com.gs.collections.impl.block.procedure.MaxComparatorProcedure;
+import com.gs.collections.impl.block.procedure.MaxNByDoubleProcedure;
+import com.gs.collections.impl.block.procedure.MaxNByLongProcedure;
 import com.gs.collections.impl.block.procedure.MaxProcedure;
 import com.gs.collections.impl.block.procedure.MinByProcedure;
 import com.gs.collections.impl.block.procedure.MinComparatorProcedure;
+import com.gs.collections.impl.block.procedure.MinNComparatorProcedure;
 import com.gs.collections.impl.block.procedure.MinProcedure;
 import com.gs.collections.impl.block.procedure.MultimapEachPutProcedure;
 import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
@@ -388,6 +391,44 @@ public abstract class AbstractRichIterable<T> implements RichIterable<T>
         return maxByProcedure.getResult();
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        MinNComparatorProcedure<T> procedure = new MinNComparatorProcedure<T>(n, comparator);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        return this.minN(n, Comparators.reverse(comparator));
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        return this.minN(n, Comparators.reverse(Comparators.byFunction(function)));
+    }
+
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        MaxNByLongProcedure<T> procedure = MaxNByLongProcedure.byInt(n, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        MaxNByLongProcedure<T> procedure = new MaxNByLongProcedure<T>(n, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        MaxNByDoubleProcedure<T> procedure = new MaxNByDoubleProcedure<T>(n, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
     public LazyIterable<T> asLazy()
     {
         return LazyIterate.adapt(this);
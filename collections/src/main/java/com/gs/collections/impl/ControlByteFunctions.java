@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl;
+
+/**
+ * Word-at-a-time operations over groups of eight control bytes packed into a {@code long}, used by the group-probing
+ * hash tables. Each control byte is either {@link #EMPTY}, {@link #DELETED}, or the low seven bits of the hash of the
+ * element stored in the corresponding slot. Match results are masks with the high bit of each matching byte set.
+ */
+public final class ControlByteFunctions
+{
+    public static final int GROUP_WIDTH = 8;
+    public static final int GROUP_SHIFT = 3;
+
+    public static final long EMPTY = 0x80L;
+    public static final long DELETED = 0xFEL;
+
+    public static final long EMPTY_GROUP = 0x8080808080808080L;
+
+    private static final long LSB = 0x0101010101010101L;
+    private static final long MSB = 0x8080808080808080L;
+
+    private ControlByteFunctions()
+    {
+    }
+
+    public static int h1(int hash)
+    {
+        return hash >>> 7;
+    }
+
+    public static long h2(int hash)
+    {
+        return (long) (hash & 0x7F);
+    }
+
+    public static long controlByte(long group, int slot)
+    {
+        return (group >>> (slot << 3)) & 0xFFL;
+    }
+
+    public static long setControlByte(long group, int slot, long value)
+    {
+        int shift = slot << 3;
+        return (group & ~(0xFFL << shift)) | (value << shift);
+    }
+
+    /**
+     * May report false positives for bytes adjacent to a real match; callers must confirm with an equality check.
+     */
+    public static long matchH2(long group, long h2)
+    {
+        long x = group ^ (LSB * h2);
+        return (x - LSB) & ~x & MSB;
+    }
+
+    public static long matchEmpty(long group)
+    {
+        return group & (~group << 6) & MSB;
+    }
+
+    public static long matchEmptyOrDeleted(long group)
+    {
+        return group & MSB;
+    }
+
+    public static long matchFull(long group)
+    {
+        return ~group & MSB;
+    }
+
+    public static int lowestSlot(long match)
+    {
+        return Long.numberOfTrailingZeros(match) >>> 3;
+    }
+
+    public static long clearLowest(long match)
+    {
+        return match & (match - 1L);
+    }
+
+    public static int maxLoad(int capacity)
+    {
+        return capacity - (capacity >>> 3);
+    }
+
+    /**
+     * Deleted markers count against {@link #maxLoad(int)}, so a full table may hold far fewer elements than its load
+     * suggests. Below 25/32 of the capacity it is cheaper to rebuild at the same size than to double.
+     */
+    public static boolean shouldRehashInPlace(int occupied, int capacity)
+    {
+        return (long) occupied * 32L <= (long) capacity * 25L;
+    }
+}
@@ -801,6 +801,54 @@ public class SynchronizedRichIterable<T>
         }
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.minN(n, comparator);
+        }
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.maxN(n, comparator);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.topNBy(n, function);
+        }
+    }
+
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.topNByInt(n, function);
+        }
+    }
+
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.topNByLong(n, function);
+        }
+    }
+
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.topNByDouble(n, function);
+        }
+    }
+
     public long sumOfInt(IntFunction<? super T> function)
     {
         synchronized (this.lock)
@@ -397,6 +397,36 @@ public class UnmodifiableRichIterable<T>
         return this.iterable.maxBy(function);
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        return this.iterable.minN(n, comparator);
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        return this.iterable.maxN(n, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        return this.iterable.topNBy(n, function);
+    }
+
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        return this.iterable.topNByInt(n, function);
+    }
+
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        return this.iterable.topNByLong(n, function);
+    }
+
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        return this.iterable.topNByDouble(n, function);
+    }
+
     public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
     {
         return this.iterable.detectIfNone(predicate, function);
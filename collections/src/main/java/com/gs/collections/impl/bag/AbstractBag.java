@@ -67,11 +67,15 @@ import com.gs.collections.impl.AbstractRichIterable;
 import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
+import com.gs.collections.impl.block.procedure.MaxNByDoubleProcedure;
+import com.gs.collections.impl.block.procedure.MaxNByLongProcedure;
+import com.gs.collections.impl.block.procedure.MinNComparatorProcedure;
 import com.gs.collections.impl.factory.SortedSets;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.primitive.IntQuickSelect;
 
 /**
  * @since 7.0
@@ -1028,6 +1032,43 @@ public abstract class AbstractBag<T>
         return result;
     }
 
+    @Override
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        MinNComparatorProcedure<T> procedure = new MinNComparatorProcedure<T>(n, comparator);
+        this.forEachWithOccurrences(procedure);
+        return procedure.getResult();
+    }
+
+    @Override
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        MaxNByLongProcedure<T> procedure = MaxNByLongProcedure.byInt(n, function);
+        this.forEachWithOccurrences(procedure);
+        return procedure.getResult();
+    }
+
+    @Override
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        MaxNByLongProcedure<T> procedure = new MaxNByLongProcedure<T>(n, function);
+        this.forEachWithOccurrences(procedure);
+        return procedure.getResult();
+    }
+
+    @Override
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        MaxNByDoubleProcedure<T> procedure = new MaxNByDoubleProcedure<T>(n, function);
+        this.forEachWithOccurrences(procedure);
+        return procedure.getResult();
+    }
+
+    /**
+     * Returns the {@code n} occurrences with the least keys, plus any further occurrences which tie with the last of
+     * them, in the order of a stable sort by key. The cut-off key is found by linear-time selection rather than by
+     * sorting every distinct item, so only the returned occurrences are sorted.
+     */
     protected MutableList<ObjectIntPair<T>> occurrencesSortingBy(int n, IntFunction<ObjectIntPair<T>> function, MutableList<ObjectIntPair<T>> returnWhenEmpty)
     {
         if (n < 0)
@@ -1038,14 +1079,27 @@ public abstract class AbstractBag<T>
         {
             return returnWhenEmpty;
         }
-        int keySize = Math.min(n, this.sizeDistinct());
-        MutableList<ObjectIntPair<T>> sorted = this.toListWithOccurrences().sortThisByInt(function);
-        MutableList<ObjectIntPair<T>> results = sorted.subList(0, keySize).toList();
-        while (keySize < sorted.size() && results.getLast().getTwo() == sorted.get(keySize).getTwo())
+        MutableList<ObjectIntPair<T>> occurrences = this.toListWithOccurrences();
+        int distinct = occurrences.size();
+        if (n >= distinct)
         {
-            results.add(sorted.get(keySize));
-            keySize++;
+            return occurrences.sortThisByInt(function);
+        }
+        int[] keys = new int[distinct];
+        for (int i = 0; i < distinct; i++)
+        {
+            keys[i] = function.intValueOf(occurrences.get(i));
+        }
+        int cutOff = IntQuickSelect.kthSmallest(keys, distinct, n - 1);
+        MutableList<ObjectIntPair<T>> results = FastList.newList(n);
+        for (int i = 0; i < distinct; i++)
+        {
+            ObjectIntPair<T> each = occurrences.get(i);
+            if (function.intValueOf(each) <= cutOff)
+            {
+                results.add(each);
+            }
         }
-        return results;
+        return results.sortThisByInt(function);
     }
 }
@@ -347,7 +347,7 @@ abstract class AbstractImmutableSortedBag<T>
             {
                 return -item.getTwo();
             }
-        }).toImmutable();
+        }, Lists.fixedSize.<ObjectIntPair<T>>empty()).toImmutable();
     }
 
     public ImmutableList<ObjectIntPair<T>> bottomOccurrences(int n)
@@ -358,28 +358,7 @@ abstract class AbstractImmutableSortedBag<T>
             {
                 return item.getTwo();
             }
-        }).toImmutable();
-    }
-
-    private MutableList<ObjectIntPair<T>> occurrencesSortingBy(int n, IntFunction<ObjectIntPair<T>> function)
-    {
-        if (n < 0)
-        {
-            throw new IllegalArgumentException("Cannot use a value of n < 0");
-        }
-        if (n == 0)
-        {
-            return Lists.fixedSize.empty();
-        }
-        int keySize = Math.min(n, this.sizeDistinct());
-        MutableList<ObjectIntPair<T>> sorted = this.toListWithOccurrences().sortThisByInt(function);
-        MutableList<ObjectIntPair<T>> results = sorted.subList(0, keySize).toList();
-        while (keySize < sorted.size() && results.getLast().getTwo() == sorted.get(keySize).getTwo())
-        {
-            results.add(sorted.get(keySize));
-            keySize++;
-        }
-        return results;
+        }, Lists.fixedSize.<ObjectIntPair<T>>empty()).toImmutable();
     }
 
     public MutableStack<T> toStack()
@@ -389,6 +389,36 @@ public abstract class AbstractBiMap<K, V> implements BiMap<K, V>
         return this.getDelegate().maxBy(function);
     }
 
+    public MutableList<V> minN(int n, Comparator<? super V> comparator)
+    {
+        return this.getDelegate().minN(n, comparator);
+    }
+
+    public MutableList<V> maxN(int n, Comparator<? super V> comparator)
+    {
+        return this.getDelegate().maxN(n, comparator);
+    }
+
+    public <VV extends Comparable<? super VV>> MutableList<V> topNBy(int n, Function<? super V, ? extends VV> function)
+    {
+        return this.getDelegate().topNBy(n, function);
+    }
+
+    public MutableList<V> topNByInt(int n, IntFunction<? super V> function)
+    {
+        return this.getDelegate().topNByInt(n, function);
+    }
+
+    public MutableList<V> topNByLong(int n, LongFunction<? super V> function)
+    {
+        return this.getDelegate().topNByLong(n, function);
+    }
+
+    public MutableList<V> topNByDouble(int n, DoubleFunction<? super V> function)
+    {
+        return this.getDelegate().topNByDouble(n, function);
+    }
+
     public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
     {
         return this.getDelegate().detect(predicate);
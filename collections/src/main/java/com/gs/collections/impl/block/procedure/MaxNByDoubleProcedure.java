@@ -0,0 +1,172 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * Implementation of {@link Procedure} that holds on to the {@code n} elements with the greatest double keys seen so far.
+ * The keys are computed once per element and kept unboxed in a bounded binary heap next to their elements, with the
+ * least key at the root.
+ * <p>
+ * Keys are ordered as by {@link Double#compare(double, double)}, so NaN is greater than every other key.
+ *
+ * @since 7.0
+ */
+public final class MaxNByDoubleProcedure<T> implements Procedure<T>, ObjectIntProcedure<T>
+{
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private final DoubleFunction<? super T> function;
+    private final int n;
+    private Object[] elements;
+    private double[] keys;
+    private int size;
+
+    public MaxNByDoubleProcedure(int n, DoubleFunction<? super T> function)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        this.function = function;
+        this.n = n;
+        int capacity = Math.min(n, DEFAULT_INITIAL_CAPACITY);
+        this.elements = new Object[capacity];
+        this.keys = new double[capacity];
+    }
+
+    public void value(T each)
+    {
+        this.value(each, 1);
+    }
+
+    /**
+     * Same as calling {@link #value(Object)} {@code occurrences} times, but computes the key only once.
+     */
+    public void value(T each, int occurrences)
+    {
+        if (this.n == 0 || occurrences <= 0)
+        {
+            return;
+        }
+        double key = this.function.doubleValueOf(each);
+        for (int i = 0; i < occurrences; i++)
+        {
+            if (this.size < this.n)
+            {
+                this.push(each, key);
+            }
+            else if (Double.compare(key, this.keys[0]) > 0)
+            {
+                this.elements[0] = each;
+                this.keys[0] = key;
+                this.siftDown();
+            }
+            else
+            {
+                return;
+            }
+        }
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the elements held so far, greatest key first. This drains the heap, so it may only be called once.
+     */
+    public MutableList<T> getResult()
+    {
+        Object[] sorted = new Object[this.size];
+        for (int i = sorted.length - 1; i >= 0; i--)
+        {
+            sorted[i] = this.elements[0];
+            this.size--;
+            this.elements[0] = this.elements[this.size];
+            this.keys[0] = this.keys[this.size];
+            this.elements[this.size] = null;
+            this.siftDown();
+        }
+        return FastList.newListWith((T[]) sorted);
+    }
+
+    private void push(T each, double key)
+    {
+        if (this.size == this.elements.length)
+        {
+            int newCapacity = (int) Math.min((long) this.n, (this.elements.length << 1) + 1L);
+            Object[] newElements = new Object[newCapacity];
+            System.arraycopy(this.elements, 0, newElements, 0, this.size);
+            this.elements = newElements;
+            double[] newKeys = new double[newCapacity];
+            System.arraycopy(this.keys, 0, newKeys, 0, this.size);
+            this.keys = newKeys;
+        }
+        int child = this.size++;
+        while (child > 0)
+        {
+            int parent = (child - 1) >>> 1;
+            if (Double.compare(key, this.keys[parent]) >= 0)
+            {
+                break;
+            }
+            this.elements[child] = this.elements[parent];
+            this.keys[child] = this.keys[parent];
+            child = parent;
+        }
+        this.elements[child] = each;
+        this.keys[child] = key;
+    }
+
+    private void siftDown()
+    {
+        if (this.size == 0)
+        {
+            return;
+        }
+        Object element = this.elements[0];
+        double key = this.keys[0];
+        int parent = 0;
+        int half = this.size >>> 1;
+        while (parent < half)
+        {
+            int child = (parent << 1) + 1;
+            int right = child + 1;
+            if (right < this.size && Double.compare(this.keys[right], this.keys[child]) < 0)
+            {
+                child = right;
+            }
+            if (Double.compare(key, this.keys[child]) <= 0)
+            {
+                break;
+            }
+            this.elements[parent] = this.elements[child];
+            this.keys[parent] = this.keys[child];
+            parent = child;
+        }
+        this.elements[parent] = element;
+        this.keys[parent] = key;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import java.util.Comparator;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * Implementation of {@link Procedure} that holds on to the {@code n} least elements seen so far, determined by the
+ * {@link Comparator}. The elements are kept in a bounded binary heap with the greatest of them at the root, so each
+ * element costs O(log n) and an element which cannot make the cut costs a single comparison.
+ *
+ * @since 7.0
+ */
+public class MinNComparatorProcedure<T> implements Procedure<T>, ObjectIntProcedure<T>
+{
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private final Comparator<? super T> comparator;
+    private final int n;
+    private Object[] heap;
+    private int size;
+
+    public MinNComparatorProcedure(int n, Comparator<? super T> comparator)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        this.comparator = comparator;
+        this.n = n;
+        this.heap = new Object[Math.min(n, DEFAULT_INITIAL_CAPACITY)];
+    }
+
+    public void value(T each)
+    {
+        if (this.size < this.n)
+        {
+            this.push(each);
+        }
+        else if (this.n > 0 && this.comparator.compare(each, this.root()) < 0)
+        {
+            this.heap[0] = each;
+            this.siftDown(0);
+        }
+    }
+
+    /**
+     * Same as calling {@link #value(Object)} {@code occurrences} times, but stops as soon as {@code each} no longer
+     * makes the cut.
+     */
+    public void value(T each, int occurrences)
+    {
+        for (int i = 0; i < occurrences; i++)
+        {
+            if (this.size == this.n && (this.n == 0 || this.comparator.compare(each, this.root()) >= 0))
+            {
+                return;
+            }
+            this.value(each);
+        }
+    }
+
+    /**
+     * Adds every element held by {@code other}, which is how partial results from separate batches are combined.
+     */
+    public void addAll(MinNComparatorProcedure<T> other)
+    {
+        for (int i = 0; i < other.size; i++)
+        {
+            this.value((T) other.heap[i]);
+        }
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the elements held so far in ascending order. This drains the heap, so it may only be called once.
+     */
+    public MutableList<T> getResult()
+    {
+        Object[] sorted = new Object[this.size];
+        for (int i = sorted.length - 1; i >= 0; i--)
+        {
+            sorted[i] = this.heap[0];
+            this.size--;
+            this.heap[0] = this.heap[this.size];
+            this.heap[this.size] = null;
+            this.siftDown(0);
+        }
+        return FastList.newListWith((T[]) sorted);
+    }
+
+    private T root()
+    {
+        return (T) this.heap[0];
+    }
+
+    private void push(T each)
+    {
+        if (this.size == this.heap.length)
+        {
+            Object[] newHeap = new Object[(int) Math.min((long) this.n, (this.heap.length << 1) + 1L)];
+            System.arraycopy(this.heap, 0, newHeap, 0, this.size);
+            this.heap = newHeap;
+        }
+        int child = this.size++;
+        while (child > 0)
+        {
+            int parent = (child - 1) >>> 1;
+            if (this.comparator.compare(each, (T) this.heap[parent]) <= 0)
+            {
+                break;
+            }
+            this.heap[child] = this.heap[parent];
+            child = parent;
+        }
+        this.heap[child] = each;
+    }
+
+    private void siftDown(int index)
+    {
+        if (this.size == 0)
+        {
+            return;
+        }
+        T item = (T) this.heap[index];
+        int parent = index;
+        int half = this.size >>> 1;
+        while (parent < half)
+        {
+            int child = (parent << 1) + 1;
+            int right = child + 1;
+            if (right < this.size && this.comparator.compare((T) this.heap[right], (T) this.heap[child]) > 0)
+            {
+                child = right;
+            }
+            if (this.comparator.compare(item, (T) this.heap[child]) >= 0)
+            {
+                break;
+            }
+            this.heap[parent] = this.heap[child];
+            parent = child;
+        }
+        this.heap[parent] = item;
+    }
+}
@@ -703,6 +703,54 @@ public abstract class AbstractSynchronizedRichIterable<T> implements RichIterabl
         }
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.minN(n, comparator);
+        }
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.maxN(n, comparator);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.topNBy(n, function);
+        }
+    }
+
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.topNByInt(n, function);
+        }
+    }
+
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.topNByLong(n, function);
+        }
+    }
+
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.topNByDouble(n, function);
+        }
+    }
+
     public long sumOfInt(IntFunction<? super T> function)
     {
         synchronized (this.lock)
@@ -70,6 +70,9 @@ import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
+import com.gs.collections.impl.block.procedure.MaxNByDoubleProcedure;
+import com.gs.collections.impl.block.procedure.MaxNByLongProcedure;
+import com.gs.collections.impl.block.procedure.MinNComparatorProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import com.gs.collections.impl.factory.Lists;
@@ -176,6 +179,44 @@ public abstract class AbstractCollectionAdapter<T>
         return IterableIterate.maxBy(this, function);
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        MinNComparatorProcedure<T> procedure = new MinNComparatorProcedure<T>(n, comparator);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        return this.minN(n, Comparators.reverse(comparator));
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        return this.minN(n, Comparators.reverse(Comparators.byFunction(function)));
+    }
+
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        MaxNByLongProcedure<T> procedure = MaxNByLongProcedure.byInt(n, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        MaxNByLongProcedure<T> procedure = new MaxNByLongProcedure<T>(n, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        MaxNByDoubleProcedure<T> procedure = new MaxNByDoubleProcedure<T>(n, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
     public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
     {
         T result = this.detect(predicate);
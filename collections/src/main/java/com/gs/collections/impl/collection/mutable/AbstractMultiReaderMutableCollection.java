@@ -587,6 +587,84 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         }
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().minN(n, comparator);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().maxN(n, comparator);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().topNBy(n, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().topNByInt(n, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().topNByLong(n, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().topNByDouble(n, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
     public T detectIfNone(
             Predicate<? super T> predicate,
             Function0<? extends T> function)
@@ -1749,6 +1827,36 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
             return this.delegate.maxBy(function);
         }
 
+        public MutableList<T> minN(int n, Comparator<? super T> comparator)
+        {
+            return this.delegate.minN(n, comparator);
+        }
+
+        public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+        {
+            return this.delegate.maxN(n, comparator);
+        }
+
+        public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+        {
+            return this.delegate.topNBy(n, function);
+        }
+
+        public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+        {
+            return this.delegate.topNByInt(n, function);
+        }
+
+        public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+        {
+            return this.delegate.topNByLong(n, function);
+        }
+
+        public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+        {
+            return this.delegate.topNByDouble(n, function);
+        }
+
         public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
         {
             return this.delegate.detectIfNone(predicate, function);
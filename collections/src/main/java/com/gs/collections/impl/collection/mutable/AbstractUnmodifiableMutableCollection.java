@@ -491,6 +491,36 @@ public class AbstractUnmodifiableMutableCollection<T> implements MutableCollecti
         return this.getMutableCollection().maxBy(function);
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        return this.getMutableCollection().minN(n, comparator);
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        return this.getMutableCollection().maxN(n, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        return this.getMutableCollection().topNBy(n, function);
+    }
+
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        return this.getMutableCollection().topNByInt(n, function);
+    }
+
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        return this.getMutableCollection().topNByLong(n, function);
+    }
+
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        return this.getMutableCollection().topNByDouble(n, function);
+    }
+
     public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
     {
         return this.getMutableCollection().detectIfNone(predicate, function);
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.columnar;
+
+/**
+ * The base class of the columns of a {@link ColumnarTable}, which remembers the table a column belongs to so that
+ * selections and rows can check that they are given columns of their own table.
+ *
+ * @since 7.0
+ */
+abstract class AbstractColumn
+{
+    private final ColumnarTable<?> table;
+
+    AbstractColumn(ColumnarTable<?> table)
+    {
+        this.table = table;
+    }
+
+    void checkTable(ColumnarTable<?> expectedTable)
+    {
+        if (this.table != expectedTable)
+        {
+            throw new IllegalArgumentException("The column belongs to a different ColumnarTable");
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.columnar;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.primitive.DoublePredicate;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+
+/**
+ * A selection of rows of a {@link ColumnarTable}, held as a bitmap of row indexes. Selections are immutable: each
+ * {@code select} evaluates its predicate only over the rows already selected and returns a new selection, and
+ * selections of the same table can be combined with {@link #and(ColumnSelection)}, {@link #or(ColumnSelection)} and
+ * {@link #andNot(ColumnSelection)}. The aggregations read the values of the selected rows directly from the columns.
+ * A selection does not include rows added to the table after it was made.
+ *
+ * @since 7.0
+ */
+public final class ColumnSelection
+{
+    private final ColumnarTable<?> table;
+    private final BitSet rows;
+
+    ColumnSelection(ColumnarTable<?> table, BitSet rows)
+    {
+        this.table = table;
+        this.rows = rows;
+    }
+
+    public int size()
+    {
+        return this.rows.cardinality();
+    }
+
+    public boolean isEmpty()
+    {
+        return this.rows.isEmpty();
+    }
+
+    public boolean notEmpty()
+    {
+        return !this.rows.isEmpty();
+    }
+
+    public boolean contains(int row)
+    {
+        return this.rows.get(row);
+    }
+
+    public ColumnSelection select(IntColumn column, IntPredicate predicate)
+    {
+        column.checkTable(this.table);
+        BitSet result = new BitSet(this.rows.length());
+        for (int row = this.rows.nextSetBit(0); row >= 0; row = this.rows.nextSetBit(row + 1))
+        {
+            if (predicate.accept(column.get(row)))
+            {
+                result.set(row);
+            }
+        }
+        return new ColumnSelection(this.table, result);
+    }
+
+    public ColumnSelection select(DoubleColumn column, DoublePredicate predicate)
+    {
+        column.checkTable(this.table);
+        BitSet result = new BitSet(this.rows.length());
+        for (int row = this.rows.nextSetBit(0); row >= 0; row = this.rows.nextSetBit(row + 1))
+        {
+            if (predicate.accept(column.get(row)))
+            {
+                result.set(row);
+            }
+        }
+        return new ColumnSelection(this.table, result);
+    }
+
+    /**
+     * Selects the rows whose value in the column satisfies the predicate. The predicate is evaluated once for each
+     * distinct value of the column, and the rows are then selected by their codes.
+     */
+    public <V> ColumnSelection select(DictionaryColumn<V> column, Predicate<? super V> predicate)
+    {
+        column.checkTable(this.table);
+        BitSet codes = column.codesSatisfying(predicate);
+        BitSet result = new BitSet(this.rows.length());
+        if (!codes.isEmpty())
+        {
+            for (int row = this.rows.nextSetBit(0); row >= 0; row = this.rows.nextSetBit(row + 1))
+            {
+                if (codes.get(column.getCode(row)))
+                {
+                    result.set(row);
+                }
+            }
+        }
+        return new ColumnSelection(this.table, result);
+    }
+
+    private BitSet copyRows(ColumnSelection other)
+    {
+        if (other.table != this.table)
+        {
+            throw new IllegalArgumentException("The selections belong to different ColumnarTables");
+        }
+        return (BitSet) this.rows.clone();
+    }
+
+    public ColumnSelection and(ColumnSelection other)
+    {
+        BitSet result = this.copyRows(other);
+        result.and(other.rows);
+        return new ColumnSelection(this.table, result);
+    }
+
+    public ColumnSelection or(ColumnSelection other)
+    {
+        BitSet result = this.copyRows(other);
+        result.or(other.rows);
+        return new ColumnSelection(this.table, result);
+    }
+
+    public ColumnSelection andNot(ColumnSelection other)
+    {
+        BitSet result = this.copyRows(other);
+        result.andNot(other.rows);
+        return new ColumnSelection(this.table, result);
+    }
+
+    public long sumOfInt(IntColumn column)
+    {
+        column.checkTable(this.table);
+        long sum = 0L;
+        for (int row = this.rows.nextSetBit(0); row >= 0; row = this.rows.nextSetBit(row + 1))
+        {
+            sum += column.get(row);
+        }
+        return sum;
+    }
+
+    public double sumOfDouble(DoubleColumn column)
+    {
+        column.checkTable(this.table);
+        double sum = 0.0;
+        double compensation = 0.0;
+        for (int row = this.rows.nextSetBit(0); row >= 0; row = this.rows.nextSetBit(row + 1))
+        {
+            double adjustedValue = column.get(row) - compensation;
+            double nextSum = sum + adjustedValue;
+            compensation = nextSum - sum - adjustedValue;
+            sum = nextSum;
+        }
+        return sum;
+    }
+
+    /**
+     * Splits the selection by the values of the column into one selection per distinct value.
+     */
+    public <V> MutableMap<V, ColumnSelection> groupBy(DictionaryColumn<V> column)
+    {
+        column.checkTable(this.table);
+        BitSet[] groups = new BitSet[column.getDictionarySize()];
+        int groupCount = 0;
+        for (int row = this.rows.nextSetBit(0); row >= 0; row = this.rows.nextSetBit(row + 1))
+        {
+            int code = column.getCode(row);
+            if (groups[code] == null)
+            {
+                groups[code] = new BitSet(this.rows.length());
+                groupCount++;
+            }
+            groups[code].set(row);
+        }
+        MutableMap<V, ColumnSelection> result = UnifiedMap.newMap(groupCount);
+        for (int code = 0; code < groups.length; code++)
+        {
+            if (groups[code] != null)
+            {
+                result.put(column.decode(code), new ColumnSelection(this.table, groups[code]));
+            }
+        }
+        return result;
+    }
+
+    public <V> MutableBag<V> countBy(DictionaryColumn<V> column)
+    {
+        column.checkTable(this.table);
+        int[] counts = new int[column.getDictionarySize()];
+        for (int row = this.rows.nextSetBit(0); row >= 0; row = this.rows.nextSetBit(row + 1))
+        {
+            counts[column.getCode(row)]++;
+        }
+        MutableBag<V> result = HashBag.newBag();
+        for (int code = 0; code < counts.length; code++)
+        {
+            if (counts[code] > 0)
+            {
+                result.addOccurrences(column.decode(code), counts[code]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sums the values of the int column for each distinct value of the dictionary column, accumulating by code.
+     *
+     * @see com.gs.collections.api.RichIterable#sumByInt
+     */
+    public <V> ObjectLongMap<V> sumByInt(DictionaryColumn<V> groupBy, IntColumn column)
+    {
+        groupBy.checkTable(this.table);
+        column.checkTable(this.table);
+        long[] sums = new long[groupBy.getDictionarySize()];
+        BitSet codes = new BitSet(sums.length);
+        for (int row = this.rows.nextSetBit(0); row >= 0; row = this.rows.nextSetBit(row + 1))
+        {
+            int code = groupBy.getCode(row);
+            sums[code] += column.get(row);
+            codes.set(code);
+        }
+        ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+        for (int code = codes.nextSetBit(0); code >= 0; code = codes.nextSetBit(code + 1))
+        {
+            result.put(groupBy.decode(code), sums[code]);
+        }
+        return result;
+    }
+
+    /**
+     * Sums the values of the double column for each distinct value of the dictionary column, accumulating by code.
+     *
+     * @see com.gs.collections.api.RichIterable#sumByDouble
+     */
+    public <V> ObjectDoubleMap<V> sumByDouble(DictionaryColumn<V> groupBy, DoubleColumn column)
+    {
+        groupBy.checkTable(this.table);
+        column.checkTable(this.table);
+        double[] sums = new double[groupBy.getDictionarySize()];
+        double[] compensations = new double[sums.length];
+        BitSet codes = new BitSet(sums.length);
+        for (int row = this.rows.nextSetBit(0); row >= 0; row = this.rows.nextSetBit(row + 1))
+        {
+            int code = groupBy.getCode(row);
+            double adjustedValue = column.get(row) - compensations[code];
+            double nextSum = sums[code] + adjustedValue;
+            compensations[code] = nextSum - sums[code] - adjustedValue;
+            sums[code] = nextSum;
+            codes.set(code);
+        }
+        ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+        for (int code = codes.nextSetBit(0); code >= 0; code = codes.nextSetBit(code + 1))
+        {
+            result.put(groupBy.decode(code), sums[code]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a lazy iterable of views of the selected rows, in row order, which are created as it is iterated.
+     */
+    public LazyIterable<ColumnarRow> rows()
+    {
+        return new RowIterable();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ColumnSelection))
+        {
+            return false;
+        }
+        ColumnSelection other = (ColumnSelection) o;
+        return this.table == other.table && this.rows.equals(other.rows);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.rows.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.rows.toString();
+    }
+
+    private final class RowIterable
+            extends AbstractLazyIterable<ColumnarRow>
+    {
+        public void each(Procedure<? super ColumnarRow> procedure)
+        {
+            BitSet rows = ColumnSelection.this.rows;
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1))
+            {
+                procedure.value(new ColumnarRow(ColumnSelection.this.table, row));
+            }
+        }
+
+        public Iterator<ColumnarRow> iterator()
+        {
+            return new RowIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ColumnSelection.this.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ColumnSelection.this.isEmpty();
+        }
+    }
+
+    private final class RowIterator
+            implements Iterator<ColumnarRow>
+    {
+        private int next = ColumnSelection.this.rows.nextSetBit(0);
+
+        public boolean hasNext()
+        {
+            return this.next >= 0;
+        }
+
+        public ColumnarRow next()
+        {
+            if (this.next < 0)
+            {
+                throw new NoSuchElementException();
+            }
+            ColumnarRow row = new ColumnarRow(ColumnSelection.this.table, this.next);
+            this.next = ColumnSelection.this.rows.nextSetBit(this.next + 1);
+            return row;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.columnar;
+
+/**
+ * A view of one row of a {@link ColumnarTable}, which reads its values from the columns of the table when they are
+ * asked for. Rows are equal when they are the same row of the same table.
+ *
+ * @since 7.0
+ */
+public final class ColumnarRow
+{
+    private final ColumnarTable<?> table;
+    private final int index;
+
+    ColumnarRow(ColumnarTable<?> table, int index)
+    {
+        this.table = table;
+        this.index = index;
+    }
+
+    public int getIndex()
+    {
+        return this.index;
+    }
+
+    public int getInt(IntColumn column)
+    {
+        column.checkTable(this.table);
+        return column.get(this.index);
+    }
+
+    public double getDouble(DoubleColumn column)
+    {
+        column.checkTable(this.table);
+        return column.get(this.index);
+    }
+
+    public <V> V get(DictionaryColumn<V> column)
+    {
+        column.checkTable(this.table);
+        return column.get(this.index);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ColumnarRow))
+        {
+            return false;
+        }
+        ColumnarRow other = (ColumnarRow) o;
+        return this.table == other.table && this.index == other.index;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * System.identityHashCode(this.table) + this.index;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ColumnarRow[" + this.index + ']';
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.columnar;
+
+import java.util.BitSet;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.primitive.DoublePredicate;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * ColumnarTable stores records as a set of columns rather than as a list of objects. Each column is defined by a
+ * function which extracts an attribute from a record; ints and doubles are held in primitive lists and objects in
+ * {@link DictionaryColumn}s. Adding a record extracts its attributes into the columns, and the record itself is not
+ * kept.
+ * <p>
+ * A scan such as {@link #sumOfDouble(DoubleColumn)} or {@link #select(IntColumn, IntPredicate)} reads only the
+ * columns it uses, sequentially, instead of following a pointer to each object. Selections are returned as
+ * {@link ColumnSelection}s, bitmaps of row indexes which can be combined and then summed or grouped over other
+ * columns. Rows are materialized only on demand, as {@link ColumnarRow} views built from the columns.
+ * <pre>
+ * ColumnarTable&lt;Position&gt; table = ColumnarTable.newTable();
+ * IntColumn quantity = table.addIntColumn(Position::getQuantity);
+ * DoubleColumn marketValue = table.addDoubleColumn(Position::getMarketValue);
+ * DictionaryColumn&lt;String&gt; category = table.addDictionaryColumn(Position::getCategory);
+ * table.addAll(positions);
+ *
+ * double total = table.sumOfDouble(marketValue);
+ * ObjectDoubleMap&lt;String&gt; largeByCategory =
+ *     table.select(quantity, each -&gt; each &gt; 1000).sumByDouble(category, marketValue);
+ * </pre>
+ * The columns must all be added before the first record.
+ *
+ * @since 7.0
+ */
+public final class ColumnarTable<T>
+{
+    private final MutableList<ColumnAppender<T>> appenders = FastList.newList();
+    private int size;
+
+    public static <T> ColumnarTable<T> newTable()
+    {
+        return new ColumnarTable<T>();
+    }
+
+    private void checkEmpty()
+    {
+        if (this.size > 0)
+        {
+            throw new IllegalStateException("Columns cannot be added to a ColumnarTable which has rows");
+        }
+    }
+
+    public IntColumn addIntColumn(final IntFunction<? super T> function)
+    {
+        this.checkEmpty();
+        final IntColumn column = new IntColumn(this);
+        this.appenders.add(new ColumnAppender<T>()
+        {
+            private int value;
+
+            public void extract(T record)
+            {
+                this.value = function.intValueOf(record);
+            }
+
+            public void append()
+            {
+                column.add(this.value);
+            }
+        });
+        return column;
+    }
+
+    public DoubleColumn addDoubleColumn(final DoubleFunction<? super T> function)
+    {
+        this.checkEmpty();
+        final DoubleColumn column = new DoubleColumn(this);
+        this.appenders.add(new ColumnAppender<T>()
+        {
+            private double value;
+
+            public void extract(T record)
+            {
+                this.value = function.doubleValueOf(record);
+            }
+
+            public void append()
+            {
+                column.add(this.value);
+            }
+        });
+        return column;
+    }
+
+    public <V> DictionaryColumn<V> addDictionaryColumn(final Function<? super T, ? extends V> function)
+    {
+        this.checkEmpty();
+        final DictionaryColumn<V> column = new DictionaryColumn<V>(this);
+        this.appenders.add(new ColumnAppender<T>()
+        {
+            private V value;
+
+            public void extract(T record)
+            {
+                this.value = function.valueOf(record);
+            }
+
+            public void append()
+            {
+                column.add(this.value);
+                this.value = null;
+            }
+        });
+        return column;
+    }
+
+    /**
+     * Adds a record to the table. Every attribute is extracted before any column is appended to, so if a function
+     * throws, no column is changed.
+     */
+    public void add(T record)
+    {
+        for (int i = 0; i < this.appenders.size(); i++)
+        {
+            this.appenders.get(i).extract(record);
+        }
+        for (int i = 0; i < this.appenders.size(); i++)
+        {
+            this.appenders.get(i).append();
+        }
+        this.size++;
+    }
+
+    public void addAll(Iterable<? extends T> records)
+    {
+        for (T each : records)
+        {
+            this.add(each);
+        }
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    /**
+     * Returns a selection of every row of the table.
+     */
+    public ColumnSelection all()
+    {
+        BitSet rows = new BitSet(this.size);
+        rows.set(0, this.size);
+        return new ColumnSelection(this, rows);
+    }
+
+    public ColumnSelection select(IntColumn column, IntPredicate predicate)
+    {
+        return this.all().select(column, predicate);
+    }
+
+    public ColumnSelection select(DoubleColumn column, DoublePredicate predicate)
+    {
+        return this.all().select(column, predicate);
+    }
+
+    public <V> ColumnSelection select(DictionaryColumn<V> column, Predicate<? super V> predicate)
+    {
+        return this.all().select(column, predicate);
+    }
+
+    public long sumOfInt(IntColumn column)
+    {
+        column.checkTable(this);
+        return column.sum();
+    }
+
+    public double sumOfDouble(DoubleColumn column)
+    {
+        column.checkTable(this);
+        return column.sum();
+    }
+
+    public ColumnarRow getRow(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        return new ColumnarRow(this, index);
+    }
+
+    /**
+     * Returns a lazy iterable of views of every row of the table, which are created as it is iterated.
+     */
+    public LazyIterable<ColumnarRow> rows()
+    {
+        return this.all().rows();
+    }
+
+    /**
+     * Holds the value of one column extracted from a record until every column has extracted its value.
+     */
+    private interface ColumnAppender<T>
+    {
+        void extract(T record);
+
+        void append();
+    }
+}
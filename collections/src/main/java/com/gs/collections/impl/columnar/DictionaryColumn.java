@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.columnar;
+
+import java.util.BitSet;
+
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+
+/**
+ * A column of objects of a {@link ColumnarTable} which is dictionary-encoded: each distinct value is stored once, in
+ * the order it was first added, and each row stores the int code of its value. A predicate on the column is evaluated
+ * once per distinct value rather than once per row, and grouping by the column groups by code, so the column suits
+ * attributes with few distinct values, such as categories or accounts.
+ *
+ * @since 7.0
+ */
+public final class DictionaryColumn<V>
+        extends AbstractColumn
+{
+    private final MutableList<V> dictionary = FastList.newList();
+    private final ObjectIntHashMap<V> codesByValue = ObjectIntHashMap.newMap();
+    private final IntArrayList codes = new IntArrayList();
+
+    DictionaryColumn(ColumnarTable<?> table)
+    {
+        super(table);
+    }
+
+    void add(V value)
+    {
+        int code = this.codesByValue.getIfAbsent(value, -1);
+        if (code == -1)
+        {
+            code = this.dictionary.size();
+            this.dictionary.add(value);
+            this.codesByValue.put(value, code);
+        }
+        this.codes.add(code);
+    }
+
+    public V get(int row)
+    {
+        return this.dictionary.get(this.codes.get(row));
+    }
+
+    int getCode(int row)
+    {
+        return this.codes.get(row);
+    }
+
+    V decode(int code)
+    {
+        return this.dictionary.get(code);
+    }
+
+    /**
+     * Returns the distinct values of the column, in the order of their codes.
+     */
+    public ListIterable<V> getDictionary()
+    {
+        return this.dictionary.asUnmodifiable();
+    }
+
+    public int getDictionarySize()
+    {
+        return this.dictionary.size();
+    }
+
+    /**
+     * Returns the set of the codes whose values satisfy the predicate.
+     */
+    BitSet codesSatisfying(Predicate<? super V> predicate)
+    {
+        BitSet result = new BitSet(this.dictionary.size());
+        for (int code = 0; code < this.dictionary.size(); code++)
+        {
+            if (predicate.accept(this.dictionary.get(code)))
+            {
+                result.set(code);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.columnar;
+
+import com.gs.collections.api.list.primitive.DoubleList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+
+/**
+ * A column of double values of a {@link ColumnarTable}, stored in a {@link DoubleArrayList}.
+ *
+ * @since 7.0
+ */
+public final class DoubleColumn
+        extends AbstractColumn
+{
+    private final DoubleArrayList values = new DoubleArrayList();
+
+    DoubleColumn(ColumnarTable<?> table)
+    {
+        super(table);
+    }
+
+    void add(double value)
+    {
+        this.values.add(value);
+    }
+
+    public double get(int row)
+    {
+        return this.values.get(row);
+    }
+
+    public double sum()
+    {
+        return this.values.sum();
+    }
+
+    /**
+     * Returns an unmodifiable view of the values of the column.
+     */
+    public DoubleList asList()
+    {
+        return this.values.asUnmodifiable();
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains {@link com.gs.collections.impl.columnar.ColumnarTable}, which stores records column by column
+ * in primitive and dictionary-encoded columns, and {@link com.gs.collections.impl.columnar.ColumnSelection}, a bitmap
+ * of the rows which satisfy predicates on those columns.
+ */
+package com.gs.collections.impl.columnar;
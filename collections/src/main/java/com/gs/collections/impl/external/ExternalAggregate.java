@@ -0,0 +1,304 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.external;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.block.factory.Functions0;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+
+/**
+ * ExternalAggregate groups and aggregates records by keys which may not all fit in memory. The aggregates of the
+ * first {@code maxKeysInMemory} keys are held in a map. Once the map is full, each record of a key which is not
+ * already in it is written to one of {@value ExternalAggregateMap#PARTITION_COUNT} temporary partition files, chosen by
+ * the hash of its key, so every key is either in memory or in exactly one partition. The partitions are aggregated
+ * lazily, one at a time, by the returned {@link ExternalAggregateMap}; a partition whose keys do not fit in memory is
+ * partitioned again.
+ * <p>
+ * The records themselves are written to disk rather than partial aggregates, so the aggregators need no way to combine
+ * two aggregates of the same key, and the only serializer needed is the one for the records.
+ *
+ * @see com.gs.collections.api.RichIterable#aggregateBy(Function, Function0, Function2)
+ * @see com.gs.collections.api.RichIterable#aggregateInPlaceBy(Function, Function0, Procedure2)
+ * @since 7.0
+ */
+public final class ExternalAggregate
+{
+    public static final int DEFAULT_MAX_KEYS_IN_MEMORY = 1000000;
+
+    /**
+     * Beyond this depth, partitions are aggregated in memory whatever their size, which only happens when many keys
+     * have hash codes which are equal.
+     */
+    private static final int MAX_DEPTH = 8;
+
+    private ExternalAggregate()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static <T, K, V> ExternalAggregateMap<K, V> aggregateBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            RecordSerializer<T> serializer)
+    {
+        return ExternalAggregate.aggregateBy(iterable, groupBy, zeroValueFactory, nonMutatingAggregator, serializer, DEFAULT_MAX_KEYS_IN_MEMORY, null);
+    }
+
+    /**
+     * @param maxKeysInMemory the most keys whose aggregates are held in memory at a time
+     * @param tempDirectory   the directory for the partitions, or null for the default temporary directory
+     */
+    public static <T, K, V> ExternalAggregateMap<K, V> aggregateBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            RecordSerializer<T> serializer,
+            int maxKeysInMemory,
+            File tempDirectory)
+    {
+        Aggregation<T, K, V> aggregation = new Aggregation<T, K, V>(groupBy, zeroValueFactory, nonMutatingAggregator, null, serializer, maxKeysInMemory, tempDirectory);
+        return aggregation.aggregate(iterable);
+    }
+
+    public static <T, K, V> ExternalAggregateMap<K, V> aggregateInPlaceBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            RecordSerializer<T> serializer)
+    {
+        return ExternalAggregate.aggregateInPlaceBy(iterable, groupBy, zeroValueFactory, mutatingAggregator, serializer, DEFAULT_MAX_KEYS_IN_MEMORY, null);
+    }
+
+    /**
+     * @param maxKeysInMemory the most keys whose aggregates are held in memory at a time
+     * @param tempDirectory   the directory for the partitions, or null for the default temporary directory
+     */
+    public static <T, K, V> ExternalAggregateMap<K, V> aggregateInPlaceBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            RecordSerializer<T> serializer,
+            int maxKeysInMemory,
+            File tempDirectory)
+    {
+        Aggregation<T, K, V> aggregation = new Aggregation<T, K, V>(groupBy, zeroValueFactory, null, mutatingAggregator, serializer, maxKeysInMemory, tempDirectory);
+        return aggregation.aggregate(iterable);
+    }
+
+    /**
+     * Groups the records into lists by key. Since every record of the keys in memory is held in memory,
+     * {@code maxKeysInMemory} should allow for the size of the groups.
+     */
+    public static <T, K> ExternalAggregateMap<K, MutableList<T>> groupBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> function,
+            RecordSerializer<T> serializer,
+            int maxKeysInMemory,
+            File tempDirectory)
+    {
+        return ExternalAggregate.aggregateInPlaceBy(
+                iterable,
+                function,
+                Functions0.<T>newFastList(),
+                new Procedure2<MutableList<T>, T>()
+                {
+                    public void value(MutableList<T> list, T each)
+                    {
+                        list.add(each);
+                    }
+                },
+                serializer,
+                maxKeysInMemory,
+                tempDirectory);
+    }
+
+    private static final class Aggregation<T, K, V>
+            implements ExternalAggregateMap.PartitionAggregator<K, V>
+    {
+        private final Function<? super T, ? extends K> groupBy;
+        private final Function0<? extends V> zeroValueFactory;
+        private final Function2<? super V, ? super T, ? extends V> nonMutatingAggregator;
+        private final Procedure2<? super V, ? super T> mutatingAggregator;
+        private final RecordSerializer<T> serializer;
+        private final int maxKeysInMemory;
+        private final File tempDirectory;
+
+        private Aggregation(
+                Function<? super T, ? extends K> groupBy,
+                Function0<? extends V> zeroValueFactory,
+                Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+                Procedure2<? super V, ? super T> mutatingAggregator,
+                RecordSerializer<T> serializer,
+                int maxKeysInMemory,
+                File tempDirectory)
+        {
+            if (maxKeysInMemory < 1)
+            {
+                throw new IllegalArgumentException("maxKeysInMemory must be positive but was " + maxKeysInMemory);
+            }
+            this.groupBy = groupBy;
+            this.zeroValueFactory = zeroValueFactory;
+            this.nonMutatingAggregator = nonMutatingAggregator;
+            this.mutatingAggregator = mutatingAggregator;
+            this.serializer = serializer;
+            this.maxKeysInMemory = maxKeysInMemory;
+            this.tempDirectory = tempDirectory;
+        }
+
+        private ExternalAggregateMap<K, V> aggregate(Iterable<T> iterable)
+        {
+            Partitioner partitioner = new Partitioner(0);
+            try
+            {
+                for (T each : iterable)
+                {
+                    partitioner.add(each);
+                }
+            }
+            catch (RuntimeException e)
+            {
+                partitioner.abort();
+                throw e;
+            }
+            return partitioner.finish();
+        }
+
+        public ExternalAggregateMap<K, V> aggregatePartition(File file, int size, int depth)
+        {
+            Partitioner partitioner = new Partitioner(depth);
+            DataInputStream in = SpillFiles.newInput(file);
+            try
+            {
+                for (int i = 0; i < size; i++)
+                {
+                    partitioner.add(this.serializer.read(in));
+                }
+            }
+            catch (IOException e)
+            {
+                partitioner.abort();
+                throw new RuntimeException(e);
+            }
+            catch (RuntimeException e)
+            {
+                partitioner.abort();
+                throw e;
+            }
+            finally
+            {
+                SpillFiles.close(in);
+            }
+            return partitioner.finish();
+        }
+
+        private final class Partitioner
+        {
+            private final int depth;
+            private final MutableMap<K, V> map = UnifiedMap.newMap();
+            private final File[] files = new File[ExternalAggregateMap.PARTITION_COUNT];
+            private final DataOutputStream[] outputs = new DataOutputStream[ExternalAggregateMap.PARTITION_COUNT];
+            private final int[] sizes = new int[ExternalAggregateMap.PARTITION_COUNT];
+
+            private Partitioner(int depth)
+            {
+                this.depth = depth;
+            }
+
+            private void add(T each)
+            {
+                K key = Aggregation.this.groupBy.valueOf(each);
+                if (this.map.size() >= Aggregation.this.maxKeysInMemory
+                        && this.depth < MAX_DEPTH
+                        && !this.map.containsKey(key))
+                {
+                    this.spill(key, each);
+                }
+                else if (Aggregation.this.mutatingAggregator == null)
+                {
+                    this.map.updateValueWith(key, Aggregation.this.zeroValueFactory, Aggregation.this.nonMutatingAggregator, each);
+                }
+                else
+                {
+                    Aggregation.this.mutatingAggregator.value(this.map.getIfAbsentPut(key, Aggregation.this.zeroValueFactory), each);
+                }
+            }
+
+            private void spill(K key, T each)
+            {
+                int partition = ExternalAggregateMap.partitionOf(key, this.depth);
+                if (this.outputs[partition] == null)
+                {
+                    this.files[partition] = SpillFiles.create("aggregate-partition", Aggregation.this.tempDirectory);
+                    this.outputs[partition] = SpillFiles.newOutput(this.files[partition]);
+                }
+                try
+                {
+                    Aggregation.this.serializer.write(each, this.outputs[partition]);
+                }
+                catch (IOException e)
+                {
+                    throw new RuntimeException(e);
+                }
+                this.sizes[partition]++;
+            }
+
+            private void closeOutputs()
+            {
+                for (DataOutputStream output : this.outputs)
+                {
+                    if (output != null)
+                    {
+                        SpillFiles.close(output);
+                    }
+                }
+            }
+
+            private ExternalAggregateMap<K, V> finish()
+            {
+                this.closeOutputs();
+                return new ExternalAggregateMap<K, V>(this.map, this.files, this.sizes, this.depth, Aggregation.this);
+            }
+
+            private void abort()
+            {
+                this.closeOutputs();
+                for (File file : this.files)
+                {
+                    if (file != null)
+                    {
+                        file.delete();
+                    }
+                }
+            }
+        }
+    }
+}
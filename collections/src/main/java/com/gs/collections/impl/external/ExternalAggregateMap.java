@@ -0,0 +1,767 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.external;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.LazyBooleanIterable;
+import com.gs.collections.api.LazyByteIterable;
+import com.gs.collections.api.LazyCharIterable;
+import com.gs.collections.api.LazyDoubleIterable;
+import com.gs.collections.api.LazyFloatIterable;
+import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.LazyLongIterable;
+import com.gs.collections.api.LazyShortIterable;
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.multimap.set.MutableSetMultimap;
+import com.gs.collections.api.partition.PartitionIterable;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.EmptyIterator;
+import com.gs.collections.impl.SpreadFunctions;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.Predicates2;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.map.AbstractMapIterable;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.internal.IteratorIterate;
+
+/**
+ * The result of an {@link ExternalAggregate}. The keys which fit in memory are held in a map, and the records of
+ * every other key are held in temporary partition files, chosen by the hash of the key. The partitions are aggregated
+ * one at a time whenever the map is iterated, so at most one partition is in memory at a time; {@link #get(Object)}
+ * and {@link #containsKey(Object)} aggregate only the partition of the key.
+ * <p>
+ * Methods which return a RichIterable of the values are lazy. Methods which return a map copy the entries they
+ * return into a UnifiedMap.
+ * <p>
+ * The partition files are deleted by {@link #close()}, or when the JVM exits if it is never called. An iterator which
+ * is abandoned in the middle of a partition keeps that partition open until {@link #close()} is called.
+ *
+ * @since 7.0
+ */
+public final class ExternalAggregateMap<K, V>
+        extends AbstractMapIterable<K, V>
+        implements Closeable
+{
+    static final int PARTITION_SHIFT = 5;
+    static final int PARTITION_COUNT = 1 << PARTITION_SHIFT;
+
+    private final MutableMap<K, V> memoryMap;
+    private final File[] partitionFiles;
+    private final int[] partitionSizes;
+    private final int depth;
+    private final PartitionAggregator<K, V> aggregator;
+    private final MutableSet<PartitionedView<?>.PartitionedIterator> openIterators = UnifiedSet.newSet();
+    private int size = -1;
+    private boolean closed;
+
+    ExternalAggregateMap(
+            MutableMap<K, V> memoryMap,
+            File[] partitionFiles,
+            int[] partitionSizes,
+            int depth,
+            PartitionAggregator<K, V> aggregator)
+    {
+        this.memoryMap = memoryMap;
+        this.partitionFiles = partitionFiles;
+        this.partitionSizes = partitionSizes;
+        this.depth = depth;
+        this.aggregator = aggregator;
+    }
+
+    /**
+     * Returns the partition of the key at the given depth of partitioning. Each depth mixes the hash code differently,
+     * so that the keys of a partition which is itself too large are spread over all the partitions of the next depth.
+     */
+    static int partitionOf(Object key, int depth)
+    {
+        int hashCode = key == null ? 0 : key.hashCode();
+        return SpreadFunctions.intSpreadOne(hashCode + depth * 0x9E3779B9) >>> (32 - PARTITION_SHIFT);
+    }
+
+    /**
+     * Returns the number of partitions which were written to disk.
+     */
+    public int getSpilledPartitionCount()
+    {
+        int count = 0;
+        for (File file : this.partitionFiles)
+        {
+            if (file != null)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Closes the partition open in any iterator which was not exhausted and deletes the partition files.
+     */
+    public void close()
+    {
+        this.closed = true;
+        for (PartitionedView<?>.PartitionedIterator iterator : this.openIterators.toList())
+        {
+            iterator.close();
+        }
+        for (File file : this.partitionFiles)
+        {
+            if (file != null && file.exists() && !file.delete())
+            {
+                throw new IllegalStateException("Could not delete " + file);
+            }
+        }
+    }
+
+    private void checkNotClosed()
+    {
+        if (this.closed)
+        {
+            throw new IllegalStateException("Cannot read a closed " + ExternalAggregateMap.class.getSimpleName());
+        }
+    }
+
+    private ExternalAggregateMap<K, V> aggregatePartition(int partition)
+    {
+        this.checkNotClosed();
+        return this.aggregator.aggregatePartition(this.partitionFiles[partition], this.partitionSizes[partition], this.depth + 1);
+    }
+
+    public V get(Object key)
+    {
+        V result = this.memoryMap.get(key);
+        if (result != null || this.memoryMap.containsKey(key))
+        {
+            return result;
+        }
+        int partition = ExternalAggregateMap.partitionOf(key, this.depth);
+        if (this.partitionFiles[partition] == null)
+        {
+            return null;
+        }
+        ExternalAggregateMap<K, V> partitionMap = this.aggregatePartition(partition);
+        try
+        {
+            return partitionMap.get(key);
+        }
+        finally
+        {
+            partitionMap.close();
+        }
+    }
+
+    public boolean containsKey(Object key)
+    {
+        if (this.memoryMap.containsKey(key))
+        {
+            return true;
+        }
+        int partition = ExternalAggregateMap.partitionOf(key, this.depth);
+        if (this.partitionFiles[partition] == null)
+        {
+            return false;
+        }
+        ExternalAggregateMap<K, V> partitionMap = this.aggregatePartition(partition);
+        try
+        {
+            return partitionMap.containsKey(key);
+        }
+        finally
+        {
+            partitionMap.close();
+        }
+    }
+
+    public boolean containsValue(Object value)
+    {
+        return this.valuesView().anySatisfy(Predicates.equal(value));
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.memoryMap.forEachKeyValue(procedure);
+        for (int i = 0; i < PARTITION_COUNT; i++)
+        {
+            if (this.partitionFiles[i] != null)
+            {
+                ExternalAggregateMap<K, V> partitionMap = this.aggregatePartition(i);
+                try
+                {
+                    partitionMap.forEachKeyValue(procedure);
+                }
+                finally
+                {
+                    partitionMap.close();
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        if (this.size == -1)
+        {
+            final int[] count = {0};
+            this.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    count[0]++;
+                }
+            });
+            this.size = count[0];
+        }
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.memoryMap.isEmpty() && this.getSpilledPartitionCount() == 0;
+    }
+
+    public Iterator<V> iterator()
+    {
+        return this.valuesView().iterator();
+    }
+
+    public RichIterable<K> keysView()
+    {
+        return new PartitionedView<K>()
+        {
+            @Override
+            protected Iterator<K> iteratorOf(MapIterable<K, V> map)
+            {
+                return map.keysView().iterator();
+            }
+        };
+    }
+
+    public LazyIterable<V> valuesView()
+    {
+        return new PartitionedView<V>()
+        {
+            @Override
+            protected Iterator<V> iteratorOf(MapIterable<K, V> map)
+            {
+                return map.valuesView().iterator();
+            }
+        };
+    }
+
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return new PartitionedView<Pair<K, V>>()
+        {
+            @Override
+            protected Iterator<Pair<K, V>> iteratorOf(MapIterable<K, V> map)
+            {
+                return map.keyValuesView().iterator();
+            }
+        };
+    }
+
+    public ExternalAggregateMap<K, V> tap(Procedure<? super V> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    public MapIterable<K, V> select(final Predicate2<? super K, ? super V> predicate)
+    {
+        final MutableMap<K, V> result = UnifiedMap.newMap();
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                if (predicate.accept(key, value))
+                {
+                    result.put(key, value);
+                }
+            }
+        });
+        return result;
+    }
+
+    public MapIterable<K, V> reject(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.select(Predicates2.not(predicate));
+    }
+
+    public <K2, V2> MapIterable<K2, V2> collect(final Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        final MutableMap<K2, V2> result = UnifiedMap.newMap();
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                Pair<K2, V2> pair = function.value(key, value);
+                result.put(pair.getOne(), pair.getTwo());
+            }
+        });
+        return result;
+    }
+
+    public <R> MapIterable<K, R> collectValues(final Function2<? super K, ? super V, ? extends R> function)
+    {
+        final MutableMap<K, R> result = UnifiedMap.newMap();
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                result.put(key, function.value(key, value));
+            }
+        });
+        return result;
+    }
+
+    public Pair<K, V> detect(final Predicate2<? super K, ? super V> predicate)
+    {
+        return this.keyValuesView().detect(new Predicate<Pair<K, V>>()
+        {
+            public boolean accept(Pair<K, V> each)
+            {
+                return predicate.accept(each.getOne(), each.getTwo());
+            }
+        });
+    }
+
+    public MapIterable<V, K> flipUniqueValues()
+    {
+        final MutableMap<V, K> result = UnifiedMap.newMap();
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                K oldKey = result.put(value, key);
+                if (oldKey != null)
+                {
+                    throw new IllegalStateException("Duplicate value: " + value + " found at key: " + oldKey + " and key: " + key);
+                }
+            }
+        });
+        return result;
+    }
+
+    public Multimap<V, K> flip()
+    {
+        final MutableSetMultimap<V, K> result = UnifiedSetMultimap.newMultimap();
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                result.put(value, key);
+            }
+        });
+        return result;
+    }
+
+    public ImmutableMap<K, V> toImmutable()
+    {
+        final MutableMap<K, V> result = UnifiedMap.newMap();
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                result.put(key, value);
+            }
+        });
+        return result.toImmutable();
+    }
+
+    public LazyIterable<V> select(Predicate<? super V> predicate)
+    {
+        return this.valuesView().select(predicate);
+    }
+
+    public <P> LazyIterable<V> selectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.valuesView().selectWith(predicate, parameter);
+    }
+
+    public LazyIterable<V> reject(Predicate<? super V> predicate)
+    {
+        return this.valuesView().reject(predicate);
+    }
+
+    public <P> LazyIterable<V> rejectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.valuesView().rejectWith(predicate, parameter);
+    }
+
+    public PartitionIterable<V> partition(Predicate<? super V> predicate)
+    {
+        return this.valuesView().partition(predicate);
+    }
+
+    public <P> PartitionIterable<V> partitionWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.valuesView().partitionWith(predicate, parameter);
+    }
+
+    public <S> LazyIterable<S> selectInstancesOf(Class<S> clazz)
+    {
+        return this.valuesView().selectInstancesOf(clazz);
+    }
+
+    public <R> LazyIterable<R> collect(Function<? super V, ? extends R> function)
+    {
+        return this.valuesView().collect(function);
+    }
+
+    public <P, R> LazyIterable<R> collectWith(Function2<? super V, ? super P, ? extends R> function, P parameter)
+    {
+        return this.valuesView().collectWith(function, parameter);
+    }
+
+    public <R> LazyIterable<R> collectIf(Predicate<? super V> predicate, Function<? super V, ? extends R> function)
+    {
+        return this.valuesView().collectIf(predicate, function);
+    }
+
+    public <R> LazyIterable<R> flatCollect(Function<? super V, ? extends Iterable<R>> function)
+    {
+        return this.valuesView().flatCollect(function);
+    }
+
+    public LazyBooleanIterable collectBoolean(BooleanFunction<? super V> booleanFunction)
+    {
+        return this.valuesView().collectBoolean(booleanFunction);
+    }
+
+    public LazyByteIterable collectByte(ByteFunction<? super V> byteFunction)
+    {
+        return this.valuesView().collectByte(byteFunction);
+    }
+
+    public LazyCharIterable collectChar(CharFunction<? super V> charFunction)
+    {
+        return this.valuesView().collectChar(charFunction);
+    }
+
+    public LazyDoubleIterable collectDouble(DoubleFunction<? super V> doubleFunction)
+    {
+        return this.valuesView().collectDouble(doubleFunction);
+    }
+
+    public LazyFloatIterable collectFloat(FloatFunction<? super V> floatFunction)
+    {
+        return this.valuesView().collectFloat(floatFunction);
+    }
+
+    public LazyIntIterable collectInt(IntFunction<? super V> intFunction)
+    {
+        return this.valuesView().collectInt(intFunction);
+    }
+
+    public LazyLongIterable collectLong(LongFunction<? super V> longFunction)
+    {
+        return this.valuesView().collectLong(longFunction);
+    }
+
+    public LazyShortIterable collectShort(ShortFunction<? super V> shortFunction)
+    {
+        return this.valuesView().collectShort(shortFunction);
+    }
+
+    public <S> LazyIterable<Pair<V, S>> zip(Iterable<S> that)
+    {
+        return this.valuesView().zip(that);
+    }
+
+    public LazyIterable<Pair<V, Integer>> zipWithIndex()
+    {
+        return this.valuesView().zipWithIndex();
+    }
+
+    public <VV> Multimap<VV, V> groupBy(Function<? super V, ? extends VV> function)
+    {
+        return this.valuesView().groupBy(function);
+    }
+
+    public <VV> Multimap<VV, V> groupByEach(Function<? super V, ? extends Iterable<VV>> function)
+    {
+        return this.valuesView().groupByEach(function);
+    }
+
+    public <VV> MapIterable<VV, V> groupByUniqueKey(Function<? super V, ? extends VV> function)
+    {
+        return this.valuesView().groupByUniqueKey(function);
+    }
+
+    public <KK, VV> MapIterable<KK, VV> aggregateInPlaceBy(
+            Function<? super V, ? extends KK> groupBy,
+            Function0<? extends VV> zeroValueFactory,
+            Procedure2<? super VV, ? super V> mutatingAggregator)
+    {
+        return this.valuesView().aggregateInPlaceBy(groupBy, zeroValueFactory, mutatingAggregator);
+    }
+
+    public <KK, VV> MapIterable<KK, VV> aggregateBy(
+            Function<? super V, ? extends KK> groupBy,
+            Function0<? extends VV> zeroValueFactory,
+            Function2<? super VV, ? super V, ? extends VV> nonMutatingAggregator)
+    {
+        return this.valuesView().aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof MapIterable))
+        {
+            return false;
+        }
+        final MapIterable<?, ?> other = (MapIterable<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        return this.keyValuesView().allSatisfy(new Predicate<Pair<K, V>>()
+        {
+            public boolean accept(Pair<K, V> each)
+            {
+                Object otherValue = other.get(each.getOne());
+                V value = each.getTwo();
+                return value == null
+                        ? otherValue == null && other.containsKey(each.getOne())
+                        : value.equals(otherValue);
+            }
+        });
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int[] hashCode = {0};
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                hashCode[0] += ExternalAggregateMap.this.keyAndValueHashCode(key, value);
+            }
+        });
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder("{");
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                if (builder.length() > 1)
+                {
+                    builder.append(", ");
+                }
+                builder.append(key).append('=').append(value);
+            }
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Aggregates the records of a partition file into a map of its own, which is partitioned again at the next depth
+     * if its keys do not fit in memory either.
+     */
+    interface PartitionAggregator<K, V>
+    {
+        ExternalAggregateMap<K, V> aggregatePartition(File file, int size, int depth);
+    }
+
+    /**
+     * A lazy view of the entries of the map in memory followed by those of each partition. A partition is aggregated
+     * when the iterator reaches it and closed when the iterator moves past it.
+     */
+    private abstract class PartitionedView<R> extends AbstractLazyIterable<R>
+    {
+        protected abstract Iterator<R> iteratorOf(MapIterable<K, V> map);
+
+        public void each(Procedure<? super R> procedure)
+        {
+            PartitionedIterator iterator = new PartitionedIterator();
+            try
+            {
+                while (iterator.hasNext())
+                {
+                    procedure.value(iterator.next());
+                }
+            }
+            finally
+            {
+                iterator.close();
+            }
+        }
+
+        @Override
+        public R detect(Predicate<? super R> predicate)
+        {
+            PartitionedIterator iterator = new PartitionedIterator();
+            try
+            {
+                return IteratorIterate.detect(iterator, predicate);
+            }
+            finally
+            {
+                iterator.close();
+            }
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super R> predicate)
+        {
+            PartitionedIterator iterator = new PartitionedIterator();
+            try
+            {
+                return IteratorIterate.anySatisfy(iterator, predicate);
+            }
+            finally
+            {
+                iterator.close();
+            }
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super R> predicate)
+        {
+            PartitionedIterator iterator = new PartitionedIterator();
+            try
+            {
+                return IteratorIterate.allSatisfy(iterator, predicate);
+            }
+            finally
+            {
+                iterator.close();
+            }
+        }
+
+        @Override
+        public boolean noneSatisfy(Predicate<? super R> predicate)
+        {
+            PartitionedIterator iterator = new PartitionedIterator();
+            try
+            {
+                return IteratorIterate.noneSatisfy(iterator, predicate);
+            }
+            finally
+            {
+                iterator.close();
+            }
+        }
+
+        public Iterator<R> iterator()
+        {
+            return new PartitionedIterator();
+        }
+
+        private final class PartitionedIterator implements Iterator<R>
+        {
+            private Iterator<R> current = PartitionedView.this.iteratorOf(ExternalAggregateMap.this.memoryMap);
+            private ExternalAggregateMap<K, V> currentPartition;
+            private int nextPartition;
+
+            public boolean hasNext()
+            {
+                while (!this.current.hasNext())
+                {
+                    this.closeCurrentPartition();
+                    while (this.nextPartition < PARTITION_COUNT && ExternalAggregateMap.this.partitionFiles[this.nextPartition] == null)
+                    {
+                        this.nextPartition++;
+                    }
+                    if (this.nextPartition == PARTITION_COUNT)
+                    {
+                        this.current = EmptyIterator.getInstance();
+                        return false;
+                    }
+                    this.currentPartition = ExternalAggregateMap.this.aggregatePartition(this.nextPartition++);
+                    ExternalAggregateMap.this.openIterators.add(this);
+                    this.current = PartitionedView.this.iteratorOf(this.currentPartition);
+                }
+                return true;
+            }
+
+            private void closeCurrentPartition()
+            {
+                if (this.currentPartition != null)
+                {
+                    this.currentPartition.close();
+                    this.currentPartition = null;
+                    ExternalAggregateMap.this.openIterators.remove(this);
+                }
+            }
+
+            /**
+             * Closes the open partition, if any, and ends the iteration.
+             */
+            private void close()
+            {
+                this.closeCurrentPartition();
+                this.current = EmptyIterator.getInstance();
+                this.nextPartition = PARTITION_COUNT;
+            }
+
+            public R next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                return this.current.next();
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + ExternalAggregateMap.class.getSimpleName());
+            }
+        }
+    }
+}
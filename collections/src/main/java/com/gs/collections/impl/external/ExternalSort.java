@@ -0,0 +1,328 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.external;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Executor;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.primitive.MutableIntList;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+
+/**
+ * ExternalSort sorts more records than fit in memory. The records are read into a buffer which holds at most
+ * {@code maxRecordsInMemory} of them. Each time the buffer fills, slices of it are sorted in parallel using
+ * {@link ParallelIterate}, merged in memory and written to a temporary file as one sorted run. The result is an
+ * {@link ExternalSortedIterable} which merges the runs as it is iterated, so only one record and one read buffer from
+ * each run are in memory at a time.
+ * <p>
+ * At most {@code maxMergeFanIn} runs are merged at once. If more runs are spilled, they are merged in groups into
+ * longer intermediate runs, over as many passes as it takes, before the result is returned. This bounds both the open
+ * files and the read buffers of the merge, at the cost of reading and writing every record once more per pass.
+ * <p>
+ * The sort is stable. If all the records fit in the buffer, nothing is written to disk.
+ *
+ * @since 7.0
+ */
+public final class ExternalSort
+{
+    public static final int DEFAULT_MAX_RECORDS_IN_MEMORY = 1000000;
+    public static final int DEFAULT_MAX_MERGE_FAN_IN = 64;
+
+    private static final int MIN_RUN_SIZE = 1000;
+    private static final int INITIAL_BUFFER_SIZE = 16;
+
+    private ExternalSort()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static <T> ExternalSortedIterable<T> sort(
+            Iterable<T> iterable,
+            Comparator<? super T> comparator,
+            RecordSerializer<T> serializer)
+    {
+        return ExternalSort.sort(iterable, comparator, serializer, DEFAULT_MAX_RECORDS_IN_MEMORY, null);
+    }
+
+    public static <T> ExternalSortedIterable<T> sort(
+            Iterable<T> iterable,
+            Comparator<? super T> comparator,
+            RecordSerializer<T> serializer,
+            int maxRecordsInMemory,
+            File tempDirectory)
+    {
+        return ExternalSort.sortWithExecutor(iterable, comparator, serializer, maxRecordsInMemory, DEFAULT_MAX_MERGE_FAN_IN, tempDirectory, null);
+    }
+
+    public static <T> ExternalSortedIterable<T> sort(
+            Iterable<T> iterable,
+            Comparator<? super T> comparator,
+            RecordSerializer<T> serializer,
+            int maxRecordsInMemory,
+            File tempDirectory,
+            Executor executor)
+    {
+        return ExternalSort.sort(iterable, comparator, serializer, maxRecordsInMemory, DEFAULT_MAX_MERGE_FAN_IN, tempDirectory, executor);
+    }
+
+    /**
+     * @param maxRecordsInMemory the most records to hold in memory while sorting
+     * @param maxMergeFanIn      the most runs to read from at once while merging, which must be at least 2
+     * @param tempDirectory      the directory for the runs, or null for the default temporary directory
+     */
+    public static <T> ExternalSortedIterable<T> sort(
+            Iterable<T> iterable,
+            Comparator<? super T> comparator,
+            RecordSerializer<T> serializer,
+            int maxRecordsInMemory,
+            int maxMergeFanIn,
+            File tempDirectory)
+    {
+        return ExternalSort.sortWithExecutor(iterable, comparator, serializer, maxRecordsInMemory, maxMergeFanIn, tempDirectory, null);
+    }
+
+    public static <T> ExternalSortedIterable<T> sort(
+            Iterable<T> iterable,
+            Comparator<? super T> comparator,
+            RecordSerializer<T> serializer,
+            int maxRecordsInMemory,
+            int maxMergeFanIn,
+            File tempDirectory,
+            Executor executor)
+    {
+        if (executor == null)
+        {
+            throw new NullPointerException();
+        }
+        return ExternalSort.sortWithExecutor(iterable, comparator, serializer, maxRecordsInMemory, maxMergeFanIn, tempDirectory, executor);
+    }
+
+    private static <T> ExternalSortedIterable<T> sortWithExecutor(
+            Iterable<T> iterable,
+            Comparator<? super T> comparator,
+            RecordSerializer<T> serializer,
+            int maxRecordsInMemory,
+            int maxMergeFanIn,
+            File tempDirectory,
+            Executor executor)
+    {
+        if (maxRecordsInMemory < 1)
+        {
+            throw new IllegalArgumentException("maxRecordsInMemory must be positive but was " + maxRecordsInMemory);
+        }
+        if (maxMergeFanIn < 2)
+        {
+            throw new IllegalArgumentException("maxMergeFanIn must be at least 2 but was " + maxMergeFanIn);
+        }
+        MutableList<File> runFiles = FastList.newList();
+        MutableIntList runSizes = new IntArrayList();
+        Object[] buffer = new Object[Math.min(maxRecordsInMemory, INITIAL_BUFFER_SIZE)];
+        int size = 0;
+        try
+        {
+            for (T each : iterable)
+            {
+                if (size == maxRecordsInMemory)
+                {
+                    ExternalSort.spill((T[]) buffer, size, comparator, serializer, tempDirectory, executor, runFiles, runSizes);
+                    size = 0;
+                }
+                else if (size == buffer.length)
+                {
+                    Object[] newBuffer = new Object[(int) Math.min((long) maxRecordsInMemory, (long) size << 1)];
+                    System.arraycopy(buffer, 0, newBuffer, 0, size);
+                    buffer = newBuffer;
+                }
+                buffer[size++] = each;
+            }
+            // The final merge also reads the records left in memory, so it takes one run fewer from disk
+            while (runFiles.size() > maxMergeFanIn - 1)
+            {
+                ExternalSort.mergePass(comparator, serializer, maxMergeFanIn, tempDirectory, runFiles, runSizes);
+            }
+        }
+        catch (RuntimeException e)
+        {
+            SpillFiles.delete(runFiles);
+            throw e;
+        }
+        Object[] memoryRun = buffer;
+        if (runFiles.notEmpty() && size < buffer.length)
+        {
+            memoryRun = new Object[size];
+            System.arraycopy(buffer, 0, memoryRun, 0, size);
+        }
+        Arrays.sort((T[]) memoryRun, 0, size, comparator);
+        return new ExternalSortedIterable<T>(comparator, serializer, runFiles, runSizes, (T[]) memoryRun, size);
+    }
+
+    /**
+     * Sorts the buffer and writes it to a new run. Slices of the buffer are sorted in parallel and then merged in
+     * memory by a final stable sort, which only has to merge the sorted slices, so each spill writes a single run.
+     */
+    private static <T> void spill(
+            final T[] buffer,
+            int size,
+            final Comparator<? super T> comparator,
+            RecordSerializer<T> serializer,
+            File tempDirectory,
+            Executor executor,
+            MutableList<File> runFiles,
+            MutableIntList runSizes)
+    {
+        int sliceCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), size / MIN_RUN_SIZE));
+        if (sliceCount > 1)
+        {
+            final int[] bounds = new int[sliceCount + 1];
+            for (int i = 1; i <= sliceCount; i++)
+            {
+                bounds[i] = (int) ((long) size * (long) i / (long) sliceCount);
+            }
+            Procedure<Integer> sortSlice = new Procedure<Integer>()
+            {
+                public void value(Integer sliceIndex)
+                {
+                    Arrays.sort(buffer, bounds[sliceIndex], bounds[sliceIndex + 1], comparator);
+                }
+            };
+            if (executor == null)
+            {
+                ParallelIterate.forEach(Interval.zeroTo(sliceCount - 1), sortSlice, 1);
+            }
+            else
+            {
+                ParallelIterate.forEach(Interval.zeroTo(sliceCount - 1), sortSlice, 1, executor);
+            }
+        }
+        Arrays.sort(buffer, 0, size, comparator);
+        File file = SpillFiles.create("sort-run", tempDirectory);
+        runFiles.add(file);
+        runSizes.add(size);
+        DataOutputStream out = SpillFiles.newOutput(file);
+        try
+        {
+            for (int i = 0; i < size; i++)
+            {
+                serializer.write(buffer[i], out);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            SpillFiles.close(out);
+        }
+    }
+
+    /**
+     * Merges each group of {@code maxMergeFanIn} consecutive runs into one longer run, replacing the runs in
+     * {@code runFiles} and {@code runSizes}. Keeping the groups in order keeps the sort stable.
+     */
+    private static <T> void mergePass(
+            Comparator<? super T> comparator,
+            RecordSerializer<T> serializer,
+            int maxMergeFanIn,
+            File tempDirectory,
+            MutableList<File> runFiles,
+            MutableIntList runSizes)
+    {
+        MutableList<File> mergedFiles = FastList.newList();
+        MutableIntList mergedSizes = new IntArrayList();
+        try
+        {
+            for (int from = 0; from < runFiles.size(); from += maxMergeFanIn)
+            {
+                int to = Math.min(runFiles.size(), from + maxMergeFanIn);
+                if (to - from == 1)
+                {
+                    mergedFiles.add(runFiles.get(from));
+                    mergedSizes.add(runSizes.get(from));
+                }
+                else
+                {
+                    File file = SpillFiles.create("sort-run", tempDirectory);
+                    mergedFiles.add(file);
+                    mergedSizes.add(ExternalSort.mergeRuns(comparator, serializer, runFiles, runSizes, from, to, file));
+                }
+            }
+        }
+        catch (RuntimeException e)
+        {
+            SpillFiles.delete(mergedFiles);
+            throw e;
+        }
+        runFiles.clear();
+        runFiles.addAll(mergedFiles);
+        runSizes.clear();
+        runSizes.addAll(mergedSizes);
+    }
+
+    /**
+     * Writes the merge of the runs from {@code from} to {@code to} to {@code file} and deletes them.
+     */
+    private static <T> int mergeRuns(
+            Comparator<? super T> comparator,
+            RecordSerializer<T> serializer,
+            MutableList<File> runFiles,
+            MutableIntList runSizes,
+            int from,
+            int to,
+            File file)
+    {
+        MutableIntList groupSizes = new IntArrayList(to - from);
+        for (int i = from; i < to; i++)
+        {
+            groupSizes.add(runSizes.get(i));
+        }
+        ExternalSortedIterable<T> group = new ExternalSortedIterable<T>(
+                comparator,
+                serializer,
+                FastList.newList(runFiles.subList(from, to)),
+                groupSizes,
+                (T[]) new Object[0],
+                0);
+        DataOutputStream out = SpillFiles.newOutput(file);
+        try
+        {
+            for (T each : group)
+            {
+                serializer.write(each, out);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            SpillFiles.close(out);
+            group.close();
+        }
+        return group.size();
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.external;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.primitive.MutableIntList;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.internal.IteratorIterate;
+
+/**
+ * The result of an {@link ExternalSort}, which k-way merges the sorted runs each time it is iterated. Each run is
+ * read through its own buffered stream, so iterating keeps one record and one buffer per run in memory.
+ * <p>
+ * The runs are temporary files which are deleted by {@link #close()}, or when the JVM exits if it is never called. An
+ * iterator closes its streams once it is exhausted, and the short-circuiting methods such as {@link #detect(Predicate)}
+ * and {@link #anySatisfy(Predicate)} close theirs when they return. The streams of an iterator which is abandoned early
+ * stay open until {@link #close()} is called.
+ *
+ * @since 7.0
+ */
+public final class ExternalSortedIterable<T>
+        extends AbstractLazyIterable<T>
+        implements Closeable
+{
+    private final Comparator<? super T> comparator;
+    private final RecordSerializer<T> serializer;
+    private final MutableList<File> runFiles;
+    private final MutableIntList runSizes;
+    private final T[] memoryRun;
+    private final int memoryRunSize;
+    private final MutableSet<MergeIterator> openIterators = UnifiedSet.newSet();
+    private boolean closed;
+
+    ExternalSortedIterable(
+            Comparator<? super T> comparator,
+            RecordSerializer<T> serializer,
+            MutableList<File> runFiles,
+            MutableIntList runSizes,
+            T[] memoryRun,
+            int memoryRunSize)
+    {
+        this.comparator = comparator;
+        this.serializer = serializer;
+        this.runFiles = runFiles;
+        this.runSizes = runSizes;
+        this.memoryRun = memoryRun;
+        this.memoryRunSize = memoryRunSize;
+    }
+
+    /**
+     * Returns the number of runs which were written to disk.
+     */
+    public int getSpilledRunCount()
+    {
+        return this.runFiles.size();
+    }
+
+    @Override
+    public int size()
+    {
+        return (int) this.runSizes.sum() + this.memoryRunSize;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        MergeIterator iterator = this.mergeIterator();
+        try
+        {
+            while (iterator.hasNext())
+            {
+                procedure.value(iterator.next());
+            }
+        }
+        finally
+        {
+            iterator.close();
+        }
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        MergeIterator iterator = this.mergeIterator();
+        try
+        {
+            return IteratorIterate.detect(iterator, predicate);
+        }
+        finally
+        {
+            iterator.close();
+        }
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        MergeIterator iterator = this.mergeIterator();
+        try
+        {
+            return IteratorIterate.anySatisfy(iterator, predicate);
+        }
+        finally
+        {
+            iterator.close();
+        }
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        MergeIterator iterator = this.mergeIterator();
+        try
+        {
+            return IteratorIterate.allSatisfy(iterator, predicate);
+        }
+        finally
+        {
+            iterator.close();
+        }
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        MergeIterator iterator = this.mergeIterator();
+        try
+        {
+            return IteratorIterate.noneSatisfy(iterator, predicate);
+        }
+        finally
+        {
+            iterator.close();
+        }
+    }
+
+    public Iterator<T> iterator()
+    {
+        return this.mergeIterator();
+    }
+
+    private MergeIterator mergeIterator()
+    {
+        if (this.closed)
+        {
+            throw new IllegalStateException("Cannot iterate over a closed " + this.getClass().getSimpleName());
+        }
+        return new MergeIterator();
+    }
+
+    /**
+     * Closes the streams of any iterators which were not exhausted and deletes the runs.
+     */
+    public void close()
+    {
+        this.closed = true;
+        for (MergeIterator iterator : this.openIterators.toList())
+        {
+            iterator.close();
+        }
+        SpillFiles.delete(this.runFiles);
+    }
+
+    private final class RunCursor
+    {
+        private final int runIndex;
+        private final DataInputStream in;
+        private int remaining;
+        private T current;
+
+        private RunCursor(int runIndex, DataInputStream in, int size)
+        {
+            this.runIndex = runIndex;
+            this.in = in;
+            this.remaining = size;
+        }
+
+        /**
+         * Moves to the next record of the run, or closes the run and returns false if it has no more records.
+         */
+        private boolean advance()
+        {
+            if (this.remaining == 0)
+            {
+                this.close();
+                return false;
+            }
+            if (this.in == null)
+            {
+                this.current = ExternalSortedIterable.this.memoryRun[ExternalSortedIterable.this.memoryRunSize - this.remaining];
+            }
+            else
+            {
+                try
+                {
+                    this.current = ExternalSortedIterable.this.serializer.read(this.in);
+                }
+                catch (IOException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+            this.remaining--;
+            return true;
+        }
+
+        private void close()
+        {
+            this.current = null;
+            this.remaining = 0;
+            if (this.in != null)
+            {
+                SpillFiles.close(this.in);
+            }
+        }
+    }
+
+    private final class MergeIterator implements Iterator<T>
+    {
+        private final PriorityQueue<RunCursor> queue;
+
+        private MergeIterator()
+        {
+            int runCount = ExternalSortedIterable.this.runFiles.size();
+            this.queue = new PriorityQueue<RunCursor>(runCount + 1, new Comparator<RunCursor>()
+            {
+                public int compare(RunCursor cursor1, RunCursor cursor2)
+                {
+                    int result = ExternalSortedIterable.this.comparator.compare(cursor1.current, cursor2.current);
+                    return result == 0 ? cursor1.runIndex - cursor2.runIndex : result;
+                }
+            });
+            try
+            {
+                for (int i = 0; i < runCount; i++)
+                {
+                    DataInputStream in = SpillFiles.newInput(ExternalSortedIterable.this.runFiles.get(i));
+                    this.offer(new RunCursor(i, in, ExternalSortedIterable.this.runSizes.get(i)));
+                }
+                this.offer(new RunCursor(runCount, null, ExternalSortedIterable.this.memoryRunSize));
+            }
+            catch (RuntimeException e)
+            {
+                this.close();
+                throw e;
+            }
+            if (!this.queue.isEmpty())
+            {
+                ExternalSortedIterable.this.openIterators.add(this);
+            }
+        }
+
+        private void offer(RunCursor cursor)
+        {
+            boolean advanced;
+            try
+            {
+                advanced = cursor.advance();
+            }
+            catch (RuntimeException e)
+            {
+                cursor.close();
+                throw e;
+            }
+            if (advanced)
+            {
+                this.queue.add(cursor);
+            }
+        }
+
+        public boolean hasNext()
+        {
+            return !this.queue.isEmpty();
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            RunCursor cursor = this.queue.poll();
+            T result = cursor.current;
+            this.offer(cursor);
+            if (this.queue.isEmpty())
+            {
+                ExternalSortedIterable.this.openIterators.remove(this);
+            }
+            return result;
+        }
+
+        /**
+         * Closes the stream of every run which has not been read to its end.
+         */
+        private void close()
+        {
+            for (RunCursor cursor : this.queue)
+            {
+                cursor.close();
+            }
+            this.queue.clear();
+            ExternalSortedIterable.this.openIterators.remove(this);
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + ExternalSortedIterable.class.getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.external;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A RecordSerializer writes objects to and reads them back from the temporary files which hold the data that does not
+ * fit in memory. A serializer must read exactly the bytes that it wrote for each object, and may be used from several
+ * threads at once.
+ *
+ * @see RecordSerializers
+ * @since 7.0
+ */
+public interface RecordSerializer<T>
+{
+    void write(T object, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
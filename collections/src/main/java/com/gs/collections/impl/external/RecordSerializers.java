@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.external;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Factory methods for the {@link RecordSerializer}s of common types. The serializers for strings and for Java
+ * serialization handle null; the serializers for boxed primitives do not.
+ *
+ * @since 7.0
+ */
+public final class RecordSerializers
+{
+    private static final RecordSerializer<String> STRINGS = new StringSerializer();
+    private static final RecordSerializer<Integer> INTEGERS = new IntegerSerializer();
+    private static final RecordSerializer<Long> LONGS = new LongSerializer();
+    private static final RecordSerializer<Double> DOUBLES = new DoubleSerializer();
+    private static final RecordSerializer<?> JAVA_SERIALIZATION = new JavaSerializationSerializer<Object>();
+
+    private RecordSerializers()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Writes strings as UTF-8, without the 64K limit of {@link DataOutput#writeUTF(String)}.
+     */
+    public static RecordSerializer<String> strings()
+    {
+        return STRINGS;
+    }
+
+    public static RecordSerializer<Integer> integers()
+    {
+        return INTEGERS;
+    }
+
+    public static RecordSerializer<Long> longs()
+    {
+        return LONGS;
+    }
+
+    public static RecordSerializer<Double> doubles()
+    {
+        return DOUBLES;
+    }
+
+    /**
+     * Writes each object with its own {@link ObjectOutputStream}, which works for any Serializable type but is much
+     * larger and slower than a serializer written for the type.
+     */
+    public static <T> RecordSerializer<T> javaSerialization()
+    {
+        return (RecordSerializer<T>) JAVA_SERIALIZATION;
+    }
+
+    private static final class StringSerializer implements RecordSerializer<String>
+    {
+        public void write(String object, DataOutput out) throws IOException
+        {
+            if (object == null)
+            {
+                out.writeInt(-1);
+                return;
+            }
+            byte[] bytes = object.getBytes("UTF-8");
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        public String read(DataInput in) throws IOException
+        {
+            int length = in.readInt();
+            if (length == -1)
+            {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, "UTF-8");
+        }
+    }
+
+    private static final class IntegerSerializer implements RecordSerializer<Integer>
+    {
+        public void write(Integer object, DataOutput out) throws IOException
+        {
+            out.writeInt(object.intValue());
+        }
+
+        public Integer read(DataInput in) throws IOException
+        {
+            return Integer.valueOf(in.readInt());
+        }
+    }
+
+    private static final class LongSerializer implements RecordSerializer<Long>
+    {
+        public void write(Long object, DataOutput out) throws IOException
+        {
+            out.writeLong(object.longValue());
+        }
+
+        public Long read(DataInput in) throws IOException
+        {
+            return Long.valueOf(in.readLong());
+        }
+    }
+
+    private static final class DoubleSerializer implements RecordSerializer<Double>
+    {
+        public void write(Double object, DataOutput out) throws IOException
+        {
+            out.writeDouble(object.doubleValue());
+        }
+
+        public Double read(DataInput in) throws IOException
+        {
+            return Double.valueOf(in.readDouble());
+        }
+    }
+
+    private static final class JavaSerializationSerializer<T> implements RecordSerializer<T>
+    {
+        public void write(T object, DataOutput out) throws IOException
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream objectOut = new ObjectOutputStream(bytes);
+            objectOut.writeObject(object);
+            objectOut.close();
+            out.writeInt(bytes.size());
+            out.write(bytes.toByteArray());
+        }
+
+        public T read(DataInput in) throws IOException
+        {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(bytes));
+            try
+            {
+                return (T) objectIn.readObject();
+            }
+            catch (ClassNotFoundException e)
+            {
+                throw new RuntimeException(e);
+            }
+            finally
+            {
+                objectIn.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.external;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Creates, opens and deletes the temporary files which hold the records that do not fit in memory.
+ */
+final class SpillFiles
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private SpillFiles()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Creates an empty temporary file in the directory, or in the default temporary directory if it is null. The file
+     * is also deleted when the JVM exits, in case it is never closed.
+     */
+    static File create(String prefix, File directory)
+    {
+        try
+        {
+            File file = File.createTempFile(prefix, ".spill", directory);
+            file.deleteOnExit();
+            return file;
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static DataOutputStream newOutput(File file)
+    {
+        try
+        {
+            return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static DataInputStream newInput(File file)
+    {
+        try
+        {
+            return new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static void close(Closeable closeable)
+    {
+        try
+        {
+            closeable.close();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static void delete(Iterable<File> files)
+    {
+        for (File file : files)
+        {
+            if (file.exists() && !file.delete())
+            {
+                throw new IllegalStateException("Could not delete " + file);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * A deferred iterable over the elements of a FastList or UnifiedSet written with {@code writeExternal}, which reads
+ * each element from the stream as it is iterated rather than into an intermediate collection. The header is read
+ * when the iterable is created, so {@link #size()} does not consume the stream and {@link #toList()},
+ * {@link #toSet()} and {@link #toBag()} are sized exactly. The elements can only be iterated once.
+ *
+ * @see com.gs.collections.impl.utility.LazyIterate#readExternalList(ObjectInput)
+ * @see com.gs.collections.impl.utility.LazyIterate#readExternalSet(ObjectInput)
+ * @since 7.0
+ */
+public final class ExternalizedIterable<T>
+        extends AbstractLazyIterable<T>
+{
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private final ObjectInput in;
+    private final int size;
+    private final float loadFactor;
+    private boolean consumed;
+
+    public ExternalizedIterable(ObjectInput in, int size)
+    {
+        this(in, size, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param loadFactor the load factor of the set the elements were written from, which {@link #toSet()} keeps
+     */
+    public ExternalizedIterable(ObjectInput in, int size, float loadFactor)
+    {
+        this.in = in;
+        this.size = size;
+        this.loadFactor = loadFactor;
+    }
+
+    private void consume()
+    {
+        if (this.consumed)
+        {
+            throw new IllegalStateException("The elements of an ExternalizedIterable can only be iterated once");
+        }
+        this.consumed = true;
+    }
+
+    private T readElement()
+    {
+        try
+        {
+            return (T) this.in.readObject();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        catch (ClassNotFoundException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        this.consume();
+        for (int i = 0; i < this.size; i++)
+        {
+            procedure.value(this.readElement());
+        }
+    }
+
+    public Iterator<T> iterator()
+    {
+        this.consume();
+        return new ExternalizedIterator();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        this.consume();
+        Object[] array = new Object[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            array[i] = this.readElement();
+        }
+        return array;
+    }
+
+    @Override
+    public MutableList<T> toList()
+    {
+        MutableList<T> list = FastList.newList(this.size);
+        this.forEach(CollectionAddProcedure.on(list));
+        return list;
+    }
+
+    @Override
+    public MutableSet<T> toSet()
+    {
+        MutableSet<T> set = UnifiedSet.newSet(this.size, this.loadFactor);
+        this.forEach(CollectionAddProcedure.on(set));
+        return set;
+    }
+
+    @Override
+    public MutableBag<T> toBag()
+    {
+        MutableBag<T> bag = HashBag.newBag(this.size);
+        this.forEach(CollectionAddProcedure.on(bag));
+        return bag;
+    }
+
+    private final class ExternalizedIterator
+            implements Iterator<T>
+    {
+        private int remaining = ExternalizedIterable.this.size;
+
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        public T next()
+        {
+            if (this.remaining == 0)
+            {
+                throw new NoSuchElementException();
+            }
+            this.remaining--;
+            return ExternalizedIterable.this.readElement();
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
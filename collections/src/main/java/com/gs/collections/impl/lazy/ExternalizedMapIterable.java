@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.tuple.Tuples;
+
+/**
+ * A deferred iterable over the entries of a UnifiedMap written with {@code writeExternal}, which reads each key and
+ * value from the stream as it is iterated rather than into an intermediate map. {@link #forEachKeyValue(Procedure2)}
+ * visits the entries without creating pairs, and {@link #toMap()} builds a map sized exactly from the header. The
+ * entries can only be iterated once.
+ *
+ * @see com.gs.collections.impl.utility.LazyIterate#readExternalMap(ObjectInput)
+ * @since 7.0
+ */
+public final class ExternalizedMapIterable<K, V>
+        extends AbstractLazyIterable<Pair<K, V>>
+{
+    private final ObjectInput in;
+    private final int size;
+    private final float loadFactor;
+    private boolean consumed;
+
+    public ExternalizedMapIterable(ObjectInput in, int size, float loadFactor)
+    {
+        this.in = in;
+        this.size = size;
+        this.loadFactor = loadFactor;
+    }
+
+    private void consume()
+    {
+        if (this.consumed)
+        {
+            throw new IllegalStateException("The entries of an ExternalizedMapIterable can only be iterated once");
+        }
+        this.consumed = true;
+    }
+
+    private Object readObject()
+    {
+        try
+        {
+            return this.in.readObject();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        catch (ClassNotFoundException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.consume();
+        for (int i = 0; i < this.size; i++)
+        {
+            K key = (K) this.readObject();
+            V value = (V) this.readObject();
+            procedure.value(key, value);
+        }
+    }
+
+    public void each(final Procedure<? super Pair<K, V>> procedure)
+    {
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(Tuples.pair(key, value));
+            }
+        });
+    }
+
+    public Iterator<Pair<K, V>> iterator()
+    {
+        this.consume();
+        return new ExternalizedMapIterator();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Reads the entries into a map with the size and load factor of the map they were written from.
+     */
+    public MutableMap<K, V> toMap()
+    {
+        final MutableMap<K, V> map = UnifiedMap.newMap(this.size, this.loadFactor);
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                map.put(key, value);
+            }
+        });
+        return map;
+    }
+
+    private final class ExternalizedMapIterator
+            implements Iterator<Pair<K, V>>
+    {
+        private int remaining = ExternalizedMapIterable.this.size;
+
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        public Pair<K, V> next()
+        {
+            if (this.remaining == 0)
+            {
+                throw new NoSuchElementException();
+            }
+            this.remaining--;
+            K key = (K) ExternalizedMapIterable.this.readObject();
+            V value = (V) ExternalizedMapIterable.this.readObject();
+            return Tuples.pair(key, value);
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.impl.EmptyIterator;
+import com.gs.collections.impl.lazy.parallel.list.MappedRecordBatch;
+import com.gs.collections.impl.lazy.parallel.list.MappedRecordParallelIterable;
+import net.jcip.annotations.Immutable;
+
+/**
+ * A deferred iterable over the delimited records of a file, which is memory-mapped rather than read into the heap.
+ * Each record is a {@link com.gs.collections.impl.string.immutable.ByteBufferCharSequence} view of the mapped bytes,
+ * so scanning the file allocates no strings; call {@code toString()} on the records which should outlive the
+ * iteration. When the delimiter is a line feed, a carriage return before it is dropped as well.
+ * <p>
+ * {@link #asParallel(ExecutorService, int)} splits the file into byte ranges which are parsed by the tasks that
+ * process them, so that a scan of a large file runs as a streaming parallel pipeline. The file is mapped again on
+ * each iteration, and so reflects its contents at that time.
+ *
+ * @since 7.0
+ */
+@Immutable
+public final class MappedRecordIterable
+        extends AbstractLazyIterable<CharSequence>
+{
+    private static final int WINDOW_SIZE = 1 << 30;
+
+    private final File file;
+    private final byte delimiter;
+
+    public MappedRecordIterable(File file, byte delimiter)
+    {
+        this.file = file;
+        this.delimiter = delimiter;
+    }
+
+    public void each(Procedure<? super CharSequence> procedure)
+    {
+        long fileSize = this.file.length();
+        for (long start = 0L; start < fileSize; start += WINDOW_SIZE)
+        {
+            this.newBatch(start, fileSize).forEach(procedure);
+        }
+    }
+
+    public Iterator<CharSequence> iterator()
+    {
+        return new WindowIterator(this.file.length());
+    }
+
+    /**
+     * Returns a parallel view of the records, split into batches of {@code batchSize} bytes of the file. Each batch
+     * maps its own range of the file, so batches should be megabytes rather than bytes.
+     */
+    @Beta
+    public ParallelListIterable<CharSequence> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new MappedRecordParallelIterable(this.file, this.delimiter, executorService, batchSize);
+    }
+
+    private MappedRecordBatch newBatch(long start, long fileSize)
+    {
+        return new MappedRecordBatch(this.file, this.delimiter, start, Math.min(fileSize, start + WINDOW_SIZE));
+    }
+
+    private final class WindowIterator implements Iterator<CharSequence>
+    {
+        private final long fileSize;
+        private long nextWindow;
+        private Iterator<CharSequence> records = EmptyIterator.getInstance();
+
+        private WindowIterator(long fileSize)
+        {
+            this.fileSize = fileSize;
+        }
+
+        public boolean hasNext()
+        {
+            while (!this.records.hasNext())
+            {
+                if (this.nextWindow >= this.fileSize)
+                {
+                    return false;
+                }
+                this.records = MappedRecordIterable.this.newBatch(this.nextWindow, this.fileSize).iterator();
+                this.nextWindow += WINDOW_SIZE;
+            }
+            return true;
+        }
+
+        public CharSequence next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.records.next();
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + MappedRecordIterable.this.file);
+        }
+    }
+}
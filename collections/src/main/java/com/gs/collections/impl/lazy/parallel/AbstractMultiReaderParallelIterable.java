@@ -551,6 +551,45 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         }
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.minN(n, comparator);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.maxN(n, comparator);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.topNBy(n, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     public long sumOfInt(IntFunction<? super T> function)
     {
         this.lock.readLock().lock();
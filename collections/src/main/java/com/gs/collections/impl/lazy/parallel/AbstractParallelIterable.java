@@ -60,6 +60,7 @@ import com.gs.collections.impl.block.factory.Procedures;
 import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
 import com.gs.collections.impl.block.procedure.DoubleSumResultHolder;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
+import com.gs.collections.impl.block.procedure.MinNComparatorProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
@@ -831,6 +832,41 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.collectReduce(map, Functions2.maxBy(function));
     }
 
+    public MutableList<T> minN(final int n, final Comparator<? super T> comparator)
+    {
+        MinNComparatorProcedure<T> state = new MinNComparatorProcedure<T>(n, comparator);
+        Function<Batch<T>, MinNComparatorProcedure<T>> map = new Function<Batch<T>, MinNComparatorProcedure<T>>()
+        {
+            public MinNComparatorProcedure<T> valueOf(Batch<T> batch)
+            {
+                MinNComparatorProcedure<T> procedure = new MinNComparatorProcedure<T>(n, comparator);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+
+        Procedure2<MinNComparatorProcedure<T>, MinNComparatorProcedure<T>> combineProcedure = new Procedure2<MinNComparatorProcedure<T>, MinNComparatorProcedure<T>>()
+        {
+            public void value(MinNComparatorProcedure<T> result, MinNComparatorProcedure<T> eachBatch)
+            {
+                result.addAll(eachBatch);
+            }
+        };
+
+        this.collectCombineUnordered(map, combineProcedure, state);
+        return state.getResult();
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        return this.minN(n, Comparators.reverse(comparator));
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        return this.minN(n, Comparators.reverse(Comparators.byFunction(function)));
+    }
+
     public long sumOfInt(final IntFunction<? super T> function)
     {
         LongFunction<Batch<T>> map = new LongFunction<Batch<T>>()
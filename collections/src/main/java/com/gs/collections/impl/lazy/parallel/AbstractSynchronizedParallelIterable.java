@@ -372,6 +372,30 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.minN(n, comparator);
+        }
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.maxN(n, comparator);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.topNBy(n, function);
+        }
+    }
+
     public long sumOfInt(IntFunction<? super T> function)
     {
         synchronized (this.lock)
@@ -234,6 +234,21 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         return this.delegate.maxBy(function);
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        return this.delegate.minN(n, comparator);
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        return this.delegate.maxN(n, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.topNBy(n, function);
+    }
+
     public long sumOfInt(IntFunction<? super T> function)
     {
         return this.delegate.sumOfInt(function);
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.string.immutable.ByteBufferCharSequence;
+
+/**
+ * A batch of the records of a file which start in the byte range {@code [start, end)}. The range is mapped and parsed
+ * by whichever thread iterates the batch: it skips the tail of the record which began before {@code start}, and
+ * reads past {@code end} to finish the last record which began inside it, so the ranges of consecutive batches can be
+ * cut at any byte and still yield every record exactly once.
+ */
+@Beta
+public class MappedRecordBatch extends AbstractBatch<CharSequence> implements RootListBatch<CharSequence>
+{
+    private final File file;
+    private final byte delimiter;
+    private final long start;
+    private final long end;
+
+    public MappedRecordBatch(File file, byte delimiter, long start, long end)
+    {
+        this.file = file;
+        this.delimiter = delimiter;
+        this.start = start;
+        this.end = end;
+    }
+
+    public Iterator<CharSequence> iterator()
+    {
+        try
+        {
+            return new RecordIterator();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void forEach(Procedure<? super CharSequence> procedure)
+    {
+        Iterator<CharSequence> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            procedure.value(iterator.next());
+        }
+    }
+
+    public boolean anySatisfy(Predicate<? super CharSequence> predicate)
+    {
+        return this.detect(predicate) != null;
+    }
+
+    public boolean allSatisfy(Predicate<? super CharSequence> predicate)
+    {
+        Iterator<CharSequence> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            if (!predicate.accept(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public CharSequence detect(Predicate<? super CharSequence> predicate)
+    {
+        Iterator<CharSequence> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            CharSequence each = iterator.next();
+            if (predicate.accept(each))
+            {
+                return each;
+            }
+        }
+        return null;
+    }
+
+    public ListBatch<CharSequence> select(Predicate<? super CharSequence> predicate)
+    {
+        return new SelectListBatch<CharSequence>(this, predicate);
+    }
+
+    public <V> ListBatch<V> collect(Function<? super CharSequence, ? extends V> function)
+    {
+        return new CollectListBatch<CharSequence, V>(this, function);
+    }
+
+    public <V> ListBatch<V> flatCollect(Function<? super CharSequence, ? extends Iterable<V>> function)
+    {
+        return new FlatCollectListBatch<CharSequence, V>(this, function);
+    }
+
+    public UnsortedSetBatch<CharSequence> distinct(ConcurrentHashMap<CharSequence, Boolean> distinct)
+    {
+        return new DistinctBatch<CharSequence>(this, distinct);
+    }
+
+    private final class RecordIterator implements Iterator<CharSequence>
+    {
+        private final MappedByteBuffer buffer;
+        private final long mapStart;
+        private final boolean truncated;
+        private final int end;
+        private int position;
+
+        private RecordIterator() throws IOException
+        {
+            RandomAccessFile randomAccessFile = new RandomAccessFile(MappedRecordBatch.this.file, "r");
+            try
+            {
+                FileChannel channel = randomAccessFile.getChannel();
+                long fileSize = channel.size();
+                // Map from the byte before the range, to tell whether a record starts exactly at the range's start
+                this.mapStart = Math.min(fileSize, Math.max(0L, MappedRecordBatch.this.start - 1L));
+                long mapSize = Math.min(fileSize - this.mapStart, (long) Integer.MAX_VALUE);
+                this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, this.mapStart, mapSize);
+                this.truncated = this.mapStart + mapSize < fileSize;
+                this.end = (int) Math.min(mapSize, Math.max(0L, Math.min(MappedRecordBatch.this.end, fileSize) - this.mapStart));
+                if (MappedRecordBatch.this.start != 0L)
+                {
+                    int delimiterIndex = this.indexOfDelimiter(0);
+                    this.position = delimiterIndex == -1 ? this.buffer.limit() : delimiterIndex + 1;
+                }
+            }
+            finally
+            {
+                randomAccessFile.close();
+            }
+        }
+
+        private int indexOfDelimiter(int from)
+        {
+            int limit = this.buffer.limit();
+            for (int i = from; i < limit; i++)
+            {
+                if (this.buffer.get(i) == MappedRecordBatch.this.delimiter)
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        public boolean hasNext()
+        {
+            return this.position < this.end;
+        }
+
+        public CharSequence next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int recordStart = this.position;
+            int recordEnd = this.indexOfDelimiter(recordStart);
+            if (recordEnd == -1)
+            {
+                if (this.truncated)
+                {
+                    throw new IllegalStateException("Record at offset " + (this.mapStart + recordStart) + " of " + MappedRecordBatch.this.file + " is longer than a mapping can hold");
+                }
+                recordEnd = this.buffer.limit();
+                this.position = recordEnd;
+            }
+            else
+            {
+                this.position = recordEnd + 1;
+                if (MappedRecordBatch.this.delimiter == '\n' && recordEnd > recordStart && this.buffer.get(recordEnd - 1) == '\r')
+                {
+                    recordEnd--;
+                }
+            }
+            return new ByteBufferCharSequence(this.buffer, recordStart, recordEnd - recordStart);
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + MappedRecordBatch.this.file);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+
+/**
+ * A parallel view of the records of a file, split into batches of {@code batchSize} bytes which are each mapped and
+ * parsed by the task that processes them.
+ */
+@Beta
+public final class MappedRecordParallelIterable extends AbstractParallelListIterable<CharSequence, RootListBatch<CharSequence>>
+{
+    private final File file;
+    private final byte delimiter;
+    private final ExecutorService executorService;
+    private final int batchSize;
+
+    public MappedRecordParallelIterable(File file, byte delimiter, ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.file = file;
+        this.delimiter = delimiter;
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.executorService;
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    @Override
+    public LazyIterable<RootListBatch<CharSequence>> split()
+    {
+        return new MappedRecordBatchLazyIterable(this.file.length());
+    }
+
+    public void forEach(Procedure<? super CharSequence> procedure)
+    {
+        AbstractParallelIterable.forEach(this, procedure);
+    }
+
+    public boolean anySatisfy(Predicate<? super CharSequence> predicate)
+    {
+        return AbstractParallelIterable.anySatisfy(this, predicate);
+    }
+
+    public boolean allSatisfy(Predicate<? super CharSequence> predicate)
+    {
+        return AbstractParallelIterable.allSatisfy(this, predicate);
+    }
+
+    public CharSequence detect(Predicate<? super CharSequence> predicate)
+    {
+        return AbstractParallelIterable.detect(this, predicate);
+    }
+
+    private final class MappedRecordBatchIterator implements Iterator<RootListBatch<CharSequence>>
+    {
+        private final long fileSize;
+        private long batchStart;
+
+        private MappedRecordBatchIterator(long fileSize)
+        {
+            this.fileSize = fileSize;
+        }
+
+        public boolean hasNext()
+        {
+            return this.batchStart < this.fileSize;
+        }
+
+        public RootListBatch<CharSequence> next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            long batchEnd = Math.min(this.fileSize, this.batchStart + (long) MappedRecordParallelIterable.this.batchSize);
+            MappedRecordBatch batch = new MappedRecordBatch(MappedRecordParallelIterable.this.file, MappedRecordParallelIterable.this.delimiter, this.batchStart, batchEnd);
+            this.batchStart = batchEnd;
+            return batch;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + MappedRecordParallelIterable.this.file);
+        }
+    }
+
+    private final class MappedRecordBatchLazyIterable
+            extends AbstractLazyIterable<RootListBatch<CharSequence>>
+    {
+        private final long fileSize;
+
+        private MappedRecordBatchLazyIterable(long fileSize)
+        {
+            this.fileSize = fileSize;
+        }
+
+        public void each(Procedure<? super RootListBatch<CharSequence>> procedure)
+        {
+            for (RootListBatch<CharSequence> chunk : this)
+            {
+                procedure.value(chunk);
+            }
+        }
+
+        public Iterator<RootListBatch<CharSequence>> iterator()
+        {
+            return new MappedRecordBatchIterator(this.fileSize);
+        }
+    }
+}
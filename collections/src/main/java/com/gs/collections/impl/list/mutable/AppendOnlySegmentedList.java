@@ -0,0 +1,349 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.mutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectLongProcedure;
+import com.gs.collections.impl.lazy.LazyIterableAdapter;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.utility.internal.InternalArrayIterate;
+
+/**
+ * AppendOnlySegmentedList is an append-only sequence which stores its items in fixed-size chunks rather than in one
+ * array. Growing the list allocates a new chunk instead of copying every item into a larger array, so it never makes
+ * the large allocations that a FastList needs once it holds millions of items, and it can hold more than
+ * Integer.MAX_VALUE items. Items are addressed by long indices.
+ * <p>
+ * It is not a {@link java.util.List} or a {@link com.gs.collections.api.list.MutableList}: items can be added at the
+ * end, replaced with {@link #set(long, Object)} or all cleared, but never inserted or removed, and it only offers
+ * iteration, indexed access and {@link #asLazy()} rather than the rich iteration protocol. Use a FastList where the
+ * list contract is needed.
+ * <p>
+ * Each chunk is a batch for {@link com.gs.collections.impl.parallel.ParallelIterate}, which processes whole chunks in
+ * each of its tasks. {@link #size()} is limited to Integer.MAX_VALUE in the same way as
+ * {@link java.util.Collection#size()}; use {@link #longSize()} for the exact size.
+ *
+ * @since 7.0
+ */
+public final class AppendOnlySegmentedList<T>
+        implements Iterable<T>, BatchIterable<T>
+{
+    private static final int CHUNK_SHIFT = 15;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CAPACITY = 10;
+    private static final Object[][] EMPTY_CHUNKS = {};
+
+    private Object[][] chunks = EMPTY_CHUNKS;
+    private int chunkCount;
+    private long size;
+
+    public static <T> AppendOnlySegmentedList<T> newList()
+    {
+        return new AppendOnlySegmentedList<T>();
+    }
+
+    public static <T> AppendOnlySegmentedList<T> newList(Iterable<? extends T> source)
+    {
+        AppendOnlySegmentedList<T> result = new AppendOnlySegmentedList<T>();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <T> AppendOnlySegmentedList<T> newListWith(T... elements)
+    {
+        AppendOnlySegmentedList<T> result = new AppendOnlySegmentedList<T>();
+        for (T element : elements)
+        {
+            result.add(element);
+        }
+        return result;
+    }
+
+    public long longSize()
+    {
+        return this.size;
+    }
+
+    public int size()
+    {
+        return (int) Math.min(this.size, (long) Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0L;
+    }
+
+    public boolean notEmpty()
+    {
+        return this.size != 0L;
+    }
+
+    public boolean add(T item)
+    {
+        int chunkIndex = (int) (this.size >>> CHUNK_SHIFT);
+        int offset = (int) this.size & CHUNK_MASK;
+        if (chunkIndex == this.chunkCount)
+        {
+            this.addChunk();
+        }
+        else if (offset == this.chunks[chunkIndex].length)
+        {
+            this.growFirstChunk();
+        }
+        this.chunks[chunkIndex][offset] = item;
+        this.size++;
+        return true;
+    }
+
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        long oldSize = this.size;
+        for (T each : iterable)
+        {
+            this.add(each);
+        }
+        return this.size != oldSize;
+    }
+
+    public T get(long index)
+    {
+        this.checkIndex(index);
+        return (T) this.chunks[(int) (index >>> CHUNK_SHIFT)][(int) index & CHUNK_MASK];
+    }
+
+    public T set(long index, T element)
+    {
+        this.checkIndex(index);
+        Object[] chunk = this.chunks[(int) (index >>> CHUNK_SHIFT)];
+        int offset = (int) index & CHUNK_MASK;
+        T previous = (T) chunk[offset];
+        chunk[offset] = element;
+        return previous;
+    }
+
+    public void clear()
+    {
+        this.chunks = EMPTY_CHUNKS;
+        this.chunkCount = 0;
+        this.size = 0L;
+    }
+
+    public void forEach(Procedure<? super T> procedure)
+    {
+        this.each(procedure);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.chunkCount; i++)
+        {
+            Object[] chunk = this.chunks[i];
+            int length = this.chunkLength(i);
+            for (int j = 0; j < length; j++)
+            {
+                procedure.value((T) chunk[j]);
+            }
+        }
+    }
+
+    public void forEachWithIndex(ObjectLongProcedure<? super T> procedure)
+    {
+        long index = 0L;
+        for (int i = 0; i < this.chunkCount; i++)
+        {
+            Object[] chunk = this.chunks[i];
+            int length = this.chunkLength(i);
+            for (int j = 0; j < length; j++)
+            {
+                procedure.value((T) chunk[j], index++);
+            }
+        }
+    }
+
+    /**
+     * Applies the procedure to the chunks in the given section, where the chunks are split as evenly as possible
+     * into {@code sectionCount} sections.
+     */
+    public void batchForEach(Procedure<? super T> procedure, int sectionIndex, int sectionCount)
+    {
+        int from = (int) ((long) this.chunkCount * (long) sectionIndex / (long) sectionCount);
+        int to = (int) ((long) this.chunkCount * (long) (sectionIndex + 1) / (long) sectionCount);
+        for (int i = from; i < to; i++)
+        {
+            InternalArrayIterate.batchForEach(procedure, (T[]) this.chunks[i], this.chunkLength(i), 0, 1);
+        }
+    }
+
+    /**
+     * Returns the number of batches of at least {@code batchSize} items, which is never more than the number of
+     * chunks since a chunk is never split between batches.
+     */
+    public int getBatchCount(int batchSize)
+    {
+        return (int) Math.max(1L, Math.min((long) this.chunkCount, this.size / (long) batchSize));
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new SegmentedIterator();
+    }
+
+    public LazyIterable<T> asLazy()
+    {
+        return new LazyIterableAdapter<T>(this);
+    }
+
+    @Override
+    public boolean equals(Object otherList)
+    {
+        if (otherList == this)
+        {
+            return true;
+        }
+        if (!(otherList instanceof AppendOnlySegmentedList))
+        {
+            return false;
+        }
+        AppendOnlySegmentedList<?> other = (AppendOnlySegmentedList<?>) otherList;
+        if (this.size != other.size)
+        {
+            return false;
+        }
+        for (int i = 0; i < this.chunkCount; i++)
+        {
+            Object[] chunk = this.chunks[i];
+            Object[] otherChunk = other.chunks[i];
+            int length = this.chunkLength(i);
+            for (int j = 0; j < length; j++)
+            {
+                Object item = chunk[j];
+                Object otherItem = otherChunk[j];
+                if (item == null ? otherItem != null : !item.equals(otherItem))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (int i = 0; i < this.chunkCount; i++)
+        {
+            Object[] chunk = this.chunks[i];
+            int length = this.chunkLength(i);
+            for (int j = 0; j < length; j++)
+            {
+                Object item = chunk[j];
+                hashCode = 31 * hashCode + (item == null ? 0 : item.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("[");
+        Iterator<T> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            Object item = iterator.next();
+            builder.append(item == this ? "(this AppendOnlySegmentedList)" : String.valueOf(item));
+            if (iterator.hasNext())
+            {
+                builder.append(", ");
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    private int chunkLength(int chunkIndex)
+    {
+        if (chunkIndex == this.chunkCount - 1)
+        {
+            return (int) (this.size - ((long) chunkIndex << CHUNK_SHIFT));
+        }
+        return CHUNK_SIZE;
+    }
+
+    private void checkIndex(long index)
+    {
+        if (index < 0L || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+    }
+
+    private void addChunk()
+    {
+        if (this.chunkCount == this.chunks.length)
+        {
+            Object[][] newChunks = new Object[Math.max(INITIAL_CAPACITY, this.chunkCount << 1)][];
+            System.arraycopy(this.chunks, 0, newChunks, 0, this.chunkCount);
+            this.chunks = newChunks;
+        }
+        this.chunks[this.chunkCount] = new Object[this.chunkCount == 0 ? INITIAL_CAPACITY : CHUNK_SIZE];
+        this.chunkCount++;
+    }
+
+    /**
+     * Only the first chunk starts small, so that a short list stays small; every later chunk is allocated full.
+     */
+    private void growFirstChunk()
+    {
+        Object[] chunk = this.chunks[0];
+        Object[] newChunk = new Object[Math.min(CHUNK_SIZE, chunk.length << 1)];
+        System.arraycopy(chunk, 0, newChunk, 0, chunk.length);
+        this.chunks[0] = newChunk;
+    }
+
+    private final class SegmentedIterator implements Iterator<T>
+    {
+        private long index;
+
+        public boolean hasNext()
+        {
+            return this.index < AppendOnlySegmentedList.this.size;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            T result = (T) AppendOnlySegmentedList.this.chunks[(int) (this.index >>> CHUNK_SHIFT)][(int) this.index & CHUNK_MASK];
+            this.index++;
+            return result;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an AppendOnlySegmentedList");
+        }
+    }
+}
@@ -95,6 +95,10 @@ import com.gs.collections.impl.utility.Iterate;
 import com.gs.collections.impl.utility.ListIterate;
 import com.gs.collections.impl.utility.internal.InternalArrayIterate;
 import com.gs.collections.impl.utility.internal.RandomAccessListIterate;
+import com.gs.collections.impl.utility.internal.primitive.DoubleRadixSort;
+import com.gs.collections.impl.utility.internal.primitive.FloatRadixSort;
+import com.gs.collections.impl.utility.internal.primitive.IntRadixSort;
+import com.gs.collections.impl.utility.internal.primitive.LongRadixSort;
 import net.jcip.annotations.NotThreadSafe;
 
 /**
@@ -265,6 +269,58 @@ public class FastList<T>
         return this;
     }
 
+    /**
+     * Extracts the keys once into a {@code int[]} and radix sorts the elements along with them, so keys are neither
+     * boxed nor recomputed for each comparison.
+     */
+    @Override
+    public FastList<T> sortThisByInt(IntFunction<? super T> function)
+    {
+        int[] keys = new int[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = function.intValueOf(this.items[i]);
+        }
+        IntRadixSort.sortWith(keys, this.items, 0, this.size);
+        return this;
+    }
+
+    @Override
+    public FastList<T> sortThisByFloat(FloatFunction<? super T> function)
+    {
+        float[] keys = new float[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = function.floatValueOf(this.items[i]);
+        }
+        FloatRadixSort.sortWith(keys, this.items, 0, this.size);
+        return this;
+    }
+
+    @Override
+    public FastList<T> sortThisByLong(LongFunction<? super T> function)
+    {
+        long[] keys = new long[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = function.longValueOf(this.items[i]);
+        }
+        LongRadixSort.sortWith(keys, this.items, 0, this.size);
+        return this;
+    }
+
+    @Override
+    public FastList<T> sortThisByDouble(DoubleFunction<? super T> function)
+    {
+        double[] keys = new double[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = function.doubleValueOf(this.items[i]);
+        }
+        DoubleRadixSort.sortWith(keys, this.items, 0, this.size);
+        return this;
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
@@ -44,6 +44,7 @@ import com.gs.collections.impl.lazy.primitive.ReverseIntIterable;
 import com.gs.collections.impl.lazy.primitive.SelectIntIterable;
 import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.utility.internal.primitive.IntQuickSelect;
 
 /**
  * An IntInterval is a range of ints that may be iterated over using a step value.
@@ -761,15 +762,26 @@ public final class IntInterval
 
     public double median()
     {
-        int[] sortedArray = this.toSortedArray();
-        int middleIndex = sortedArray.length >> 1;
-        if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
-        {
-            int first = sortedArray[middleIndex];
-            int second = sortedArray[middleIndex - 1];
-            return ((double) first + (double) second) / 2.0;
-        }
-        return (double) sortedArray[middleIndex];
+        int[] array = this.toArray();
+        return IntQuickSelect.median(array, array.length);
+    }
+
+    public double percentile(double percentile)
+    {
+        int[] array = this.toArray();
+        return IntQuickSelect.percentile(array, array.length, percentile);
+    }
+
+    public double[] percentiles(double... percentiles)
+    {
+        int[] array = this.toArray();
+        return IntQuickSelect.percentiles(array, array.length, percentiles);
+    }
+
+    public int kthSmallest(int k)
+    {
+        int[] array = this.toArray();
+        return IntQuickSelect.kthSmallest(array, array.length, k);
     }
 
     public int binarySearch(int value)
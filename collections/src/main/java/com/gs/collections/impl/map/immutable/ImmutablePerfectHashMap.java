@@ -0,0 +1,289 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.list.fixed.ArrayAdapter;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.utility.LazyIterate;
+import com.gs.collections.impl.utility.internal.MinimalPerfectHash;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableMap for reference data which is built once and read many times. The entries are stored in dense arrays
+ * addressed by a {@link MinimalPerfectHash} of the key hash codes, so a lookup is one hash, one slot and one equals, and
+ * the arrays have no empty slots. Keys whose hash code is shared with an earlier key cannot be told apart by the
+ * perfect hash; they are stored after the perfect hash slots and found through a small overflow map.
+ * <p>
+ * Instances are serialized in the same form as the other immutable maps and deserialize as an
+ * {@link ImmutableUnifiedMap}.
+ *
+ * @see ImmutableMap
+ * @since 7.0
+ */
+@Immutable
+public final class ImmutablePerfectHashMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final MinimalPerfectHash perfectHash;
+    private final Object[] keys;
+    private final Object[] values;
+    private final UnifiedMap<K, V> overflow;
+
+    private ImmutablePerfectHashMap(MinimalPerfectHash perfectHash, Object[] keys, Object[] values, UnifiedMap<K, V> overflow)
+    {
+        this.perfectHash = perfectHash;
+        this.keys = keys;
+        this.values = values;
+        this.overflow = overflow;
+    }
+
+    public static <K, V> ImmutableMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        int size = map.size();
+        if (size == 0)
+        {
+            return Maps.immutable.of();
+        }
+        Object[] entryKeys = new Object[size];
+        Object[] entryValues = new Object[size];
+        IntHashSet seenHashes = new IntHashSet(size);
+        long[] hashes = new long[size];
+        int hashed = 0;
+        int overflowed = size;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            int hash = ImmutablePerfectHashMap.hashOf(entry.getKey());
+            int index = seenHashes.add(hash) ? hashed++ : --overflowed;
+            entryKeys[index] = entry.getKey();
+            entryValues[index] = entry.getValue();
+            hashes[index] = (long) hash;
+        }
+
+        long[] perfectHashes = new long[hashed];
+        System.arraycopy(hashes, 0, perfectHashes, 0, hashed);
+        MinimalPerfectHash perfectHash = MinimalPerfectHash.newHash(perfectHashes);
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        for (int i = 0; i < hashed; i++)
+        {
+            int slot = perfectHash.index(perfectHashes[i]);
+            keys[slot] = entryKeys[i];
+            values[slot] = entryValues[i];
+        }
+        UnifiedMap<K, V> overflow = null;
+        if (hashed < size)
+        {
+            overflow = UnifiedMap.newMap(size - hashed);
+            for (int i = hashed; i < size; i++)
+            {
+                keys[i] = entryKeys[i];
+                values[i] = entryValues[i];
+                overflow.put((K) entryKeys[i], (V) entryValues[i]);
+            }
+        }
+        return new ImmutablePerfectHashMap<K, V>(perfectHash, keys, values, overflow);
+    }
+
+    private static int hashOf(Object key)
+    {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private int index(Object key)
+    {
+        return this.perfectHash.index((long) ImmutablePerfectHashMap.hashOf(key));
+    }
+
+    public int size()
+    {
+        return this.keys.length;
+    }
+
+    public V get(Object key)
+    {
+        int index = this.index(key);
+        if (Comparators.nullSafeEquals(this.keys[index], key))
+        {
+            return (V) this.values[index];
+        }
+        return this.overflow == null ? null : this.overflow.get(key);
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return Comparators.nullSafeEquals(this.keys[this.index(key)], key)
+                || this.overflow != null && this.overflow.containsKey(key);
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (Object each : this.values)
+        {
+            if (Comparators.nullSafeEquals(each, value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Set<K> keySet()
+    {
+        return Sets.immutable.with((K[]) this.keys).castToSet();
+    }
+
+    public Collection<V> values()
+    {
+        return ArrayAdapter.adapt((V[]) this.values).asUnmodifiable();
+    }
+
+    public RichIterable<K> keysView()
+    {
+        return ArrayAdapter.adapt((K[]) this.keys).asLazy();
+    }
+
+    public RichIterable<V> valuesView()
+    {
+        return ArrayAdapter.adapt((V[]) this.values).asLazy();
+    }
+
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.zip(this.keysView(), this.valuesView());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            hashCode += this.keyAndValueHashCode((K) this.keys[i], (V) this.values[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> that = (Map<K, V>) other;
+        if (that.size() != this.size())
+        {
+            return false;
+        }
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (!this.keyAndValueEquals((K) this.keys[i], (V) this.values[i], that))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (i > 0)
+            {
+                builder.append(", ");
+            }
+            builder.append(this.keys[i] == this ? "(this Map)" : String.valueOf(this.keys[i]));
+            builder.append('=');
+            builder.append(this.values[i] == this ? "(this Map)" : String.valueOf(this.values[i]));
+        }
+        return builder.append('}').toString();
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            procedure.value((K) this.keys[i], (V) this.values[i]);
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (Object key : this.keys)
+        {
+            procedure.value((K) key);
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (Object value : this.values)
+        {
+            procedure.value((V) value);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        for (int i = 0; i < this.values.length; i++)
+        {
+            objectIntProcedure.value((V) this.values[i], i);
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        for (Object value : this.values)
+        {
+            procedure.value((V) value, parameter);
+        }
+    }
+
+    protected Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<K, V>(this);
+    }
+}
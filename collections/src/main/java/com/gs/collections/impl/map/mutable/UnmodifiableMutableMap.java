@@ -740,6 +740,36 @@ public class UnmodifiableMutableMap<K, V>
         return this.getMutableMap().maxBy(function);
     }
 
+    public MutableList<V> minN(int n, Comparator<? super V> comparator)
+    {
+        return this.getMutableMap().minN(n, comparator);
+    }
+
+    public MutableList<V> maxN(int n, Comparator<? super V> comparator)
+    {
+        return this.getMutableMap().maxN(n, comparator);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> topNBy(int n, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableMap().topNBy(n, function);
+    }
+
+    public MutableList<V> topNByInt(int n, IntFunction<? super V> function)
+    {
+        return this.getMutableMap().topNByInt(n, function);
+    }
+
+    public MutableList<V> topNByLong(int n, LongFunction<? super V> function)
+    {
+        return this.getMutableMap().topNByLong(n, function);
+    }
+
+    public MutableList<V> topNByDouble(int n, DoubleFunction<? super V> function)
+    {
+        return this.getMutableMap().topNByDouble(n, function);
+    }
+
     public V min()
     {
         return this.getMutableMap().min();
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.immutable;
+
+import java.util.SortedMap;
+
+import com.gs.collections.api.map.sorted.ImmutableSortedMap;
+import com.gs.collections.impl.utility.internal.EytzingerLayout;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableTreeMap which answers lookups from a second copy of its keys and values in {@link EytzingerLayout}
+ * order. A binary search over a large sorted array misses the cache at almost every step; the Eytzinger copy keeps
+ * the top of the search tree in a few cache lines. Iteration, ranges and everything else still use the sorted arrays.
+ * <p>
+ * Instances are serialized in the same form as ImmutableTreeMap.
+ *
+ * @see ImmutableSortedMap
+ * @since 7.0
+ */
+@Immutable
+public final class ImmutableEytzingerSortedMap<K, V>
+        extends ImmutableTreeMap<K, V>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] keyLayout;
+    private final Object[] valueLayout;
+
+    public ImmutableEytzingerSortedMap(SortedMap<K, V> sortedMap)
+    {
+        super(sortedMap);
+        this.keyLayout = EytzingerLayout.layout(sortedMap.keySet().toArray());
+        this.valueLayout = EytzingerLayout.layout(sortedMap.values().toArray());
+    }
+
+    public static <K, V> ImmutableSortedMap<K, V> newMap(SortedMap<K, V> sortedMap)
+    {
+        return new ImmutableEytzingerSortedMap<K, V>(sortedMap);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return EytzingerLayout.search(this.keyLayout, key, this.comparator()) != 0;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        // An absent key finds slot 0, which is null in every layout
+        return (V) this.valueLayout[EytzingerLayout.search(this.keyLayout, key, this.comparator())];
+    }
+}
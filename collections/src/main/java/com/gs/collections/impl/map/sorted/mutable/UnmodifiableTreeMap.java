@@ -759,6 +759,36 @@ public class UnmodifiableTreeMap<K, V>
         return this.getMutableSortedMap().maxBy(function);
     }
 
+    public MutableList<V> minN(int n, Comparator<? super V> comparator)
+    {
+        return this.getMutableSortedMap().minN(n, comparator);
+    }
+
+    public MutableList<V> maxN(int n, Comparator<? super V> comparator)
+    {
+        return this.getMutableSortedMap().maxN(n, comparator);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> topNBy(int n, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableSortedMap().topNBy(n, function);
+    }
+
+    public MutableList<V> topNByInt(int n, IntFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().topNByInt(n, function);
+    }
+
+    public MutableList<V> topNByLong(int n, LongFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().topNByLong(n, function);
+    }
+
+    public MutableList<V> topNByDouble(int n, DoubleFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().topNByDouble(n, function);
+    }
+
     public V min()
     {
         return this.getMutableSortedMap().min();
@@ -54,6 +54,7 @@ import com.gs.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrateg
 import com.gs.collections.impl.tuple.ImmutableEntry;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.HashChainOrder;
 import net.jcip.annotations.NotThreadSafe;
 
 /**
@@ -118,6 +119,11 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
 
     protected static final int DEFAULT_INITIAL_CAPACITY = 8;
 
+    /**
+     * Chain arrays at least this long are kept sorted. Chains never shrink, so a chain stays sorted once it is.
+     */
+    private static final int SORTED_CHAIN_LENGTH = 16;
+
     private static final long serialVersionUID = 1L;
 
     protected transient Object[] table;
@@ -416,30 +422,14 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
-            for (int i = 0; i < chain.length; i += 2)
+            int i = this.chainIndexOf(chain, key);
+            if (i >= 0)
             {
-                if (chain[i] == null)
-                {
-                    chain[i] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-                    chain[i + 1] = value;
-                    if (++this.occupied > this.maxSize)
-                    {
-                        this.rehash(this.table.length);
-                    }
-                    return null;
-                }
-                if (this.nonNullTableObjectEquals(chain[i], key))
-                {
-                    V result = (V) chain[i + 1];
-                    chain[i + 1] = value;
-                    return result;
-                }
+                V result = (V) chain[i + 1];
+                chain[i + 1] = value;
+                return result;
             }
-            Object[] newChain = new Object[chain.length + 4];
-            System.arraycopy(chain, 0, newChain, 0, chain.length);
-            this.table[index + 1] = newChain;
-            newChain[chain.length] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-            newChain[chain.length + 1] = value;
+            this.addToChain(chain, index, -i - 1, key, value);
             if (++this.occupied > this.maxSize)
             {
                 this.rehash(this.table.length);
@@ -460,6 +450,136 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
         return null;
     }
 
+    /**
+     * Returns the position of {@code key} in {@code chain}, or {@code -(insertionPoint + 1)} if it is absent. Chains of
+     * at least {@link #SORTED_CHAIN_LENGTH} slots are kept ordered by the hashing strategy's hash code and binary
+     * searched, so a flood of colliding keys costs logarithmic rather than linear time per lookup. Natural ordering is
+     * not used to break ties because it need not agree with the hashing strategy's notion of equality.
+     */
+    private int chainIndexOf(Object[] chain, K key)
+    {
+        if (chain.length >= SORTED_CHAIN_LENGTH)
+        {
+            return this.sortedChainIndexOf(chain, key);
+        }
+        for (int i = 0; i < chain.length; i += 2)
+        {
+            Object k = chain[i];
+            if (k == null)
+            {
+                return -i - 1;
+            }
+            if (this.nonNullTableObjectEquals(k, key))
+            {
+                return i;
+            }
+        }
+        return -chain.length - 1;
+    }
+
+    private int sortedChainIndexOf(Object[] chain, K key)
+    {
+        int hash = this.hashingStrategy.computeHashCode(key);
+        int low = 0;
+        int high = chain.length >> 1;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            Object k = chain[mid << 1];
+            if (k == null || this.compareChainKeys(k, key, hash) >= 0)
+            {
+                high = mid;
+            }
+            else
+            {
+                low = mid + 1;
+            }
+        }
+        int i = low << 1;
+        for (; i < chain.length; i += 2)
+        {
+            Object k = chain[i];
+            if (k == null || this.compareChainKeys(k, key, hash) != 0)
+            {
+                break;
+            }
+            if (this.nonNullTableObjectEquals(k, key))
+            {
+                return i;
+            }
+        }
+        return -i - 1;
+    }
+
+    private int compareChainKeys(Object chainKey, K key, int hash)
+    {
+        return HashChainOrder.compareHashes(this.hashingStrategy.computeHashCode(this.nonSentinel(chainKey)), hash);
+    }
+
+    private void addToChain(Object[] chain, int index, int position, K key, V value)
+    {
+        if (chain.length >= SORTED_CHAIN_LENGTH)
+        {
+            this.insertIntoSortedChain(chain, index, position, key, value);
+            return;
+        }
+        if (position < chain.length)
+        {
+            chain[position] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
+            chain[position + 1] = value;
+            return;
+        }
+        Object[] newChain = new Object[chain.length + 4];
+        System.arraycopy(chain, 0, newChain, 0, chain.length);
+        this.table[index + 1] = newChain;
+        if (newChain.length >= SORTED_CHAIN_LENGTH)
+        {
+            this.sortChain(newChain);
+            this.insertIntoSortedChain(newChain, index, -this.sortedChainIndexOf(newChain, key) - 1, key, value);
+            return;
+        }
+        newChain[position] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
+        newChain[position + 1] = value;
+    }
+
+    private void insertIntoSortedChain(Object[] chain, int index, int position, K key, V value)
+    {
+        Object[] target = chain;
+        if (chain[chain.length - 2] == null)
+        {
+            System.arraycopy(chain, position, chain, position + 2, chain.length - position - 2);
+        }
+        else
+        {
+            target = new Object[chain.length + 4];
+            System.arraycopy(chain, 0, target, 0, position);
+            System.arraycopy(chain, position, target, position + 2, chain.length - position);
+            this.table[index + 1] = target;
+        }
+        target[position] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
+        target[position + 1] = value;
+    }
+
+    private void sortChain(Object[] chain)
+    {
+        for (int i = 2; i < chain.length && chain[i] != null; i += 2)
+        {
+            Object cur = chain[i];
+            Object value = chain[i + 1];
+            K key = this.nonSentinel(cur);
+            int hash = this.hashingStrategy.computeHashCode(key);
+            int j = i - 2;
+            while (j >= 0 && this.compareChainKeys(chain[j], key, hash) > 0)
+            {
+                chain[j + 2] = chain[j];
+                chain[j + 3] = chain[j + 1];
+                j -= 2;
+            }
+            chain[j + 2] = cur;
+            chain[j + 3] = value;
+        }
+    }
+
     @Override
     public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
     {
@@ -488,44 +608,27 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
-            for (int i = 0; i < chain.length; i += 2)
+            int i = this.chainIndexOf(chain, key);
+            if (i >= 0)
             {
-                if (chain[i] == null)
-                {
-                    chain[i] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-                    V result = function.valueOf(factory.value());
-                    chain[i + 1] = result;
-                    if (++this.occupied > this.maxSize)
-                    {
-                        this.rehash(this.table.length);
-                    }
-                    return result;
-                }
-                if (this.nonNullTableObjectEquals(chain[i], key))
-                {
-                    V oldValue = (V) chain[i + 1];
-                    V result = function.valueOf(oldValue);
-                    chain[i + 1] = result;
-                    return result;
-                }
+                V oldValue = (V) chain[i + 1];
+                V result = function.valueOf(oldValue);
+                chain[i + 1] = result;
+                return result;
             }
-            Object[] newChain = new Object[chain.length + 4];
-            System.arraycopy(chain, 0, newChain, 0, chain.length);
-            this.table[index + 1] = newChain;
-            newChain[chain.length] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
             V result = function.valueOf(factory.value());
-            newChain[chain.length + 1] = result;
+            this.addToChain(chain, index, -i - 1, key, result);
             if (++this.occupied > this.maxSize)
             {
                 this.rehash(this.table.length);
             }
             return result;
         }
+        V result = function.valueOf(factory.value());
         Object[] newChain = new Object[4];
         newChain[0] = this.table[index];
         newChain[1] = this.table[index + 1];
         newChain[2] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-        V result = function.valueOf(factory.value());
         newChain[3] = result;
         this.table[index] = CHAINED_KEY;
         this.table[index + 1] = newChain;
@@ -569,44 +672,27 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
-            for (int i = 0; i < chain.length; i += 2)
+            int i = this.chainIndexOf(chain, key);
+            if (i >= 0)
             {
-                if (chain[i] == null)
-                {
-                    chain[i] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-                    V result = function.value(factory.value(), parameter);
-                    chain[i + 1] = result;
-                    if (++this.occupied > this.maxSize)
-                    {
-                        this.rehash(this.table.length);
-                    }
-                    return result;
-                }
-                if (this.nonNullTableObjectEquals(chain[i], key))
-                {
-                    V oldValue = (V) chain[i + 1];
-                    V result = function.value(oldValue, parameter);
-                    chain[i + 1] = result;
-                    return result;
-                }
+                V oldValue = (V) chain[i + 1];
+                V result = function.value(oldValue, parameter);
+                chain[i + 1] = result;
+                return result;
             }
-            Object[] newChain = new Object[chain.length + 4];
-            System.arraycopy(chain, 0, newChain, 0, chain.length);
-            this.table[index + 1] = newChain;
-            newChain[chain.length] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
             V result = function.value(factory.value(), parameter);
-            newChain[chain.length + 1] = result;
+            this.addToChain(chain, index, -i - 1, key, result);
             if (++this.occupied > this.maxSize)
             {
                 this.rehash(this.table.length);
             }
             return result;
         }
+        V result = function.value(factory.value(), parameter);
         Object[] newChain = new Object[4];
         newChain[0] = this.table[index];
         newChain[1] = this.table[index + 1];
         newChain[2] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-        V result = function.value(factory.value(), parameter);
         newChain[3] = result;
         this.table[index] = CHAINED_KEY;
         this.table[index + 1] = newChain;
@@ -643,58 +729,33 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
 
     private V chainedGetIfAbsentPut(K key, int index, Function0<? extends V> function)
     {
-        V result = null;
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
-            int i = 0;
-            for (; i < chain.length; i += 2)
+            int i = this.chainIndexOf(chain, key);
+            if (i >= 0)
             {
-                if (chain[i] == null)
-                {
-                    result = function.value();
-                    chain[i] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-                    chain[i + 1] = result;
-                    if (++this.occupied > this.maxSize)
-                    {
-                        this.rehash(this.table.length);
-                    }
-                    break;
-                }
-                if (this.nonNullTableObjectEquals(chain[i], key))
-                {
-                    result = (V) chain[i + 1];
-                    break;
-                }
-            }
-            if (i == chain.length)
-            {
-                result = function.value();
-                Object[] newChain = new Object[chain.length + 4];
-                System.arraycopy(chain, 0, newChain, 0, chain.length);
-                newChain[i] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-                newChain[i + 1] = result;
-                this.table[index + 1] = newChain;
-                if (++this.occupied > this.maxSize)
-                {
-                    this.rehash(this.table.length);
-                }
+                return (V) chain[i + 1];
             }
-        }
-        else
-        {
-            result = function.value();
-            Object[] newChain = new Object[4];
-            newChain[0] = this.table[index];
-            newChain[1] = this.table[index + 1];
-            newChain[2] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-            newChain[3] = result;
-            this.table[index] = CHAINED_KEY;
-            this.table[index + 1] = newChain;
+            V result = function.value();
+            this.addToChain(chain, index, -i - 1, key, result);
             if (++this.occupied > this.maxSize)
             {
                 this.rehash(this.table.length);
             }
+            return result;
+        }
+        V result = function.value();
+        Object[] newChain = new Object[4];
+        newChain[0] = this.table[index];
+        newChain[1] = this.table[index + 1];
+        newChain[2] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
+        newChain[3] = result;
+        this.table[index] = CHAINED_KEY;
+        this.table[index + 1] = newChain;
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash(this.table.length);
         }
         return result;
     }
@@ -724,55 +785,33 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
 
     private V chainedGetIfAbsentPut(K key, int index, V value)
     {
-        V result = value;
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
-            int i = 0;
-            for (; i < chain.length; i += 2)
-            {
-                if (chain[i] == null)
-                {
-                    chain[i] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-                    chain[i + 1] = value;
-                    if (++this.occupied > this.maxSize)
-                    {
-                        this.rehash(this.table.length);
-                    }
-                    break;
-                }
-                if (this.nonNullTableObjectEquals(chain[i], key))
-                {
-                    result = (V) chain[i + 1];
-                    break;
-                }
-            }
-            if (i == chain.length)
+            int i = this.chainIndexOf(chain, key);
+            if (i >= 0)
             {
-                Object[] newChain = new Object[chain.length + 4];
-                System.arraycopy(chain, 0, newChain, 0, chain.length);
-                newChain[i] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-                newChain[i + 1] = value;
-                this.table[index + 1] = newChain;
-                if (++this.occupied > this.maxSize)
-                {
-                    this.rehash(this.table.length);
-                }
+                return (V) chain[i + 1];
             }
-        }
-        else
-        {
-            Object[] newChain = new Object[4];
-            newChain[0] = this.table[index];
-            newChain[1] = this.table[index + 1];
-            newChain[2] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-            newChain[3] = value;
-            this.table[index] = CHAINED_KEY;
-            this.table[index + 1] = newChain;
+            V result = value;
+            this.addToChain(chain, index, -i - 1, key, result);
             if (++this.occupied > this.maxSize)
             {
                 this.rehash(this.table.length);
             }
+            return result;
+        }
+        V result = value;
+        Object[] newChain = new Object[4];
+        newChain[0] = this.table[index];
+        newChain[1] = this.table[index + 1];
+        newChain[2] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
+        newChain[3] = result;
+        this.table[index] = CHAINED_KEY;
+        this.table[index + 1] = newChain;
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash(this.table.length);
         }
         return result;
     }
@@ -803,58 +842,33 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
 
     private <P> V chainedGetIfAbsentPutWith(K key, int index, Function<? super P, ? extends V> function, P parameter)
     {
-        V result = null;
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
-            int i = 0;
-            for (; i < chain.length; i += 2)
-            {
-                if (chain[i] == null)
-                {
-                    result = function.valueOf(parameter);
-                    chain[i] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-                    chain[i + 1] = result;
-                    if (++this.occupied > this.maxSize)
-                    {
-                        this.rehash(this.table.length);
-                    }
-                    break;
-                }
-                if (this.nonNullTableObjectEquals(chain[i], key))
-                {
-                    result = (V) chain[i + 1];
-                    break;
-                }
-            }
-            if (i == chain.length)
+            int i = this.chainIndexOf(chain, key);
+            if (i >= 0)
             {
-                result = function.valueOf(parameter);
-                Object[] newChain = new Object[chain.length + 4];
-                System.arraycopy(chain, 0, newChain, 0, chain.length);
-                newChain[i] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-                newChain[i + 1] = result;
-                this.table[index + 1] = newChain;
-                if (++this.occupied > this.maxSize)
-                {
-                    this.rehash(this.table.length);
-                }
+                return (V) chain[i + 1];
             }
-        }
-        else
-        {
-            result = function.valueOf(parameter);
-            Object[] newChain = new Object[4];
-            newChain[0] = this.table[index];
-            newChain[1] = this.table[index + 1];
-            newChain[2] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
-            newChain[3] = result;
-            this.table[index] = CHAINED_KEY;
-            this.table[index + 1] = newChain;
+            V result = function.valueOf(parameter);
+            this.addToChain(chain, index, -i - 1, key, result);
             if (++this.occupied > this.maxSize)
             {
                 this.rehash(this.table.length);
             }
+            return result;
+        }
+        V result = function.valueOf(parameter);
+        Object[] newChain = new Object[4];
+        newChain[0] = this.table[index];
+        newChain[1] = this.table[index + 1];
+        newChain[2] = UnifiedMapWithHashingStrategy.toSentinelIfNull(key);
+        newChain[3] = result;
+        this.table[index] = CHAINED_KEY;
+        this.table[index + 1] = newChain;
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash(this.table.length);
         }
         return result;
     }
@@ -942,19 +956,8 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
 
     private V getFromChain(Object[] chain, K key)
     {
-        for (int i = 0; i < chain.length; i += 2)
-        {
-            Object k = chain[i];
-            if (k == null)
-            {
-                return null;
-            }
-            if (this.nonNullTableObjectEquals(k, key))
-            {
-                return (V) chain[i + 1];
-            }
-        }
-        return null;
+        int i = this.chainIndexOf(chain, key);
+        return i >= 0 ? (V) chain[i + 1] : null;
     }
 
     public boolean containsKey(Object key)
@@ -974,19 +977,7 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
 
     private boolean chainContainsKey(Object[] chain, K key)
     {
-        for (int i = 0; i < chain.length; i += 2)
-        {
-            Object k = chain[i];
-            if (k == null)
-            {
-                return false;
-            }
-            if (this.nonNullTableObjectEquals(k, key))
-            {
-                return true;
-            }
-        }
-        return false;
+        return this.chainIndexOf(chain, key) >= 0;
     }
 
     public boolean containsValue(Object value)
@@ -1259,25 +1250,25 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
 
     private V removeFromChain(Object[] chain, K key, int index)
     {
-        for (int i = 0; i < chain.length; i += 2)
+        int i = this.chainIndexOf(chain, key);
+        if (i < 0)
         {
-            Object k = chain[i];
-            if (k == null)
-            {
-                return null;
-            }
-            if (this.nonNullTableObjectEquals(k, key))
-            {
-                V val = (V) chain[i + 1];
-                this.overwriteWithLastElementFromChain(chain, index, i);
-                return val;
-            }
+            return null;
         }
-        return null;
+        V val = (V) chain[i + 1];
+        this.overwriteWithLastElementFromChain(chain, index, i);
+        return val;
     }
 
     private void overwriteWithLastElementFromChain(Object[] chain, int index, int i)
     {
+        if (chain.length >= SORTED_CHAIN_LENGTH)
+        {
+            this.removeFromSortedChain(chain, i);
+            this.collapseSortedChain(chain, index);
+            this.occupied--;
+            return;
+        }
         int j = chain.length - 2;
         for (; j > i; j -= 2)
         {
@@ -1298,6 +1289,26 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
         this.occupied--;
     }
 
+    private void removeFromSortedChain(Object[] chain, int i)
+    {
+        System.arraycopy(chain, i + 2, chain, i, chain.length - i - 2);
+        chain[chain.length - 2] = null;
+        chain[chain.length - 1] = null;
+    }
+
+    /**
+     * Clears the bucket at {@code index} once its sorted chain is empty, and moves the last entry of a chain back into
+     * the bucket itself.
+     */
+    private void collapseSortedChain(Object[] chain, int index)
+    {
+        if (chain[2] == null)
+        {
+            this.table[index] = chain[0];
+            this.table[index + 1] = chain[1];
+        }
+    }
+
     public int size()
     {
         return this.occupied;
@@ -1937,6 +1948,14 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
         {
             Object[] chain = (Object[]) UnifiedMapWithHashingStrategy.this.table[this.position + 1];
             int pos = this.chainPosition - 2;
+            if (chain.length >= SORTED_CHAIN_LENGTH)
+            {
+                UnifiedMapWithHashingStrategy.this.removeFromSortedChain(chain, pos);
+                UnifiedMapWithHashingStrategy.this.collapseSortedChain(chain, this.position);
+                this.chainPosition = pos;
+                this.lastReturned = false;
+                return;
+            }
             int replacePos = this.chainPosition;
             while (replacePos < chain.length - 2 && chain[replacePos + 2] != null)
             {
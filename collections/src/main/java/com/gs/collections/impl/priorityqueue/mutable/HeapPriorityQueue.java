@@ -0,0 +1,488 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.priorityqueue.mutable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * A {@link java.util.Queue} which orders its elements with a Comparator, or by their natural order when the
+ * Comparator is null, and always removes the smallest element first. It is stored as a 4-ary heap: half as deep as the
+ * binary heap in {@link java.util.PriorityQueue}, with the four children of a node next to each other in the array, so
+ * poll compares more elements but touches fewer cache lines.
+ * <p>
+ * Iteration visits the elements in no particular order. As in PriorityQueue, removing through the iterator can move the
+ * last element to a slot the iterator has already passed, so the iterator keeps such elements aside and returns them
+ * at the end. Bulk removal through removeAll and retainAll filters the array and rebuilds the heap in linear time.
+ *
+ * @since 7.0
+ */
+@NotThreadSafe
+public final class HeapPriorityQueue<T>
+        extends AbstractQueue<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+    private static final Object[] EMPTY_ARRAY = {};
+
+    private final Comparator<? super T> comparator;
+    private transient Object[] elements;
+    private transient int size;
+    private transient int modCount;
+
+    public HeapPriorityQueue()
+    {
+        this(null);
+    }
+
+    public HeapPriorityQueue(Comparator<? super T> comparator)
+    {
+        this.comparator = comparator;
+        this.elements = EMPTY_ARRAY;
+    }
+
+    public static <T> HeapPriorityQueue<T> newQueue()
+    {
+        return new HeapPriorityQueue<T>();
+    }
+
+    public static <T> HeapPriorityQueue<T> newQueue(Comparator<? super T> comparator)
+    {
+        return new HeapPriorityQueue<T>(comparator);
+    }
+
+    public static <T> HeapPriorityQueue<T> newQueue(Iterable<? extends T> source)
+    {
+        HeapPriorityQueue<T> queue = new HeapPriorityQueue<T>();
+        for (T each : source)
+        {
+            queue.offer(each);
+        }
+        return queue;
+    }
+
+    public static <T> HeapPriorityQueue<T> newQueueWith(T... elements)
+    {
+        return HeapPriorityQueue.newQueueWith(null, elements);
+    }
+
+    public static <T> HeapPriorityQueue<T> newQueueWith(Comparator<? super T> comparator, T... elements)
+    {
+        HeapPriorityQueue<T> queue = new HeapPriorityQueue<T>(comparator);
+        queue.addAllFromArray(elements);
+        return queue;
+    }
+
+    public Comparator<? super T> comparator()
+    {
+        return this.comparator;
+    }
+
+    private int compare(T first, T second)
+    {
+        if (this.comparator == null)
+        {
+            return ((Comparable<? super T>) first).compareTo(second);
+        }
+        return this.comparator.compare(first, second);
+    }
+
+    private T elementAt(int index)
+    {
+        return (T) this.elements[index];
+    }
+
+    private void siftUp(int index, T element)
+    {
+        int current = index;
+        while (current > 0)
+        {
+            int parent = (current - 1) >>> 2;
+            T parentValue = this.elementAt(parent);
+            if (this.compare(element, parentValue) >= 0)
+            {
+                break;
+            }
+            this.elements[current] = parentValue;
+            current = parent;
+        }
+        this.elements[current] = element;
+    }
+
+    private void siftDown(int index, T element)
+    {
+        int current = index;
+        while (true)
+        {
+            int firstChild = (current << 2) + 1;
+            if (firstChild >= this.size)
+            {
+                break;
+            }
+            int lastChild = Math.min(firstChild + 4, this.size);
+            int best = firstChild;
+            T bestValue = this.elementAt(firstChild);
+            for (int child = firstChild + 1; child < lastChild; child++)
+            {
+                T childValue = this.elementAt(child);
+                if (this.compare(childValue, bestValue) < 0)
+                {
+                    best = child;
+                    bestValue = childValue;
+                }
+            }
+            if (this.compare(bestValue, element) >= 0)
+            {
+                break;
+            }
+            this.elements[current] = bestValue;
+            current = best;
+        }
+        this.elements[current] = element;
+    }
+
+    private void heapify()
+    {
+        for (int i = (this.size - 2) >> 2; i >= 0; i--)
+        {
+            this.siftDown(i, this.elementAt(i));
+        }
+    }
+
+    private void ensureCapacity(int minimumCapacity)
+    {
+        if (minimumCapacity > this.elements.length)
+        {
+            int newCapacity = Math.max(minimumCapacity, this.elements.length + (this.elements.length >> 1) + 1);
+            Object[] newElements = new Object[newCapacity];
+            System.arraycopy(this.elements, 0, newElements, 0, this.size);
+            this.elements = newElements;
+        }
+    }
+
+    private void addAllFromArray(Object[] source)
+    {
+        for (Object each : source)
+        {
+            if (each == null)
+            {
+                throw new NullPointerException("HeapPriorityQueue does not permit null elements");
+            }
+        }
+        int oldSize = this.size;
+        this.ensureCapacity(oldSize + source.length);
+        System.arraycopy(source, 0, this.elements, oldSize, source.length);
+        this.size = oldSize + source.length;
+        if (source.length >= oldSize)
+        {
+            this.heapify();
+        }
+        else
+        {
+            for (int i = oldSize; i < this.size; i++)
+            {
+                this.siftUp(i, this.elementAt(i));
+            }
+        }
+        this.modCount++;
+    }
+
+    public boolean offer(T element)
+    {
+        if (element == null)
+        {
+            throw new NullPointerException("HeapPriorityQueue does not permit null elements");
+        }
+        this.ensureCapacity(this.size + 1);
+        this.size++;
+        this.siftUp(this.size - 1, element);
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Adds all of the elements at once. When the queue at least doubles in size the heap is rebuilt in linear time
+     * instead of sifting up each new element.
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> source)
+    {
+        if (source == this)
+        {
+            throw new IllegalArgumentException("Cannot add a queue to itself");
+        }
+        if (source.isEmpty())
+        {
+            return false;
+        }
+        this.addAllFromArray(source.toArray());
+        return true;
+    }
+
+    public T peek()
+    {
+        return this.size == 0 ? null : this.elementAt(0);
+    }
+
+    public T poll()
+    {
+        if (this.size == 0)
+        {
+            return null;
+        }
+        T result = this.elementAt(0);
+        this.removeAt(0);
+        return result;
+    }
+
+    /**
+     * Removes the element at {@code index} by moving the last element into its slot. Returns the moved element if it
+     * was sifted up to before {@code index}, where an iterator which has passed {@code index} would miss it, or null
+     * otherwise.
+     */
+    private T removeAt(int index)
+    {
+        this.modCount++;
+        this.size--;
+        T moved = this.elementAt(this.size);
+        this.elements[this.size] = null;
+        if (index != this.size)
+        {
+            this.siftDown(index, moved);
+            if (this.elements[index] == moved)
+            {
+                this.siftUp(index, moved);
+                if (this.elements[index] != moved)
+                {
+                    return moved;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void removeIdentical(Object object)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (object == this.elements[i])
+            {
+                this.removeAt(i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (object.equals(this.elements[i]))
+            {
+                this.removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (object.equals(this.elements[i]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return this.filter(collection, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return this.filter(collection, true);
+    }
+
+    private boolean filter(Collection<?> collection, boolean keepContained)
+    {
+        int oldSize = this.size;
+        int kept = 0;
+        for (int i = 0; i < oldSize; i++)
+        {
+            Object each = this.elements[i];
+            if (collection.contains(each) == keepContained)
+            {
+                this.elements[kept++] = each;
+            }
+        }
+        for (int i = kept; i < oldSize; i++)
+        {
+            this.elements[i] = null;
+        }
+        this.size = kept;
+        if (kept == oldSize)
+        {
+            return false;
+        }
+        this.heapify();
+        this.modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            this.elements[i] = null;
+        }
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        Object[] result = new Object[this.size];
+        System.arraycopy(this.elements, 0, result, 0, this.size);
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new HeapIterator();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException
+    {
+        out.defaultWriteObject();
+        out.writeInt(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            out.writeObject(this.elements[i]);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        int size = in.readInt();
+        this.elements = new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            this.elements[i] = in.readObject();
+        }
+        this.size = size;
+    }
+
+    private final class HeapIterator implements Iterator<T>
+    {
+        private int expectedModCount = HeapPriorityQueue.this.modCount;
+        private int position;
+        private int lastReturnedIndex = -1;
+        private T lastForgottenElement;
+        private FastList<T> forgottenElements;
+
+        public boolean hasNext()
+        {
+            return this.position < HeapPriorityQueue.this.size
+                    || this.forgottenElements != null && this.forgottenElements.notEmpty();
+        }
+
+        public T next()
+        {
+            if (HeapPriorityQueue.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (this.position < HeapPriorityQueue.this.size)
+            {
+                this.lastReturnedIndex = this.position++;
+                return HeapPriorityQueue.this.elementAt(this.lastReturnedIndex);
+            }
+            if (this.forgottenElements != null && this.forgottenElements.notEmpty())
+            {
+                this.lastReturnedIndex = -1;
+                this.lastForgottenElement = this.forgottenElements.remove(this.forgottenElements.size() - 1);
+                return this.lastForgottenElement;
+            }
+            throw new NoSuchElementException();
+        }
+
+        public void remove()
+        {
+            if (HeapPriorityQueue.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (this.lastReturnedIndex != -1)
+            {
+                T moved = HeapPriorityQueue.this.removeAt(this.lastReturnedIndex);
+                this.lastReturnedIndex = -1;
+                if (moved == null)
+                {
+                    this.position--;
+                }
+                else
+                {
+                    if (this.forgottenElements == null)
+                    {
+                        this.forgottenElements = FastList.newList();
+                    }
+                    this.forgottenElements.add(moved);
+                }
+            }
+            else if (this.lastForgottenElement != null)
+            {
+                HeapPriorityQueue.this.removeIdentical(this.lastForgottenElement);
+                this.lastForgottenElement = null;
+            }
+            else
+            {
+                throw new IllegalStateException();
+            }
+            this.expectedModCount = HeapPriorityQueue.this.modCount;
+        }
+    }
+}
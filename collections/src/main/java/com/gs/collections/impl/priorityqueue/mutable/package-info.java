@@ -0,0 +1,29 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains priority queue implementations.
+ * <p>
+ *     This package contains one object priority queue implementation:
+ * <ul>
+ *     <li>
+ *          {@link com.gs.collections.impl.priorityqueue.mutable.HeapPriorityQueue} - a {@link java.util.Queue} stored as a 4-ary heap and ordered by a Comparator.
+ *     </li>
+ * </ul>
+ * <p>
+ *     The primitive priority queues and indexed heaps are generated into the primitive sub-package.
+ */
+package com.gs.collections.impl.priorityqueue.mutable;
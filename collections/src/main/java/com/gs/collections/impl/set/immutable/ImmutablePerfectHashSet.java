@@ -0,0 +1,224 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.utility.internal.MinimalPerfectHash;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableSet for reference data which is built once and read many times. The elements are stored in a dense
+ * array addressed by a {@link MinimalPerfectHash} of their hash codes, so a lookup is one hash, one slot and one equals,
+ * and the array has no empty slots. Elements whose hash code is shared with an earlier element are stored after the
+ * perfect hash slots and found through a small overflow set.
+ * <p>
+ * Instances are serialized in the same form as the other immutable sets.
+ *
+ * @since 7.0
+ */
+@Immutable
+public final class ImmutablePerfectHashSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final MinimalPerfectHash perfectHash;
+    private final Object[] elements;
+    private final UnifiedSet<T> overflow;
+
+    private ImmutablePerfectHashSet(MinimalPerfectHash perfectHash, Object[] elements, UnifiedSet<T> overflow)
+    {
+        this.perfectHash = perfectHash;
+        this.elements = elements;
+        this.overflow = overflow;
+    }
+
+    public static <T> ImmutableSet<T> newSetWith(T... elements)
+    {
+        return ImmutablePerfectHashSet.newSet(UnifiedSet.newSetWith(elements));
+    }
+
+    public static <T> ImmutableSet<T> newSet(Iterable<T> iterable)
+    {
+        UnifiedSet<T> distinct = iterable instanceof UnifiedSet ? (UnifiedSet<T>) iterable : UnifiedSet.newSet(iterable);
+        int size = distinct.size();
+        if (size == 0)
+        {
+            return Sets.immutable.of();
+        }
+        Object[] candidates = new Object[size];
+        IntHashSet seenHashes = new IntHashSet(size);
+        long[] hashes = new long[size];
+        int hashed = 0;
+        int overflowed = size;
+        for (T each : distinct)
+        {
+            int hash = ImmutablePerfectHashSet.hashOf(each);
+            int index = seenHashes.add(hash) ? hashed++ : --overflowed;
+            candidates[index] = each;
+            hashes[index] = (long) hash;
+        }
+
+        long[] perfectHashes = new long[hashed];
+        System.arraycopy(hashes, 0, perfectHashes, 0, hashed);
+        MinimalPerfectHash perfectHash = MinimalPerfectHash.newHash(perfectHashes);
+        Object[] elements = new Object[size];
+        for (int i = 0; i < hashed; i++)
+        {
+            elements[perfectHash.index(perfectHashes[i])] = candidates[i];
+        }
+        UnifiedSet<T> overflow = null;
+        if (hashed < size)
+        {
+            overflow = UnifiedSet.newSet(size - hashed);
+            for (int i = hashed; i < size; i++)
+            {
+                elements[i] = candidates[i];
+                overflow.add((T) candidates[i]);
+            }
+        }
+        return new ImmutablePerfectHashSet<T>(perfectHash, elements, overflow);
+    }
+
+    private static int hashOf(Object element)
+    {
+        return element == null ? 0 : element.hashCode();
+    }
+
+    public int size()
+    {
+        return this.elements.length;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        int index = this.perfectHash.index((long) ImmutablePerfectHashSet.hashOf(object));
+        return Comparators.nullSafeEquals(this.elements[index], object)
+                || this.overflow != null && this.overflow.contains(object);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == this)
+        {
+            return true;
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        if (set.size() != this.size())
+        {
+            return false;
+        }
+        for (Object each : this.elements)
+        {
+            if (!set.contains(each))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (Object each : this.elements)
+        {
+            hashCode += this.nullSafeHashCode(each);
+        }
+        return hashCode;
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new PerfectHashSetIterator();
+    }
+
+    public T getFirst()
+    {
+        return (T) this.elements[0];
+    }
+
+    public T getLast()
+    {
+        return (T) this.elements[this.elements.length - 1];
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (Object each : this.elements)
+        {
+            procedure.value((T) each);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (int i = 0; i < this.elements.length; i++)
+        {
+            objectIntProcedure.value((T) this.elements[i], i);
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        for (Object each : this.elements)
+        {
+            procedure.value((T) each, parameter);
+        }
+    }
+
+    protected class PerfectHashSetIterator
+            extends ImmutableSetIterator
+    {
+        @Override
+        protected T getElement(int i)
+        {
+            if (i >= ImmutablePerfectHashSet.this.elements.length)
+            {
+                throw new NoSuchElementException("i=" + i);
+            }
+            return (T) ImmutablePerfectHashSet.this.elements[i];
+        }
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSetSerializationProxy<T>(this);
+    }
+}
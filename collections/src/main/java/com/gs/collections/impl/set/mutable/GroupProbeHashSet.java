@@ -0,0 +1,583 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.impl.ControlByteFunctions;
+import com.gs.collections.impl.SpreadFunctions;
+import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
+import com.gs.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
+import com.gs.collections.impl.utility.ArrayIterate;
+
+/**
+ * GroupProbeHashSet is an open-addressing MutableSet which keeps a control byte per slot alongside the element table.
+ * A control byte holds the low seven bits of the element's hash, so a lookup compares eight slots at a time with a few
+ * word operations and only calls equals on slots whose control byte matches. Lookups for absent elements usually stop
+ * after scanning a single group, which allows a maximum load factor of 7/8.
+ * <p>
+ * Unlike {@link UnifiedSet}, no buckets are allocated on collision and removal never moves elements.
+ *
+ * @see ControlByteFunctions
+ * @since 7.0
+ */
+public class GroupProbeHashSet<T>
+        extends AbstractMutableSet<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "GroupProbeHashSet.NULL_KEY";
+        }
+    };
+
+    private transient Object[] table;
+    private transient long[] controls;
+    private transient int occupied;
+    private transient int growthLeft;
+
+    public GroupProbeHashSet()
+    {
+        this.allocateTable(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public GroupProbeHashSet(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocateTable(this.smallestPowerOfTwoGreaterThan(initialCapacity + (initialCapacity >>> 3) + 1));
+    }
+
+    public GroupProbeHashSet(Collection<? extends T> collection)
+    {
+        this(collection.size());
+        this.addAll(collection);
+    }
+
+    public GroupProbeHashSet(GroupProbeHashSet<T> set)
+    {
+        this.table = set.table.clone();
+        this.controls = set.controls.clone();
+        this.occupied = set.occupied;
+        this.growthLeft = set.growthLeft;
+    }
+
+    public static <K> GroupProbeHashSet<K> newSet()
+    {
+        return new GroupProbeHashSet<K>();
+    }
+
+    public static <K> GroupProbeHashSet<K> newSet(int size)
+    {
+        return new GroupProbeHashSet<K>(size);
+    }
+
+    public static <K> GroupProbeHashSet<K> newSet(Iterable<? extends K> source)
+    {
+        if (source instanceof GroupProbeHashSet)
+        {
+            return new GroupProbeHashSet<K>((GroupProbeHashSet<K>) source);
+        }
+        if (source instanceof Collection)
+        {
+            return new GroupProbeHashSet<K>((Collection<K>) source);
+        }
+        if (source == null)
+        {
+            throw new NullPointerException();
+        }
+        GroupProbeHashSet<K> result = new GroupProbeHashSet<K>();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <K> GroupProbeHashSet<K> newSetWith(K... elements)
+    {
+        return GroupProbeHashSet.<K>newSet(elements.length).with(elements);
+    }
+
+    private int smallestPowerOfTwoGreaterThan(int n)
+    {
+        return n > 1 ? Integer.highestOneBit(n - 1) << 1 : 1;
+    }
+
+    private void allocateTable(int sizeToAllocate)
+    {
+        int capacity = Math.max(ControlByteFunctions.GROUP_WIDTH, sizeToAllocate);
+        this.table = new Object[capacity];
+        this.controls = new long[capacity >>> ControlByteFunctions.GROUP_SHIFT];
+        Arrays.fill(this.controls, ControlByteFunctions.EMPTY_GROUP);
+        this.growthLeft = ControlByteFunctions.maxLoad(capacity) - this.occupied;
+    }
+
+    private static int hash(Object key)
+    {
+        return SpreadFunctions.intSpreadOne(key == null ? 0 : key.hashCode());
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static <K> K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static boolean nonNullTableObjectEquals(Object cur, Object key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or -1 when it is absent. Each step inspects a whole group and stops at the
+     * first group which still has an empty slot, since an insertion would never have probed past it.
+     */
+    private int findIndex(Object key, int hash)
+    {
+        int groupMask = this.controls.length - 1;
+        long h2 = ControlByteFunctions.h2(hash);
+        int group = ControlByteFunctions.h1(hash) & groupMask;
+        int step = 0;
+        while (true)
+        {
+            long controlGroup = this.controls[group];
+            long match = ControlByteFunctions.matchH2(controlGroup, h2);
+            while (match != 0L)
+            {
+                int index = (group << ControlByteFunctions.GROUP_SHIFT) + ControlByteFunctions.lowestSlot(match);
+                Object cur = this.table[index];
+                if (cur != null && nonNullTableObjectEquals(cur, key))
+                {
+                    return index;
+                }
+                match = ControlByteFunctions.clearLowest(match);
+            }
+            if (ControlByteFunctions.matchEmpty(controlGroup) != 0L)
+            {
+                return -1;
+            }
+            step++;
+            group = (group + step) & groupMask;
+        }
+    }
+
+    private int findInsertIndex(int hash)
+    {
+        int groupMask = this.controls.length - 1;
+        int group = ControlByteFunctions.h1(hash) & groupMask;
+        int step = 0;
+        while (true)
+        {
+            long match = ControlByteFunctions.matchEmptyOrDeleted(this.controls[group]);
+            if (match != 0L)
+            {
+                return (group << ControlByteFunctions.GROUP_SHIFT) + ControlByteFunctions.lowestSlot(match);
+            }
+            step++;
+            group = (group + step) & groupMask;
+        }
+    }
+
+    private long controlAt(int index)
+    {
+        return ControlByteFunctions.controlByte(
+                this.controls[index >>> ControlByteFunctions.GROUP_SHIFT],
+                index & (ControlByteFunctions.GROUP_WIDTH - 1));
+    }
+
+    private void setControl(int index, long value)
+    {
+        int group = index >>> ControlByteFunctions.GROUP_SHIFT;
+        this.controls[group] = ControlByteFunctions.setControlByte(
+                this.controls[group],
+                index & (ControlByteFunctions.GROUP_WIDTH - 1),
+                value);
+    }
+
+    private boolean isFull(int index)
+    {
+        return this.controlAt(index) < ControlByteFunctions.EMPTY;
+    }
+
+    private void insertNew(Object key, int hash)
+    {
+        int index = this.findInsertIndex(hash);
+        if (this.growthLeft == 0 && this.controlAt(index) == ControlByteFunctions.EMPTY)
+        {
+            this.rehashForInsert();
+            index = this.findInsertIndex(hash);
+        }
+        if (this.controlAt(index) == ControlByteFunctions.EMPTY)
+        {
+            this.growthLeft--;
+        }
+        this.setControl(index, ControlByteFunctions.h2(hash));
+        this.table[index] = toSentinelIfNull(key);
+        this.occupied++;
+    }
+
+    private void rehashForInsert()
+    {
+        int capacity = this.table.length;
+        if (ControlByteFunctions.shouldRehashInPlace(this.occupied, capacity))
+        {
+            this.rehash(capacity);
+        }
+        else
+        {
+            this.rehash(capacity << 1);
+        }
+    }
+
+    private void rehash(int newCapacity)
+    {
+        Object[] oldTable = this.table;
+        long[] oldControls = this.controls;
+        this.allocateTable(newCapacity);
+        for (int i = 0; i < oldTable.length; i++)
+        {
+            if (ControlByteFunctions.controlByte(oldControls[i >>> ControlByteFunctions.GROUP_SHIFT], i & (ControlByteFunctions.GROUP_WIDTH - 1)) < ControlByteFunctions.EMPTY)
+            {
+                Object key = oldTable[i];
+                int hash = hash(nonSentinel(key));
+                int index = this.findInsertIndex(hash);
+                this.setControl(index, ControlByteFunctions.h2(hash));
+                this.table[index] = key;
+            }
+        }
+        this.growthLeft = ControlByteFunctions.maxLoad(newCapacity) - this.occupied;
+    }
+
+    /**
+     * A slot may go straight back to empty when its group already has an empty slot: no lookup probes past such a
+     * group, so no probe sequence depends on this slot being occupied. Otherwise it is marked deleted.
+     */
+    private void removeAtIndex(int index)
+    {
+        int group = index >>> ControlByteFunctions.GROUP_SHIFT;
+        if (ControlByteFunctions.matchEmpty(this.controls[group]) != 0L)
+        {
+            this.setControl(index, ControlByteFunctions.EMPTY);
+            this.growthLeft++;
+        }
+        else
+        {
+            this.setControl(index, ControlByteFunctions.DELETED);
+        }
+        this.table[index] = null;
+        this.occupied--;
+    }
+
+    @Override
+    public boolean add(T key)
+    {
+        int hash = hash(key);
+        if (this.findIndex(key, hash) >= 0)
+        {
+            return false;
+        }
+        this.insertNew(key, hash);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object key)
+    {
+        return this.findIndex(key, hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object key)
+    {
+        int index = this.findIndex(key, hash(key));
+        if (index < 0)
+        {
+            return false;
+        }
+        this.removeAtIndex(index);
+        return true;
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0 && this.growthLeft == ControlByteFunctions.maxLoad(this.table.length))
+        {
+            return;
+        }
+        this.occupied = 0;
+        Arrays.fill(this.table, null);
+        Arrays.fill(this.controls, ControlByteFunctions.EMPTY_GROUP);
+        this.growthLeft = ControlByteFunctions.maxLoad(this.table.length);
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    public GroupProbeHashSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public GroupProbeHashSet<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public GroupProbeHashSet<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public GroupProbeHashSet<T> with(T... elements)
+    {
+        ArrayIterate.forEach(elements, CollectionAddProcedure.on(this));
+        return this;
+    }
+
+    public GroupProbeHashSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public GroupProbeHashSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    public GroupProbeHashSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public MutableSet<T> newEmpty()
+    {
+        return GroupProbeHashSet.newSet();
+    }
+
+    @Override
+    public GroupProbeHashSet<T> clone()
+    {
+        return new GroupProbeHashSet<T>(this);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.table.length; i++)
+        {
+            if (this.isFull(i))
+            {
+                procedure.value(GroupProbeHashSet.<T>nonSentinel(this.table[i]));
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int count = 0;
+        for (int i = 0; i < this.table.length; i++)
+        {
+            if (this.isFull(i))
+            {
+                objectIntProcedure.value(GroupProbeHashSet.<T>nonSentinel(this.table[i]), count++);
+            }
+        }
+    }
+
+    @Override
+    public T getFirst()
+    {
+        for (int i = 0; i < this.table.length; i++)
+        {
+            if (this.isFull(i))
+            {
+                return GroupProbeHashSet.nonSentinel(this.table[i]);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public T getLast()
+    {
+        for (int i = this.table.length - 1; i >= 0; i--)
+        {
+            if (this.isFull(i))
+            {
+                return GroupProbeHashSet.nonSentinel(this.table[i]);
+            }
+        }
+        return null;
+    }
+
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelUnsortedSetIterable<T>(this);
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new PositionalIterator();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.table.length; i++)
+        {
+            if (this.isFull(i))
+            {
+                Object key = this.table[i];
+                hashCode += key == NULL_KEY ? 0 : key.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        for (int i = 0; i < this.table.length; i++)
+        {
+            if (this.isFull(i))
+            {
+                out.writeObject(nonSentinel(this.table[i]));
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.occupied = 0;
+        this.allocateTable(this.smallestPowerOfTwoGreaterThan(size + (size >>> 3) + 1));
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    private final class PositionalIterator implements Iterator<T>
+    {
+        private int count;
+        private int position;
+        private int lastPosition = -1;
+
+        public boolean hasNext()
+        {
+            return this.count < GroupProbeHashSet.this.size();
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            while (!GroupProbeHashSet.this.isFull(this.position))
+            {
+                this.position++;
+            }
+            this.lastPosition = this.position;
+            this.count++;
+            return GroupProbeHashSet.<T>nonSentinel(GroupProbeHashSet.this.table[this.position++]);
+        }
+
+        public void remove()
+        {
+            if (this.lastPosition < 0)
+            {
+                throw new IllegalStateException();
+            }
+            GroupProbeHashSet.this.removeAtIndex(this.lastPosition);
+            this.lastPosition = -1;
+            this.count--;
+        }
+    }
+}
@@ -66,6 +66,7 @@ import com.gs.collections.impl.partition.set.PartitionUnifiedSet;
 import com.gs.collections.impl.set.AbstractUnifiedSet;
 import com.gs.collections.impl.tuple.Tuples;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.HashChainOrder;
 import net.jcip.annotations.NotThreadSafe;
 
 @NotThreadSafe
@@ -266,6 +267,10 @@ public class UnifiedSet<T>
 
     private boolean chainedAdd(T key, int index)
     {
+        if (this.table[index] instanceof SortedChainedBucket)
+        {
+            return this.addToSortedChain((SortedChainedBucket) this.table[index], key) == null;
+        }
         Object realKey = UnifiedSet.toSentinelIfNull(key);
         if (this.table[index] instanceof ChainedBucket)
         {
@@ -321,6 +326,10 @@ public class UnifiedSet<T>
                     return false;
                 }
                 bucket.three = new ChainedBucket(bucket.three, realKey);
+                if (bucket != this.table[index])
+                {
+                    this.sortChain(index);
+                }
                 if (++this.occupied > this.maxSize)
                 {
                     this.rehash();
@@ -338,6 +347,217 @@ public class UnifiedSet<T>
         return true;
     }
 
+    /**
+     * Replaces the chain at {@code index}, which has just grown into its third bucket, with one that also keeps its
+     * elements in a sorted index. Lookups in the chain then cost logarithmic rather than linear time, which bounds the
+     * damage done by keys with degenerate hash codes.
+     */
+    private void sortChain(int index)
+    {
+        ChainedBucket bucket = (ChainedBucket) this.table[index];
+        SortedChainedBucket sortedBucket = new SortedChainedBucket(bucket);
+        do
+        {
+            this.indexInSortedChain(sortedBucket, bucket.zero);
+            if (bucket.one == null)
+            {
+                break;
+            }
+            this.indexInSortedChain(sortedBucket, bucket.one);
+            if (bucket.two == null)
+            {
+                break;
+            }
+            this.indexInSortedChain(sortedBucket, bucket.two);
+            if (bucket.three instanceof ChainedBucket)
+            {
+                bucket = (ChainedBucket) bucket.three;
+                continue;
+            }
+            if (bucket.three != null)
+            {
+                this.indexInSortedChain(sortedBucket, bucket.three);
+            }
+            break;
+        }
+        while (true);
+        this.table[index] = sortedBucket;
+    }
+
+    /**
+     * Adds {@code key} to a sorted chain unless an equal element is already present.
+     *
+     * @return the element already present, or null if {@code key} was added
+     */
+    private Object addToSortedChain(SortedChainedBucket sortedBucket, T key)
+    {
+        int i = this.sortedChainIndexOf(sortedBucket, key);
+        if (i >= 0)
+        {
+            return sortedBucket.sorted[i];
+        }
+        Object realKey = UnifiedSet.toSentinelIfNull(key);
+        ChainedBucket bucket = sortedBucket;
+        while (bucket.three instanceof ChainedBucket)
+        {
+            bucket = (ChainedBucket) bucket.three;
+        }
+        if (bucket.one == null)
+        {
+            bucket.one = realKey;
+        }
+        else if (bucket.two == null)
+        {
+            bucket.two = realKey;
+        }
+        else if (bucket.three == null)
+        {
+            bucket.three = realKey;
+        }
+        else
+        {
+            bucket.three = new ChainedBucket(bucket.three, realKey);
+        }
+        this.insertIntoSortedChain(sortedBucket, -i - 1, realKey);
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position of {@code key} in the sorted index of {@code bucket}, or {@code -(insertionPoint + 1)} if it
+     * is absent. The index is kept in {@link HashChainOrder}, so colliding {@link Comparable} keys are found by binary
+     * search.
+     */
+    private int sortedChainIndexOf(SortedChainedBucket bucket, T key)
+    {
+        int hash = key == null ? 0 : key.hashCode();
+        Object[] sorted = bucket.sorted;
+        int low = 0;
+        int high = bucket.size;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (this.compareChainKeys(sorted[mid], key, hash) >= 0)
+            {
+                high = mid;
+            }
+            else
+            {
+                low = mid + 1;
+            }
+        }
+        int i = low;
+        for (; i < bucket.size && this.compareChainKeys(sorted[i], key, hash) == 0; i++)
+        {
+            if (this.nonNullTableObjectEquals(sorted[i], key))
+            {
+                return i;
+            }
+        }
+        return key == null ? -i - 1 : this.otherClassChainIndexOf(bucket, key, hash, i);
+    }
+
+    /**
+     * Scans the keys of other classes which share the hash code of {@code key}, since {@link HashChainOrder} sorts equal
+     * keys of different classes apart. The keys of its own class are skipped, so a bucket of a single class is still
+     * searched in logarithmic time.
+     */
+    private int otherClassChainIndexOf(SortedChainedBucket bucket, T key, int hash, int insertionPoint)
+    {
+        Object[] sorted = bucket.sorted;
+        for (int i = this.classRunBound(bucket, key, hash, 0) - 1; i >= 0; i--)
+        {
+            T k = this.nonSentinel(sorted[i]);
+            if (k == null || k.hashCode() != hash)
+            {
+                break;
+            }
+            if (k.equals(key))
+            {
+                return i;
+            }
+        }
+        for (int i = this.classRunBound(bucket, key, hash, 1); i < bucket.size; i++)
+        {
+            T k = this.nonSentinel(sorted[i]);
+            if (k == null || k.hashCode() != hash)
+            {
+                break;
+            }
+            if (k.equals(key))
+            {
+                return i;
+            }
+        }
+        return -insertionPoint - 1;
+    }
+
+    /**
+     * Returns the first key in the sorted index of {@code bucket} which compares at least {@code bound} against
+     * {@code key} in class order.
+     */
+    private int classRunBound(SortedChainedBucket bucket, T key, int hash, int bound)
+    {
+        int low = 0;
+        int high = bucket.size;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            T k = this.nonSentinel(bucket.sorted[mid]);
+            if (HashChainOrder.compareClasses(k, k == null ? 0 : k.hashCode(), key, hash) >= bound)
+            {
+                high = mid;
+            }
+            else
+            {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private int compareChainKeys(Object chainKey, T key, int hash)
+    {
+        T k = this.nonSentinel(chainKey);
+        return HashChainOrder.compare(k, k == null ? 0 : k.hashCode(), key, hash);
+    }
+
+    private void indexInSortedChain(SortedChainedBucket bucket, Object realKey)
+    {
+        this.insertIntoSortedChain(bucket, -this.sortedChainIndexOf(bucket, this.nonSentinel(realKey)) - 1, realKey);
+    }
+
+    private void insertIntoSortedChain(SortedChainedBucket bucket, int position, Object realKey)
+    {
+        if (bucket.size == bucket.sorted.length)
+        {
+            Object[] newSorted = new Object[bucket.size << 1];
+            System.arraycopy(bucket.sorted, 0, newSorted, 0, bucket.size);
+            bucket.sorted = newSorted;
+        }
+        System.arraycopy(bucket.sorted, position, bucket.sorted, position + 1, bucket.size - position);
+        bucket.sorted[position] = realKey;
+        bucket.size++;
+    }
+
+    /**
+     * Removes {@code key} from the sorted index only; the caller unlinks it from the chain itself.
+     */
+    private boolean removeFromSortedChain(SortedChainedBucket bucket, T key)
+    {
+        int i = this.sortedChainIndexOf(bucket, key);
+        if (i < 0)
+        {
+            return false;
+        }
+        System.arraycopy(bucket.sorted, i + 1, bucket.sorted, i, bucket.size - i - 1);
+        bucket.sorted[--bucket.size] = null;
+        return true;
+    }
+
     @Override
     protected void rehash(int newCapacity)
     {
@@ -406,6 +626,10 @@ public class UnifiedSet<T>
 
     private boolean chainContains(ChainedBucket bucket, T key)
     {
+        if (bucket instanceof SortedChainedBucket)
+        {
+            return this.sortedChainIndexOf((SortedChainedBucket) bucket, key) >= 0;
+        }
         do
         {
             if (this.nonNullTableObjectEquals(bucket.zero, key))
@@ -1119,6 +1343,10 @@ public class UnifiedSet<T>
 
     private boolean removeFromChain(ChainedBucket bucket, T key, int index)
     {
+        if (bucket instanceof SortedChainedBucket && !this.removeFromSortedChain((SortedChainedBucket) bucket, key))
+        {
+            return false;
+        }
         if (this.nonNullTableObjectEquals(bucket.zero, key))
         {
             bucket.zero = bucket.removeLast(0);
@@ -1594,12 +1822,21 @@ public class UnifiedSet<T>
         protected void removeFromChain()
         {
             ChainedBucket chain = (ChainedBucket) UnifiedSet.this.table[this.position];
+            if (chain instanceof SortedChainedBucket)
+            {
+                T key = UnifiedSet.this.nonSentinel(chain.get(this.chainPosition - 1));
+                UnifiedSet.this.removeFromSortedChain((SortedChainedBucket) chain, key);
+            }
             chain.remove(--this.chainPosition);
             this.lastReturned = false;
         }
 
         protected void removeLastFromChain(ChainedBucket bucket, int tableIndex)
         {
+            if (bucket instanceof SortedChainedBucket)
+            {
+                UnifiedSet.this.removeFromSortedChain((SortedChainedBucket) bucket, UnifiedSet.this.getLast(bucket));
+            }
             bucket.removeLast(0);
             if (bucket.zero == null)
             {
@@ -1649,7 +1886,7 @@ public class UnifiedSet<T>
         }
     }
 
-    private static final class ChainedBucket
+    private static class ChainedBucket
     {
         private Object zero;
         private Object one;
@@ -1666,6 +1903,14 @@ public class UnifiedSet<T>
             this.one = second;
         }
 
+        private ChainedBucket(ChainedBucket bucket)
+        {
+            this.zero = bucket.zero;
+            this.one = bucket.one;
+            this.two = bucket.two;
+            this.three = bucket.three;
+        }
+
         public void remove(int i)
         {
             if (i > 3)
@@ -1859,6 +2104,30 @@ public class UnifiedSet<T>
         }
     }
 
+    /**
+     * The head of a long chain, which also holds the chain's elements in a sorted index so they can be binary searched.
+     */
+    private static final class SortedChainedBucket extends ChainedBucket
+    {
+        private Object[] sorted;
+        private int size;
+
+        private SortedChainedBucket(ChainedBucket bucket)
+        {
+            super(bucket);
+            this.sorted = new Object[16];
+        }
+
+        @Override
+        public ChainedBucket copy()
+        {
+            SortedChainedBucket result = new SortedChainedBucket(super.copy());
+            result.sorted = this.sorted.clone();
+            result.size = this.size;
+            return result;
+        }
+    }
+
     public <V> UnifiedSetMultimap<V, T> groupBy(
             Function<? super T, ? extends V> function)
     {
@@ -1887,6 +2156,12 @@ public class UnifiedSet<T>
 
     private T chainedGet(T key, ChainedBucket bucket)
     {
+        if (bucket instanceof SortedChainedBucket)
+        {
+            SortedChainedBucket sortedBucket = (SortedChainedBucket) bucket;
+            int i = this.sortedChainIndexOf(sortedBucket, key);
+            return i >= 0 ? this.nonSentinel(sortedBucket.sorted[i]) : null;
+        }
         do
         {
             if (this.nonNullTableObjectEquals(bucket.zero, key))
@@ -1951,6 +2226,11 @@ public class UnifiedSet<T>
 
     private T chainedPut(T key, int index)
     {
+        if (this.table[index] instanceof SortedChainedBucket)
+        {
+            Object existing = this.addToSortedChain((SortedChainedBucket) this.table[index], key);
+            return existing == null ? key : this.nonSentinel(existing);
+        }
         if (this.table[index] instanceof ChainedBucket)
         {
             ChainedBucket bucket = (ChainedBucket) this.table[index];
@@ -2004,7 +2284,11 @@ public class UnifiedSet<T>
                 {
                     return this.nonSentinel(bucket.three);
                 }
-                bucket.three = new ChainedBucket(bucket.three, key);
+                bucket.three = new ChainedBucket(bucket.three, UnifiedSet.toSentinelIfNull(key));
+                if (bucket != this.table[index])
+                {
+                    this.sortChain(index);
+                }
                 if (++this.occupied > this.maxSize)
                 {
                     this.rehash();
@@ -2045,6 +2329,10 @@ public class UnifiedSet<T>
 
     private T removeFromChainForPool(ChainedBucket bucket, T key, int index)
     {
+        if (bucket instanceof SortedChainedBucket && !this.removeFromSortedChain((SortedChainedBucket) bucket, key))
+        {
+            return null;
+        }
         if (this.nonNullTableObjectEquals(bucket.zero, key))
         {
             Object result = bucket.zero;
@@ -46,6 +46,7 @@ import com.gs.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
 import com.gs.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.internal.primitive.ByteQuickSelect;
 
 public final class ByteHashSet implements MutableByteSet, Externalizable
 {
@@ -849,19 +850,26 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
 
     public double median()
     {
-        if (this.isEmpty())
-        {
-            throw new ArithmeticException();
-        }
-        byte[] sortedArray = this.toSortedArray();
-        int middleIndex = sortedArray.length >> 1;
-        if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
-        {
-            byte first = sortedArray[middleIndex];
-            byte second = sortedArray[middleIndex - 1];
-            return ((double) first + (double) second) / 2.0;
-        }
-        return (double) sortedArray[middleIndex];
+        byte[] array = this.toArray();
+        return ByteQuickSelect.median(array, array.length);
+    }
+
+    public double percentile(double percentile)
+    {
+        byte[] array = this.toArray();
+        return ByteQuickSelect.percentile(array, array.length, percentile);
+    }
+
+    public double[] percentiles(double... percentiles)
+    {
+        byte[] array = this.toArray();
+        return ByteQuickSelect.percentiles(array, array.length, percentiles);
+    }
+
+    public byte kthSmallest(int k)
+    {
+        byte[] array = this.toArray();
+        return ByteQuickSelect.kthSmallest(array, array.length, k);
     }
 
     public byte[] toSortedArray()
@@ -1402,15 +1410,26 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
 
         public double median()
         {
-            byte[] sortedArray = this.toSortedArray();
-            int middleIndex = sortedArray.length >> 1;
-            if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
-            {
-                byte first = sortedArray[middleIndex];
-                byte second = sortedArray[middleIndex - 1];
-                return ((double) first + (double) second) / 2.0;
-            }
-            return (double) sortedArray[middleIndex];
+            byte[] array = this.toArray();
+            return ByteQuickSelect.median(array, array.length);
+        }
+
+        public double percentile(double percentile)
+        {
+            byte[] array = this.toArray();
+            return ByteQuickSelect.percentile(array, array.length, percentile);
+        }
+
+        public double[] percentiles(double... percentiles)
+        {
+            byte[] array = this.toArray();
+            return ByteQuickSelect.percentiles(array, array.length, percentiles);
+        }
+
+        public byte kthSmallest(int k)
+        {
+            byte[] array = this.toArray();
+            return ByteQuickSelect.kthSmallest(array, array.length, k);
         }
 
         public byte[] toSortedArray()
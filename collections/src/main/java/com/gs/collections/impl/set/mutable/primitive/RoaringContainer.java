@@ -0,0 +1,765 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.block.procedure.primitive.LongProcedure;
+
+/**
+ * The elements of a {@link RoaringIntSet} or {@link RoaringLongSet} which share their high bits, stored as their low
+ * 16 bits in whichever of three forms suits them: a sorted array while there are at most {@link #ARRAY_MAX_SIZE}
+ * elements, a 65536 bit bitmap above that, or a sorted list of runs when {@link #runOptimize()} finds that smaller.
+ * Adding or removing an element of a run container turns it back into an array or bitmap.
+ * <p>
+ * The static set operations combine two containers without looking at any other chunk of the set, and return
+ * {@code null} instead of an empty container.
+ *
+ * @since 7.0
+ */
+final class RoaringContainer
+{
+    static final int ARRAY_MAX_SIZE = 4096;
+
+    private static final int BITMAP_WORDS = 1024;
+    private static final int ARRAY = 0;
+    private static final int BITMAP = 1;
+    private static final int RUN = 2;
+
+    private int kind;
+    private int cardinality;
+    private char[] values;
+    private long[] bitmap;
+    private char[] runs;
+    private int runCount;
+
+    RoaringContainer()
+    {
+        this.kind = ARRAY;
+        this.values = new char[4];
+    }
+
+    private static RoaringContainer newArray(char[] values, int cardinality)
+    {
+        RoaringContainer container = new RoaringContainer();
+        container.values = values;
+        container.cardinality = cardinality;
+        return container;
+    }
+
+    private static RoaringContainer newBitmap(long[] bitmap, int cardinality)
+    {
+        RoaringContainer container = new RoaringContainer();
+        container.kind = BITMAP;
+        container.values = null;
+        container.bitmap = bitmap;
+        container.cardinality = cardinality;
+        return container;
+    }
+
+    RoaringContainer copy()
+    {
+        RoaringContainer copy = new RoaringContainer();
+        copy.kind = this.kind;
+        copy.cardinality = this.cardinality;
+        copy.values = this.values == null ? null : this.values.clone();
+        copy.bitmap = this.bitmap == null ? null : this.bitmap.clone();
+        copy.runs = this.runs == null ? null : this.runs.clone();
+        copy.runCount = this.runCount;
+        return copy;
+    }
+
+    int cardinality()
+    {
+        return this.cardinality;
+    }
+
+    boolean contains(int low)
+    {
+        switch (this.kind)
+        {
+            case ARRAY:
+                int index = RoaringContainer.lowerBound(this.values, this.cardinality, low);
+                return index < this.cardinality && this.values[index] == low;
+            case BITMAP:
+                return (this.bitmap[low >>> 6] & 1L << low) != 0L;
+            default:
+                return this.runContaining(low) >= 0;
+        }
+    }
+
+    boolean add(int low)
+    {
+        if (this.kind == RUN)
+        {
+            this.materialize();
+        }
+        if (this.kind == ARRAY)
+        {
+            int index = RoaringContainer.lowerBound(this.values, this.cardinality, low);
+            if (index < this.cardinality && this.values[index] == low)
+            {
+                return false;
+            }
+            if (this.cardinality < ARRAY_MAX_SIZE)
+            {
+                if (this.cardinality == this.values.length)
+                {
+                    char[] newValues = new char[Math.min(ARRAY_MAX_SIZE, this.cardinality << 1)];
+                    System.arraycopy(this.values, 0, newValues, 0, this.cardinality);
+                    this.values = newValues;
+                }
+                System.arraycopy(this.values, index, this.values, index + 1, this.cardinality - index);
+                this.values[index] = (char) low;
+                this.cardinality++;
+                return true;
+            }
+            this.toBitmap();
+        }
+        long bit = 1L << low;
+        long word = this.bitmap[low >>> 6];
+        if ((word & bit) != 0L)
+        {
+            return false;
+        }
+        this.bitmap[low >>> 6] = word | bit;
+        this.cardinality++;
+        return true;
+    }
+
+    boolean remove(int low)
+    {
+        if (this.kind == RUN)
+        {
+            if (this.runContaining(low) < 0)
+            {
+                return false;
+            }
+            this.materialize();
+        }
+        if (this.kind == ARRAY)
+        {
+            int index = RoaringContainer.lowerBound(this.values, this.cardinality, low);
+            if (index == this.cardinality || this.values[index] != low)
+            {
+                return false;
+            }
+            System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+            this.cardinality--;
+            return true;
+        }
+        long bit = 1L << low;
+        long word = this.bitmap[low >>> 6];
+        if ((word & bit) == 0L)
+        {
+            return false;
+        }
+        this.bitmap[low >>> 6] = word & ~bit;
+        this.cardinality--;
+        if (this.cardinality <= ARRAY_MAX_SIZE)
+        {
+            this.toArray();
+        }
+        return true;
+    }
+
+    void forEach(int high, IntProcedure procedure)
+    {
+        int base = high << 16;
+        switch (this.kind)
+        {
+            case ARRAY:
+                for (int i = 0; i < this.cardinality; i++)
+                {
+                    procedure.value(base | this.values[i]);
+                }
+                break;
+            case BITMAP:
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    long word = this.bitmap[i];
+                    while (word != 0L)
+                    {
+                        procedure.value(base | i << 6 | Long.numberOfTrailingZeros(word));
+                        word &= word - 1L;
+                    }
+                }
+                break;
+            default:
+                for (int i = 0; i < this.runCount; i++)
+                {
+                    int start = this.runs[i << 1];
+                    int end = start + this.runs[(i << 1) + 1];
+                    for (int low = start; low <= end; low++)
+                    {
+                        procedure.value(base | low);
+                    }
+                }
+        }
+    }
+
+    void forEach(long high, LongProcedure procedure)
+    {
+        long base = high << 16;
+        switch (this.kind)
+        {
+            case ARRAY:
+                for (int i = 0; i < this.cardinality; i++)
+                {
+                    procedure.value(base | this.values[i]);
+                }
+                break;
+            case BITMAP:
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    long word = this.bitmap[i];
+                    while (word != 0L)
+                    {
+                        procedure.value(base | (long) (i << 6 | Long.numberOfTrailingZeros(word)));
+                        word &= word - 1L;
+                    }
+                }
+                break;
+            default:
+                for (int i = 0; i < this.runCount; i++)
+                {
+                    int start = this.runs[i << 1];
+                    int end = start + this.runs[(i << 1) + 1];
+                    for (int low = start; low <= end; low++)
+                    {
+                        procedure.value(base | (long) low);
+                    }
+                }
+        }
+    }
+
+    /**
+     * Returns the smallest element which is not less than {@code fromLow}, or -1 if there is none.
+     */
+    int nextValue(int fromLow)
+    {
+        if (fromLow > 0xFFFF)
+        {
+            return -1;
+        }
+        switch (this.kind)
+        {
+            case ARRAY:
+                int index = RoaringContainer.lowerBound(this.values, this.cardinality, fromLow);
+                return index < this.cardinality ? this.values[index] : -1;
+            case BITMAP:
+                int wordIndex = fromLow >>> 6;
+                long word = this.bitmap[wordIndex] & -1L << fromLow;
+                while (word == 0L)
+                {
+                    wordIndex++;
+                    if (wordIndex == BITMAP_WORDS)
+                    {
+                        return -1;
+                    }
+                    word = this.bitmap[wordIndex];
+                }
+                return wordIndex << 6 | Long.numberOfTrailingZeros(word);
+            default:
+                for (int i = 0; i < this.runCount; i++)
+                {
+                    int start = this.runs[i << 1];
+                    if (start + this.runs[(i << 1) + 1] >= fromLow)
+                    {
+                        return Math.max(start, fromLow);
+                    }
+                }
+                return -1;
+        }
+    }
+
+    int first()
+    {
+        return this.nextValue(0);
+    }
+
+    int last()
+    {
+        switch (this.kind)
+        {
+            case ARRAY:
+                return this.values[this.cardinality - 1];
+            case BITMAP:
+                for (int i = BITMAP_WORDS - 1; ; i--)
+                {
+                    if (this.bitmap[i] != 0L)
+                    {
+                        return i << 6 | 63 - Long.numberOfLeadingZeros(this.bitmap[i]);
+                    }
+                }
+            default:
+                int last = this.runCount - 1 << 1;
+                return this.runs[last] + this.runs[last + 1];
+        }
+    }
+
+    /**
+     * Returns the number of elements which are less than or equal to {@code low}.
+     */
+    int rank(int low)
+    {
+        switch (this.kind)
+        {
+            case ARRAY:
+                return RoaringContainer.lowerBound(this.values, this.cardinality, low + 1);
+            case BITMAP:
+                int wordIndex = low >>> 6;
+                int rank = 0;
+                for (int i = 0; i < wordIndex; i++)
+                {
+                    rank += Long.bitCount(this.bitmap[i]);
+                }
+                return rank + Long.bitCount(this.bitmap[wordIndex] & -1L >>> 63 - (low & 63));
+            default:
+                int count = 0;
+                for (int i = 0; i < this.runCount; i++)
+                {
+                    int start = this.runs[i << 1];
+                    if (start > low)
+                    {
+                        break;
+                    }
+                    count += Math.min(start + this.runs[(i << 1) + 1], low) - start + 1;
+                }
+                return count;
+        }
+    }
+
+    /**
+     * Returns the element at {@code index} in ascending order, which must be less than the cardinality.
+     */
+    int select(int index)
+    {
+        switch (this.kind)
+        {
+            case ARRAY:
+                return this.values[index];
+            case BITMAP:
+                int remaining = index;
+                for (int i = 0; ; i++)
+                {
+                    long word = this.bitmap[i];
+                    int bits = Long.bitCount(word);
+                    if (remaining < bits)
+                    {
+                        for (int j = 0; j < remaining; j++)
+                        {
+                            word &= word - 1L;
+                        }
+                        return i << 6 | Long.numberOfTrailingZeros(word);
+                    }
+                    remaining -= bits;
+                }
+            default:
+                int left = index;
+                for (int i = 0; ; i++)
+                {
+                    int length = this.runs[(i << 1) + 1] + 1;
+                    if (left < length)
+                    {
+                        return this.runs[i << 1] + left;
+                    }
+                    left -= length;
+                }
+        }
+    }
+
+    /**
+     * Converts this container to runs when they take less memory than its array or bitmap, and back again when they
+     * do not. Returns true if the representation changed.
+     */
+    boolean runOptimize()
+    {
+        int runs = this.countRuns();
+        int runBytes = 2 + 4 * runs;
+        int otherBytes = this.cardinality <= ARRAY_MAX_SIZE ? 2 * this.cardinality : 8 * BITMAP_WORDS;
+        if (this.kind == RUN)
+        {
+            if (runBytes <= otherBytes)
+            {
+                return false;
+            }
+            this.materialize();
+            return true;
+        }
+        if (runBytes >= otherBytes)
+        {
+            return false;
+        }
+        char[] newRuns = new char[runs << 1];
+        int run = -1;
+        int previous = -2;
+        for (int low = this.nextValue(0); low >= 0; low = this.nextValue(low + 1))
+        {
+            if (low != previous + 1)
+            {
+                run++;
+                newRuns[run << 1] = (char) low;
+            }
+            newRuns[(run << 1) + 1] = (char) (low - newRuns[run << 1]);
+            previous = low;
+        }
+        this.kind = RUN;
+        this.runs = newRuns;
+        this.runCount = runs;
+        this.values = null;
+        this.bitmap = null;
+        return true;
+    }
+
+    private int countRuns()
+    {
+        switch (this.kind)
+        {
+            case ARRAY:
+                int arrayRuns = this.cardinality == 0 ? 0 : 1;
+                for (int i = 1; i < this.cardinality; i++)
+                {
+                    if (this.values[i] != this.values[i - 1] + 1)
+                    {
+                        arrayRuns++;
+                    }
+                }
+                return arrayRuns;
+            case BITMAP:
+                int bitmapRuns = 0;
+                long carry = 0L;
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    long word = this.bitmap[i];
+                    bitmapRuns += Long.bitCount(word & ~(word << 1 | carry));
+                    carry = word >>> 63;
+                }
+                return bitmapRuns;
+            default:
+                return this.runCount;
+        }
+    }
+
+    private int runContaining(int low)
+    {
+        int lowIndex = 0;
+        int highIndex = this.runCount - 1;
+        while (lowIndex <= highIndex)
+        {
+            int middle = lowIndex + highIndex >>> 1;
+            int start = this.runs[middle << 1];
+            if (low < start)
+            {
+                highIndex = middle - 1;
+            }
+            else if (low > start + this.runs[(middle << 1) + 1])
+            {
+                lowIndex = middle + 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private void materialize()
+    {
+        long[] words = this.words();
+        this.runs = null;
+        this.runCount = 0;
+        this.kind = BITMAP;
+        this.bitmap = words;
+        if (this.cardinality <= ARRAY_MAX_SIZE)
+        {
+            this.toArray();
+        }
+    }
+
+    private void toBitmap()
+    {
+        this.bitmap = this.words();
+        this.values = null;
+        this.kind = BITMAP;
+    }
+
+    private void toArray()
+    {
+        char[] newValues = new char[Math.max(4, this.cardinality)];
+        RoaringContainer.fillArray(this.bitmap, newValues);
+        this.values = newValues;
+        this.bitmap = null;
+        this.kind = ARRAY;
+    }
+
+    private static void fillArray(long[] words, char[] target)
+    {
+        int index = 0;
+        for (int i = 0; i < BITMAP_WORDS; i++)
+        {
+            long word = words[i];
+            while (word != 0L)
+            {
+                target[index++] = (char) (i << 6 | Long.numberOfTrailingZeros(word));
+                word &= word - 1L;
+            }
+        }
+    }
+
+    /**
+     * Returns the elements as a bitmap, which is a new array unless this is a bitmap container.
+     */
+    private long[] words()
+    {
+        if (this.kind == BITMAP)
+        {
+            return this.bitmap;
+        }
+        long[] words = new long[BITMAP_WORDS];
+        if (this.kind == ARRAY)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                words[this.values[i] >>> 6] |= 1L << this.values[i];
+            }
+        }
+        else
+        {
+            for (int i = 0; i < this.runCount; i++)
+            {
+                RoaringContainer.setRange(words, this.runs[i << 1], this.runs[i << 1] + this.runs[(i << 1) + 1]);
+            }
+        }
+        return words;
+    }
+
+    private long[] wordsCopy()
+    {
+        return this.kind == BITMAP ? this.bitmap.clone() : this.words();
+    }
+
+    private static void setRange(long[] words, int start, int end)
+    {
+        for (int low = start; low <= end; )
+        {
+            int wordIndex = low >>> 6;
+            int lastInWord = Math.min(end, wordIndex << 6 | 63);
+            words[wordIndex] |= -1L >>> 63 - (lastInWord - low) << low;
+            low = lastInWord + 1;
+        }
+    }
+
+    private static RoaringContainer fromWords(long[] words)
+    {
+        int cardinality = 0;
+        for (int i = 0; i < BITMAP_WORDS; i++)
+        {
+            cardinality += Long.bitCount(words[i]);
+        }
+        if (cardinality == 0)
+        {
+            return null;
+        }
+        if (cardinality > ARRAY_MAX_SIZE)
+        {
+            return RoaringContainer.newBitmap(words, cardinality);
+        }
+        char[] values = new char[Math.max(4, cardinality)];
+        RoaringContainer.fillArray(words, values);
+        return RoaringContainer.newArray(values, cardinality);
+    }
+
+    static RoaringContainer or(RoaringContainer one, RoaringContainer two)
+    {
+        if (one.kind == ARRAY && two.kind == ARRAY && one.cardinality + two.cardinality <= ARRAY_MAX_SIZE)
+        {
+            char[] result = new char[Math.max(4, one.cardinality + two.cardinality)];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < one.cardinality && j < two.cardinality)
+            {
+                char a = one.values[i];
+                char b = two.values[j];
+                result[size++] = a <= b ? a : b;
+                i += a <= b ? 1 : 0;
+                j += b <= a ? 1 : 0;
+            }
+            System.arraycopy(one.values, i, result, size, one.cardinality - i);
+            size += one.cardinality - i;
+            System.arraycopy(two.values, j, result, size, two.cardinality - j);
+            size += two.cardinality - j;
+            return RoaringContainer.newArray(result, size);
+        }
+        long[] words = one.wordsCopy();
+        long[] other = two.words();
+        for (int i = 0; i < BITMAP_WORDS; i++)
+        {
+            words[i] |= other[i];
+        }
+        return RoaringContainer.fromWords(words);
+    }
+
+    static RoaringContainer and(RoaringContainer one, RoaringContainer two)
+    {
+        if (one.kind == ARRAY || two.kind == ARRAY)
+        {
+            RoaringContainer array = one.kind == ARRAY ? one : two;
+            RoaringContainer other = array == one ? two : one;
+            return RoaringContainer.filter(array, other, true);
+        }
+        long[] words = one.wordsCopy();
+        long[] other = two.words();
+        for (int i = 0; i < BITMAP_WORDS; i++)
+        {
+            words[i] &= other[i];
+        }
+        return RoaringContainer.fromWords(words);
+    }
+
+    static RoaringContainer andNot(RoaringContainer one, RoaringContainer two)
+    {
+        if (one.kind == ARRAY)
+        {
+            return RoaringContainer.filter(one, two, false);
+        }
+        long[] words = one.wordsCopy();
+        long[] other = two.words();
+        for (int i = 0; i < BITMAP_WORDS; i++)
+        {
+            words[i] &= ~other[i];
+        }
+        return RoaringContainer.fromWords(words);
+    }
+
+    static RoaringContainer xor(RoaringContainer one, RoaringContainer two)
+    {
+        long[] words = one.wordsCopy();
+        long[] other = two.words();
+        for (int i = 0; i < BITMAP_WORDS; i++)
+        {
+            words[i] ^= other[i];
+        }
+        return RoaringContainer.fromWords(words);
+    }
+
+    private static RoaringContainer filter(RoaringContainer array, RoaringContainer other, boolean keepContained)
+    {
+        char[] result = new char[Math.max(4, array.cardinality)];
+        int size = 0;
+        for (int i = 0; i < array.cardinality; i++)
+        {
+            if (other.contains(array.values[i]) == keepContained)
+            {
+                result[size++] = array.values[i];
+            }
+        }
+        return size == 0 ? null : RoaringContainer.newArray(result, size);
+    }
+
+    /**
+     * Returns the index of the first of the {@code size} sorted values which is not less than {@code low}.
+     */
+    private static int lowerBound(char[] values, int size, int low)
+    {
+        int lowIndex = 0;
+        int highIndex = size;
+        while (lowIndex < highIndex)
+        {
+            int middle = lowIndex + highIndex >>> 1;
+            if (values[middle] < low)
+            {
+                lowIndex = middle + 1;
+            }
+            else
+            {
+                highIndex = middle;
+            }
+        }
+        return lowIndex;
+    }
+
+    void writeTo(ObjectOutput out) throws IOException
+    {
+        out.writeByte(this.kind);
+        switch (this.kind)
+        {
+            case ARRAY:
+                out.writeShort(this.cardinality);
+                for (int i = 0; i < this.cardinality; i++)
+                {
+                    out.writeChar(this.values[i]);
+                }
+                break;
+            case BITMAP:
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    out.writeLong(this.bitmap[i]);
+                }
+                break;
+            default:
+                out.writeShort(this.runCount);
+                for (int i = 0; i < this.runCount << 1; i++)
+                {
+                    out.writeChar(this.runs[i]);
+                }
+        }
+    }
+
+    static RoaringContainer readFrom(ObjectInput in) throws IOException
+    {
+        int kind = in.readByte();
+        switch (kind)
+        {
+            case ARRAY:
+                int cardinality = in.readChar();
+                char[] values = new char[Math.max(4, cardinality)];
+                for (int i = 0; i < cardinality; i++)
+                {
+                    values[i] = in.readChar();
+                }
+                return RoaringContainer.newArray(values, cardinality);
+            case BITMAP:
+                long[] words = new long[BITMAP_WORDS];
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    words[i] = in.readLong();
+                }
+                return RoaringContainer.fromWords(words);
+            default:
+                RoaringContainer container = new RoaringContainer();
+                container.kind = RUN;
+                container.values = null;
+                container.runCount = in.readChar();
+                container.runs = new char[container.runCount << 1];
+                for (int i = 0; i < container.runs.length; i++)
+                {
+                    container.runs[i] = in.readChar();
+                }
+                for (int i = 0; i < container.runCount; i++)
+                {
+                    container.cardinality += container.runs[(i << 1) + 1] + 1;
+                }
+                return container;
+        }
+    }
+}
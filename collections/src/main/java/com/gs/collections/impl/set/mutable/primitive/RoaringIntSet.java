@@ -0,0 +1,871 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.iterator.IntIterator;
+import com.gs.collections.api.iterator.MutableIntIterator;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.primitive.ImmutableIntSet;
+import com.gs.collections.api.set.primitive.IntSet;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.factory.primitive.IntSets;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.primitive.AbstractIntSet;
+
+/**
+ * RoaringIntSet is a compressed bitmap set of ints for large sets of dense or clustered values. Elements are split by
+ * their high 16 bits into chunks, and each chunk is a {@link RoaringContainer} holding the low 16 bits as a sorted
+ * array, a bitmap or a list of runs, so a chunk with more than 4096 elements takes at most 8KB. The chunks are kept in
+ * ascending order, which makes iteration ascending and lets {@link #rank(int)} and {@link #select(int)} skip whole
+ * chunks.
+ * <p>
+ * {@link #union(RoaringIntSet)}, {@link #intersect(RoaringIntSet)}, {@link #difference(RoaringIntSet)} and
+ * {@link #symmetricDifference(RoaringIntSet)} combine two sets a chunk at a time without visiting their elements
+ * one by one; {@link #or(RoaringIntSet)}, {@link #and(RoaringIntSet)}, {@link #andNot(RoaringIntSet)} and
+ * {@link #xor(RoaringIntSet)} do the same in place. Call {@link #runOptimize()} once a set is built to store long
+ * ranges of consecutive values as runs.
+ *
+ * @since 7.0
+ */
+public final class RoaringIntSet extends AbstractIntSet implements MutableIntSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private short[] keys;
+    private RoaringContainer[] containers;
+    private int containerCount;
+    private int size;
+
+    public RoaringIntSet()
+    {
+        this.keys = new short[4];
+        this.containers = new RoaringContainer[4];
+    }
+
+    public RoaringIntSet(int... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringIntSet(RoaringIntSet set)
+    {
+        this.keys = set.keys.clone();
+        this.containers = new RoaringContainer[set.containers.length];
+        for (int i = 0; i < set.containerCount; i++)
+        {
+            this.containers[i] = set.containers[i].copy();
+        }
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    private RoaringIntSet(short[] keys, RoaringContainer[] containers, int containerCount)
+    {
+        this.keys = keys;
+        this.containers = containers;
+        this.containerCount = containerCount;
+        for (int i = 0; i < containerCount; i++)
+        {
+            this.size += containers[i].cardinality();
+        }
+    }
+
+    public static RoaringIntSet newSet(IntIterable source)
+    {
+        if (source instanceof RoaringIntSet)
+        {
+            return new RoaringIntSet((RoaringIntSet) source);
+        }
+
+        return RoaringIntSet.newSetWith(source.toArray());
+    }
+
+    public static RoaringIntSet newSetWith(int... source)
+    {
+        return new RoaringIntSet(source);
+    }
+
+    private static short highBits(int value)
+    {
+        return (short) (value >> 16);
+    }
+
+    private static int lowBits(int value)
+    {
+        return value & 0xFFFF;
+    }
+
+    /**
+     * Returns the index of the container for {@code key}, or (-(insertion point) - 1) when there is none.
+     */
+    private int indexOf(short key)
+    {
+        int low = 0;
+        int high = this.containerCount - 1;
+        while (low <= high)
+        {
+            int middle = low + high >>> 1;
+            short middleKey = this.keys[middle];
+            if (middleKey < key)
+            {
+                low = middle + 1;
+            }
+            else if (middleKey > key)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void insertContainerAt(int index, short key, RoaringContainer container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int newLength = this.containerCount << 1;
+            short[] newKeys = new short[newLength];
+            System.arraycopy(this.keys, 0, newKeys, 0, this.containerCount);
+            this.keys = newKeys;
+            RoaringContainer[] newContainers = new RoaringContainer[newLength];
+            System.arraycopy(this.containers, 0, newContainers, 0, this.containerCount);
+            this.containers = newContainers;
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainerAt(int index)
+    {
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.containerCount - index - 1);
+        System.arraycopy(this.containers, index + 1, this.containers, index, this.containerCount - index - 1);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int[] result = new int[1];
+        this.each(new IntProcedure()
+        {
+            public void value(int each)
+            {
+                result[0] += each;
+            }
+        });
+        return result[0];
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            IntIterator iterator = this.intIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public boolean add(int element)
+    {
+        short key = RoaringIntSet.highBits(element);
+        int index = this.indexOf(key);
+        if (index < 0)
+        {
+            index = -(index + 1);
+            this.insertContainerAt(index, key, new RoaringContainer());
+        }
+        if (this.containers[index].add(RoaringIntSet.lowBits(element)))
+        {
+            this.size++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean addAll(int... source)
+    {
+        int oldSize = this.size();
+        for (int item : source)
+        {
+            this.add(item);
+        }
+        return this.size() != oldSize;
+    }
+
+    public boolean addAll(IntIterable source)
+    {
+        int oldSize = this.size();
+        if (source instanceof RoaringIntSet)
+        {
+            this.or((RoaringIntSet) source);
+        }
+        else
+        {
+            IntIterator iterator = source.intIterator();
+            while (iterator.hasNext())
+            {
+                this.add(iterator.next());
+            }
+        }
+        return this.size() != oldSize;
+    }
+
+    public boolean remove(int value)
+    {
+        int index = this.indexOf(RoaringIntSet.highBits(value));
+        if (index < 0 || !this.containers[index].remove(RoaringIntSet.lowBits(value)))
+        {
+            return false;
+        }
+        this.size--;
+        if (this.containers[index].cardinality() == 0)
+        {
+            this.removeContainerAt(index);
+        }
+        return true;
+    }
+
+    public boolean removeAll(IntIterable source)
+    {
+        int oldSize = this.size();
+        if (source instanceof RoaringIntSet)
+        {
+            this.andNot((RoaringIntSet) source);
+        }
+        else
+        {
+            IntIterator iterator = source.intIterator();
+            while (iterator.hasNext())
+            {
+                this.remove(iterator.next());
+            }
+        }
+        return this.size() != oldSize;
+    }
+
+    public boolean removeAll(int... source)
+    {
+        int oldSize = this.size();
+        for (int item : source)
+        {
+            this.remove(item);
+        }
+        return this.size() != oldSize;
+    }
+
+    public boolean retainAll(IntIterable source)
+    {
+        int oldSize = this.size();
+        this.and(source instanceof RoaringIntSet ? (RoaringIntSet) source : RoaringIntSet.newSet(source));
+        return this.size() != oldSize;
+    }
+
+    public boolean retainAll(int... source)
+    {
+        return this.retainAll(RoaringIntSet.newSetWith(source));
+    }
+
+    public void clear()
+    {
+        this.keys = new short[4];
+        this.containers = new RoaringContainer[4];
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    public RoaringIntSet with(int element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public RoaringIntSet without(int element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public RoaringIntSet withAll(IntIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    public RoaringIntSet withoutAll(IntIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    public MutableIntSet asUnmodifiable()
+    {
+        return new UnmodifiableIntSet(this);
+    }
+
+    public MutableIntSet asSynchronized()
+    {
+        return new SynchronizedIntSet(this);
+    }
+
+    public ImmutableIntSet toImmutable()
+    {
+        return IntSets.immutable.withAll(this);
+    }
+
+    public MutableIntIterator intIterator()
+    {
+        return new InternalIntIterator();
+    }
+
+    public int[] toArray()
+    {
+        final int[] array = new int[this.size];
+        this.each(new IntProcedure()
+        {
+            private int index;
+
+            public void value(int each)
+            {
+                array[this.index++] = each;
+            }
+        });
+        return array;
+    }
+
+    @Override
+    public int[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    public boolean contains(int value)
+    {
+        int index = this.indexOf(RoaringIntSet.highBits(value));
+        return index >= 0 && this.containers[index].contains(RoaringIntSet.lowBits(value));
+    }
+
+    public void forEach(IntProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    /**
+     * Visits the elements in ascending order, a container at a time.
+     */
+    public void each(IntProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            this.containers[i].forEach(this.keys[i], procedure);
+        }
+    }
+
+    public RoaringIntSet select(IntPredicate predicate)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (predicate.accept(value))
+            {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    public RoaringIntSet reject(IntPredicate predicate)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (!predicate.accept(value))
+            {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    public <V> MutableSet<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        MutableSet<V> target = UnifiedSet.newSet(this.size());
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            target.add(function.valueOf(iterator.next()));
+        }
+        return target;
+    }
+
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (predicate.accept(value))
+            {
+                return value;
+            }
+        }
+        return ifNone;
+    }
+
+    public int count(IntPredicate predicate)
+    {
+        int count = 0;
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (!predicate.accept(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    public long sum()
+    {
+        final long[] result = new long[1];
+        this.each(new IntProcedure()
+        {
+            public void value(int each)
+            {
+                result[0] += each;
+            }
+        });
+        return result[0];
+    }
+
+    public int max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return this.keys[last] << 16 | this.containers[last].last();
+    }
+
+    public int min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.keys[0] << 16 | this.containers[0].first();
+    }
+
+    /**
+     * Returns the number of elements which are less than or equal to {@code value}.
+     */
+    public int rank(int value)
+    {
+        short key = RoaringIntSet.highBits(value);
+        int rank = 0;
+        for (int i = 0; i < this.containerCount && this.keys[i] <= key; i++)
+        {
+            rank += this.keys[i] < key
+                    ? this.containers[i].cardinality()
+                    : this.containers[i].rank(RoaringIntSet.lowBits(value));
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the element at {@code index} in ascending order, so {@code select(0)} is the minimum.
+     *
+     * @throws IndexOutOfBoundsException if index is negative or not less than the size of the set
+     */
+    public int select(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        int remaining = index;
+        int i = 0;
+        while (remaining >= this.containers[i].cardinality())
+        {
+            remaining -= this.containers[i].cardinality();
+            i++;
+        }
+        return this.keys[i] << 16 | this.containers[i].select(remaining);
+    }
+
+    /**
+     * Stores each chunk as a list of runs where that takes less memory than an array or bitmap. Returns true if any
+     * chunk changed. Adding to or removing from a chunk stored as runs turns it back into an array or bitmap.
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            changed |= this.containers[i].runOptimize();
+        }
+        return changed;
+    }
+
+    /**
+     * Returns a new set of the elements which are in this set or {@code set}.
+     */
+    public RoaringIntSet union(RoaringIntSet set)
+    {
+        short[] resultKeys = new short[this.containerCount + set.containerCount];
+        RoaringContainer[] resultContainers = new RoaringContainer[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < set.containerCount)
+        {
+            if (j == set.containerCount || i < this.containerCount && this.keys[i] < set.keys[j])
+            {
+                resultKeys[count] = this.keys[i];
+                resultContainers[count++] = this.containers[i++].copy();
+            }
+            else if (i == this.containerCount || set.keys[j] < this.keys[i])
+            {
+                resultKeys[count] = set.keys[j];
+                resultContainers[count++] = set.containers[j++].copy();
+            }
+            else
+            {
+                resultKeys[count] = this.keys[i];
+                resultContainers[count++] = RoaringContainer.or(this.containers[i++], set.containers[j++]);
+            }
+        }
+        return RoaringIntSet.fromContainers(resultKeys, resultContainers, count);
+    }
+
+    /**
+     * Returns a new set of the elements which are in both this set and {@code set}.
+     */
+    public RoaringIntSet intersect(RoaringIntSet set)
+    {
+        short[] resultKeys = new short[Math.min(this.containerCount, set.containerCount)];
+        RoaringContainer[] resultContainers = new RoaringContainer[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount && j < set.containerCount)
+        {
+            if (this.keys[i] < set.keys[j])
+            {
+                i++;
+            }
+            else if (set.keys[j] < this.keys[i])
+            {
+                j++;
+            }
+            else
+            {
+                RoaringContainer container = RoaringContainer.and(this.containers[i], set.containers[j]);
+                if (container != null)
+                {
+                    resultKeys[count] = this.keys[i];
+                    resultContainers[count++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        return RoaringIntSet.fromContainers(resultKeys, resultContainers, count);
+    }
+
+    /**
+     * Returns a new set of the elements of this set which are not in {@code set}.
+     */
+    public RoaringIntSet difference(RoaringIntSet set)
+    {
+        short[] resultKeys = new short[this.containerCount];
+        RoaringContainer[] resultContainers = new RoaringContainer[resultKeys.length];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            while (j < set.containerCount && set.keys[j] < this.keys[i])
+            {
+                j++;
+            }
+            RoaringContainer container = j < set.containerCount && set.keys[j] == this.keys[i]
+                    ? RoaringContainer.andNot(this.containers[i], set.containers[j])
+                    : this.containers[i].copy();
+            if (container != null)
+            {
+                resultKeys[count] = this.keys[i];
+                resultContainers[count++] = container;
+            }
+        }
+        return RoaringIntSet.fromContainers(resultKeys, resultContainers, count);
+    }
+
+    /**
+     * Returns a new set of the elements which are in exactly one of this set and {@code set}.
+     */
+    public RoaringIntSet symmetricDifference(RoaringIntSet set)
+    {
+        short[] resultKeys = new short[this.containerCount + set.containerCount];
+        RoaringContainer[] resultContainers = new RoaringContainer[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < set.containerCount)
+        {
+            if (j == set.containerCount || i < this.containerCount && this.keys[i] < set.keys[j])
+            {
+                resultKeys[count] = this.keys[i];
+                resultContainers[count++] = this.containers[i++].copy();
+            }
+            else if (i == this.containerCount || set.keys[j] < this.keys[i])
+            {
+                resultKeys[count] = set.keys[j];
+                resultContainers[count++] = set.containers[j++].copy();
+            }
+            else
+            {
+                RoaringContainer container = RoaringContainer.xor(this.containers[i], set.containers[j]);
+                if (container != null)
+                {
+                    resultKeys[count] = this.keys[i];
+                    resultContainers[count++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        return RoaringIntSet.fromContainers(resultKeys, resultContainers, count);
+    }
+
+    private static RoaringIntSet fromContainers(short[] keys, RoaringContainer[] containers, int count)
+    {
+        if (keys.length < 4)
+        {
+            short[] newKeys = new short[4];
+            System.arraycopy(keys, 0, newKeys, 0, count);
+            RoaringContainer[] newContainers = new RoaringContainer[4];
+            System.arraycopy(containers, 0, newContainers, 0, count);
+            return new RoaringIntSet(newKeys, newContainers, count);
+        }
+        return new RoaringIntSet(keys, containers, count);
+    }
+
+    /**
+     * Adds the elements of {@code set} to this set, a chunk at a time, and returns this set.
+     */
+    public RoaringIntSet or(RoaringIntSet set)
+    {
+        return this.replaceWith(this.union(set));
+    }
+
+    /**
+     * Removes the elements which are not in {@code set} from this set, a chunk at a time, and returns this set.
+     */
+    public RoaringIntSet and(RoaringIntSet set)
+    {
+        return this.replaceWith(this.intersect(set));
+    }
+
+    /**
+     * Removes the elements of {@code set} from this set, a chunk at a time, and returns this set.
+     */
+    public RoaringIntSet andNot(RoaringIntSet set)
+    {
+        return this.replaceWith(this.difference(set));
+    }
+
+    /**
+     * Replaces this set with the elements which are in exactly one of this set and {@code set}, and returns this set.
+     */
+    public RoaringIntSet xor(RoaringIntSet set)
+    {
+        return this.replaceWith(this.symmetricDifference(set));
+    }
+
+    private RoaringIntSet replaceWith(RoaringIntSet set)
+    {
+        this.keys = set.keys;
+        this.containers = set.containers;
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+        return this;
+    }
+
+    public IntSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.containerCount);
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            out.writeShort(this.keys[i]);
+            this.containers[i].writeTo(out);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int count = in.readInt();
+        this.keys = new short[Math.max(4, count)];
+        this.containers = new RoaringContainer[this.keys.length];
+        this.containerCount = count;
+        this.size = 0;
+        for (int i = 0; i < count; i++)
+        {
+            this.keys[i] = in.readShort();
+            this.containers[i] = RoaringContainer.readFrom(in);
+            this.size += this.containers[i].cardinality();
+        }
+    }
+
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    private class InternalIntIterator implements MutableIntIterator
+    {
+        private int count;
+        private int containerIndex;
+        private int nextLow;
+        private int lastReturned;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            return this.count < RoaringIntSet.this.size();
+        }
+
+        public int next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            int low = RoaringIntSet.this.containers[this.containerIndex].nextValue(this.nextLow);
+            while (low < 0)
+            {
+                this.containerIndex++;
+                low = RoaringIntSet.this.containers[this.containerIndex].first();
+            }
+            this.nextLow = low + 1;
+            this.count++;
+            this.canRemove = true;
+            this.lastReturned = RoaringIntSet.this.keys[this.containerIndex] << 16 | low;
+            return this.lastReturned;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            RoaringIntSet.this.remove(this.lastReturned);
+            if (this.containerIndex == RoaringIntSet.this.containerCount
+                    || RoaringIntSet.this.keys[this.containerIndex] != RoaringIntSet.highBits(this.lastReturned))
+            {
+                this.nextLow = 0;
+            }
+            this.canRemove = false;
+            this.count--;
+        }
+    }
+}
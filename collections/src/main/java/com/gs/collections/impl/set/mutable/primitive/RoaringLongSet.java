@@ -0,0 +1,871 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.block.function.primitive.LongToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import com.gs.collections.api.block.predicate.primitive.LongPredicate;
+import com.gs.collections.api.block.procedure.primitive.LongProcedure;
+import com.gs.collections.api.iterator.LongIterator;
+import com.gs.collections.api.iterator.MutableLongIterator;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.primitive.ImmutableLongSet;
+import com.gs.collections.api.set.primitive.LongSet;
+import com.gs.collections.api.set.primitive.MutableLongSet;
+import com.gs.collections.impl.factory.primitive.LongSets;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.primitive.AbstractLongSet;
+
+/**
+ * RoaringLongSet is a compressed bitmap set of longs for large sets of dense or clustered values. Elements are split by
+ * their high 16 bits into chunks, and each chunk is a {@link RoaringContainer} holding the low 16 bits as a sorted
+ * array, a bitmap or a list of runs, so a chunk with more than 4096 elements takes at most 8KB. The chunks are kept in
+ * ascending order, which makes iteration ascending and lets {@link #rank(long)} and {@link #select(int)} skip whole
+ * chunks.
+ * <p>
+ * {@link #union(RoaringLongSet)}, {@link #intersect(RoaringLongSet)}, {@link #difference(RoaringLongSet)} and
+ * {@link #symmetricDifference(RoaringLongSet)} combine two sets a chunk at a time without visiting their elements
+ * one by one; {@link #or(RoaringLongSet)}, {@link #and(RoaringLongSet)}, {@link #andNot(RoaringLongSet)} and
+ * {@link #xor(RoaringLongSet)} do the same in place. Call {@link #runOptimize()} once a set is built to store long
+ * ranges of consecutive values as runs.
+ *
+ * @since 7.0
+ */
+public final class RoaringLongSet extends AbstractLongSet implements MutableLongSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private long[] keys;
+    private RoaringContainer[] containers;
+    private int containerCount;
+    private int size;
+
+    public RoaringLongSet()
+    {
+        this.keys = new long[4];
+        this.containers = new RoaringContainer[4];
+    }
+
+    public RoaringLongSet(long... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringLongSet(RoaringLongSet set)
+    {
+        this.keys = set.keys.clone();
+        this.containers = new RoaringContainer[set.containers.length];
+        for (int i = 0; i < set.containerCount; i++)
+        {
+            this.containers[i] = set.containers[i].copy();
+        }
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    private RoaringLongSet(long[] keys, RoaringContainer[] containers, int containerCount)
+    {
+        this.keys = keys;
+        this.containers = containers;
+        this.containerCount = containerCount;
+        for (int i = 0; i < containerCount; i++)
+        {
+            this.size += containers[i].cardinality();
+        }
+    }
+
+    public static RoaringLongSet newSet(LongIterable source)
+    {
+        if (source instanceof RoaringLongSet)
+        {
+            return new RoaringLongSet((RoaringLongSet) source);
+        }
+
+        return RoaringLongSet.newSetWith(source.toArray());
+    }
+
+    public static RoaringLongSet newSetWith(long... source)
+    {
+        return new RoaringLongSet(source);
+    }
+
+    private static long highBits(long value)
+    {
+        return value >> 16;
+    }
+
+    private static int lowBits(long value)
+    {
+        return (int) value & 0xFFFF;
+    }
+
+    /**
+     * Returns the index of the container for {@code key}, or (-(insertion point) - 1) when there is none.
+     */
+    private int indexOf(long key)
+    {
+        int low = 0;
+        int high = this.containerCount - 1;
+        while (low <= high)
+        {
+            int middle = low + high >>> 1;
+            long middleKey = this.keys[middle];
+            if (middleKey < key)
+            {
+                low = middle + 1;
+            }
+            else if (middleKey > key)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void insertContainerAt(int index, long key, RoaringContainer container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int newLength = this.containerCount << 1;
+            long[] newKeys = new long[newLength];
+            System.arraycopy(this.keys, 0, newKeys, 0, this.containerCount);
+            this.keys = newKeys;
+            RoaringContainer[] newContainers = new RoaringContainer[newLength];
+            System.arraycopy(this.containers, 0, newContainers, 0, this.containerCount);
+            this.containers = newContainers;
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainerAt(int index)
+    {
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.containerCount - index - 1);
+        System.arraycopy(this.containers, index + 1, this.containers, index, this.containerCount - index - 1);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int[] result = new int[1];
+        this.each(new LongProcedure()
+        {
+            public void value(long each)
+            {
+                result[0] += (int) (each ^ each >>> 32);
+            }
+        });
+        return result[0];
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            LongIterator iterator = this.longIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public boolean add(long element)
+    {
+        long key = RoaringLongSet.highBits(element);
+        int index = this.indexOf(key);
+        if (index < 0)
+        {
+            index = -(index + 1);
+            this.insertContainerAt(index, key, new RoaringContainer());
+        }
+        if (this.containers[index].add(RoaringLongSet.lowBits(element)))
+        {
+            this.size++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean addAll(long... source)
+    {
+        int oldSize = this.size();
+        for (long item : source)
+        {
+            this.add(item);
+        }
+        return this.size() != oldSize;
+    }
+
+    public boolean addAll(LongIterable source)
+    {
+        int oldSize = this.size();
+        if (source instanceof RoaringLongSet)
+        {
+            this.or((RoaringLongSet) source);
+        }
+        else
+        {
+            LongIterator iterator = source.longIterator();
+            while (iterator.hasNext())
+            {
+                this.add(iterator.next());
+            }
+        }
+        return this.size() != oldSize;
+    }
+
+    public boolean remove(long value)
+    {
+        int index = this.indexOf(RoaringLongSet.highBits(value));
+        if (index < 0 || !this.containers[index].remove(RoaringLongSet.lowBits(value)))
+        {
+            return false;
+        }
+        this.size--;
+        if (this.containers[index].cardinality() == 0)
+        {
+            this.removeContainerAt(index);
+        }
+        return true;
+    }
+
+    public boolean removeAll(LongIterable source)
+    {
+        int oldSize = this.size();
+        if (source instanceof RoaringLongSet)
+        {
+            this.andNot((RoaringLongSet) source);
+        }
+        else
+        {
+            LongIterator iterator = source.longIterator();
+            while (iterator.hasNext())
+            {
+                this.remove(iterator.next());
+            }
+        }
+        return this.size() != oldSize;
+    }
+
+    public boolean removeAll(long... source)
+    {
+        int oldSize = this.size();
+        for (long item : source)
+        {
+            this.remove(item);
+        }
+        return this.size() != oldSize;
+    }
+
+    public boolean retainAll(LongIterable source)
+    {
+        int oldSize = this.size();
+        this.and(source instanceof RoaringLongSet ? (RoaringLongSet) source : RoaringLongSet.newSet(source));
+        return this.size() != oldSize;
+    }
+
+    public boolean retainAll(long... source)
+    {
+        return this.retainAll(RoaringLongSet.newSetWith(source));
+    }
+
+    public void clear()
+    {
+        this.keys = new long[4];
+        this.containers = new RoaringContainer[4];
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    public RoaringLongSet with(long element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public RoaringLongSet without(long element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public RoaringLongSet withAll(LongIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    public RoaringLongSet withoutAll(LongIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    public MutableLongSet asUnmodifiable()
+    {
+        return new UnmodifiableLongSet(this);
+    }
+
+    public MutableLongSet asSynchronized()
+    {
+        return new SynchronizedLongSet(this);
+    }
+
+    public ImmutableLongSet toImmutable()
+    {
+        return LongSets.immutable.withAll(this);
+    }
+
+    public MutableLongIterator longIterator()
+    {
+        return new InternalLongIterator();
+    }
+
+    public long[] toArray()
+    {
+        final long[] array = new long[this.size];
+        this.each(new LongProcedure()
+        {
+            private int index;
+
+            public void value(long each)
+            {
+                array[this.index++] = each;
+            }
+        });
+        return array;
+    }
+
+    @Override
+    public long[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    public boolean contains(long value)
+    {
+        int index = this.indexOf(RoaringLongSet.highBits(value));
+        return index >= 0 && this.containers[index].contains(RoaringLongSet.lowBits(value));
+    }
+
+    public void forEach(LongProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    /**
+     * Visits the elements in ascending order, a container at a time.
+     */
+    public void each(LongProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            this.containers[i].forEach(this.keys[i], procedure);
+        }
+    }
+
+    public RoaringLongSet select(LongPredicate predicate)
+    {
+        RoaringLongSet result = new RoaringLongSet();
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            long value = iterator.next();
+            if (predicate.accept(value))
+            {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    public RoaringLongSet reject(LongPredicate predicate)
+    {
+        RoaringLongSet result = new RoaringLongSet();
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            long value = iterator.next();
+            if (!predicate.accept(value))
+            {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    public <V> MutableSet<V> collect(LongToObjectFunction<? extends V> function)
+    {
+        MutableSet<V> target = UnifiedSet.newSet(this.size());
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            target.add(function.valueOf(iterator.next()));
+        }
+        return target;
+    }
+
+    public long detectIfNone(LongPredicate predicate, long ifNone)
+    {
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            long value = iterator.next();
+            if (predicate.accept(value))
+            {
+                return value;
+            }
+        }
+        return ifNone;
+    }
+
+    public int count(LongPredicate predicate)
+    {
+        int count = 0;
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean anySatisfy(LongPredicate predicate)
+    {
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean allSatisfy(LongPredicate predicate)
+    {
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            if (!predicate.accept(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean noneSatisfy(LongPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    public long sum()
+    {
+        final long[] result = new long[1];
+        this.each(new LongProcedure()
+        {
+            public void value(long each)
+            {
+                result[0] += each;
+            }
+        });
+        return result[0];
+    }
+
+    public long max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return this.keys[last] << 16 | (long) this.containers[last].last();
+    }
+
+    public long min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.keys[0] << 16 | (long) this.containers[0].first();
+    }
+
+    /**
+     * Returns the number of elements which are less than or equal to {@code value}.
+     */
+    public int rank(long value)
+    {
+        long key = RoaringLongSet.highBits(value);
+        int rank = 0;
+        for (int i = 0; i < this.containerCount && this.keys[i] <= key; i++)
+        {
+            rank += this.keys[i] < key
+                    ? this.containers[i].cardinality()
+                    : this.containers[i].rank(RoaringLongSet.lowBits(value));
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the element at {@code index} in ascending order, so {@code select(0)} is the minimum.
+     *
+     * @throws IndexOutOfBoundsException if index is negative or not less than the size of the set
+     */
+    public long select(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        int remaining = index;
+        int i = 0;
+        while (remaining >= this.containers[i].cardinality())
+        {
+            remaining -= this.containers[i].cardinality();
+            i++;
+        }
+        return this.keys[i] << 16 | (long) this.containers[i].select(remaining);
+    }
+
+    /**
+     * Stores each chunk as a list of runs where that takes less memory than an array or bitmap. Returns true if any
+     * chunk changed. Adding to or removing from a chunk stored as runs turns it back into an array or bitmap.
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            changed |= this.containers[i].runOptimize();
+        }
+        return changed;
+    }
+
+    /**
+     * Returns a new set of the elements which are in this set or {@code set}.
+     */
+    public RoaringLongSet union(RoaringLongSet set)
+    {
+        long[] resultKeys = new long[this.containerCount + set.containerCount];
+        RoaringContainer[] resultContainers = new RoaringContainer[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < set.containerCount)
+        {
+            if (j == set.containerCount || i < this.containerCount && this.keys[i] < set.keys[j])
+            {
+                resultKeys[count] = this.keys[i];
+                resultContainers[count++] = this.containers[i++].copy();
+            }
+            else if (i == this.containerCount || set.keys[j] < this.keys[i])
+            {
+                resultKeys[count] = set.keys[j];
+                resultContainers[count++] = set.containers[j++].copy();
+            }
+            else
+            {
+                resultKeys[count] = this.keys[i];
+                resultContainers[count++] = RoaringContainer.or(this.containers[i++], set.containers[j++]);
+            }
+        }
+        return RoaringLongSet.fromContainers(resultKeys, resultContainers, count);
+    }
+
+    /**
+     * Returns a new set of the elements which are in both this set and {@code set}.
+     */
+    public RoaringLongSet intersect(RoaringLongSet set)
+    {
+        long[] resultKeys = new long[Math.min(this.containerCount, set.containerCount)];
+        RoaringContainer[] resultContainers = new RoaringContainer[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount && j < set.containerCount)
+        {
+            if (this.keys[i] < set.keys[j])
+            {
+                i++;
+            }
+            else if (set.keys[j] < this.keys[i])
+            {
+                j++;
+            }
+            else
+            {
+                RoaringContainer container = RoaringContainer.and(this.containers[i], set.containers[j]);
+                if (container != null)
+                {
+                    resultKeys[count] = this.keys[i];
+                    resultContainers[count++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        return RoaringLongSet.fromContainers(resultKeys, resultContainers, count);
+    }
+
+    /**
+     * Returns a new set of the elements of this set which are not in {@code set}.
+     */
+    public RoaringLongSet difference(RoaringLongSet set)
+    {
+        long[] resultKeys = new long[this.containerCount];
+        RoaringContainer[] resultContainers = new RoaringContainer[resultKeys.length];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            while (j < set.containerCount && set.keys[j] < this.keys[i])
+            {
+                j++;
+            }
+            RoaringContainer container = j < set.containerCount && set.keys[j] == this.keys[i]
+                    ? RoaringContainer.andNot(this.containers[i], set.containers[j])
+                    : this.containers[i].copy();
+            if (container != null)
+            {
+                resultKeys[count] = this.keys[i];
+                resultContainers[count++] = container;
+            }
+        }
+        return RoaringLongSet.fromContainers(resultKeys, resultContainers, count);
+    }
+
+    /**
+     * Returns a new set of the elements which are in exactly one of this set and {@code set}.
+     */
+    public RoaringLongSet symmetricDifference(RoaringLongSet set)
+    {
+        long[] resultKeys = new long[this.containerCount + set.containerCount];
+        RoaringContainer[] resultContainers = new RoaringContainer[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < set.containerCount)
+        {
+            if (j == set.containerCount || i < this.containerCount && this.keys[i] < set.keys[j])
+            {
+                resultKeys[count] = this.keys[i];
+                resultContainers[count++] = this.containers[i++].copy();
+            }
+            else if (i == this.containerCount || set.keys[j] < this.keys[i])
+            {
+                resultKeys[count] = set.keys[j];
+                resultContainers[count++] = set.containers[j++].copy();
+            }
+            else
+            {
+                RoaringContainer container = RoaringContainer.xor(this.containers[i], set.containers[j]);
+                if (container != null)
+                {
+                    resultKeys[count] = this.keys[i];
+                    resultContainers[count++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        return RoaringLongSet.fromContainers(resultKeys, resultContainers, count);
+    }
+
+    private static RoaringLongSet fromContainers(long[] keys, RoaringContainer[] containers, int count)
+    {
+        if (keys.length < 4)
+        {
+            long[] newKeys = new long[4];
+            System.arraycopy(keys, 0, newKeys, 0, count);
+            RoaringContainer[] newContainers = new RoaringContainer[4];
+            System.arraycopy(containers, 0, newContainers, 0, count);
+            return new RoaringLongSet(newKeys, newContainers, count);
+        }
+        return new RoaringLongSet(keys, containers, count);
+    }
+
+    /**
+     * Adds the elements of {@code set} to this set, a chunk at a time, and returns this set.
+     */
+    public RoaringLongSet or(RoaringLongSet set)
+    {
+        return this.replaceWith(this.union(set));
+    }
+
+    /**
+     * Removes the elements which are not in {@code set} from this set, a chunk at a time, and returns this set.
+     */
+    public RoaringLongSet and(RoaringLongSet set)
+    {
+        return this.replaceWith(this.intersect(set));
+    }
+
+    /**
+     * Removes the elements of {@code set} from this set, a chunk at a time, and returns this set.
+     */
+    public RoaringLongSet andNot(RoaringLongSet set)
+    {
+        return this.replaceWith(this.difference(set));
+    }
+
+    /**
+     * Replaces this set with the elements which are in exactly one of this set and {@code set}, and returns this set.
+     */
+    public RoaringLongSet xor(RoaringLongSet set)
+    {
+        return this.replaceWith(this.symmetricDifference(set));
+    }
+
+    private RoaringLongSet replaceWith(RoaringLongSet set)
+    {
+        this.keys = set.keys;
+        this.containers = set.containers;
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+        return this;
+    }
+
+    public LongSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.containerCount);
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            out.writeLong(this.keys[i]);
+            this.containers[i].writeTo(out);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int count = in.readInt();
+        this.keys = new long[Math.max(4, count)];
+        this.containers = new RoaringContainer[this.keys.length];
+        this.containerCount = count;
+        this.size = 0;
+        for (int i = 0; i < count; i++)
+        {
+            this.keys[i] = in.readLong();
+            this.containers[i] = RoaringContainer.readFrom(in);
+            this.size += this.containers[i].cardinality();
+        }
+    }
+
+    public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    private class InternalLongIterator implements MutableLongIterator
+    {
+        private int count;
+        private int containerIndex;
+        private int nextLow;
+        private long lastReturned;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            return this.count < RoaringLongSet.this.size();
+        }
+
+        public long next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            int low = RoaringLongSet.this.containers[this.containerIndex].nextValue(this.nextLow);
+            while (low < 0)
+            {
+                this.containerIndex++;
+                low = RoaringLongSet.this.containers[this.containerIndex].first();
+            }
+            this.nextLow = low + 1;
+            this.count++;
+            this.canRemove = true;
+            this.lastReturned = RoaringLongSet.this.keys[this.containerIndex] << 16 | (long) low;
+            return this.lastReturned;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            RoaringLongSet.this.remove(this.lastReturned);
+            if (this.containerIndex == RoaringLongSet.this.containerCount
+                    || RoaringLongSet.this.keys[this.containerIndex] != RoaringLongSet.highBits(this.lastReturned))
+            {
+                this.nextLow = 0;
+            }
+            this.canRemove = false;
+            this.count--;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.sorted.immutable;
+
+import java.util.Comparator;
+import java.util.SortedSet;
+
+import com.gs.collections.api.set.sorted.ImmutableSortedSet;
+import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import com.gs.collections.impl.utility.internal.EytzingerLayout;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableSortedSet which answers {@link #contains(Object)} from a second copy of its elements in
+ * {@link EytzingerLayout} order. A binary search over a large sorted array misses the cache at almost every step; the
+ * Eytzinger copy keeps the top of the search tree in a few cache lines. Iteration, ranges and everything else still use
+ * the sorted array.
+ * <p>
+ * Instances are serialized in the same form as the other immutable sorted sets.
+ *
+ * @since 7.0
+ */
+@Immutable
+public final class ImmutableEytzingerSortedSet<T>
+        extends ImmutableTreeSet<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] layout;
+
+    private ImmutableEytzingerSortedSet(SortedSet<T> sortedSet)
+    {
+        super(sortedSet);
+        this.layout = EytzingerLayout.layout(sortedSet.toArray());
+    }
+
+    public static <T> ImmutableSortedSet<T> newSetWith(T... elements)
+    {
+        return new ImmutableEytzingerSortedSet<T>(TreeSortedSet.newSetWith(elements));
+    }
+
+    public static <T> ImmutableSortedSet<T> newSetWith(Comparator<? super T> comparator, T... elements)
+    {
+        return new ImmutableEytzingerSortedSet<T>(TreeSortedSet.newSetWith(comparator, elements));
+    }
+
+    public static <T> ImmutableSortedSet<T> newSet(SortedSet<T> set)
+    {
+        return new ImmutableEytzingerSortedSet<T>(TreeSortedSet.newSet(set));
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return EytzingerLayout.search(this.layout, object, this.comparator()) != 0;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSortedSetSerializationProxy<T>(this);
+    }
+}
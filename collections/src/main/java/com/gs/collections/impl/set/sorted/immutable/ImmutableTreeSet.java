@@ -57,7 +57,7 @@ import com.gs.collections.impl.utility.internal.InternalArrayIterate;
 import net.jcip.annotations.Immutable;
 
 @Immutable
-final class ImmutableTreeSet<T>
+class ImmutableTreeSet<T>
         extends AbstractImmutableSortedSet<T>
         implements Serializable
 {
@@ -66,7 +66,7 @@ final class ImmutableTreeSet<T>
     private final T[] delegate;
     private final Comparator<? super T> comparator;
 
-    private ImmutableTreeSet(SortedSet<T> sortedSet)
+    ImmutableTreeSet(SortedSet<T> sortedSet)
     {
         this.delegate = (T[]) sortedSet.toArray();
         this.comparator = sortedSet.comparator();
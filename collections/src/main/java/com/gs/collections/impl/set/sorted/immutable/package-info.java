@@ -25,6 +25,9 @@
  *     <li>
  *          {@link com.gs.collections.impl.set.sorted.immutable.ImmutableTreeSet} - the non-modifiable equivalent of {@link com.gs.collections.api.set.sorted.MutableSortedSet}.
  *     </li>
+ *     <li>
+ *          {@link com.gs.collections.impl.set.sorted.immutable.ImmutableEytzingerSortedSet} - an ImmutableTreeSet whose contains() searches a cache friendly Eytzinger layout.
+ *     </li>
  * </ul>
  * <p>
  *     This package contains one factory implementation:
@@ -65,6 +65,7 @@ import com.gs.collections.impl.partition.set.strategy.PartitionUnifiedSetWithHas
 import com.gs.collections.impl.set.AbstractUnifiedSet;
 import com.gs.collections.impl.tuple.Tuples;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.HashChainOrder;
 import net.jcip.annotations.NotThreadSafe;
 
 @NotThreadSafe
@@ -294,6 +295,10 @@ public class UnifiedSetWithHashingStrategy<T>
 
     private boolean chainedAdd(T key, int index)
     {
+        if (this.table[index] instanceof SortedChainedBucket)
+        {
+            return this.addToSortedChain((SortedChainedBucket) this.table[index], key) == null;
+        }
         if (this.table[index] instanceof ChainedBucket)
         {
             ChainedBucket bucket = (ChainedBucket) this.table[index];
@@ -348,6 +353,10 @@ public class UnifiedSetWithHashingStrategy<T>
                     return false;
                 }
                 bucket.three = new ChainedBucket(bucket.three, UnifiedSetWithHashingStrategy.toSentinelIfNull(key));
+                if (bucket != this.table[index])
+                {
+                    this.sortChain(index);
+                }
                 if (++this.occupied > this.maxSize)
                 {
                     this.rehash();
@@ -365,6 +374,157 @@ public class UnifiedSetWithHashingStrategy<T>
         return true;
     }
 
+    /**
+     * Replaces the chain at {@code index}, which has just grown into its third bucket, with one that also keeps its
+     * elements in a sorted index. Lookups in the chain then cost logarithmic rather than linear time, which bounds the
+     * damage done by keys with degenerate hash codes.
+     */
+    private void sortChain(int index)
+    {
+        ChainedBucket bucket = (ChainedBucket) this.table[index];
+        SortedChainedBucket sortedBucket = new SortedChainedBucket(bucket);
+        do
+        {
+            this.indexInSortedChain(sortedBucket, bucket.zero);
+            if (bucket.one == null)
+            {
+                break;
+            }
+            this.indexInSortedChain(sortedBucket, bucket.one);
+            if (bucket.two == null)
+            {
+                break;
+            }
+            this.indexInSortedChain(sortedBucket, bucket.two);
+            if (bucket.three instanceof ChainedBucket)
+            {
+                bucket = (ChainedBucket) bucket.three;
+                continue;
+            }
+            if (bucket.three != null)
+            {
+                this.indexInSortedChain(sortedBucket, bucket.three);
+            }
+            break;
+        }
+        while (true);
+        this.table[index] = sortedBucket;
+    }
+
+    /**
+     * Adds {@code key} to a sorted chain unless an equal element is already present.
+     *
+     * @return the element already present, or null if {@code key} was added
+     */
+    private Object addToSortedChain(SortedChainedBucket sortedBucket, T key)
+    {
+        int i = this.sortedChainIndexOf(sortedBucket, key);
+        if (i >= 0)
+        {
+            return sortedBucket.sorted[i];
+        }
+        Object realKey = UnifiedSetWithHashingStrategy.toSentinelIfNull(key);
+        ChainedBucket bucket = sortedBucket;
+        while (bucket.three instanceof ChainedBucket)
+        {
+            bucket = (ChainedBucket) bucket.three;
+        }
+        if (bucket.one == null)
+        {
+            bucket.one = realKey;
+        }
+        else if (bucket.two == null)
+        {
+            bucket.two = realKey;
+        }
+        else if (bucket.three == null)
+        {
+            bucket.three = realKey;
+        }
+        else
+        {
+            bucket.three = new ChainedBucket(bucket.three, realKey);
+        }
+        this.insertIntoSortedChain(sortedBucket, -i - 1, realKey);
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position of {@code key} in the sorted index of {@code bucket}, or {@code -(insertionPoint + 1)} if it
+     * is absent. The index is ordered by the hashing strategy's hash code only, because natural ordering need not agree
+     * with the hashing strategy's notion of equality.
+     */
+    private int sortedChainIndexOf(SortedChainedBucket bucket, T key)
+    {
+        int hash = this.hashingStrategy.computeHashCode(key);
+        Object[] sorted = bucket.sorted;
+        int low = 0;
+        int high = bucket.size;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (this.compareChainKeys(sorted[mid], key, hash) >= 0)
+            {
+                high = mid;
+            }
+            else
+            {
+                low = mid + 1;
+            }
+        }
+        int i = low;
+        for (; i < bucket.size && this.compareChainKeys(sorted[i], key, hash) == 0; i++)
+        {
+            if (this.nonNullTableObjectEquals(sorted[i], key))
+            {
+                return i;
+            }
+        }
+        return -i - 1;
+    }
+
+    private int compareChainKeys(Object chainKey, T key, int hash)
+    {
+        return HashChainOrder.compareHashes(this.hashingStrategy.computeHashCode(this.nonSentinel(chainKey)), hash);
+    }
+
+    private void indexInSortedChain(SortedChainedBucket bucket, Object realKey)
+    {
+        this.insertIntoSortedChain(bucket, -this.sortedChainIndexOf(bucket, this.nonSentinel(realKey)) - 1, realKey);
+    }
+
+    private void insertIntoSortedChain(SortedChainedBucket bucket, int position, Object realKey)
+    {
+        if (bucket.size == bucket.sorted.length)
+        {
+            Object[] newSorted = new Object[bucket.size << 1];
+            System.arraycopy(bucket.sorted, 0, newSorted, 0, bucket.size);
+            bucket.sorted = newSorted;
+        }
+        System.arraycopy(bucket.sorted, position, bucket.sorted, position + 1, bucket.size - position);
+        bucket.sorted[position] = realKey;
+        bucket.size++;
+    }
+
+    /**
+     * Removes {@code key} from the sorted index only; the caller unlinks it from the chain itself.
+     */
+    private boolean removeFromSortedChain(SortedChainedBucket bucket, T key)
+    {
+        int i = this.sortedChainIndexOf(bucket, key);
+        if (i < 0)
+        {
+            return false;
+        }
+        System.arraycopy(bucket.sorted, i + 1, bucket.sorted, i, bucket.size - i - 1);
+        bucket.sorted[--bucket.size] = null;
+        return true;
+    }
+
     @Override
     protected void rehash(int newCapacity)
     {
@@ -433,6 +593,10 @@ public class UnifiedSetWithHashingStrategy<T>
 
     private boolean chainContains(ChainedBucket bucket, T key)
     {
+        if (bucket instanceof SortedChainedBucket)
+        {
+            return this.sortedChainIndexOf((SortedChainedBucket) bucket, key) >= 0;
+        }
         do
         {
             if (this.nonNullTableObjectEquals(bucket.zero, key))
@@ -1155,6 +1319,10 @@ public class UnifiedSetWithHashingStrategy<T>
 
     private boolean removeFromChain(ChainedBucket bucket, T key, int index)
     {
+        if (bucket instanceof SortedChainedBucket && !this.removeFromSortedChain((SortedChainedBucket) bucket, key))
+        {
+            return false;
+        }
         if (this.nonNullTableObjectEquals(bucket.zero, key))
         {
             bucket.zero = bucket.removeLast(0);
@@ -1632,12 +1800,21 @@ public class UnifiedSetWithHashingStrategy<T>
         protected void removeFromChain()
         {
             ChainedBucket chain = (ChainedBucket) UnifiedSetWithHashingStrategy.this.table[this.position];
+            if (chain instanceof SortedChainedBucket)
+            {
+                T key = UnifiedSetWithHashingStrategy.this.nonSentinel(chain.get(this.chainPosition - 1));
+                UnifiedSetWithHashingStrategy.this.removeFromSortedChain((SortedChainedBucket) chain, key);
+            }
             chain.remove(--this.chainPosition);
             this.lastReturned = false;
         }
 
         protected void removeLastFromChain(ChainedBucket bucket, int tableIndex)
         {
+            if (bucket instanceof SortedChainedBucket)
+            {
+                UnifiedSetWithHashingStrategy.this.removeFromSortedChain((SortedChainedBucket) bucket, UnifiedSetWithHashingStrategy.this.getLast(bucket));
+            }
             bucket.removeLast(0);
             if (bucket.zero == null)
             {
@@ -1687,7 +1864,7 @@ public class UnifiedSetWithHashingStrategy<T>
         }
     }
 
-    private static final class ChainedBucket
+    private static class ChainedBucket
     {
         private Object zero;
         private Object one;
@@ -1704,6 +1881,14 @@ public class UnifiedSetWithHashingStrategy<T>
             this.one = second;
         }
 
+        private ChainedBucket(ChainedBucket bucket)
+        {
+            this.zero = bucket.zero;
+            this.one = bucket.one;
+            this.two = bucket.two;
+            this.three = bucket.three;
+        }
+
         public void remove(int i)
         {
             if (i > 3)
@@ -1897,6 +2082,30 @@ public class UnifiedSetWithHashingStrategy<T>
         }
     }
 
+    /**
+     * The head of a long chain, which also holds the chain's elements in a sorted index so they can be binary searched.
+     */
+    private static final class SortedChainedBucket extends ChainedBucket
+    {
+        private Object[] sorted;
+        private int size;
+
+        private SortedChainedBucket(ChainedBucket bucket)
+        {
+            super(bucket);
+            this.sorted = new Object[16];
+        }
+
+        @Override
+        public ChainedBucket copy()
+        {
+            SortedChainedBucket result = new SortedChainedBucket(super.copy());
+            result.sorted = this.sorted.clone();
+            result.size = this.size;
+            return result;
+        }
+    }
+
     public <V> UnifiedSetWithHashingStrategyMultimap<V, T> groupBy(
             Function<? super T, ? extends V> function)
     {
@@ -1931,6 +2140,12 @@ public class UnifiedSetWithHashingStrategy<T>
 
     private T chainedGet(T key, ChainedBucket bucket)
     {
+        if (bucket instanceof SortedChainedBucket)
+        {
+            SortedChainedBucket sortedBucket = (SortedChainedBucket) bucket;
+            int i = this.sortedChainIndexOf(sortedBucket, key);
+            return i >= 0 ? this.nonSentinel(sortedBucket.sorted[i]) : null;
+        }
         do
         {
             if (this.nonNullTableObjectEquals(bucket.zero, key))
@@ -1995,6 +2210,11 @@ public class UnifiedSetWithHashingStrategy<T>
 
     private T chainedPut(T key, int index)
     {
+        if (this.table[index] instanceof SortedChainedBucket)
+        {
+            Object existing = this.addToSortedChain((SortedChainedBucket) this.table[index], key);
+            return existing == null ? key : this.nonSentinel(existing);
+        }
         if (this.table[index] instanceof ChainedBucket)
         {
             ChainedBucket bucket = (ChainedBucket) this.table[index];
@@ -2048,7 +2268,11 @@ public class UnifiedSetWithHashingStrategy<T>
                 {
                     return this.nonSentinel(bucket.three);
                 }
-                bucket.three = new ChainedBucket(bucket.three, key);
+                bucket.three = new ChainedBucket(bucket.three, UnifiedSetWithHashingStrategy.toSentinelIfNull(key));
+                if (bucket != this.table[index])
+                {
+                    this.sortChain(index);
+                }
                 if (++this.occupied > this.maxSize)
                 {
                     this.rehash();
@@ -2089,6 +2313,10 @@ public class UnifiedSetWithHashingStrategy<T>
 
     private T removeFromChainForPool(ChainedBucket bucket, T key, int index)
     {
+        if (bucket instanceof SortedChainedBucket && !this.removeFromSortedChain((SortedChainedBucket) bucket, key))
+        {
+            return null;
+        }
         if (this.nonNullTableObjectEquals(bucket.zero, key))
         {
             Object result = bucket.zero;
@@ -665,6 +665,36 @@ final class ImmutableArrayStack<T> implements ImmutableStack<T>, Serializable
         return this.delegate.asReversed().maxBy(function);
     }
 
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        return this.delegate.asReversed().minN(n, comparator);
+    }
+
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        return this.delegate.asReversed().maxN(n, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.asReversed().topNBy(n, function);
+    }
+
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        return this.delegate.asReversed().topNByInt(n, function);
+    }
+
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        return this.delegate.asReversed().topNByLong(n, function);
+    }
+
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        return this.delegate.asReversed().topNByDouble(n, function);
+    }
+
     public long sumOfInt(IntFunction<? super T> intFunction)
     {
         return this.delegate.asReversed().sumOfInt(intFunction);
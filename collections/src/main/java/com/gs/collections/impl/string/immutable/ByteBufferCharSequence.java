@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.string.immutable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * ByteBufferCharSequence is a read-only view of a range of bytes in a {@link ByteBuffer} as a CharSequence of
+ * ISO-8859-1 characters, one char per byte. Nothing is copied until {@link #toString()} is called, and
+ * {@link #subSequence(int, int)} returns another view of the same buffer, so fields can be split out of a record
+ * without allocating strings. Text in a multi-byte encoding can be decoded with {@link #toString(Charset)}.
+ * <p>
+ * Only absolute reads are made on the buffer, so views of one buffer may be read from several threads as long as the
+ * buffer itself is not modified.
+ *
+ * @since 7.0
+ */
+public final class ByteBufferCharSequence implements CharSequence
+{
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    public ByteBufferCharSequence(ByteBuffer buffer, int offset, int length)
+    {
+        if (offset < 0 || length < 0 || offset > buffer.limit() - length)
+        {
+            throw new IndexOutOfBoundsException("Offset: " + offset + " Length: " + length + " Limit: " + buffer.limit());
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public int length()
+    {
+        return this.length;
+    }
+
+    public char charAt(int index)
+    {
+        if (index < 0 || index >= this.length)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Length: " + this.length);
+        }
+        return (char) (this.buffer.get(this.offset + index) & 0xFF);
+    }
+
+    public ByteBufferCharSequence subSequence(int start, int end)
+    {
+        if (start < 0 || end > this.length || start > end)
+        {
+            throw new IndexOutOfBoundsException("Start: " + start + " End: " + end + " Length: " + this.length);
+        }
+        return new ByteBufferCharSequence(this.buffer, this.offset + start, end - start);
+    }
+
+    public String toString(Charset charset)
+    {
+        if (charset.equals(ISO_8859_1))
+        {
+            return this.toString();
+        }
+        ByteBuffer slice = this.buffer.duplicate();
+        slice.limit(this.offset + this.length).position(this.offset);
+        return charset.decode(slice).toString();
+    }
+
+    @Override
+    public String toString()
+    {
+        char[] chars = new char[this.length];
+        for (int i = 0; i < this.length; i++)
+        {
+            chars[i] = (char) (this.buffer.get(this.offset + i) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(Object otherSequence)
+    {
+        if (otherSequence == this)
+        {
+            return true;
+        }
+        if (!(otherSequence instanceof ByteBufferCharSequence))
+        {
+            return false;
+        }
+        ByteBufferCharSequence other = (ByteBufferCharSequence) otherSequence;
+        if (this.length != other.length)
+        {
+            return false;
+        }
+        for (int i = 0; i < this.length; i++)
+        {
+            if (this.buffer.get(this.offset + i) != other.buffer.get(other.offset + i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the same hash code as the String returned by {@link #toString()}.
+     */
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.length; i++)
+        {
+            hashCode = 31 * hashCode + (this.buffer.get(this.offset + i) & 0xFF);
+        }
+        return hashCode;
+    }
+}
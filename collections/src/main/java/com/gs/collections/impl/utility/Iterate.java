@@ -67,6 +67,14 @@ import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.multimap.bag.BagMultimap;
 import com.gs.collections.api.multimap.list.ListMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectDoubleListMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectDoubleMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectFloatListMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectFloatMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectIntListMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectIntMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectLongListMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectLongMultimap;
 import com.gs.collections.api.multimap.set.SetMultimap;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.tuple.Pair;
@@ -83,6 +91,10 @@ import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.multimap.bag.HashBagMultimap;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.multimap.primitive.ObjectDoubleArrayListMultimap;
+import com.gs.collections.impl.multimap.primitive.ObjectFloatArrayListMultimap;
+import com.gs.collections.impl.multimap.primitive.ObjectIntArrayListMultimap;
+import com.gs.collections.impl.multimap.primitive.ObjectLongArrayListMultimap;
 import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
 import com.gs.collections.impl.utility.internal.DefaultSpeciesNewStrategy;
 import com.gs.collections.impl.utility.internal.IterableIterate;
@@ -3150,6 +3162,166 @@ public final class Iterate
         throw new IllegalArgumentException("Cannot perform a groupBy on null");
     }
 
+    /**
+     * Groups the {@code int} values extracted by {@code function} under the keys computed by {@code groupBy}, without
+     * boxing the values. The values for each key are kept in iteration order.
+     *
+     * @since 7.0
+     */
+    public static <T, K> MutableObjectIntListMultimap<K> groupByInt(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            IntFunction<? super T> function)
+    {
+        return Iterate.groupByInt(iterable, groupBy, function, ObjectIntArrayListMultimap.<K>newMultimap());
+    }
+
+    /**
+     * Same as {@link #groupByInt(Iterable, Function, IntFunction)}, but the values are added to
+     * {@code targetMultimap}, which is returned.
+     *
+     * @since 7.0
+     */
+    public static <T, K, R extends MutableObjectIntMultimap<K>> R groupByInt(
+            Iterable<T> iterable,
+            final Function<? super T, ? extends K> groupBy,
+            final IntFunction<? super T> function,
+            final R targetMultimap)
+    {
+        if (iterable == null)
+        {
+            throw new IllegalArgumentException("Cannot perform a groupByInt on null");
+        }
+        Iterate.forEach(iterable, new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                targetMultimap.put(groupBy.valueOf(each), function.intValueOf(each));
+            }
+        });
+        return targetMultimap;
+    }
+
+    /**
+     * Groups the {@code long} values extracted by {@code function} under the keys computed by {@code groupBy}, without
+     * boxing the values. The values for each key are kept in iteration order.
+     *
+     * @since 7.0
+     */
+    public static <T, K> MutableObjectLongListMultimap<K> groupByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            LongFunction<? super T> function)
+    {
+        return Iterate.groupByLong(iterable, groupBy, function, ObjectLongArrayListMultimap.<K>newMultimap());
+    }
+
+    /**
+     * Same as {@link #groupByLong(Iterable, Function, LongFunction)}, but the values are added to
+     * {@code targetMultimap}, which is returned.
+     *
+     * @since 7.0
+     */
+    public static <T, K, R extends MutableObjectLongMultimap<K>> R groupByLong(
+            Iterable<T> iterable,
+            final Function<? super T, ? extends K> groupBy,
+            final LongFunction<? super T> function,
+            final R targetMultimap)
+    {
+        if (iterable == null)
+        {
+            throw new IllegalArgumentException("Cannot perform a groupByLong on null");
+        }
+        Iterate.forEach(iterable, new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                targetMultimap.put(groupBy.valueOf(each), function.longValueOf(each));
+            }
+        });
+        return targetMultimap;
+    }
+
+    /**
+     * Groups the {@code float} values extracted by {@code function} under the keys computed by {@code groupBy}, without
+     * boxing the values. The values for each key are kept in iteration order.
+     *
+     * @since 7.0
+     */
+    public static <T, K> MutableObjectFloatListMultimap<K> groupByFloat(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            FloatFunction<? super T> function)
+    {
+        return Iterate.groupByFloat(iterable, groupBy, function, ObjectFloatArrayListMultimap.<K>newMultimap());
+    }
+
+    /**
+     * Same as {@link #groupByFloat(Iterable, Function, FloatFunction)}, but the values are added to
+     * {@code targetMultimap}, which is returned.
+     *
+     * @since 7.0
+     */
+    public static <T, K, R extends MutableObjectFloatMultimap<K>> R groupByFloat(
+            Iterable<T> iterable,
+            final Function<? super T, ? extends K> groupBy,
+            final FloatFunction<? super T> function,
+            final R targetMultimap)
+    {
+        if (iterable == null)
+        {
+            throw new IllegalArgumentException("Cannot perform a groupByFloat on null");
+        }
+        Iterate.forEach(iterable, new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                targetMultimap.put(groupBy.valueOf(each), function.floatValueOf(each));
+            }
+        });
+        return targetMultimap;
+    }
+
+    /**
+     * Groups the {@code double} values extracted by {@code function} under the keys computed by {@code groupBy}, without
+     * boxing the values. The values for each key are kept in iteration order.
+     *
+     * @since 7.0
+     */
+    public static <T, K> MutableObjectDoubleListMultimap<K> groupByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        return Iterate.groupByDouble(iterable, groupBy, function, ObjectDoubleArrayListMultimap.<K>newMultimap());
+    }
+
+    /**
+     * Same as {@link #groupByDouble(Iterable, Function, DoubleFunction)}, but the values are added to
+     * {@code targetMultimap}, which is returned.
+     *
+     * @since 7.0
+     */
+    public static <T, K, R extends MutableObjectDoubleMultimap<K>> R groupByDouble(
+            Iterable<T> iterable,
+            final Function<? super T, ? extends K> groupBy,
+            final DoubleFunction<? super T> function,
+            final R targetMultimap)
+    {
+        if (iterable == null)
+        {
+            throw new IllegalArgumentException("Cannot perform a groupByDouble on null");
+        }
+        Iterate.forEach(iterable, new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                targetMultimap.put(groupBy.valueOf(each), function.doubleValueOf(each));
+            }
+        });
+        return targetMultimap;
+    }
+
     /**
      * @see RichIterable#aggregateInPlaceBy(Function, Function0, Procedure2)
      */
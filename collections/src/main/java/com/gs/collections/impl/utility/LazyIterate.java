@@ -16,6 +16,10 @@
 
 package com.gs.collections.impl.utility;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInput;
+
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.block.function.Function;
@@ -28,8 +32,11 @@ import com.gs.collections.impl.lazy.CollectIterable;
 import com.gs.collections.impl.lazy.CompositeIterable;
 import com.gs.collections.impl.lazy.DistinctIterable;
 import com.gs.collections.impl.lazy.DropIterable;
+import com.gs.collections.impl.lazy.ExternalizedIterable;
+import com.gs.collections.impl.lazy.ExternalizedMapIterable;
 import com.gs.collections.impl.lazy.FlatCollectIterable;
 import com.gs.collections.impl.lazy.LazyIterableAdapter;
+import com.gs.collections.impl.lazy.MappedRecordIterable;
 import com.gs.collections.impl.lazy.RejectIterable;
 import com.gs.collections.impl.lazy.SelectInstancesOfIterable;
 import com.gs.collections.impl.lazy.SelectIterable;
@@ -178,4 +185,87 @@ public final class LazyIterate
     {
         return new TapIterable<T>(iterable, procedure);
     }
+
+    /**
+     * Creates a deferred iterable over the lines of the specified file, which is memory-mapped and viewed in place.
+     *
+     * @see MappedRecordIterable
+     * @since 7.0
+     */
+    public static MappedRecordIterable mapLines(File file)
+    {
+        return new MappedRecordIterable(file, (byte) '\n');
+    }
+
+    /**
+     * Creates a deferred iterable over the records of the specified file which end with the delimiter byte.
+     *
+     * @see MappedRecordIterable
+     * @since 7.0
+     */
+    public static MappedRecordIterable mapRecords(File file, byte delimiter)
+    {
+        return new MappedRecordIterable(file, delimiter);
+    }
+
+    /**
+     * Creates a deferred iterable over the elements of a FastList written to {@code in} with {@code writeExternal}.
+     * The size is read immediately and the elements as they are iterated, so they can only be iterated once.
+     *
+     * @see ExternalizedIterable
+     * @since 7.0
+     */
+    public static <T> ExternalizedIterable<T> readExternalList(ObjectInput in)
+    {
+        try
+        {
+            return new ExternalizedIterable<T>(in, in.readInt());
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates a deferred iterable over the elements of a UnifiedSet written to {@code in} with {@code writeExternal}.
+     * The size and load factor are read immediately and the elements as they are iterated, so they can only be
+     * iterated once.
+     *
+     * @see ExternalizedIterable
+     * @since 7.0
+     */
+    public static <T> ExternalizedIterable<T> readExternalSet(ObjectInput in)
+    {
+        try
+        {
+            int size = in.readInt();
+            return new ExternalizedIterable<T>(in, size, in.readFloat());
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates a deferred iterable over the entries of a UnifiedMap written to {@code in} with {@code writeExternal}.
+     * The size and load factor are read immediately and the entries as they are iterated, so they can only be
+     * iterated once.
+     *
+     * @see ExternalizedMapIterable
+     * @since 7.0
+     */
+    public static <K, V> ExternalizedMapIterable<K, V> readExternalMap(ObjectInput in)
+    {
+        try
+        {
+            int size = in.readInt();
+            return new ExternalizedMapIterable<K, V>(in, size, in.readFloat());
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
 }
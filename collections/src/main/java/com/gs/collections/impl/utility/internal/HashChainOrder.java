@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * The order used by hash tables to keep long collision chains sorted so they can be binary searched. Keys are ordered by
+ * hash code, then by class name, then by their natural order when they are of the same class and that class directly
+ * implements {@code Comparable} of itself, as {@code java.util.HashMap} orders its tree bins. Keys which compare as
+ * equal are not necessarily equal, so callers must scan the run of ties with equals. Equal keys of different classes,
+ * such as a FastList and an ArrayList, are ordered apart, so a lookup which misses among the keys of its own class must
+ * also scan the keys of other classes which share its hash code, bounded by
+ * {@link #compareClasses(Object, int, Object, int)}.
+ *
+ * @since 7.0
+ */
+public final class HashChainOrder
+{
+    private HashChainOrder()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static int compareHashes(int hash1, int hash2)
+    {
+        return hash1 < hash2 ? -1 : hash1 == hash2 ? 0 : 1;
+    }
+
+    /**
+     * Orders keys by hash code and then by class name only, so the keys of one class with a given hash code form a
+     * single run of ties.
+     */
+    public static int compareClasses(Object key1, int hash1, Object key2, int hash2)
+    {
+        int result = HashChainOrder.compareHashes(hash1, hash2);
+        if (result != 0 || key1 == key2)
+        {
+            return result;
+        }
+        if (key1 == null)
+        {
+            return -1;
+        }
+        if (key2 == null)
+        {
+            return 1;
+        }
+        Class<?> class1 = key1.getClass();
+        Class<?> class2 = key2.getClass();
+        return class1 == class2 ? 0 : class1.getName().compareTo(class2.getName());
+    }
+
+    public static int compare(Object key1, int hash1, Object key2, int hash2)
+    {
+        int result = HashChainOrder.compareClasses(key1, hash1, key2, hash2);
+        if (result != 0 || key1 == key2 || key1 == null || key1.getClass() != key2.getClass())
+        {
+            return result;
+        }
+        if (HashChainOrder.isComparableToItself(key1.getClass()))
+        {
+            return ((Comparable<Object>) key1).compareTo(key2);
+        }
+        return 0;
+    }
+
+    /**
+     * Returns whether the class declares that it implements {@code Comparable<C>} of itself. Keys of any other class,
+     * such as one which is {@code Comparable} of some other type, are left as ties and told apart by equals.
+     */
+    private static boolean isComparableToItself(Class<?> keyClass)
+    {
+        if (keyClass == String.class)
+        {
+            return true;
+        }
+        for (Type type : keyClass.getGenericInterfaces())
+        {
+            if (type instanceof ParameterizedType)
+            {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                Type[] arguments = parameterizedType.getActualTypeArguments();
+                if (parameterizedType.getRawType() == Comparable.class && arguments.length == 1 && arguments[0] == keyClass)
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+/**
+ * Sizes the open-addressed tables of the primitive hash sets and maps, which keep at least half of their slots free.
+ * {@code readExternal} presizes them exactly from the size written by {@code writeExternal}, so reading never rehashes.
+ *
+ * @since 7.0
+ */
+public final class HashTableCapacities
+{
+    private HashTableCapacities()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns the smallest power of two capacity which holds {@code size} entries, occupying at most half of its
+     * slots.
+     */
+    public static int forSize(int size)
+    {
+        long slots = Math.max(2L, (long) size << 1);
+        return (int) Math.min(Long.highestOneBit(slots - 1L) << 1, 1L << 30);
+    }
+}
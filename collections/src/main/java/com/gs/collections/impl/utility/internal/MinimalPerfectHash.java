@@ -0,0 +1,229 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.io.Serializable;
+
+/**
+ * A minimal perfect hash function over a fixed set of distinct {@code long} hashes, built with the hash and displace
+ * (CHD) scheme. The hashes are split into small buckets and each bucket stores one displacement which sends all of its
+ * hashes to distinct, previously unused slots. Every one of the {@code size} slots is used exactly once, so a table
+ * indexed by {@link #index(long)} has no empty slots. Hashes which were not part of the build map to an arbitrary slot,
+ * so callers must confirm a lookup with an equality check.
+ *
+ * @since 7.0
+ */
+public final class MinimalPerfectHash implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int AVERAGE_BUCKET_SIZE = 3;
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+    private static final int MAX_SEEDS = 32;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final int size;
+    private final long seed;
+    private final int[] displacements;
+
+    private MinimalPerfectHash(int size, long seed, int[] displacements)
+    {
+        this.size = size;
+        this.seed = seed;
+        this.displacements = displacements;
+    }
+
+    /**
+     * Builds a minimal perfect hash over {@code hashes}, which must not contain duplicates.
+     */
+    public static MinimalPerfectHash newHash(long[] hashes)
+    {
+        int bucketCount = hashes.length / AVERAGE_BUCKET_SIZE + 1;
+        for (int attempt = 0; attempt < MAX_SEEDS; attempt++)
+        {
+            long seed = (long) attempt * GOLDEN_RATIO;
+            int[] displacements = MinimalPerfectHash.displace(hashes, seed, bucketCount);
+            if (displacements != null)
+            {
+                return new MinimalPerfectHash(hashes.length, seed, displacements);
+            }
+            // More buckets means smaller buckets, which are easier to place.
+            bucketCount = bucketCount < 1 << 29 ? bucketCount << 1 : bucketCount;
+        }
+        throw new IllegalStateException("Could not build a perfect hash over " + hashes.length + " hashes");
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the slot of {@code hash}, in the range {@code [0, size)}. The result is only meaningful when the hash
+     * was one of the hashes this function was built from.
+     */
+    public int index(long hash)
+    {
+        long mixed = MinimalPerfectHash.mix(hash + this.seed);
+        int displacement = this.displacements[MinimalPerfectHash.reduce((int) (mixed >>> 32), this.displacements.length)];
+        if (displacement < 0)
+        {
+            return -displacement - 1;
+        }
+        return MinimalPerfectHash.slot(mixed, displacement, this.size);
+    }
+
+    private static int slot(long mixed, int displacement, int size)
+    {
+        return MinimalPerfectHash.reduce((int) MinimalPerfectHash.mix(mixed + (long) displacement * GOLDEN_RATIO), size);
+    }
+
+    /**
+     * Maps a uniformly distributed 32 bit value onto {@code [0, range)} without a division.
+     */
+    private static int reduce(int value, int range)
+    {
+        return (int) (((long) value & 0xFFFFFFFFL) * (long) range >>> 32);
+    }
+
+    /**
+     * The 64 bit finalizer from MurmurHash3. It is a bijection, so distinct hashes stay distinct.
+     */
+    private static long mix(long value)
+    {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int[] displace(long[] hashes, long seed, int bucketCount)
+    {
+        int size = hashes.length;
+        long[] mixed = new long[size];
+        int[] bucketStarts = new int[bucketCount + 1];
+        int[] bucketOf = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            mixed[i] = MinimalPerfectHash.mix(hashes[i] + seed);
+            bucketOf[i] = MinimalPerfectHash.reduce((int) (mixed[i] >>> 32), bucketCount);
+            bucketStarts[bucketOf[i] + 1]++;
+        }
+        int maxBucketSize = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++)
+        {
+            maxBucketSize = Math.max(maxBucketSize, bucketStarts[bucket + 1]);
+            bucketStarts[bucket + 1] += bucketStarts[bucket];
+        }
+
+        long[] members = new long[size];
+        int[] filled = new int[bucketCount];
+        for (int i = 0; i < size; i++)
+        {
+            int bucket = bucketOf[i];
+            members[bucketStarts[bucket] + filled[bucket]] = mixed[i];
+            filled[bucket]++;
+        }
+
+        // Place the largest buckets first, while the table is still mostly empty.
+        int[] sizeStarts = new int[maxBucketSize + 2];
+        for (int bucket = 0; bucket < bucketCount; bucket++)
+        {
+            sizeStarts[maxBucketSize - filled[bucket] + 1]++;
+        }
+        for (int i = 0; i <= maxBucketSize; i++)
+        {
+            sizeStarts[i + 1] += sizeStarts[i];
+        }
+        int[] order = new int[bucketCount];
+        for (int bucket = 0; bucket < bucketCount; bucket++)
+        {
+            order[sizeStarts[maxBucketSize - filled[bucket]]++] = bucket;
+        }
+
+        int[] displacements = new int[bucketCount];
+        boolean[] used = new boolean[size];
+        int[] slots = new int[maxBucketSize];
+        int next = 0;
+        for (int bucket : order)
+        {
+            int bucketSize = filled[bucket];
+            if (bucketSize > 1)
+            {
+                int displacement = MinimalPerfectHash.findDisplacement(members, bucketStarts[bucket], bucketSize, used, slots);
+                if (displacement < 0)
+                {
+                    return null;
+                }
+                displacements[bucket] = displacement;
+                for (int j = 0; j < bucketSize; j++)
+                {
+                    used[slots[j]] = true;
+                }
+            }
+            else if (bucketSize == 1)
+            {
+                while (used[next])
+                {
+                    next++;
+                }
+                used[next] = true;
+                displacements[bucket] = -next - 1;
+            }
+        }
+        return displacements;
+    }
+
+    private static int findDisplacement(long[] members, int start, int bucketSize, boolean[] used, int[] slots)
+    {
+        int size = used.length;
+        for (int displacement = 0; displacement < MAX_DISPLACEMENT; displacement++)
+        {
+            int placed = 0;
+            while (placed < bucketSize)
+            {
+                int slot = MinimalPerfectHash.slot(members[start + placed], displacement, size);
+                if (used[slot] || MinimalPerfectHash.contains(slots, placed, slot))
+                {
+                    break;
+                }
+                slots[placed] = slot;
+                placed++;
+            }
+            if (placed == bucketSize)
+            {
+                return displacement;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean contains(int[] slots, int length, int slot)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            if (slots[i] == slot)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
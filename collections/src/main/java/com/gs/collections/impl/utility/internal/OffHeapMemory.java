@@ -0,0 +1,172 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+
+import sun.misc.Unsafe;
+
+/**
+ * Raw access to memory allocated outside of the Java heap, used by the off-heap primitive collections. Addresses are
+ * not checked, so callers must only pass addresses inside blocks returned by {@link #allocate(long)} which have not
+ * been freed.
+ *
+ * @since 7.0
+ */
+public final class OffHeapMemory
+{
+    private static final Unsafe UNSAFE = OffHeapMemory.getUnsafe();
+
+    private OffHeapMemory()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    private static Unsafe getUnsafe()
+    {
+        try
+        {
+            return Unsafe.getUnsafe();
+        }
+        catch (SecurityException ignored)
+        {
+            try
+            {
+                return AccessController.doPrivileged(new PrivilegedExceptionAction<Unsafe>()
+                {
+                    public Unsafe run() throws Exception
+                    {
+                        Field f = Unsafe.class.getDeclaredField("theUnsafe");
+                        f.setAccessible(true);
+                        return (Unsafe) f.get(null);
+                    }
+                });
+            }
+            catch (PrivilegedActionException e)
+            {
+                throw new RuntimeException("Could not initialize intrinsics", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Allocates {@code bytes} bytes of zeroed memory and returns its address.
+     *
+     * @throws OutOfMemoryError if the memory cannot be allocated
+     */
+    public static long allocate(long bytes)
+    {
+        if (bytes < 0L)
+        {
+            throw new IllegalArgumentException("Cannot allocate " + bytes + " bytes");
+        }
+        long address = UNSAFE.allocateMemory(Math.max(bytes, 1L));
+        UNSAFE.setMemory(address, bytes, (byte) 0);
+        return address;
+    }
+
+    public static void free(long address)
+    {
+        UNSAFE.freeMemory(address);
+    }
+
+    public static void clear(long address, long bytes)
+    {
+        UNSAFE.setMemory(address, bytes, (byte) 0);
+    }
+
+    /**
+     * Rounds {@code value} up to a multiple of {@code alignment}, which must be a power of two.
+     */
+    public static long align(long value, long alignment)
+    {
+        return (value + alignment - 1L) & -alignment;
+    }
+
+    public static byte getByte(long address)
+    {
+        return UNSAFE.getByte(address);
+    }
+
+    public static void putByte(long address, byte value)
+    {
+        UNSAFE.putByte(address, value);
+    }
+
+    public static short getShort(long address)
+    {
+        return UNSAFE.getShort(address);
+    }
+
+    public static void putShort(long address, short value)
+    {
+        UNSAFE.putShort(address, value);
+    }
+
+    public static char getChar(long address)
+    {
+        return UNSAFE.getChar(address);
+    }
+
+    public static void putChar(long address, char value)
+    {
+        UNSAFE.putChar(address, value);
+    }
+
+    public static int getInt(long address)
+    {
+        return UNSAFE.getInt(address);
+    }
+
+    public static void putInt(long address, int value)
+    {
+        UNSAFE.putInt(address, value);
+    }
+
+    public static long getLong(long address)
+    {
+        return UNSAFE.getLong(address);
+    }
+
+    public static void putLong(long address, long value)
+    {
+        UNSAFE.putLong(address, value);
+    }
+
+    public static float getFloat(long address)
+    {
+        return UNSAFE.getFloat(address);
+    }
+
+    public static void putFloat(long address, float value)
+    {
+        UNSAFE.putFloat(address, value);
+    }
+
+    public static double getDouble(long address)
+    {
+        return UNSAFE.getDouble(address);
+    }
+
+    public static void putDouble(long address, double value)
+    {
+        UNSAFE.putDouble(address, value);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Framing for the binary format written by the {@code writeTo} and read by the {@code readFrom} methods of the
+ * primitive collections. A record starts with an eight byte header holding a magic number, the kind of collection and
+ * its element types, followed by the fields of the collection. Every value is little-endian, and arrays, including
+ * hash tables, are written raw so that they are read back in bulk without rehashing.
+ * <p>
+ * Records are written through a {@link ByteBuffer} which is drained to the channel whenever it fills up. Without a
+ * channel the buffer is the destination, and running out of room throws {@link BufferOverflowException}. Reads never
+ * take more bytes from a channel than the record holds, so several records can share a channel.
+ *
+ * @since 7.0
+ */
+public final class PrimitiveBinaryFormat
+{
+    public static final byte NONE = 0;
+    public static final byte LIST = 1;
+    public static final byte SET = 2;
+    public static final byte BAG = 3;
+    public static final byte MAP = 4;
+    /**
+     * The kinds of the off-heap sets and maps, whose tables are indexed by long and so have long sizes and capacities.
+     */
+    public static final byte OFF_HEAP_SET = 5;
+    public static final byte OFF_HEAP_MAP = 6;
+
+    public static final int HEADER_SIZE = 8;
+
+    private static final int MAGIC = 0x47534331;
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private PrimitiveBinaryFormat()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns an empty buffer for writing a record to a channel.
+     */
+    public static ByteBuffer newWriteBuffer()
+    {
+        return ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns an empty buffer for reading a record from a channel.
+     */
+    public static ByteBuffer newReadBuffer()
+    {
+        ByteBuffer buffer = PrimitiveBinaryFormat.newWriteBuffer();
+        buffer.limit(0);
+        return buffer;
+    }
+
+    /**
+     * Returns a little-endian view of {@code buffer} sharing its content and position.
+     */
+    public static ByteBuffer littleEndian(ByteBuffer buffer)
+    {
+        return buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Maps the whole of {@code file} into memory read-only, for reading records in place. The mapping stays valid after
+     * this method closes the file, and its pages are shared with every other process mapping the same file.
+     *
+     * @throws IllegalArgumentException if the file is 2GB or larger, which is more than a buffer can address
+     */
+    public static ByteBuffer mapReadOnly(File file) throws IOException
+    {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try
+        {
+            FileChannel channel = randomAccessFile.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+    }
+
+    public static void writeHeader(WritableByteChannel channel, ByteBuffer buffer, byte kind, byte type, byte valueType) throws IOException
+    {
+        PrimitiveBinaryFormat.ensureRemaining(channel, buffer, HEADER_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.put(kind);
+        buffer.put(type);
+        buffer.put(valueType);
+        buffer.put(NONE);
+    }
+
+    /**
+     * Reads a header and checks that it introduces a record of the given kind and types.
+     *
+     * @throws IllegalArgumentException if it does not
+     */
+    public static void readHeader(ReadableByteChannel channel, ByteBuffer buffer, byte kind, byte type, byte valueType) throws IOException
+    {
+        PrimitiveBinaryFormat.require(channel, buffer, HEADER_SIZE);
+        int magic = buffer.getInt();
+        byte actualKind = buffer.get();
+        byte actualType = buffer.get();
+        byte actualValueType = buffer.get();
+        buffer.get();
+        if (magic != MAGIC || actualKind != kind || actualType != type || actualValueType != valueType)
+        {
+            throw new IllegalArgumentException("Expected a record of kind " + kind + " with types " + type + ", " + valueType
+                    + " but found magic " + Integer.toHexString(magic) + " kind " + actualKind
+                    + " with types " + actualType + ", " + actualValueType);
+        }
+    }
+
+    public static void putByte(WritableByteChannel channel, ByteBuffer buffer, byte value) throws IOException
+    {
+        PrimitiveBinaryFormat.ensureRemaining(channel, buffer, 1);
+        buffer.put(value);
+    }
+
+    public static byte getByte(ReadableByteChannel channel, ByteBuffer buffer) throws IOException
+    {
+        PrimitiveBinaryFormat.require(channel, buffer, 1);
+        return buffer.get();
+    }
+
+    public static void putInt(WritableByteChannel channel, ByteBuffer buffer, int value) throws IOException
+    {
+        PrimitiveBinaryFormat.ensureRemaining(channel, buffer, 4);
+        buffer.putInt(value);
+    }
+
+    public static int getInt(ReadableByteChannel channel, ByteBuffer buffer) throws IOException
+    {
+        PrimitiveBinaryFormat.require(channel, buffer, 4);
+        return buffer.getInt();
+    }
+
+    public static void putLong(WritableByteChannel channel, ByteBuffer buffer, long value) throws IOException
+    {
+        PrimitiveBinaryFormat.ensureRemaining(channel, buffer, 8);
+        buffer.putLong(value);
+    }
+
+    public static long getLong(ReadableByteChannel channel, ByteBuffer buffer) throws IOException
+    {
+        PrimitiveBinaryFormat.require(channel, buffer, 8);
+        return buffer.getLong();
+    }
+
+    /**
+     * Makes room for {@code bytes} more bytes in {@code buffer}, draining it to {@code channel} if needed.
+     */
+    public static void ensureRemaining(WritableByteChannel channel, ByteBuffer buffer, int bytes) throws IOException
+    {
+        if (buffer.remaining() < bytes)
+        {
+            if (channel == null)
+            {
+                throw new BufferOverflowException();
+            }
+            PrimitiveBinaryFormat.drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Writes everything put into {@code buffer} so far to {@code channel} and clears it. Does nothing without a channel.
+     */
+    public static void drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException
+    {
+        if (channel != null)
+        {
+            buffer.flip();
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Makes at least {@code bytes} bytes, which must fit in the buffer, available in {@code buffer}, reading exactly the
+     * missing ones from {@code channel}.
+     */
+    public static void require(ReadableByteChannel channel, ByteBuffer buffer, int bytes) throws IOException
+    {
+        if (buffer.remaining() >= bytes)
+        {
+            return;
+        }
+        if (channel == null)
+        {
+            throw new BufferUnderflowException();
+        }
+        buffer.compact();
+        buffer.limit(bytes);
+        while (buffer.hasRemaining())
+        {
+            if (channel.read(buffer) < 0)
+            {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Returns the number of whole elements of {@code bytesPerElement} bytes which fit in a buffer from
+     * {@link #newReadBuffer()}.
+     */
+    public static int elementsPerBuffer(int bytesPerElement)
+    {
+        return BUFFER_SIZE / bytesPerElement;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.IOException;
+
+/**
+ * Writes values of one type to a {@link CompactOutput} and reads them back from a {@link CompactInput}. Codecs carry
+ * no type information in the stream, so the reader must use the same codec as the writer. Codecs for collections take
+ * the codecs for their elements, see {@link CompactCodecs}.
+ *
+ * @since 7.0
+ */
+public interface CompactCodec<T>
+{
+    void encode(T value, CompactOutput out) throws IOException;
+
+    T decode(CompactInput in) throws IOException;
+}
@@ -0,0 +1,731 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.bag.primitive.MutableIntBag;
+import com.gs.collections.api.bag.primitive.MutableLongBag;
+import com.gs.collections.api.block.procedure.primitive.IntIntProcedure;
+import com.gs.collections.api.block.procedure.primitive.LongIntProcedure;
+import com.gs.collections.api.iterator.IntIterator;
+import com.gs.collections.api.iterator.LongIterator;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.primitive.IntList;
+import com.gs.collections.api.list.primitive.LongList;
+import com.gs.collections.api.list.primitive.MutableIntList;
+import com.gs.collections.api.list.primitive.MutableLongList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.multimap.set.MutableSetMultimap;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.api.set.primitive.MutableLongSet;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.LongHashBag;
+import com.gs.collections.impl.block.procedure.checked.CheckedObjectIntProcedure;
+import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * Factory methods for {@link CompactCodec}s of common values and collections.
+ * <p>
+ * Integral primitives are written as zig-zag varints. Lists of ints and longs which happen to be sorted, and all sets
+ * and bags of them, which are sorted on the way out, are delta encoded, so runs of nearby values take a byte each.
+ * Values of object bags, maps and multimaps are dictionary encoded with {@link CompactOutput#writeShared}, so a value
+ * repeated anywhere in the same stream is written once. Encoding streams straight from the collection, and decoding
+ * builds the result directly, presized from the count which precedes its elements. Null elements are supported only
+ * where the element codec supports them.
+ *
+ * @since 7.0
+ */
+public final class CompactCodecs
+{
+    private static final CompactCodec<String> STRING = new CompactCodec<String>()
+    {
+        public void encode(String value, CompactOutput out) throws IOException
+        {
+            out.writeString(value);
+        }
+
+        public String decode(CompactInput in) throws IOException
+        {
+            return in.readString();
+        }
+    };
+
+    private static final CompactCodec<Integer> INTEGER = new CompactCodec<Integer>()
+    {
+        public void encode(Integer value, CompactOutput out) throws IOException
+        {
+            out.writeSignedVarInt(value.intValue());
+        }
+
+        public Integer decode(CompactInput in) throws IOException
+        {
+            return Integer.valueOf(in.readSignedVarInt());
+        }
+    };
+
+    private static final CompactCodec<Long> LONG = new CompactCodec<Long>()
+    {
+        public void encode(Long value, CompactOutput out) throws IOException
+        {
+            out.writeSignedVarLong(value.longValue());
+        }
+
+        public Long decode(CompactInput in) throws IOException
+        {
+            return Long.valueOf(in.readSignedVarLong());
+        }
+    };
+
+    private static final CompactCodec<Double> DOUBLE = new CompactCodec<Double>()
+    {
+        public void encode(Double value, CompactOutput out) throws IOException
+        {
+            out.writeDouble(value.doubleValue());
+        }
+
+        public Double decode(CompactInput in) throws IOException
+        {
+            return Double.valueOf(in.readDouble());
+        }
+    };
+
+    private static final CompactCodec<MutableIntList> INT_LIST = new CompactCodec<MutableIntList>()
+    {
+        public void encode(MutableIntList list, CompactOutput out) throws IOException
+        {
+            int size = list.size();
+            out.writeVarInt(size);
+            if (size == 0)
+            {
+                return;
+            }
+            boolean sorted = true;
+            for (int i = 1; i < size && sorted; i++)
+            {
+                sorted = list.get(i - 1) <= list.get(i);
+            }
+            out.writeBoolean(sorted);
+            if (sorted)
+            {
+                CompactCodecs.writeDeltas(list, out);
+                return;
+            }
+            for (IntIterator iterator = list.intIterator(); iterator.hasNext(); )
+            {
+                out.writeSignedVarInt(iterator.next());
+            }
+        }
+
+        public MutableIntList decode(CompactInput in) throws IOException
+        {
+            int size = in.readSize();
+            IntArrayList list = new IntArrayList(size);
+            if (size == 0)
+            {
+                return list;
+            }
+            if (in.readBoolean())
+            {
+                int previous = in.readSignedVarInt();
+                list.add(previous);
+                for (int i = 1; i < size; i++)
+                {
+                    previous += in.readVarInt();
+                    list.add(previous);
+                }
+                return list;
+            }
+            for (int i = 0; i < size; i++)
+            {
+                list.add(in.readSignedVarInt());
+            }
+            return list;
+        }
+    };
+
+    private static final CompactCodec<MutableLongList> LONG_LIST = new CompactCodec<MutableLongList>()
+    {
+        public void encode(MutableLongList list, CompactOutput out) throws IOException
+        {
+            int size = list.size();
+            out.writeVarInt(size);
+            if (size == 0)
+            {
+                return;
+            }
+            boolean sorted = true;
+            for (int i = 1; i < size && sorted; i++)
+            {
+                sorted = list.get(i - 1) <= list.get(i);
+            }
+            out.writeBoolean(sorted);
+            if (sorted)
+            {
+                CompactCodecs.writeDeltas(list, out);
+                return;
+            }
+            for (LongIterator iterator = list.longIterator(); iterator.hasNext(); )
+            {
+                out.writeSignedVarLong(iterator.next());
+            }
+        }
+
+        public MutableLongList decode(CompactInput in) throws IOException
+        {
+            int size = in.readSize();
+            LongArrayList list = new LongArrayList(size);
+            if (size == 0)
+            {
+                return list;
+            }
+            if (in.readBoolean())
+            {
+                long previous = in.readSignedVarLong();
+                list.add(previous);
+                for (int i = 1; i < size; i++)
+                {
+                    previous += in.readVarLong();
+                    list.add(previous);
+                }
+                return list;
+            }
+            for (int i = 0; i < size; i++)
+            {
+                list.add(in.readSignedVarLong());
+            }
+            return list;
+        }
+    };
+
+    private static final CompactCodec<MutableIntSet> INT_SET = new CompactCodec<MutableIntSet>()
+    {
+        public void encode(MutableIntSet set, CompactOutput out) throws IOException
+        {
+            out.writeVarInt(set.size());
+            CompactCodecs.writeDeltas(set.toSortedList(), out);
+        }
+
+        public MutableIntSet decode(CompactInput in) throws IOException
+        {
+            int size = in.readSize();
+            IntHashSet set = new IntHashSet(size);
+            int previous = 0;
+            for (int i = 0; i < size; i++)
+            {
+                previous = i == 0 ? in.readSignedVarInt() : previous + in.readVarInt();
+                set.add(previous);
+            }
+            return set;
+        }
+    };
+
+    private static final CompactCodec<MutableLongSet> LONG_SET = new CompactCodec<MutableLongSet>()
+    {
+        public void encode(MutableLongSet set, CompactOutput out) throws IOException
+        {
+            out.writeVarInt(set.size());
+            CompactCodecs.writeDeltas(set.toSortedList(), out);
+        }
+
+        public MutableLongSet decode(CompactInput in) throws IOException
+        {
+            int size = in.readSize();
+            LongHashSet set = new LongHashSet(size);
+            long previous = 0L;
+            for (int i = 0; i < size; i++)
+            {
+                previous = i == 0 ? in.readSignedVarLong() : previous + in.readVarLong();
+                set.add(previous);
+            }
+            return set;
+        }
+    };
+
+    private static final CompactCodec<MutableIntBag> INT_BAG = new CompactCodec<MutableIntBag>()
+    {
+        public void encode(MutableIntBag bag, CompactOutput out) throws IOException
+        {
+            final IntArrayList sorted = new IntArrayList(bag.sizeDistinct());
+            bag.forEachWithOccurrences(new IntIntProcedure()
+            {
+                public void value(int item, int occurrences)
+                {
+                    sorted.add(item);
+                }
+            });
+            sorted.sortThis();
+            out.writeVarInt(sorted.size());
+            int previous = 0;
+            for (int i = 0; i < sorted.size(); i++)
+            {
+                int item = sorted.get(i);
+                if (i == 0)
+                {
+                    out.writeSignedVarInt(item);
+                }
+                else
+                {
+                    out.writeVarInt(item - previous);
+                }
+                out.writeVarInt(bag.occurrencesOf(item));
+                previous = item;
+            }
+        }
+
+        public MutableIntBag decode(CompactInput in) throws IOException
+        {
+            int sizeDistinct = in.readSize();
+            IntHashBag bag = new IntHashBag(sizeDistinct);
+            int previous = 0;
+            for (int i = 0; i < sizeDistinct; i++)
+            {
+                previous = i == 0 ? in.readSignedVarInt() : previous + in.readVarInt();
+                bag.addOccurrences(previous, in.readSize());
+            }
+            return bag;
+        }
+    };
+
+    private static final CompactCodec<MutableLongBag> LONG_BAG = new CompactCodec<MutableLongBag>()
+    {
+        public void encode(MutableLongBag bag, CompactOutput out) throws IOException
+        {
+            final LongArrayList sorted = new LongArrayList(bag.sizeDistinct());
+            bag.forEachWithOccurrences(new LongIntProcedure()
+            {
+                public void value(long item, int occurrences)
+                {
+                    sorted.add(item);
+                }
+            });
+            sorted.sortThis();
+            out.writeVarInt(sorted.size());
+            long previous = 0L;
+            for (int i = 0; i < sorted.size(); i++)
+            {
+                long item = sorted.get(i);
+                if (i == 0)
+                {
+                    out.writeSignedVarLong(item);
+                }
+                else
+                {
+                    out.writeVarLong(item - previous);
+                }
+                out.writeVarInt(bag.occurrencesOf(item));
+                previous = item;
+            }
+        }
+
+        public MutableLongBag decode(CompactInput in) throws IOException
+        {
+            int sizeDistinct = in.readSize();
+            LongHashBag bag = new LongHashBag(sizeDistinct);
+            long previous = 0L;
+            for (int i = 0; i < sizeDistinct; i++)
+            {
+                previous = i == 0 ? in.readSignedVarLong() : previous + in.readVarLong();
+                bag.addOccurrences(previous, in.readSize());
+            }
+            return bag;
+        }
+    };
+
+    private CompactCodecs()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static CompactCodec<String> strings()
+    {
+        return STRING;
+    }
+
+    public static CompactCodec<Integer> integers()
+    {
+        return INTEGER;
+    }
+
+    public static CompactCodec<Long> longs()
+    {
+        return LONG;
+    }
+
+    public static CompactCodec<Double> doubles()
+    {
+        return DOUBLE;
+    }
+
+    public static CompactCodec<MutableIntList> intLists()
+    {
+        return INT_LIST;
+    }
+
+    public static CompactCodec<MutableLongList> longLists()
+    {
+        return LONG_LIST;
+    }
+
+    public static CompactCodec<MutableIntSet> intSets()
+    {
+        return INT_SET;
+    }
+
+    public static CompactCodec<MutableLongSet> longSets()
+    {
+        return LONG_SET;
+    }
+
+    public static CompactCodec<MutableIntBag> intBags()
+    {
+        return INT_BAG;
+    }
+
+    public static CompactCodec<MutableLongBag> longBags()
+    {
+        return LONG_BAG;
+    }
+
+    /**
+     * Returns a codec for lists whose elements are written with {@code elementCodec}, decoding to {@link FastList}.
+     */
+    public static <T> CompactCodec<MutableList<T>> lists(final CompactCodec<T> elementCodec)
+    {
+        return new CompactCodec<MutableList<T>>()
+        {
+            public void encode(MutableList<T> list, CompactOutput out) throws IOException
+            {
+                out.writeVarInt(list.size());
+                for (T each : list)
+                {
+                    elementCodec.encode(each, out);
+                }
+            }
+
+            public MutableList<T> decode(CompactInput in) throws IOException
+            {
+                int size = in.readSize();
+                FastList<T> list = FastList.newList(size);
+                for (int i = 0; i < size; i++)
+                {
+                    list.add(elementCodec.decode(in));
+                }
+                return list;
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for sets whose elements are written with {@code elementCodec}, decoding to {@link UnifiedSet}.
+     */
+    public static <T> CompactCodec<MutableSet<T>> sets(final CompactCodec<T> elementCodec)
+    {
+        return new CompactCodec<MutableSet<T>>()
+        {
+            public void encode(MutableSet<T> set, CompactOutput out) throws IOException
+            {
+                out.writeVarInt(set.size());
+                for (T each : set)
+                {
+                    elementCodec.encode(each, out);
+                }
+            }
+
+            public MutableSet<T> decode(CompactInput in) throws IOException
+            {
+                int size = in.readSize();
+                UnifiedSet<T> set = UnifiedSet.newSet(size);
+                for (int i = 0; i < size; i++)
+                {
+                    set.add(elementCodec.decode(in));
+                }
+                return set;
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for bags whose distinct elements are dictionary encoded with {@code elementCodec}, each followed
+     * by its count, decoding to {@link HashBag}.
+     */
+    public static <T> CompactCodec<MutableBag<T>> bags(final CompactCodec<T> elementCodec)
+    {
+        return new CompactCodec<MutableBag<T>>()
+        {
+            public void encode(MutableBag<T> bag, final CompactOutput out) throws IOException
+            {
+                out.writeVarInt(bag.sizeDistinct());
+                try
+                {
+                    bag.forEachWithOccurrences(new CheckedObjectIntProcedure<T>()
+                    {
+                        public void safeValue(T each, int occurrences) throws IOException
+                        {
+                            out.writeShared(each, elementCodec);
+                            out.writeVarInt(occurrences);
+                        }
+                    });
+                }
+                catch (RuntimeException e)
+                {
+                    throw CompactCodecs.unwrap(e);
+                }
+            }
+
+            public MutableBag<T> decode(CompactInput in) throws IOException
+            {
+                int sizeDistinct = in.readSize();
+                HashBag<T> bag = HashBag.newBag(sizeDistinct);
+                for (int i = 0; i < sizeDistinct; i++)
+                {
+                    T each = in.readShared(elementCodec);
+                    bag.addOccurrences(each, in.readSize());
+                }
+                return bag;
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for maps whose keys are written with {@code keyCodec} and whose values are dictionary encoded
+     * with {@code valueCodec}, decoding to {@link UnifiedMap}.
+     */
+    public static <K, V> CompactCodec<MutableMap<K, V>> maps(final CompactCodec<K> keyCodec, final CompactCodec<V> valueCodec)
+    {
+        return new CompactCodec<MutableMap<K, V>>()
+        {
+            public void encode(MutableMap<K, V> map, final CompactOutput out) throws IOException
+            {
+                out.writeVarInt(map.size());
+                try
+                {
+                    map.forEachKeyValue(new CheckedProcedure2<K, V>()
+                    {
+                        public void safeValue(K key, V value) throws IOException
+                        {
+                            keyCodec.encode(key, out);
+                            out.writeShared(value, valueCodec);
+                        }
+                    });
+                }
+                catch (RuntimeException e)
+                {
+                    throw CompactCodecs.unwrap(e);
+                }
+            }
+
+            public MutableMap<K, V> decode(CompactInput in) throws IOException
+            {
+                int size = in.readSize();
+                UnifiedMap<K, V> map = UnifiedMap.newMap(size);
+                for (int i = 0; i < size; i++)
+                {
+                    K key = keyCodec.decode(in);
+                    map.put(key, in.readShared(valueCodec));
+                }
+                return map;
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for list multimaps whose keys are written with {@code keyCodec} and whose values are dictionary
+     * encoded with {@code valueCodec}, decoding to {@link FastListMultimap}.
+     */
+    public static <K, V> CompactCodec<MutableListMultimap<K, V>> listMultimaps(final CompactCodec<K> keyCodec, final CompactCodec<V> valueCodec)
+    {
+        return new CompactCodec<MutableListMultimap<K, V>>()
+        {
+            public void encode(MutableListMultimap<K, V> multimap, CompactOutput out) throws IOException
+            {
+                CompactCodecs.encodeMultimap(multimap.sizeDistinct(), multimap, keyCodec, valueCodec, out);
+            }
+
+            public MutableListMultimap<K, V> decode(CompactInput in) throws IOException
+            {
+                int sizeDistinct = in.readSize();
+                FastListMultimap<K, V> multimap = FastListMultimap.newMultimap();
+                for (int i = 0; i < sizeDistinct; i++)
+                {
+                    K key = keyCodec.decode(in);
+                    int size = in.readSize();
+                    for (int j = 0; j < size; j++)
+                    {
+                        multimap.put(key, in.readShared(valueCodec));
+                    }
+                }
+                return multimap;
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for set multimaps whose keys are written with {@code keyCodec} and whose values are dictionary
+     * encoded with {@code valueCodec}, decoding to {@link UnifiedSetMultimap}.
+     */
+    public static <K, V> CompactCodec<MutableSetMultimap<K, V>> setMultimaps(final CompactCodec<K> keyCodec, final CompactCodec<V> valueCodec)
+    {
+        return new CompactCodec<MutableSetMultimap<K, V>>()
+        {
+            public void encode(MutableSetMultimap<K, V> multimap, CompactOutput out) throws IOException
+            {
+                CompactCodecs.encodeMultimap(multimap.sizeDistinct(), multimap, keyCodec, valueCodec, out);
+            }
+
+            public MutableSetMultimap<K, V> decode(CompactInput in) throws IOException
+            {
+                int sizeDistinct = in.readSize();
+                UnifiedSetMultimap<K, V> multimap = UnifiedSetMultimap.newMultimap();
+                for (int i = 0; i < sizeDistinct; i++)
+                {
+                    K key = keyCodec.decode(in);
+                    int size = in.readSize();
+                    for (int j = 0; j < size; j++)
+                    {
+                        multimap.put(key, in.readShared(valueCodec));
+                    }
+                }
+                return multimap;
+            }
+        };
+    }
+
+    /**
+     * Encodes {@code value} with {@code codec} into a new array.
+     */
+    public static <T> byte[] toByteArray(T value, CompactCodec<? super T> codec)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompactOutput out = new CompactOutput(bytes);
+        try
+        {
+            codec.encode(value, out);
+            out.flush();
+        }
+        catch (IOException e)
+        {
+            throw new AssertionError(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a value written by {@link #toByteArray(Object, CompactCodec)} with the same codec.
+     *
+     * @throws IllegalArgumentException if {@code bytes} is not a valid encoding
+     */
+    public static <T> T fromByteArray(byte[] bytes, CompactCodec<T> codec)
+    {
+        try
+        {
+            return codec.decode(new CompactInput(new ByteArrayInputStream(bytes)));
+        }
+        catch (IOException e)
+        {
+            throw new IllegalArgumentException("Invalid encoding of " + bytes.length + " bytes", e);
+        }
+    }
+
+    private static <K, V> void encodeMultimap(
+            int sizeDistinct,
+            Multimap<K, V> multimap,
+            final CompactCodec<K> keyCodec,
+            final CompactCodec<V> valueCodec,
+            final CompactOutput out) throws IOException
+    {
+        out.writeVarInt(sizeDistinct);
+        try
+        {
+            multimap.forEachKeyMultiValues(new CheckedProcedure2<K, Iterable<V>>()
+            {
+                public void safeValue(K key, Iterable<V> values) throws IOException
+                {
+                    keyCodec.encode(key, out);
+                    out.writeVarInt(Iterate.sizeOf(values));
+                    for (V each : values)
+                    {
+                        out.writeShared(each, valueCodec);
+                    }
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            throw CompactCodecs.unwrap(e);
+        }
+    }
+
+    private static void writeDeltas(IntList sorted, CompactOutput out) throws IOException
+    {
+        if (sorted.isEmpty())
+        {
+            return;
+        }
+        int previous = sorted.get(0);
+        out.writeSignedVarInt(previous);
+        for (int i = 1; i < sorted.size(); i++)
+        {
+            int next = sorted.get(i);
+            // wraps for gaps wider than Integer.MAX_VALUE, but reads back as the same unsigned difference
+            out.writeVarInt(next - previous);
+            previous = next;
+        }
+    }
+
+    private static void writeDeltas(LongList sorted, CompactOutput out) throws IOException
+    {
+        if (sorted.isEmpty())
+        {
+            return;
+        }
+        long previous = sorted.get(0);
+        out.writeSignedVarLong(previous);
+        for (int i = 1; i < sorted.size(); i++)
+        {
+            long next = sorted.get(i);
+            out.writeVarLong(next - previous);
+            previous = next;
+        }
+    }
+
+    private static IOException unwrap(RuntimeException e)
+    {
+        if (e.getCause() instanceof IOException)
+        {
+            return (IOException) e.getCause();
+        }
+        throw e;
+    }
+}
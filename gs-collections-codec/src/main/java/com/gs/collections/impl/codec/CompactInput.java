@@ -0,0 +1,209 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * A buffered stream of values written by a {@link CompactOutput}. Every read method mirrors the write method of the
+ * same name; reading past the end of the underlying stream throws {@link EOFException}.
+ *
+ * @since 7.0
+ */
+public final class CompactInput implements Closeable
+{
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private FastList<Object> dictionary;
+
+    public CompactInput(InputStream in)
+    {
+        this.in = in;
+    }
+
+    public static int unZigZag(int value)
+    {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static long unZigZag(long value)
+    {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    public int readByte() throws IOException
+    {
+        if (this.position == this.limit)
+        {
+            this.fill();
+        }
+        return this.buffer[this.position++];
+    }
+
+    public boolean readBoolean() throws IOException
+    {
+        return this.readByte() != 0;
+    }
+
+    public int readVarInt() throws IOException
+    {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7)
+        {
+            int next = this.readByte();
+            result |= (next & 0x7F) << shift;
+            if (next >= 0)
+            {
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Varint longer than 5 bytes");
+    }
+
+    public long readVarLong() throws IOException
+    {
+        long result = 0L;
+        for (int shift = 0; shift < 70; shift += 7)
+        {
+            int next = this.readByte();
+            result |= (long) (next & 0x7F) << shift;
+            if (next >= 0)
+            {
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Varint longer than 10 bytes");
+    }
+
+    public int readSignedVarInt() throws IOException
+    {
+        return CompactInput.unZigZag(this.readVarInt());
+    }
+
+    public long readSignedVarLong() throws IOException
+    {
+        return CompactInput.unZigZag(this.readVarLong());
+    }
+
+    public float readFloat() throws IOException
+    {
+        int bits = 0;
+        for (int shift = 0; shift < 32; shift += 8)
+        {
+            bits |= (this.readByte() & 0xFF) << shift;
+        }
+        return Float.intBitsToFloat(bits);
+    }
+
+    public double readDouble() throws IOException
+    {
+        long bits = 0L;
+        for (int shift = 0; shift < 64; shift += 8)
+        {
+            bits |= (long) (this.readByte() & 0xFF) << shift;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() throws IOException
+    {
+        int length = this.readSize();
+        StringBuilder builder = new StringBuilder(Math.min(length, BUFFER_SIZE));
+        for (int i = 0; i < length; i++)
+        {
+            builder.append((char) this.readVarInt());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reads a varint count of elements, which must not be negative.
+     *
+     * @throws StreamCorruptedException if it is
+     */
+    public int readSize() throws IOException
+    {
+        int size = this.readVarInt();
+        if (size < 0)
+        {
+            throw new StreamCorruptedException("Negative size " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Reads a value written by {@link CompactOutput#writeShared(Object, CompactCodec)}, decoding it with
+     * {@code codec} if this is its first occurrence on the stream. A reset written by {@link CompactOutput#reset()}
+     * clears the values read so far.
+     */
+    public <T> T readShared(CompactCodec<? extends T> codec) throws IOException
+    {
+        int code = this.readVarInt();
+        if (code == CompactOutput.RESET)
+        {
+            this.dictionary = null;
+            code = this.readVarInt();
+        }
+        if (code == CompactOutput.NULL_VALUE)
+        {
+            return null;
+        }
+        if (this.dictionary == null)
+        {
+            this.dictionary = FastList.newList();
+        }
+        if (code == CompactOutput.NEW_VALUE)
+        {
+            T value = codec.decode(this);
+            this.dictionary.add(value);
+            return value;
+        }
+        int index = code - CompactOutput.REFERENCE;
+        if (index >= this.dictionary.size() || code < 0)
+        {
+            throw new StreamCorruptedException("Reference " + code + " to a value not yet read");
+        }
+        return (T) this.dictionary.get(index);
+    }
+
+    public void close() throws IOException
+    {
+        this.dictionary = null;
+        this.in.close();
+    }
+
+    private void fill() throws IOException
+    {
+        int read = this.in.read(this.buffer, 0, BUFFER_SIZE);
+        if (read <= 0)
+        {
+            throw new EOFException();
+        }
+        this.position = 0;
+        this.limit = read;
+    }
+}
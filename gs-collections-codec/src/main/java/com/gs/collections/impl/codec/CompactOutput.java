@@ -0,0 +1,234 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+
+/**
+ * A buffered stream of compactly encoded values. Integral values are written as base 128 varints, seven bits per byte
+ * with the high bit marking a continuation, so small values take one byte; signed values are zig-zag encoded first so
+ * that small negative values are small too. Floating point values are written at full width, little-endian.
+ * <p>
+ * Values written with {@link #writeShared(Object, CompactCodec)} are dictionary encoded: the first occurrence is
+ * written in full and later occurrences, anywhere in the same stream, as a reference to it. The dictionary holds a
+ * reference to every shared value until the stream is closed or {@link #reset()}, which a long-lived stream should call
+ * between messages to keep both the writer's and the reader's dictionaries bounded.
+ * <p>
+ * Nothing is written to the underlying stream until the buffer fills or the stream is flushed.
+ *
+ * @see CompactInput
+ * @since 7.0
+ */
+public final class CompactOutput implements Flushable, Closeable
+{
+    // The codes which start each shared value; any larger code is a reference to the value read (code - REFERENCE)
+    static final int NULL_VALUE = 0;
+    static final int RESET = 1;
+    static final int NEW_VALUE = 2;
+    static final int REFERENCE = 3;
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private ObjectIntHashMap<Object> dictionary;
+    private boolean resetPending;
+
+    public CompactOutput(OutputStream out)
+    {
+        this.out = out;
+    }
+
+    public static int zigZag(int value)
+    {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    public static long zigZag(long value)
+    {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public void writeByte(int value) throws IOException
+    {
+        if (this.position == BUFFER_SIZE)
+        {
+            this.drain();
+        }
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    public void writeBoolean(boolean value) throws IOException
+    {
+        this.writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Writes {@code value} as an unsigned varint of one to five bytes.
+     */
+    public void writeVarInt(int value) throws IOException
+    {
+        if (BUFFER_SIZE - this.position < 5)
+        {
+            this.drain();
+        }
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0)
+        {
+            this.buffer[this.position++] = (byte) (remaining & 0x7F | 0x80);
+            remaining >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) remaining;
+    }
+
+    /**
+     * Writes {@code value} as an unsigned varint of one to ten bytes.
+     */
+    public void writeVarLong(long value) throws IOException
+    {
+        if (BUFFER_SIZE - this.position < 10)
+        {
+            this.drain();
+        }
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0L)
+        {
+            this.buffer[this.position++] = (byte) (remaining & 0x7FL | 0x80L);
+            remaining >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) remaining;
+    }
+
+    public void writeSignedVarInt(int value) throws IOException
+    {
+        this.writeVarInt(CompactOutput.zigZag(value));
+    }
+
+    public void writeSignedVarLong(long value) throws IOException
+    {
+        this.writeVarLong(CompactOutput.zigZag(value));
+    }
+
+    public void writeFloat(float value) throws IOException
+    {
+        int bits = Float.floatToIntBits(value);
+        for (int shift = 0; shift < 32; shift += 8)
+        {
+            this.writeByte(bits >>> shift);
+        }
+    }
+
+    public void writeDouble(double value) throws IOException
+    {
+        long bits = Double.doubleToLongBits(value);
+        for (int shift = 0; shift < 64; shift += 8)
+        {
+            this.writeByte((int) (bits >>> shift));
+        }
+    }
+
+    /**
+     * Writes the length of {@code value} followed by its characters, each as an unsigned varint, so ASCII text takes
+     * one byte per character.
+     */
+    public void writeString(String value) throws IOException
+    {
+        int length = value.length();
+        this.writeVarInt(length);
+        for (int i = 0; i < length; i++)
+        {
+            this.writeVarInt(value.charAt(i));
+        }
+    }
+
+    /**
+     * Writes {@code value} with {@code codec} the first time it is shared on this stream, and as a reference to that
+     * first occurrence afterwards. Values are matched by {@link Object#equals(Object)}, and null is always written as
+     * a reference.
+     */
+    public <T> void writeShared(T value, CompactCodec<? super T> codec) throws IOException
+    {
+        if (this.resetPending)
+        {
+            this.writeVarInt(RESET);
+            this.resetPending = false;
+        }
+        if (value == null)
+        {
+            this.writeVarInt(NULL_VALUE);
+            return;
+        }
+        if (this.dictionary == null)
+        {
+            this.dictionary = ObjectIntHashMap.newMap();
+        }
+        int index = this.dictionary.getIfAbsent(value, -1);
+        if (index != -1)
+        {
+            this.writeVarInt(index + REFERENCE);
+            return;
+        }
+        this.writeVarInt(NEW_VALUE);
+        codec.encode(value, this);
+        this.dictionary.put(value, this.dictionary.size());
+    }
+
+    /**
+     * Forgets every value shared so far, so later occurrences are written in full again, and tells the reader to do
+     * the same, like {@link java.io.ObjectOutputStream#reset()}. The marker is written before the next shared value,
+     * and costs nothing if the dictionary is empty.
+     */
+    public void reset()
+    {
+        if (this.dictionary != null && this.dictionary.notEmpty())
+        {
+            this.dictionary = null;
+            this.resetPending = true;
+        }
+    }
+
+    public void flush() throws IOException
+    {
+        this.drain();
+        this.out.flush();
+    }
+
+    public void close() throws IOException
+    {
+        try
+        {
+            this.flush();
+        }
+        finally
+        {
+            this.dictionary = null;
+            this.out.close();
+        }
+    }
+
+    private void drain() throws IOException
+    {
+        this.out.write(this.buffer, 0, this.position);
+        this.position = 0;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.multimap.set.MutableSetMultimap;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.LongHashBag;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompactCodecsTest
+{
+    private static <T> T roundTrip(T value, CompactCodec<T> codec)
+    {
+        T result = CompactCodecs.fromByteArray(CompactCodecs.toByteArray(value, codec), codec);
+        Assert.assertEquals(value, result);
+        return result;
+    }
+
+    @Test
+    public void scalars()
+    {
+        roundTrip("", CompactCodecs.strings());
+        roundTrip("gs-collections", CompactCodecs.strings());
+        roundTrip(Integer.MIN_VALUE, CompactCodecs.integers());
+        roundTrip(Long.MAX_VALUE, CompactCodecs.longs());
+        roundTrip(-0.25, CompactCodecs.doubles());
+        Assert.assertEquals(1, CompactCodecs.toByteArray(-1, CompactCodecs.integers()).length);
+        Assert.assertEquals(1, CompactCodecs.toByteArray(63L, CompactCodecs.longs()).length);
+    }
+
+    @Test
+    public void intLists()
+    {
+        roundTrip(new IntArrayList(), CompactCodecs.intLists());
+        roundTrip(IntArrayList.newListWith(5, -3, 1000000, Integer.MIN_VALUE, Integer.MAX_VALUE), CompactCodecs.intLists());
+        roundTrip(IntArrayList.newListWith(Integer.MIN_VALUE, -1, Integer.MAX_VALUE), CompactCodecs.intLists());
+
+        IntArrayList sorted = new IntArrayList();
+        IntArrayList shuffled = new IntArrayList();
+        for (int i = 0; i < 1000; i++)
+        {
+            sorted.add(1000000 + i * 3);
+            shuffled.add(1000000 + (i * 7919) % 1000 * 3);
+        }
+        byte[] sortedBytes = CompactCodecs.toByteArray(sorted, CompactCodecs.intLists());
+        byte[] shuffledBytes = CompactCodecs.toByteArray(shuffled, CompactCodecs.intLists());
+        Assert.assertEquals(sorted, CompactCodecs.fromByteArray(sortedBytes, CompactCodecs.intLists()));
+        Assert.assertEquals(shuffled, CompactCodecs.fromByteArray(shuffledBytes, CompactCodecs.intLists()));
+        Assert.assertTrue(sortedBytes.length < 1010);
+        Assert.assertTrue(shuffledBytes.length > 3000);
+    }
+
+    @Test
+    public void longLists()
+    {
+        roundTrip(new LongArrayList(), CompactCodecs.longLists());
+        roundTrip(LongArrayList.newListWith(Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE), CompactCodecs.longLists());
+        roundTrip(LongArrayList.newListWith(7L, Long.MIN_VALUE, 1L << 40, -5L), CompactCodecs.longLists());
+        LongArrayList timestamps = new LongArrayList();
+        for (long i = 0L; i < 1000L; i++)
+        {
+            timestamps.add(1420070400000L + i * 100L);
+        }
+        Assert.assertTrue(roundTrip(timestamps, CompactCodecs.longLists()).size() == 1000);
+        Assert.assertTrue(CompactCodecs.toByteArray(timestamps, CompactCodecs.longLists()).length < 1020);
+    }
+
+    @Test
+    public void primitiveSetsAndBags()
+    {
+        roundTrip(new IntHashSet(), CompactCodecs.intSets());
+        roundTrip(IntHashSet.newSetWith(0, 1, -1, 31, 32, Integer.MIN_VALUE, Integer.MAX_VALUE), CompactCodecs.intSets());
+        roundTrip(new LongHashSet(), CompactCodecs.longSets());
+        roundTrip(LongHashSet.newSetWith(0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE), CompactCodecs.longSets());
+        roundTrip(new IntHashBag(), CompactCodecs.intBags());
+        roundTrip(IntHashBag.newBagWith(1, 1, 1, -5, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE), CompactCodecs.intBags());
+        roundTrip(new LongHashBag(), CompactCodecs.longBags());
+        roundTrip(LongHashBag.newBagWith(3L, 3L, Long.MIN_VALUE, Long.MAX_VALUE), CompactCodecs.longBags());
+
+        IntHashSet dense = new IntHashSet();
+        for (int i = 0; i < 1000; i++)
+        {
+            dense.add(50000 + i);
+        }
+        Assert.assertTrue(CompactCodecs.toByteArray(dense, CompactCodecs.intSets()).length < 1010);
+    }
+
+    @Test
+    public void objectCollections()
+    {
+        MutableList<String> list = FastList.newListWith("a", "b", "a", "");
+        roundTrip(list, CompactCodecs.lists(CompactCodecs.strings()));
+        roundTrip(FastList.<String>newList(), CompactCodecs.lists(CompactCodecs.strings()));
+
+        MutableSet<Integer> set = UnifiedSet.newSet(Interval.fromTo(-100, 100));
+        roundTrip(set, CompactCodecs.sets(CompactCodecs.integers()));
+
+        MutableBag<String> bag = HashBag.newBagWith("x", "x", "y", "z", "z", "z");
+        roundTrip(bag, CompactCodecs.bags(CompactCodecs.strings()));
+
+        MutableMap<Integer, String> map = UnifiedMap.newWithKeysValues(1, "one", 2, "two", 3, "one", 4, null);
+        roundTrip(map, CompactCodecs.maps(CompactCodecs.integers(), CompactCodecs.strings()));
+
+        MutableList<MutableList<String>> nested = FastList.newListWith(list, FastList.newListWith("c"));
+        roundTrip(nested, CompactCodecs.lists(CompactCodecs.lists(CompactCodecs.strings())));
+    }
+
+    @Test
+    public void multimaps()
+    {
+        MutableListMultimap<String, String> listMultimap = FastListMultimap.newMultimap();
+        MutableSetMultimap<Long, String> setMultimap = UnifiedSetMultimap.newMultimap();
+        for (int i = 0; i < 100; i++)
+        {
+            listMultimap.put("key" + i % 10, "value" + i % 3);
+            setMultimap.put((long) (i % 7), "value" + i % 5);
+        }
+        roundTrip(listMultimap, CompactCodecs.listMultimaps(CompactCodecs.strings(), CompactCodecs.strings()));
+        roundTrip(setMultimap, CompactCodecs.setMultimaps(CompactCodecs.longs(), CompactCodecs.strings()));
+
+        byte[] bytes = CompactCodecs.toByteArray(listMultimap, CompactCodecs.listMultimaps(CompactCodecs.strings(), CompactCodecs.strings()));
+        // 10 keys of 5 characters, 3 distinct values of 7, and 97 one-byte references
+        Assert.assertTrue(bytes.length < 200);
+    }
+
+    @Test
+    public void dictionarySpansStream() throws IOException
+    {
+        CompactCodec<MutableBag<String>> codec = CompactCodecs.bags(CompactCodecs.strings());
+        MutableBag<String> bag = HashBag.newBagWith("a repeated value", "another repeated value");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompactOutput out = new CompactOutput(bytes);
+        codec.encode(bag, out);
+        out.flush();
+        int first = bytes.size();
+        codec.encode(bag, out);
+        out.close();
+        Assert.assertEquals(5, bytes.size() - first);
+
+        CompactInput in = new CompactInput(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertEquals(bag, codec.decode(in));
+        Assert.assertEquals(bag, codec.decode(in));
+        in.close();
+    }
+
+    @Test
+    public void fromByteArray_throws_truncated()
+    {
+        final byte[] bytes = CompactCodecs.toByteArray(IntArrayList.newListWith(1, 2, 3), CompactCodecs.intLists());
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                CompactCodecs.fromByteArray(new byte[]{bytes[0], bytes[1]}, CompactCodecs.intLists());
+            }
+        });
+    }
+}
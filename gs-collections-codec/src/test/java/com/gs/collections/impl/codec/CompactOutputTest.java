@@ -0,0 +1,201 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompactOutputTest
+{
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final CompactOutput out = new CompactOutput(this.bytes);
+
+    private CompactInput input() throws IOException
+    {
+        this.out.flush();
+        return new CompactInput(new ByteArrayInputStream(this.bytes.toByteArray()));
+    }
+
+    @Test
+    public void zigZag()
+    {
+        Assert.assertEquals(0, CompactOutput.zigZag(0));
+        Assert.assertEquals(1, CompactOutput.zigZag(-1));
+        Assert.assertEquals(2, CompactOutput.zigZag(1));
+        Assert.assertEquals(-1, CompactOutput.zigZag(Integer.MIN_VALUE));
+        Assert.assertEquals(-2, CompactOutput.zigZag(Integer.MAX_VALUE));
+        Assert.assertEquals(3L, CompactOutput.zigZag(-2L));
+        for (int value : new int[]{0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE})
+        {
+            Assert.assertEquals(value, CompactInput.unZigZag(CompactOutput.zigZag(value)));
+            Assert.assertEquals((long) value, CompactInput.unZigZag(CompactOutput.zigZag((long) value)));
+        }
+        Assert.assertEquals(Long.MIN_VALUE, CompactInput.unZigZag(CompactOutput.zigZag(Long.MIN_VALUE)));
+    }
+
+    @Test
+    public void varIntLengths() throws IOException
+    {
+        this.out.writeVarInt(0);
+        this.out.writeVarInt(127);
+        this.out.flush();
+        Assert.assertEquals(2, this.bytes.size());
+        this.out.writeVarInt(128);
+        this.out.flush();
+        Assert.assertEquals(4, this.bytes.size());
+        this.out.writeVarInt(-1);
+        this.out.flush();
+        Assert.assertEquals(9, this.bytes.size());
+        this.out.writeVarLong(-1L);
+        this.out.flush();
+        Assert.assertEquals(19, this.bytes.size());
+        this.out.writeSignedVarLong(-64L);
+        this.out.flush();
+        Assert.assertEquals(20, this.bytes.size());
+    }
+
+    @Test
+    public void roundTrip() throws IOException
+    {
+        int[] ints = {0, 1, -1, 127, 128, -129, 16384, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        long[] longs = {0L, -1L, 1L << 35, -(1L << 50), Long.MAX_VALUE, Long.MIN_VALUE};
+        for (int i = 0; i < 2000; i++)
+        {
+            for (int each : ints)
+            {
+                this.out.writeVarInt(each);
+                this.out.writeSignedVarInt(each);
+            }
+            for (long each : longs)
+            {
+                this.out.writeVarLong(each);
+                this.out.writeSignedVarLong(each);
+            }
+        }
+        this.out.writeFloat(-1.5f);
+        this.out.writeDouble(Double.NaN);
+        this.out.writeBoolean(true);
+        this.out.writeString("caf\u00e9 \u4e16\u754c");
+
+        CompactInput in = this.input();
+        for (int i = 0; i < 2000; i++)
+        {
+            for (int each : ints)
+            {
+                Assert.assertEquals(each, in.readVarInt());
+                Assert.assertEquals(each, in.readSignedVarInt());
+            }
+            for (long each : longs)
+            {
+                Assert.assertEquals(each, in.readVarLong());
+                Assert.assertEquals(each, in.readSignedVarLong());
+            }
+        }
+        Assert.assertEquals(-1.5f, in.readFloat(), 0.0f);
+        Assert.assertTrue(Double.isNaN(in.readDouble()));
+        Assert.assertTrue(in.readBoolean());
+        Assert.assertEquals("caf\u00e9 \u4e16\u754c", in.readString());
+    }
+
+    @Test
+    public void writeShared() throws IOException
+    {
+        this.out.writeShared("alpha", CompactCodecs.strings());
+        this.out.writeShared("beta", CompactCodecs.strings());
+        this.out.flush();
+        int firstOccurrences = this.bytes.size();
+        this.out.writeShared(new String("alpha"), CompactCodecs.strings());
+        this.out.writeShared(null, CompactCodecs.strings());
+        this.out.writeShared("beta", CompactCodecs.strings());
+        this.out.flush();
+        Assert.assertEquals(firstOccurrences + 3, this.bytes.size());
+
+        CompactInput in = this.input();
+        Assert.assertEquals("alpha", in.readShared(CompactCodecs.strings()));
+        Assert.assertEquals("beta", in.readShared(CompactCodecs.strings()));
+        Assert.assertEquals("alpha", in.readShared(CompactCodecs.strings()));
+        Assert.assertNull(in.readShared(CompactCodecs.strings()));
+        Assert.assertEquals("beta", in.readShared(CompactCodecs.strings()));
+    }
+
+    @Test
+    public void reset() throws IOException
+    {
+        this.out.writeShared("alpha", CompactCodecs.strings());
+        this.out.writeShared("beta", CompactCodecs.strings());
+        this.out.flush();
+        int firstOccurrences = this.bytes.size();
+        this.out.reset();
+        this.out.reset();
+        this.out.writeShared("beta", CompactCodecs.strings());
+        this.out.writeShared("beta", CompactCodecs.strings());
+        this.out.flush();
+        // One reset marker, beta in full again in six bytes, and a one byte reference to it
+        Assert.assertEquals(firstOccurrences + 8, this.bytes.size());
+        this.out.reset();
+        this.out.writeShared(null, CompactCodecs.strings());
+        this.out.writeShared("alpha", CompactCodecs.strings());
+        this.out.writeShared("alpha", CompactCodecs.strings());
+
+        // After each reset the reader numbers its values from the first again
+        CompactInput in = this.input();
+        Assert.assertEquals("alpha", in.readShared(CompactCodecs.strings()));
+        Assert.assertEquals("beta", in.readShared(CompactCodecs.strings()));
+        Assert.assertEquals("beta", in.readShared(CompactCodecs.strings()));
+        Assert.assertEquals("beta", in.readShared(CompactCodecs.strings()));
+        Assert.assertNull(in.readShared(CompactCodecs.strings()));
+        Assert.assertEquals("alpha", in.readShared(CompactCodecs.strings()));
+        Assert.assertEquals("alpha", in.readShared(CompactCodecs.strings()));
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void readShared_throws_forwardReference() throws IOException
+    {
+        this.out.writeVarInt(CompactOutput.REFERENCE);
+        this.input().readShared(CompactCodecs.strings());
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void readSize_throws_negative() throws IOException
+    {
+        this.out.writeVarInt(-1);
+        this.input().readSize();
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void readVarInt_throws_tooLong() throws IOException
+    {
+        this.out.writeVarLong(-1L);
+        this.input().readVarInt();
+    }
+
+    @Test(expected = EOFException.class)
+    public void read_throws_truncated() throws IOException
+    {
+        this.out.writeVarInt(300);
+        CompactInput in = this.input();
+        in.readByte();
+        in.readByte();
+        in.readByte();
+    }
+}
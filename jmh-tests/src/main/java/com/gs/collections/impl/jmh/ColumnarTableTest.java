@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.impl.columnar.ColumnarTable;
+import com.gs.collections.impl.columnar.DictionaryColumn;
+import com.gs.collections.impl.columnar.DoubleColumn;
+import com.gs.collections.impl.columnar.IntColumn;
+import com.gs.collections.impl.jmh.domain.Position;
+import com.gs.collections.impl.jmh.domain.Positions;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ColumnarTableTest extends AbstractJMHTestRunner
+{
+    private final FastList<Position> positions = new Positions().shuffle().getGscPositions();
+    private final ColumnarTable<Position> table = ColumnarTable.newTable();
+    private final IntColumn quantity = this.table.addIntColumn(Position::getQuantity);
+    private final DoubleColumn marketValue = this.table.addDoubleColumn(Position::getMarketValue);
+    private final DictionaryColumn<String> category = this.table.addDictionaryColumn(Position::getCategory);
+
+    {
+        this.table.addAll(this.positions);
+    }
+
+    @Benchmark
+    public double sumOfMarketValue_gsc()
+    {
+        return this.positions.sumOfDouble(Position::getMarketValue);
+    }
+
+    @Benchmark
+    public double sumOfMarketValue_columnar()
+    {
+        return this.table.sumOfDouble(this.marketValue);
+    }
+
+    @Benchmark
+    public double sumOfLargeMarketValue_gsc()
+    {
+        return this.positions.select(each -> each.getQuantity() > 50).sumOfDouble(Position::getMarketValue);
+    }
+
+    @Benchmark
+    public double sumOfLargeMarketValue_columnar()
+    {
+        return this.table.select(this.quantity, each -> each > 50).sumOfDouble(this.marketValue);
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> sumByCategory_gsc()
+    {
+        return this.positions.sumByDouble(Position::getCategory, Position::getMarketValue);
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> sumByCategory_columnar()
+    {
+        return this.table.all().sumByDouble(this.category, this.marketValue);
+    }
+
+    @Test
+    public void columnar()
+    {
+        Assert.assertEquals(this.sumOfMarketValue_gsc(), this.sumOfMarketValue_columnar(), 0.001);
+        Assert.assertEquals(this.sumOfLargeMarketValue_gsc(), this.sumOfLargeMarketValue_columnar(), 0.001);
+        Assert.assertEquals(this.sumByCategory_gsc().keySet(), this.sumByCategory_columnar().keySet());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.codec.CompactCodec;
+import com.gs.collections.impl.codec.CompactCodecs;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares round trips through {@link CompactCodecs} with Java serialization of the same collections.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompactCodecTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 10_000;
+    private static final CompactCodec<MutableMap<String, String>> MAP_CODEC = CompactCodecs.maps(CompactCodecs.strings(), CompactCodecs.strings());
+    private static final CompactCodec<MutableBag<String>> BAG_CODEC = CompactCodecs.bags(CompactCodecs.strings());
+
+    private final LongArrayList timestamps = new LongArrayList(SIZE);
+    private final LongHashSet ids = new LongHashSet(SIZE);
+    private final MutableMap<String, String> statusByAccount = UnifiedMap.newMap(SIZE);
+    private final MutableBag<String> currencies = HashBag.newBag();
+
+    @Setup
+    public void setUp()
+    {
+        String[] statuses = {"OPEN", "CLOSED", "SUSPENDED", "PENDING"};
+        String[] codes = {"USD", "EUR", "JPY", "GBP", "CHF", "HKD"};
+        for (int i = 0; i < SIZE; i++)
+        {
+            this.timestamps.add(1420070400000L + i * 250L);
+            this.ids.add(900000000L + i * 3L);
+            this.statusByAccount.put("ACCT" + i, statuses[i % statuses.length]);
+            this.currencies.add(codes[i % codes.length]);
+        }
+    }
+
+    @Benchmark
+    public Object longList_compact()
+    {
+        return CompactCodecs.fromByteArray(CompactCodecs.toByteArray(this.timestamps, CompactCodecs.longLists()), CompactCodecs.longLists());
+    }
+
+    @Benchmark
+    public Object longList_serialized()
+    {
+        return SerializeTestHelper.serializeDeserialize(this.timestamps);
+    }
+
+    @Benchmark
+    public Object longSet_compact()
+    {
+        return CompactCodecs.fromByteArray(CompactCodecs.toByteArray(this.ids, CompactCodecs.longSets()), CompactCodecs.longSets());
+    }
+
+    @Benchmark
+    public Object longSet_serialized()
+    {
+        return SerializeTestHelper.serializeDeserialize(this.ids);
+    }
+
+    @Benchmark
+    public Object map_compact()
+    {
+        return CompactCodecs.fromByteArray(CompactCodecs.toByteArray(this.statusByAccount, MAP_CODEC), MAP_CODEC);
+    }
+
+    @Benchmark
+    public Object map_serialized()
+    {
+        return SerializeTestHelper.serializeDeserialize(this.statusByAccount);
+    }
+
+    @Benchmark
+    public Object bag_compact()
+    {
+        return CompactCodecs.fromByteArray(CompactCodecs.toByteArray(this.currencies, BAG_CODEC), BAG_CODEC);
+    }
+
+    @Benchmark
+    public Object bag_serialized()
+    {
+        return SerializeTestHelper.serializeDeserialize(this.currencies);
+    }
+}
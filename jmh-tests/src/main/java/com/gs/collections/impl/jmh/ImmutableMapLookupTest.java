@@ -0,0 +1,179 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.primitive.ImmutableLongObjectMap;
+import com.gs.collections.api.set.primitive.ImmutableIntSet;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.immutable.ImmutablePerfectHashMap;
+import com.gs.collections.impl.map.immutable.primitive.ImmutableLongObjectPerfectHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.LongObjectHashMap;
+import com.gs.collections.impl.set.immutable.primitive.ImmutableIntPerfectHashSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookups of keys which are all present, against immutable hash tables and their minimal perfect hash counterparts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableMapLookupTest extends AbstractJMHTestRunner
+{
+    private static final int LOOKUP_COUNT = 1_000_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ImmutableIntSet intHashSet;
+    private ImmutableIntSet intPerfectHashSet;
+    private ImmutableLongObjectMap<String> longObjectHashMap;
+    private ImmutableLongObjectMap<String> longObjectPerfectHashMap;
+    private ImmutableMap<Integer, String> unifiedMap;
+    private ImmutableMap<Integer, String> perfectHashMap;
+    private int[] presentKeys;
+    private Integer[] boxedPresentKeys;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        IntHashSet keys = new IntHashSet();
+        LongObjectHashMap<String> longObjectMap = new LongObjectHashMap<>();
+        UnifiedMap<Integer, String> map = UnifiedMap.newMap();
+        while (keys.size() < this.size)
+        {
+            int key = random.nextInt();
+            if (keys.add(key))
+            {
+                longObjectMap.put(key, "value");
+                map.put(key, "value");
+            }
+        }
+        this.intHashSet = keys.toImmutable();
+        this.intPerfectHashSet = ImmutableIntPerfectHashSet.newSet(keys);
+        this.longObjectHashMap = longObjectMap.toImmutable();
+        this.longObjectPerfectHashMap = ImmutableLongObjectPerfectHashMap.newMap(longObjectMap);
+        this.unifiedMap = map.toImmutable();
+        this.perfectHashMap = ImmutablePerfectHashMap.newMap(map);
+
+        int[] keyArray = keys.toArray();
+        this.presentKeys = new int[LOOKUP_COUNT];
+        this.boxedPresentKeys = new Integer[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++)
+        {
+            this.presentKeys[i] = keyArray[random.nextInt(keyArray.length)];
+            this.boxedPresentKeys[i] = this.presentKeys[i];
+        }
+    }
+
+    @Benchmark
+    public int gscImmutableIntHashSet()
+    {
+        int found = 0;
+        for (int key : this.presentKeys)
+        {
+            if (this.intHashSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gscImmutableIntPerfectHashSet()
+    {
+        int found = 0;
+        for (int key : this.presentKeys)
+        {
+            if (this.intPerfectHashSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gscImmutableLongObjectHashMap()
+    {
+        int found = 0;
+        for (int key : this.presentKeys)
+        {
+            if (this.longObjectHashMap.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gscImmutableLongObjectPerfectHashMap()
+    {
+        int found = 0;
+        for (int key : this.presentKeys)
+        {
+            if (this.longObjectPerfectHashMap.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gscImmutableUnifiedMap()
+    {
+        int found = 0;
+        for (Integer key : this.boxedPresentKeys)
+        {
+            if (this.unifiedMap.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gscImmutablePerfectHashMap()
+    {
+        int found = 0;
+        for (Integer key : this.boxedPresentKeys)
+        {
+            if (this.perfectHashMap.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -26,6 +26,7 @@ import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.primitive.MutableIntList;
 import com.gs.collections.api.map.primitive.MutableIntIntMap;
 import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.SpreadFunctions;
 import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
@@ -73,7 +74,7 @@ public class IntIntMapLargeStressTest extends AbstractJMHTestRunner
 
     private int gscIndex(int element)
     {
-        return this.mask(element);
+        return this.mask(SpreadFunctions.intSpreadOne(element));
     }
 
     private int mask(int spread)
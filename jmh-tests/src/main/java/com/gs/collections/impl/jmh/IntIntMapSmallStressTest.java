@@ -74,12 +74,7 @@ public class IntIntMapSmallStressTest extends AbstractJMHTestRunner
 
     private int gscIndex(int element)
     {
-        return this.mask(element);
-    }
-
-    private int gscIndexTwo(int element)
-    {
-        return this.mask(SpreadFunctions.intSpreadTwo(element));
+        return this.mask(SpreadFunctions.intSpreadOne(element));
     }
 
     private int mask(int spread)
@@ -129,10 +124,7 @@ public class IntIntMapSmallStressTest extends AbstractJMHTestRunner
         MutableIntList gscCollidingNumbers = new IntArrayList();
         for (int i = lower; i < upper && gscCollidingNumbers.size() < KEY_COUNT; i++)
         {
-            if (this.gscIndex(i) - this.gscIndex(number) >= 0
-                    && this.gscIndex(i) - this.gscIndex(number) < 10
-                    && (this.gscIndexTwo(i) - this.gscIndexTwo(number) >= 0)
-                    && (this.gscIndexTwo(i) - this.gscIndexTwo(number) < 10))
+            if (this.gscIndex(i) - this.gscIndex(number) >= 0 && this.gscIndex(i) - this.gscIndex(number) < 10)
             {
                 gscCollidingNumbers.add(i);
             }
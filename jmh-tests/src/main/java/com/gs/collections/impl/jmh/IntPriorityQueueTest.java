@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.priorityqueue.mutable.HeapPriorityQueue;
+import com.gs.collections.impl.priorityqueue.mutable.primitive.IntHeapPriorityQueue;
+import com.gs.collections.impl.priorityqueue.mutable.primitive.IntIndexedMinHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntPriorityQueueTest extends AbstractJMHTestRunner
+{
+    @Param({"100", "10000", "1000000"})
+    public int size;
+    private int[] values;
+    private Integer[] boxedValues;
+
+    @Setup
+    public void setUp()
+    {
+        this.values = new Random(0x123456789ABCDL).ints(this.size).toArray();
+        this.boxedValues = new Integer[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.boxedValues[i] = this.values[i];
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void addAndPollPrimitive(Blackhole blackHole)
+    {
+        IntHeapPriorityQueue queue = IntHeapPriorityQueue.newMinQueue();
+        for (int value : this.values)
+        {
+            queue.add(value);
+        }
+        while (queue.notEmpty())
+        {
+            blackHole.consume(queue.poll());
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void addAllAndPollPrimitive(Blackhole blackHole)
+    {
+        IntHeapPriorityQueue queue = IntHeapPriorityQueue.newMinQueueWith(this.values);
+        while (queue.notEmpty())
+        {
+            blackHole.consume(queue.poll());
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void addAndPollIndexedHeap(Blackhole blackHole)
+    {
+        IntIndexedMinHeap heap = IntIndexedMinHeap.newHeap(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            heap.insert(i, this.values[i]);
+        }
+        while (heap.notEmpty())
+        {
+            blackHole.consume(heap.pollHandle());
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void addAndPollHeapPriorityQueue(Blackhole blackHole)
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueue();
+        for (Integer value : this.boxedValues)
+        {
+            queue.offer(value);
+        }
+        while (!queue.isEmpty())
+        {
+            blackHole.consume(queue.poll());
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void addAndPollJdk(Blackhole blackHole)
+    {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (Integer value : this.boxedValues)
+        {
+            queue.offer(value);
+        }
+        while (!queue.isEmpty())
+        {
+            blackHole.consume(queue.poll());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.factory.primitive.IntSets;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntSetAlgebraTest extends AbstractJMHTestRunner
+{
+    private static final int LARGE_SIZE = 1_000_000;
+    private static final int SMALL_SIZE = 10_000;
+
+    private final IntHashSet large = IntSetAlgebraTest.randomSet(LARGE_SIZE, 1L);
+    private final IntHashSet small = IntSetAlgebraTest.randomSet(SMALL_SIZE, 2L);
+    private final MutableSet<Integer> boxedLarge = UnifiedSet.newSet(this.large.collect(each -> each));
+    private final MutableSet<Integer> boxedSmall = UnifiedSet.newSet(this.small.collect(each -> each));
+
+    private static IntHashSet randomSet(int size, long seed)
+    {
+        Random random = new Random(seed);
+        IntHashSet set = new IntHashSet(size);
+        while (set.size() < size)
+        {
+            set.add(random.nextInt(LARGE_SIZE * 4));
+        }
+        return set;
+    }
+
+    @Benchmark
+    public MutableSet<Integer> intersect_boxed()
+    {
+        return Sets.intersect(this.boxedLarge, this.boxedSmall);
+    }
+
+    @Benchmark
+    public MutableIntSet intersect_primitive()
+    {
+        return IntSets.intersect(this.large, this.small);
+    }
+
+    @Benchmark
+    public MutableSet<Integer> union_boxed()
+    {
+        return Sets.union(this.boxedLarge, this.boxedSmall);
+    }
+
+    @Benchmark
+    public MutableIntSet union_primitive()
+    {
+        return IntSets.union(this.large, this.small);
+    }
+
+    @Benchmark
+    public MutableIntSet difference_primitive()
+    {
+        return IntSets.difference(this.large, this.small);
+    }
+
+    @Benchmark
+    public boolean isSubsetOf_primitive()
+    {
+        return IntSets.isSubsetOf(this.small, this.large);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.set.mutable.GroupProbeHashSet;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.IntGroupProbeHashSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookups of keys which are all absent, against sets filled close to their maximum load.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntSetNegativeLookupTest extends AbstractJMHTestRunner
+{
+    private static final int LOOKUP_COUNT = 1_000_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private IntHashSet intHashSet;
+    private IntGroupProbeHashSet intGroupProbeHashSet;
+    private Set<Integer> unifiedSet;
+    private Set<Integer> groupProbeHashSet;
+    private int[] absentKeys;
+    private Integer[] boxedAbsentKeys;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        this.intHashSet = new IntHashSet();
+        this.intGroupProbeHashSet = new IntGroupProbeHashSet();
+        this.unifiedSet = UnifiedSet.newSet();
+        this.groupProbeHashSet = GroupProbeHashSet.newSet();
+        while (this.intHashSet.size() < this.size)
+        {
+            int key = random.nextInt() | 1;
+            this.intHashSet.add(key);
+            this.intGroupProbeHashSet.add(key);
+            this.unifiedSet.add(key);
+            this.groupProbeHashSet.add(key);
+        }
+
+        this.absentKeys = new int[LOOKUP_COUNT];
+        this.boxedAbsentKeys = new Integer[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++)
+        {
+            this.absentKeys[i] = random.nextInt() & ~1;
+            this.boxedAbsentKeys[i] = this.absentKeys[i];
+        }
+    }
+
+    @Benchmark
+    public int gscIntHashSet()
+    {
+        int found = 0;
+        for (int key : this.absentKeys)
+        {
+            if (this.intHashSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gscIntGroupProbeHashSet()
+    {
+        int found = 0;
+        for (int key : this.absentKeys)
+        {
+            if (this.intGroupProbeHashSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gscUnifiedSet()
+    {
+        int found = 0;
+        for (Integer key : this.boxedAbsentKeys)
+        {
+            if (this.unifiedSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gscGroupProbeHashSet()
+    {
+        int found = 0;
+        for (Integer key : this.boxedAbsentKeys)
+        {
+            if (this.groupProbeHashSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.block.procedure.primitive.LongDoubleProcedure;
+import com.gs.collections.api.map.sorted.MutableSortedMap;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.map.sorted.mutable.primitive.LongDoubleSortedArrayMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LongDoubleSortedMapTest extends AbstractJMHTestRunner
+{
+    @Param({"100", "10000", "1000000"})
+    public int size;
+    private long[] sortedKeys;
+    private long[] randomKeys;
+    private LongDoubleSortedArrayMap primitiveMap;
+    private MutableSortedMap<Long, Double> boxedMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        this.sortedKeys = new long[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.sortedKeys[i] = i * 16L;
+        }
+        this.randomKeys = random.longs(this.size, 0L, this.size * 16L).toArray();
+
+        this.primitiveMap = new LongDoubleSortedArrayMap(this.size);
+        this.boxedMap = TreeSortedMap.newMap();
+        for (long key : this.sortedKeys)
+        {
+            this.primitiveMap.put(key, (double) key);
+            this.boxedMap.put(key, (double) key);
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void getPrimitive(Blackhole blackHole)
+    {
+        for (long key : this.randomKeys)
+        {
+            blackHole.consume(this.primitiveMap.get(key));
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void getBoxed(Blackhole blackHole)
+    {
+        for (long key : this.randomKeys)
+        {
+            blackHole.consume(this.boxedMap.get(key));
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public LongDoubleSortedArrayMap putInOrderPrimitive()
+    {
+        LongDoubleSortedArrayMap map = new LongDoubleSortedArrayMap();
+        for (long key : this.sortedKeys)
+        {
+            map.put(key, (double) key);
+        }
+        return map;
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public MutableSortedMap<Long, Double> putInOrderBoxed()
+    {
+        MutableSortedMap<Long, Double> map = TreeSortedMap.newMap();
+        for (long key : this.sortedKeys)
+        {
+            map.put(key, (double) key);
+        }
+        return map;
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double rangePrimitive()
+    {
+        double[] sum = new double[1];
+        long from = this.size * 4L;
+        this.primitiveMap.forEachKeyValueInRange(from, from + this.size * 8L, (LongDoubleProcedure) (key, value) -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double rangeBoxed()
+    {
+        double sum = 0.0;
+        long from = this.size * 4L;
+        for (Map.Entry<Long, Double> entry : this.boxedMap.subMap(from, from + this.size * 8L).entrySet())
+        {
+            sum += entry.getValue();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.primitive.MutableLongLongMap;
+import com.gs.collections.api.set.primitive.MutableLongSet;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.mutable.primitive.LongLongHashMap;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import net.openhft.koloboke.collect.map.LongLongMap;
+import net.openhft.koloboke.collect.map.hash.HashLongLongMaps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Queue-like workload: a fixed window of live ids where every step removes the oldest id and inserts a new one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LongLongMapChurnTest extends AbstractJMHTestRunner
+{
+    private static final int KEY_COUNT = 400_000;
+    private static final int CHURN_COUNT = 2_000_000;
+
+    @Param({"true", "false"})
+    public boolean fullyRandom;
+    private LongLongMap longLongKoloboke;
+    private MutableLongLongMap longLongGsc;
+    private LongHashSet longGscSet;
+    private Map<Long, Long> longLongJdk;
+    private long[] ids;
+    private Long[] boxedIds;
+
+    @Setup
+    public void setUp()
+    {
+        this.ids = this.fullyRandom ? this.getRandomIds(new Random(0x123456789ABCDL)) : this.getSequentialIds();
+        this.boxedIds = new Long[this.ids.length];
+        for (int i = 0; i < this.ids.length; i++)
+        {
+            this.boxedIds[i] = this.ids[i];
+        }
+
+        this.longLongKoloboke = HashLongLongMaps.newMutableMap(KEY_COUNT);
+        this.longLongGsc = new LongLongHashMap(KEY_COUNT);
+        this.longGscSet = new LongHashSet(KEY_COUNT);
+        this.longLongJdk = new HashMap<>(KEY_COUNT);
+
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            this.longLongKoloboke.put(this.ids[i], 5);
+            this.longLongGsc.put(this.ids[i], 5);
+            this.longGscSet.add(this.ids[i]);
+            this.longLongJdk.put(this.boxedIds[i], 5L);
+        }
+    }
+
+    private long[] getSequentialIds()
+    {
+        long[] result = new long[KEY_COUNT + CHURN_COUNT];
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = i + 2L;
+        }
+        return result;
+    }
+
+    private long[] getRandomIds(Random random)
+    {
+        MutableLongSet set = new LongHashSet(KEY_COUNT + CHURN_COUNT);
+        while (set.size() < KEY_COUNT + CHURN_COUNT)
+        {
+            set.add(random.nextLong());
+        }
+        long[] result = set.toArray();
+        for (int i = result.length; i > 1; i--)
+        {
+            int j = random.nextInt(i);
+            long tmp = result[i - 1];
+            result[i - 1] = result[j];
+            result[j] = tmp;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void jdkChurn()
+    {
+        Map<Long, Long> map = new HashMap<>(this.longLongJdk);
+        for (int i = 0; i < CHURN_COUNT; i++)
+        {
+            if (map.remove(this.boxedIds[i]) == null)
+            {
+                throw new AssertionError(this.boxedIds[i] + " not in map");
+            }
+            map.put(this.boxedIds[i + KEY_COUNT], 4L);
+        }
+        if (map.size() != KEY_COUNT)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+    }
+
+    @Benchmark
+    public void kolobokeChurn()
+    {
+        LongLongMap map = HashLongLongMaps.newMutableMap(this.longLongKoloboke);
+        for (int i = 0; i < CHURN_COUNT; i++)
+        {
+            if (map.remove(this.ids[i]) == map.defaultValue())
+            {
+                throw new AssertionError(this.ids[i] + " not in map");
+            }
+            map.put(this.ids[i + KEY_COUNT], 4);
+        }
+        if (map.size() != KEY_COUNT)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+    }
+
+    @Benchmark
+    public void gscChurn()
+    {
+        MutableLongLongMap map = new LongLongHashMap(this.longLongGsc);
+        for (int i = 0; i < CHURN_COUNT; i++)
+        {
+            if (map.removeKeyIfAbsent(this.ids[i], 0L) == 0L)
+            {
+                throw new AssertionError(this.ids[i] + " not in map");
+            }
+            map.put(this.ids[i + KEY_COUNT], 4);
+        }
+        if (map.size() != KEY_COUNT)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+    }
+
+    @Benchmark
+    public void gscSetChurn()
+    {
+        MutableLongSet set = new LongHashSet(this.longGscSet);
+        for (int i = 0; i < CHURN_COUNT; i++)
+        {
+            if (!set.remove(this.ids[i]))
+            {
+                throw new AssertionError(this.ids[i] + " not in set");
+            }
+            set.add(this.ids[i + KEY_COUNT]);
+        }
+        if (set.size() != KEY_COUNT)
+        {
+            throw new AssertionError("size is " + set.size());
+        }
+    }
+
+    @Benchmark
+    public void gscChurnAndGet()
+    {
+        MutableLongLongMap map = new LongLongHashMap(this.longLongGsc);
+        for (int i = 0; i < CHURN_COUNT; i++)
+        {
+            map.remove(this.ids[i]);
+            map.put(this.ids[i + KEY_COUNT], 4);
+            if (map.get(this.ids[i + 1]) == 0L)
+            {
+                throw new AssertionError(this.ids[i + 1] + " not in map");
+            }
+        }
+        if (map.size() != KEY_COUNT)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 import com.gs.collections.api.list.primitive.MutableLongList;
 import com.gs.collections.api.map.primitive.MutableLongLongMap;
 import com.gs.collections.api.set.primitive.MutableLongSet;
+import com.gs.collections.impl.SpreadFunctions;
 import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
 import com.gs.collections.impl.map.mutable.primitive.LongLongHashMap;
@@ -62,7 +63,7 @@ public class LongLongMapLargeStressTest extends AbstractJMHTestRunner
 
     private int gscIndex(int element)
     {
-        return this.mask(element);
+        return this.mask((int) SpreadFunctions.longSpreadOne(element));
     }
 
     private int mask(int spread)
@@ -63,12 +63,7 @@ public class LongLongMapSmallStressTest extends AbstractJMHTestRunner
 
     private int gscIndex(int element)
     {
-        return this.mask(element);
-    }
-
-    private int gscIndexTwo(int element)
-    {
-        return this.mask((int) SpreadFunctions.longSpreadTwo(element));
+        return this.mask((int) SpreadFunctions.longSpreadOne(element));
     }
 
     private int mask(int spread)
@@ -125,8 +120,7 @@ public class LongLongMapSmallStressTest extends AbstractJMHTestRunner
         MutableLongList gscCollidingNumbers = new LongArrayList();
         for (int i = lower; i < upper && gscCollidingNumbers.size() < KEY_COUNT; i++)
         {
-            if (this.gscIndex(i) - this.gscIndex(number) >= 0 && this.gscIndex(i) - this.gscIndex(number) < 10
-                    && (this.gscIndexTwo(i) - this.gscIndexTwo(number) >= 0) && (this.gscIndexTwo(i) - this.gscIndexTwo(number) < 10))
+            if (this.gscIndex(i) - this.gscIndex(number) >= 0 && this.gscIndex(i) - this.gscIndex(number) < 10)
             {
                 gscCollidingNumbers.add(i);
             }
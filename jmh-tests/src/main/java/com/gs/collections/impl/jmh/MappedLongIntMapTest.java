@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.immutable.primitive.MappedLongIntMap;
+import com.gs.collections.impl.map.mutable.primitive.LongIntHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappedLongIntMapTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000_000;
+    private static final int LOOKUPS = 1_000;
+
+    private final long[] keys = new long[LOOKUPS];
+    private File file;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        Random random = new Random(1L);
+        LongIntHashMap map = new LongIntHashMap(SIZE);
+        for (int i = 0; i < SIZE; i++)
+        {
+            long key = random.nextLong();
+            if (i < LOOKUPS)
+            {
+                this.keys[i] = key;
+            }
+            map.put(key, i);
+        }
+        this.file = File.createTempFile("MappedLongIntMapTest", ".bin");
+        MappedLongIntMap.write(map, this.file);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.file.delete();
+    }
+
+    @Benchmark
+    public long loadAndGet_readFrom() throws IOException
+    {
+        FileInputStream in = new FileInputStream(this.file);
+        try
+        {
+            LongIntHashMap map = LongIntHashMap.readFrom(in.getChannel());
+            long result = 0L;
+            for (long key : this.keys)
+            {
+                result += map.get(key);
+            }
+            return result;
+        }
+        finally
+        {
+            in.close();
+        }
+    }
+
+    @Benchmark
+    public long loadAndGet_mapped() throws IOException
+    {
+        MappedLongIntMap map = MappedLongIntMap.load(this.file);
+        long result = 0L;
+        for (long key : this.keys)
+        {
+            result += map.get(key);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.mutable.primitive.LongLongHashMap;
+import com.gs.collections.impl.map.mutable.primitive.OffHeapLongLongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OffHeapLongLongMapTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000_000;
+
+    private final long[] keys = new long[SIZE];
+    private final LongLongHashMap heapMap = new LongLongHashMap(SIZE);
+    private OffHeapLongLongHashMap offHeapMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(1L);
+        this.offHeapMap = new OffHeapLongLongHashMap(SIZE);
+        for (int i = 0; i < SIZE; i++)
+        {
+            long key = random.nextLong();
+            this.keys[i] = key;
+            this.heapMap.put(key, i);
+            this.offHeapMap.put(key, i);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.offHeapMap.close();
+    }
+
+    @Benchmark
+    public long get_heap()
+    {
+        long result = 0L;
+        for (long key : this.keys)
+        {
+            result += this.heapMap.get(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long get_offHeap()
+    {
+        long result = 0L;
+        for (long key : this.keys)
+        {
+            result += this.offHeapMap.get(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public LongLongHashMap put_heap()
+    {
+        LongLongHashMap map = new LongLongHashMap();
+        for (long key : this.keys)
+        {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public long put_offHeap()
+    {
+        OffHeapLongLongHashMap map = new OffHeapLongLongHashMap();
+        try
+        {
+            for (long key : this.keys)
+            {
+                map.put(key, key);
+            }
+            return map.longSize();
+        }
+        finally
+        {
+            map.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrimitiveBinaryIOTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000_000;
+
+    private final LongArrayList list = new LongArrayList(SIZE);
+    private final LongLongHashMap map = new LongLongHashMap(SIZE);
+    private final ByteBuffer listBuffer;
+    private final ByteBuffer mapBuffer;
+    private final byte[] serializedList;
+
+    public PrimitiveBinaryIOTest()
+    {
+        Random random = new Random(1L);
+        for (int i = 0; i < SIZE; i++)
+        {
+            long value = random.nextLong();
+            this.list.add(value);
+            this.map.put(value, i);
+        }
+        this.listBuffer = ByteBuffer.allocateDirect((int) this.list.binarySize());
+        this.mapBuffer = ByteBuffer.allocateDirect((int) this.map.binarySize());
+        this.serializedList = PrimitiveBinaryIOTest.serialize(this.list);
+    }
+
+    private static byte[] serialize(Object object)
+    {
+        try
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream out = new ObjectOutputStream(bytes);
+            out.writeObject(object);
+            out.close();
+            return bytes.toByteArray();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] list_write_objectOutputStream()
+    {
+        return PrimitiveBinaryIOTest.serialize(this.list);
+    }
+
+    @Benchmark
+    public int list_write_channel() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) this.list.binarySize());
+        this.list.writeTo(Channels.newChannel(bytes));
+        return bytes.size();
+    }
+
+    @Benchmark
+    public ByteBuffer list_write_buffer()
+    {
+        this.listBuffer.clear();
+        this.list.writeTo(this.listBuffer);
+        return this.listBuffer;
+    }
+
+    @Benchmark
+    public Object list_read_objectInputStream() throws IOException, ClassNotFoundException
+    {
+        return new ObjectInputStream(new ByteArrayInputStream(this.serializedList)).readObject();
+    }
+
+    @Benchmark
+    public LongArrayList list_read_buffer()
+    {
+        this.listBuffer.clear();
+        this.list.writeTo(this.listBuffer);
+        this.listBuffer.flip();
+        return LongArrayList.readFrom(this.listBuffer);
+    }
+
+    @Benchmark
+    public LongLongHashMap map_roundTrip_buffer()
+    {
+        this.mapBuffer.clear();
+        this.map.writeTo(this.mapBuffer);
+        this.mapBuffer.flip();
+        return LongLongHashMap.readFrom(this.mapBuffer);
+    }
+}
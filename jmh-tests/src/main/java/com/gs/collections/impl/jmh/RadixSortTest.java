@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.jmh.domain.Position;
+import com.gs.collections.impl.jmh.domain.Positions;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RadixSortTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000_000;
+
+    private final int[] ints = new Random(42L).ints(SIZE).toArray();
+    private final long[] longs = new Random(42L).longs(SIZE).toArray();
+    private final Positions positions = new Positions(SIZE).shuffle();
+
+    @Benchmark
+    public int[] sortInts_jdk()
+    {
+        int[] copy = this.ints.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public IntArrayList sortInts_gsc()
+    {
+        return IntArrayList.newListWith(this.ints.clone()).sortThis();
+    }
+
+    @Benchmark
+    public long[] sortLongs_jdk()
+    {
+        long[] copy = this.longs.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public LongArrayList sortLongs_gsc()
+    {
+        return LongArrayList.newListWith(this.longs.clone()).sortThis();
+    }
+
+    @Benchmark
+    public List<Position> sortByQuantity_jdk()
+    {
+        List<Position> copy = new ArrayList<>(this.positions.getJdkPositions());
+        copy.sort(Comparator.comparingInt(Position::getQuantity));
+        return copy;
+    }
+
+    @Benchmark
+    public MutableList<Position> sortByQuantity_comparator_gsc()
+    {
+        return FastList.newList(this.positions.getGscPositions()).sortThis(Comparator.comparingInt(Position::getQuantity));
+    }
+
+    @Benchmark
+    public MutableList<Position> sortByQuantity_sortThisByInt_gsc()
+    {
+        return FastList.newList(this.positions.getGscPositions()).sortThisByInt(Position::getQuantity);
+    }
+
+    @Benchmark
+    public MutableList<Position> sortByMarketValue_sortThisByDouble_gsc()
+    {
+        return FastList.newList(this.positions.getGscPositions()).sortThisByDouble(Position::getMarketValue);
+    }
+}
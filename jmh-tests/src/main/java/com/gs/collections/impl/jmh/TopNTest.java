@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.gs.collections.impl.jmh.domain.Position;
+import com.gs.collections.impl.jmh.domain.Positions;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TopNTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int N = 10;
+
+    private static final Comparator<Position> QUANTITY_COMPARATOR =
+            (Position p1, Position p2) -> Integer.compare(p1.getQuantity(), p2.getQuantity());
+
+    private final Positions positions = new Positions(SIZE).shuffle();
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public List<Position> topByQuantity_serial_sorted_jdk()
+    {
+        return this.positions.getJdkPositions().stream().sorted(QUANTITY_COMPARATOR.reversed()).limit(N).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Position> topByQuantity_serial_sortThenTake_gsc()
+    {
+        return this.positions.getGscPositions().toSortedList(QUANTITY_COMPARATOR.reversed()).take(N);
+    }
+
+    @Benchmark
+    public List<Position> topByQuantity_serial_maxN_gsc()
+    {
+        return this.positions.getGscPositions().maxN(N, QUANTITY_COMPARATOR);
+    }
+
+    @Benchmark
+    public List<Position> topByQuantity_serial_topNByInt_gsc()
+    {
+        return this.positions.getGscPositions().topNByInt(N, Position::getQuantity);
+    }
+
+    @Benchmark
+    public List<Position> topByQuantity_parallel_maxN_gsc()
+    {
+        return this.positions.getGscPositions().asParallel(this.executorService, BATCH_SIZE).maxN(N, QUANTITY_COMPARATOR);
+    }
+}
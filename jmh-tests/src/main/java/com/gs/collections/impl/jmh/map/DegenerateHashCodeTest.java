@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.map;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookups and inserts of keys whose hash codes take only a handful of distinct values, so that every key lands in one of
+ * a few very long collision chains.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DegenerateHashCodeTest extends AbstractJMHTestRunner
+{
+    @Param({"1000", "10000"})
+    public int size;
+    @Param({"1", "16"})
+    public int distinctHashCodes;
+    @Param({"true", "false"})
+    public boolean comparable;
+
+    private Object[] keys;
+    private Map<Object, Object> unifiedMap;
+    private Map<Object, Object> jdkMap;
+    private Set<Object> unifiedSet;
+    private Set<Object> jdkSet;
+
+    @Setup
+    public void setUp()
+    {
+        this.keys = new Object[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            int hashCode = i % this.distinctHashCodes;
+            this.keys[i] = this.comparable ? new ComparableKey(i, hashCode) : new Key(i, hashCode);
+        }
+        this.unifiedMap = this.gscPut();
+        this.jdkMap = this.jdkPut();
+        this.unifiedSet = UnifiedSet.newSetWith(this.keys);
+        this.jdkSet = new HashSet<>(this.unifiedSet);
+    }
+
+    @Benchmark
+    public Map<Object, Object> gscPut()
+    {
+        Map<Object, Object> map = UnifiedMap.newMap();
+        for (Object key : this.keys)
+        {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Object, Object> jdkPut()
+    {
+        Map<Object, Object> map = new HashMap<>();
+        for (Object key : this.keys)
+        {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int gscGet()
+    {
+        int found = 0;
+        for (Object key : this.keys)
+        {
+            if (this.unifiedMap.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int jdkGet()
+    {
+        int found = 0;
+        for (Object key : this.keys)
+        {
+            if (this.jdkMap.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gscContains()
+    {
+        int found = 0;
+        for (Object key : this.keys)
+        {
+            if (this.unifiedSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int jdkContains()
+    {
+        int found = 0;
+        for (Object key : this.keys)
+        {
+            if (this.jdkSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static class Key
+    {
+        protected final int value;
+        private final int hashCode;
+
+        private Key(int value, int hashCode)
+        {
+            this.value = value;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+            {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass())
+            {
+                return false;
+            }
+            return this.value == ((Key) obj).value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+
+    private static final class ComparableKey extends Key implements Comparable<ComparableKey>
+    {
+        private ComparableKey(int value, int hashCode)
+        {
+            super(value, hashCode);
+        }
+
+        @Override
+        public int compareTo(ComparableKey other)
+        {
+            return Integer.compare(this.value, other.value);
+        }
+    }
+}
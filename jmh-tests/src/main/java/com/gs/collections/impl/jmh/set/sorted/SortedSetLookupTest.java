@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.set.sorted;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.sorted.ImmutableSortedMap;
+import com.gs.collections.api.set.sorted.ImmutableSortedSet;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.sorted.immutable.ImmutableEytzingerSortedMap;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.set.sorted.immutable.ImmutableEytzingerSortedSet;
+import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Random lookups, half of them hits, against sorted immutable sets and maps searched by binary search over the sorted
+ * array and by descent of the Eytzinger layout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SortedSetLookupTest extends AbstractJMHTestRunner
+{
+    private static final int LOOKUP_COUNT = 1_000_000;
+
+    @Param({"1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    private ImmutableSortedSet<Integer> treeSet;
+    private ImmutableSortedSet<Integer> eytzingerSet;
+    private ImmutableSortedMap<Integer, Integer> treeMap;
+    private ImmutableSortedMap<Integer, Integer> eytzingerMap;
+    private Integer[] keys;
+
+    @Setup
+    public void setUp()
+    {
+        TreeSortedSet<Integer> set = TreeSortedSet.newSet();
+        TreeSortedMap<Integer, Integer> map = TreeSortedMap.newMap();
+        for (int i = 0; i < this.size; i++)
+        {
+            Integer key = i * 2;
+            set.add(key);
+            map.put(key, key);
+        }
+        this.treeSet = set.toImmutable();
+        this.eytzingerSet = ImmutableEytzingerSortedSet.newSet(set);
+        this.treeMap = map.toImmutable();
+        this.eytzingerMap = ImmutableEytzingerSortedMap.newMap(map);
+
+        Random random = new Random(0x123456789ABCDL);
+        this.keys = new Integer[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++)
+        {
+            this.keys[i] = random.nextInt(this.size * 2);
+        }
+    }
+
+    @Benchmark
+    public int contains_immutable_tree()
+    {
+        int found = 0;
+        for (Integer key : this.keys)
+        {
+            if (this.treeSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int contains_immutable_eytzinger()
+    {
+        int found = 0;
+        for (Integer key : this.keys)
+        {
+            if (this.eytzingerSet.contains(key))
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int get_immutable_tree()
+    {
+        int found = 0;
+        for (Integer key : this.keys)
+        {
+            if (this.treeMap.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int get_immutable_eytzinger()
+    {
+        int found = 0;
+        for (Integer key : this.keys)
+        {
+            if (this.eytzingerMap.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory.map;
+
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.set.primitive.IntSet;
+import com.gs.collections.impl.bimap.mutable.HashBiMap;
+import com.gs.collections.impl.bimap.mutable.primitive.IntIntHashBiMap;
+import com.gs.collections.impl.memory.MemoryTestBench;
+import com.gs.collections.impl.memory.TestDataFactory;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class IntIntBiMapMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntIntBiMapMemoryTest.class);
+
+    @Test
+    public void memoryForScaledBiMaps()
+    {
+        LOGGER.info("Comparing Items: GSC {}, GSC {}",
+                HashBiMap.class.getSimpleName(),
+                IntIntHashBiMap.class.getSimpleName());
+        for (int size = 0; size < 1000001; size += 25000)
+        {
+            this.memoryForScaledBiMaps(size);
+        }
+        LOGGER.info("Ending test: {}", this.getClass().getName());
+    }
+
+    public void memoryForScaledBiMaps(int size)
+    {
+        MemoryTestBench.on(HashBiMap.class)
+                .printContainerMemoryUsage("IntIntBiMap", size, new IntegerIntegerHashBiMapFactory(size));
+        MemoryTestBench.on(IntIntHashBiMap.class)
+                .printContainerMemoryUsage("IntIntBiMap", size, new IntIntHashBiMapFactory(size));
+    }
+
+    public static class IntIntHashBiMapFactory implements Function0<IntIntHashBiMap>
+    {
+        private final IntSet data;
+
+        public IntIntHashBiMapFactory(int size)
+        {
+            this.data = TestDataFactory.createRandomSet(size);
+        }
+
+        @Override
+        public IntIntHashBiMap value()
+        {
+            final IntIntHashBiMap map = new IntIntHashBiMap();
+            this.data.forEach(new IntProcedure()
+            {
+                public void value(int each)
+                {
+                    map.put(each, each);
+                }
+            });
+            return map;
+        }
+    }
+
+    public static class IntegerIntegerHashBiMapFactory implements Function0<HashBiMap<Integer, Integer>>
+    {
+        private final IntSet data;
+
+        public IntegerIntegerHashBiMapFactory(int size)
+        {
+            this.data = TestDataFactory.createRandomSet(size);
+        }
+
+        @Override
+        public HashBiMap<Integer, Integer> value()
+        {
+            final HashBiMap<Integer, Integer> map = HashBiMap.newMap();
+            this.data.forEach(new IntProcedure()
+            {
+                public void value(int each)
+                {
+                    map.put(each, each);
+                }
+            });
+            return map;
+        }
+    }
+}
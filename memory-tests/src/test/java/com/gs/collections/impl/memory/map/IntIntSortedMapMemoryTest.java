@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory.map;
+
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.map.primitive.ImmutableIntIntMap;
+import com.gs.collections.api.set.primitive.IntSet;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.map.sorted.mutable.primitive.IntIntSortedArrayMap;
+import com.gs.collections.impl.memory.MemoryTestBench;
+import com.gs.collections.impl.memory.TestDataFactory;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class IntIntSortedMapMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntIntSortedMapMemoryTest.class);
+
+    @Test
+    public void memoryForScaledMaps()
+    {
+        LOGGER.info("Comparing Items: GSC {}, GSC {}, GSC {}",
+                TreeSortedMap.class.getSimpleName(),
+                IntIntSortedArrayMap.class.getSimpleName(),
+                ImmutableIntIntMap.class.getSimpleName());
+        for (int size = 0; size < 1000001; size += 25000)
+        {
+            this.memoryForScaledMaps(size);
+        }
+        LOGGER.info("Ending test: {}", this.getClass().getName());
+    }
+
+    public void memoryForScaledMaps(int size)
+    {
+        MemoryTestBench.on(TreeSortedMap.class)
+                .printContainerMemoryUsage("IntIntSortedMap", size, new IntegerIntegerTreeSortedMapFactory(size));
+        MemoryTestBench.on(IntIntSortedArrayMap.class)
+                .printContainerMemoryUsage("IntIntSortedMap", size, new IntIntSortedArrayMapFactory(size));
+        MemoryTestBench.on(ImmutableIntIntMap.class)
+                .printContainerMemoryUsage("IntIntSortedMap", size, new ImmutableIntIntSortedArrayMapFactory(size));
+    }
+
+    public static class IntIntSortedArrayMapFactory implements Function0<IntIntSortedArrayMap>
+    {
+        private final IntSet data;
+
+        public IntIntSortedArrayMapFactory(int size)
+        {
+            this.data = TestDataFactory.createRandomSet(size);
+        }
+
+        @Override
+        public IntIntSortedArrayMap value()
+        {
+            final IntIntSortedArrayMap map = new IntIntSortedArrayMap();
+            this.data.forEach(new IntProcedure()
+            {
+                public void value(int each)
+                {
+                    map.put(each, each);
+                }
+            });
+            map.compact();
+            return map;
+        }
+    }
+
+    public static class ImmutableIntIntSortedArrayMapFactory implements Function0<ImmutableIntIntMap>
+    {
+        private final IntIntSortedArrayMapFactory factory;
+
+        public ImmutableIntIntSortedArrayMapFactory(int size)
+        {
+            this.factory = new IntIntSortedArrayMapFactory(size);
+        }
+
+        @Override
+        public ImmutableIntIntMap value()
+        {
+            return this.factory.value().toImmutable();
+        }
+    }
+
+    public static class IntegerIntegerTreeSortedMapFactory implements Function0<TreeSortedMap<Integer, Integer>>
+    {
+        private final IntSet data;
+
+        public IntegerIntegerTreeSortedMapFactory(int size)
+        {
+            this.data = TestDataFactory.createRandomSet(size);
+        }
+
+        @Override
+        public TreeSortedMap<Integer, Integer> value()
+        {
+            final TreeSortedMap<Integer, Integer> map = TreeSortedMap.newMap();
+            this.data.forEach(new IntProcedure()
+            {
+                public void value(int each)
+                {
+                    map.put(each, each);
+                }
+            });
+            return map;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory.set;
+
+import java.util.Random;
+
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.set.primitive.IntSet;
+import com.gs.collections.impl.memory.MemoryTestBench;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.RoaringIntSet;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ClusteredIntSetMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusteredIntSetMemoryTest.class);
+
+    @Test
+    public void memoryForScaledSets()
+    {
+        LOGGER.info("Comparing Items: GSC {}, GSC {}",
+                IntHashSet.class.getSimpleName(),
+                RoaringIntSet.class.getSimpleName());
+
+        for (int i = 0; i < 1000001; i += 25000)
+        {
+            this.memoryForScaledSets(i);
+        }
+        LOGGER.info("Ending test: {}", this.getClass().getName());
+    }
+
+    public void memoryForScaledSets(int size)
+    {
+        MemoryTestBench.on(IntHashSet.class)
+                .printContainerMemoryUsage("ClusteredIntSet", size, new IntHashSetFactory(size));
+        MemoryTestBench.on(RoaringIntSet.class)
+                .printContainerMemoryUsage("ClusteredIntSet", size, new RoaringIntSetFactory(size));
+    }
+
+    /**
+     * Returns about {@code size} ids in a few long clusters with a tenth of the ids missing, like entitlement ids.
+     */
+    private static IntSet createClusteredSet(int size)
+    {
+        Random random = new Random((long) size);
+        IntHashSet set = new IntHashSet(size);
+        int next = random.nextInt(1000000);
+        while (set.size() < size)
+        {
+            if (random.nextInt(100000) == 0)
+            {
+                next += random.nextInt(10000000);
+            }
+            if (random.nextInt(10) != 0)
+            {
+                set.add(next);
+            }
+            next++;
+        }
+        return set;
+    }
+
+    public static class IntHashSetFactory implements Function0<IntHashSet>
+    {
+        private final IntSet data;
+
+        public IntHashSetFactory(int size)
+        {
+            this.data = ClusteredIntSetMemoryTest.createClusteredSet(size);
+        }
+
+        @Override
+        public IntHashSet value()
+        {
+            final IntHashSet set = new IntHashSet();
+            this.data.forEach(new IntProcedure()
+            {
+                public void value(int each)
+                {
+                    set.add(each);
+                }
+            });
+            return set;
+        }
+    }
+
+    public static class RoaringIntSetFactory implements Function0<RoaringIntSet>
+    {
+        private final IntSet data;
+
+        public RoaringIntSetFactory(int size)
+        {
+            this.data = ClusteredIntSetMemoryTest.createClusteredSet(size);
+        }
+
+        @Override
+        public RoaringIntSet value()
+        {
+            final RoaringIntSet set = new RoaringIntSet();
+            this.data.forEach(new IntProcedure()
+            {
+                public void value(int each)
+                {
+                    set.add(each);
+                }
+            });
+            set.runOptimize();
+            return set;
+        }
+    }
+}
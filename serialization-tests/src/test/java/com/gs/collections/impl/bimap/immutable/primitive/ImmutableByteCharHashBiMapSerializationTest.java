@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bimap.immutable.primitive;
+
+import com.gs.collections.impl.bimap.mutable.primitive.ByteCharHashBiMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableByteCharHashBiMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAHVjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5iaW1hcC5pbW11dGFibGUucHJpbWl0aXZl\n"
+                        + "LkltbXV0YWJsZUJ5dGVDaGFySGFzaEJpTWFwJEltbXV0YWJsZUJ5dGVDaGFyQmlNYXBTZXJpYWxp\n"
+                        + "emF0aW9uUHJveHkAAAAAAAAAAQwAAHhwdwoAAAACAQABAgACeA==",
+                ByteCharHashBiMap.newWithKeysValues((byte) 1, (char) 1, (byte) 2, (char) 2).toImmutable());
+    }
+}
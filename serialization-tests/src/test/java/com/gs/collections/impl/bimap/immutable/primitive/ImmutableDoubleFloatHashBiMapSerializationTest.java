@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bimap.immutable.primitive;
+
+import com.gs.collections.impl.bimap.mutable.primitive.DoubleFloatHashBiMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableDoubleFloatHashBiMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAHtjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5iaW1hcC5pbW11dGFibGUucHJpbWl0aXZl\n"
+                        + "LkltbXV0YWJsZURvdWJsZUZsb2F0SGFzaEJpTWFwJEltbXV0YWJsZURvdWJsZUZsb2F0QmlNYXBT\n"
+                        + "ZXJpYWxpemF0aW9uUHJveHkAAAAAAAAAAQwAAHhwdxwAAAACP/AAAAAAAAA/gAAAQAAAAAAAAABA\n"
+                        + "AAAAeA==",
+                DoubleFloatHashBiMap.newWithKeysValues(1.0, 1.0f, 2.0, 2.0f).toImmutable());
+    }
+}
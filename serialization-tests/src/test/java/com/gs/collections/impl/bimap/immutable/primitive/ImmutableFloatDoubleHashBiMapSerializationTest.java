@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bimap.immutable.primitive;
+
+import com.gs.collections.impl.bimap.mutable.primitive.FloatDoubleHashBiMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableFloatDoubleHashBiMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAHtjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5iaW1hcC5pbW11dGFibGUucHJpbWl0aXZl\n"
+                        + "LkltbXV0YWJsZUZsb2F0RG91YmxlSGFzaEJpTWFwJEltbXV0YWJsZUZsb2F0RG91YmxlQmlNYXBT\n"
+                        + "ZXJpYWxpemF0aW9uUHJveHkAAAAAAAAAAQwAAHhwdxwAAAACP4AAAD/wAAAAAAAAQAAAAEAAAAAA\n"
+                        + "AAAAeA==",
+                FloatDoubleHashBiMap.newWithKeysValues(1.0f, 1.0, 2.0f, 2.0).toImmutable());
+    }
+}
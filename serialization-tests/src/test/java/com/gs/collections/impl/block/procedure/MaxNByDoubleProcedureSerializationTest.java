@@ -0,0 +1,37 @@
+/*
+ * Copyright 2011 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class MaxNByDoubleProcedureSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD1jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5ibG9jay5wcm9jZWR1cmUuTWF4TkJ5RG91\n"
+                        + "YmxlUHJvY2VkdXJlAAAAAAAAAAECAAVJAAFuSQAEc2l6ZVsACGVsZW1lbnRzdAATW0xqYXZhL2xh\n"
+                        + "bmcvT2JqZWN0O0wACGZ1bmN0aW9udABATGNvbS9ncy9jb2xsZWN0aW9ucy9hcGkvYmxvY2svZnVu\n"
+                        + "Y3Rpb24vcHJpbWl0aXZlL0RvdWJsZUZ1bmN0aW9uO1sABGtleXN0AAJbRHhwAAAAAwAAAAB1cgAT\n"
+                        + "W0xqYXZhLmxhbmcuT2JqZWN0O5DOWJ8QcylsAgAAeHAAAAADcHBwcHVyAAJbRD6mjBSrY1oeAgAA\n"
+                        + "eHAAAAADAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA",
+                new MaxNByDoubleProcedure<Object>(3, null));
+    }
+}
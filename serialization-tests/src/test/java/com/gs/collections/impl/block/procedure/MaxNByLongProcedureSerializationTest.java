@@ -0,0 +1,37 @@
+/*
+ * Copyright 2011 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class MaxNByLongProcedureSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADtjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5ibG9jay5wcm9jZWR1cmUuTWF4TkJ5TG9u\n"
+                        + "Z1Byb2NlZHVyZQAAAAAAAAABAgAFSQABbkkABHNpemVbAAhlbGVtZW50c3QAE1tMamF2YS9sYW5n\n"
+                        + "L09iamVjdDtMAAhmdW5jdGlvbnQAPkxjb20vZ3MvY29sbGVjdGlvbnMvYXBpL2Jsb2NrL2Z1bmN0\n"
+                        + "aW9uL3ByaW1pdGl2ZS9Mb25nRnVuY3Rpb247WwAEa2V5c3QAAltKeHAAAAADAAAAAHVyABNbTGph\n"
+                        + "dmEubGFuZy5PYmplY3Q7kM5YnxBzKWwCAAB4cAAAAANwcHBwdXIAAltKeCAEtRKxdZMCAAB4cAAA\n"
+                        + "AAMAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=",
+                new MaxNByLongProcedure<Object>(3, null));
+    }
+}
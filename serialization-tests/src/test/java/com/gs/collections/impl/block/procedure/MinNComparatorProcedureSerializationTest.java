@@ -0,0 +1,35 @@
+/*
+ * Copyright 2011 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class MinNComparatorProcedureSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD9jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5ibG9jay5wcm9jZWR1cmUuTWluTkNvbXBh\n"
+                        + "cmF0b3JQcm9jZWR1cmUAAAAAAAAAAQIABEkAAW5JAARzaXplTAAKY29tcGFyYXRvcnQAFkxqYXZh\n"
+                        + "L3V0aWwvQ29tcGFyYXRvcjtbAARoZWFwdAATW0xqYXZhL2xhbmcvT2JqZWN0O3hwAAAAAwAAAABw\n"
+                        + "dXIAE1tMamF2YS5sYW5nLk9iamVjdDuQzlifEHMpbAIAAHhwAAAAA3BwcA==",
+                new MinNComparatorProcedure<Object>(3, null));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compares the size of {@link CompactCodecs} encodings with Java serialization of the same collections. The speed of
+ * the round trips is compared by {@code CompactCodecTest} in jmh-tests.
+ */
+public class CompactCodecSizeTest
+{
+    private static final int SIZE = 10000;
+
+    private static MutableList<Long> timestamps()
+    {
+        MutableList<Long> result = FastList.newList(SIZE);
+        for (int i = 0; i < SIZE; i++)
+        {
+            result.add(1420070400000L + i * 250L);
+        }
+        return result;
+    }
+
+    private static LongArrayList primitiveTimestamps()
+    {
+        LongArrayList result = new LongArrayList(SIZE);
+        for (int i = 0; i < SIZE; i++)
+        {
+            result.add(1420070400000L + i * 250L);
+        }
+        return result;
+    }
+
+    private static IntArrayList smallInts()
+    {
+        IntArrayList result = new IntArrayList(SIZE);
+        for (int i = 0; i < SIZE; i++)
+        {
+            result.add((i * 7919) % 200 - 100);
+        }
+        return result;
+    }
+
+    private static LongHashSet ids()
+    {
+        LongHashSet result = new LongHashSet(SIZE);
+        for (int i = 0; i < SIZE; i++)
+        {
+            result.add(900000000L + i * 3L);
+        }
+        return result;
+    }
+
+    private static MutableMap<String, String> statusByAccount()
+    {
+        MutableMap<String, String> result = UnifiedMap.newMap(SIZE);
+        String[] statuses = {"OPEN", "CLOSED", "SUSPENDED", "PENDING"};
+        for (int i = 0; i < SIZE; i++)
+        {
+            result.put("ACCT" + i, statuses[i % statuses.length]);
+        }
+        return result;
+    }
+
+    private static MutableBag<String> currencies()
+    {
+        MutableBag<String> result = HashBag.newBag();
+        String[] codes = {"USD", "EUR", "JPY", "GBP", "CHF", "HKD"};
+        for (int i = 0; i < SIZE; i++)
+        {
+            result.add(codes[i % codes.length]);
+        }
+        return result;
+    }
+
+    private static MutableListMultimap<String, String> desksByRegion()
+    {
+        MutableListMultimap<String, String> result = FastListMultimap.newMultimap();
+        for (int i = 0; i < SIZE; i++)
+        {
+            result.put("REGION" + i % 20, "DESK" + i % 50);
+        }
+        return result;
+    }
+
+    private static <T> void assertSmaller(T value, CompactCodec<T> codec, double maxRatio)
+    {
+        byte[] compact = CompactCodecs.toByteArray(value, codec);
+        byte[] serialized = SerializeTestHelper.serialize(value);
+        Assert.assertEquals(value, CompactCodecs.fromByteArray(compact, codec));
+        Assert.assertTrue(
+                compact.length + " compact bytes against " + serialized.length + " serialized",
+                compact.length <= serialized.length * maxRatio);
+    }
+
+    @Test
+    public void size()
+    {
+        assertSmaller(timestamps(), CompactCodecs.lists(CompactCodecs.longs()), 0.5);
+        assertSmaller(primitiveTimestamps(), CompactCodecs.longLists(), 0.3);
+        assertSmaller(smallInts(), CompactCodecs.intLists(), 0.45);
+        assertSmaller(ids(), CompactCodecs.longSets(), 0.15);
+        assertSmaller(statusByAccount(), CompactCodecs.maps(CompactCodecs.strings(), CompactCodecs.strings()), 0.7);
+        assertSmaller(currencies(), CompactCodecs.bags(CompactCodecs.strings()), 0.5);
+        assertSmaller(desksByRegion(), CompactCodecs.listMultimaps(CompactCodecs.strings(), CompactCodecs.strings()), 0.3);
+    }
+}
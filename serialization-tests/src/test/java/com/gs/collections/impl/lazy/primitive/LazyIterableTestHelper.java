@@ -509,6 +509,42 @@ public class LazyIterableTestHelper<T> implements LazyIterable<T>
         return null;
     }
 
+    @Override
+    public MutableList<T> minN(int n, Comparator<? super T> comparator)
+    {
+        return null;
+    }
+
+    @Override
+    public MutableList<T> maxN(int n, Comparator<? super T> comparator)
+    {
+        return null;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        return null;
+    }
+
+    @Override
+    public MutableList<T> topNByInt(int n, IntFunction<? super T> function)
+    {
+        return null;
+    }
+
+    @Override
+    public MutableList<T> topNByLong(int n, LongFunction<? super T> function)
+    {
+        return null;
+    }
+
+    @Override
+    public MutableList<T> topNByDouble(int n, DoubleFunction<? super T> function)
+    {
+        return null;
+    }
+
     @Override
     public long sumOfInt(IntFunction<? super T> function)
     {
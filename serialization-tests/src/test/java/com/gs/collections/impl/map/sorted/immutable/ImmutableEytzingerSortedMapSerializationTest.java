@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.map.sorted.immutable;
+
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableEytzingerSortedMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                -1927932076254933809L,
+                "rO0ABXNyAFFjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuc29ydGVkLmltbXV0YWJsZS5JbW11\n"
+                        + "dGFibGVTb3J0ZWRNYXBTZXJpYWxpemF0aW9uUHJveHkAAAAAAAAAAQwAAHhwcHcEAAAAAnNyABFq\n"
+                        + "YXZhLmxhbmcuSW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJlcoas\n"
+                        + "lR0LlOCLAgAAeHAAAAABdAABMXNxAH4AAgAAAAJ0AAEyeA==",
+                ImmutableEytzingerSortedMap.newMap(TreeSortedMap.newMapWith(1, "1", 2, "2")));
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.immutable.primitive;
+
+import com.gs.collections.impl.map.sorted.mutable.primitive.ByteByteSortedArrayMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableByteByteSortedArrayMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAINjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuc29ydGVkLmltbXV0YWJsZS5wcmlt\n"
+                        + "aXRpdmUuSW1tdXRhYmxlQnl0ZUJ5dGVTb3J0ZWRBcnJheU1hcCRJbW11dGFibGVCeXRlQnl0ZVNv\n"
+                        + "cnRlZE1hcFNlcmlhbGl6YXRpb25Qcm94eQAAAAAAAAABDAAAeHB3BAAAAAB4",
+                ImmutableByteByteSortedArrayMap.newMap(new ByteByteSortedArrayMap()));
+    }
+}
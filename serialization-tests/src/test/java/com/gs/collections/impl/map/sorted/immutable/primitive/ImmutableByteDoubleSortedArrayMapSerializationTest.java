@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.immutable.primitive;
+
+import com.gs.collections.impl.map.sorted.mutable.primitive.ByteDoubleSortedArrayMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableByteDoubleSortedArrayMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAIdjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuc29ydGVkLmltbXV0YWJsZS5wcmlt\n"
+                        + "aXRpdmUuSW1tdXRhYmxlQnl0ZURvdWJsZVNvcnRlZEFycmF5TWFwJEltbXV0YWJsZUJ5dGVEb3Vi\n"
+                        + "bGVTb3J0ZWRNYXBTZXJpYWxpemF0aW9uUHJveHkAAAAAAAAAAQwAAHhwdwQAAAAAeA==",
+                ImmutableByteDoubleSortedArrayMap.newMap(new ByteDoubleSortedArrayMap()));
+    }
+}
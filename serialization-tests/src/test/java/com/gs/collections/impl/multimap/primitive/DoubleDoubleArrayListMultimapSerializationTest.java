@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class DoubleDoubleArrayListMultimapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAEhjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tdWx0aW1hcC5wcmltaXRpdmUuRG91Ymxl\n"
+                        + "RG91YmxlQXJyYXlMaXN0TXVsdGltYXAAAAAAAAAAAQwAAHhyAE5jb20uZ3MuY29sbGVjdGlvbnMu\n"
+                        + "aW1wbC5tdWx0aW1hcC5wcmltaXRpdmUuQWJzdHJhY3RNdXRhYmxlRG91YmxlRG91YmxlTXVsdGlt\n"
+                        + "YXAAAAAAAAAAAQwAAHhwdwQAAAAAeA==",
+                new DoubleDoubleArrayListMultimap());
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.priorityqueue.mutable;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class HeapPriorityQueueSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD9jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5wcmlvcml0eXF1ZXVlLm11dGFibGUuSGVh\n"
+                        + "cFByaW9yaXR5UXVldWUAAAAAAAAAAQMAAUwACmNvbXBhcmF0b3J0ABZMamF2YS91dGlsL0NvbXBh\n"
+                        + "cmF0b3I7eHBwdwQAAAAAeA==",
+                HeapPriorityQueue.newQueue());
+    }
+}
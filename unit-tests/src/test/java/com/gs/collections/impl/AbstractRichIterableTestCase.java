@@ -607,6 +607,42 @@ public abstract class AbstractRichIterableTestCase
         this.newWith(1, null, 2).maxBy(Integer::valueOf);
     }
 
+    @Test
+    public void minN()
+    {
+        RichIterable<Integer> iterable = this.newWith(4, 1, 5, 2, 3);
+        Assert.assertEquals(FastList.newListWith(1, 2), iterable.minN(2, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5), iterable.minN(10, Comparators.naturalOrder()));
+        Verify.assertEmpty(iterable.minN(0, Comparators.naturalOrder()));
+        Verify.assertEmpty(this.<Integer>newWith().minN(3, Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void maxN()
+    {
+        RichIterable<Integer> iterable = this.newWith(4, 1, 5, 2, 3);
+        Assert.assertEquals(FastList.newListWith(5, 4, 3), iterable.maxN(3, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(1), iterable.maxN(1, Comparators.reverseNaturalOrder()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void minN_negative_throws()
+    {
+        this.newWith(1, 2).minN(-1, Comparators.naturalOrder());
+    }
+
+    @Test
+    public void topNBy()
+    {
+        RichIterable<Integer> iterable = this.newWith(4, 1, 5, 2, 3);
+        Assert.assertEquals(FastList.newListWith(1, 2), iterable.topNBy(2, each -> -each));
+        Assert.assertEquals(FastList.newListWith(5, 4), iterable.topNByInt(2, Integer::intValue));
+        Assert.assertEquals(FastList.newListWith(5, 4, 3), iterable.topNByLong(3, Integer::longValue));
+        Assert.assertEquals(FastList.newListWith(1), iterable.topNByDouble(1, each -> -each.doubleValue()));
+        Assert.assertEquals(FastList.newListWith(5, 4, 3, 2, 1), iterable.topNByInt(7, Integer::intValue));
+        Verify.assertEmpty(iterable.topNByDouble(0, Integer::doubleValue));
+    }
+
     @Test
     public void detectWith()
     {
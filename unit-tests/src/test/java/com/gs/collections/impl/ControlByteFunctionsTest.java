@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ControlByteFunctionsTest
+{
+    private static long group(long... controlBytes)
+    {
+        long group = ControlByteFunctions.EMPTY_GROUP;
+        for (int i = 0; i < controlBytes.length; i++)
+        {
+            group = ControlByteFunctions.setControlByte(group, i, controlBytes[i]);
+        }
+        return group;
+    }
+
+    private static long slots(int... slots)
+    {
+        long mask = 0L;
+        for (int slot : slots)
+        {
+            mask |= 0x80L << (slot << 3);
+        }
+        return mask;
+    }
+
+    @Test
+    public void matchEmptyAndDeleted()
+    {
+        long group = group(0x12L, ControlByteFunctions.DELETED, ControlByteFunctions.EMPTY, 0x7FL, 0L);
+        Assert.assertEquals(slots(2, 5, 6, 7), ControlByteFunctions.matchEmpty(group));
+        Assert.assertEquals(slots(1, 2, 5, 6, 7), ControlByteFunctions.matchEmptyOrDeleted(group));
+        Assert.assertEquals(slots(0, 3, 4), ControlByteFunctions.matchFull(group));
+        Assert.assertEquals(0L, ControlByteFunctions.matchFull(ControlByteFunctions.EMPTY_GROUP));
+    }
+
+    @Test
+    public void matchH2()
+    {
+        long group = group(0x12L, 0x34L, ControlByteFunctions.DELETED, 0x12L, ControlByteFunctions.EMPTY, 0x00L, 0x7FL, 0x12L);
+        Assert.assertEquals(slots(0, 3, 7), ControlByteFunctions.matchH2(group, 0x12L));
+        Assert.assertEquals(slots(1), ControlByteFunctions.matchH2(group, 0x34L));
+        Assert.assertEquals(slots(6), ControlByteFunctions.matchH2(group, 0x7FL));
+        Assert.assertEquals(0L, ControlByteFunctions.matchH2(ControlByteFunctions.EMPTY_GROUP, 0x00L));
+        Assert.assertEquals(0L, ControlByteFunctions.matchH2(group, 0x55L));
+    }
+
+    @Test
+    public void lowestSlot()
+    {
+        long match = slots(2, 5);
+        Assert.assertEquals(2, ControlByteFunctions.lowestSlot(match));
+        match = ControlByteFunctions.clearLowest(match);
+        Assert.assertEquals(5, ControlByteFunctions.lowestSlot(match));
+        Assert.assertEquals(0L, ControlByteFunctions.clearLowest(match));
+    }
+
+    @Test
+    public void controlByte()
+    {
+        long group = group(0x01L, 0x02L);
+        Assert.assertEquals(0x01L, ControlByteFunctions.controlByte(group, 0));
+        Assert.assertEquals(0x02L, ControlByteFunctions.controlByte(group, 1));
+        Assert.assertEquals(ControlByteFunctions.EMPTY, ControlByteFunctions.controlByte(group, 7));
+    }
+
+    @Test
+    public void maxLoad()
+    {
+        Assert.assertEquals(7, ControlByteFunctions.maxLoad(8));
+        Assert.assertEquals(56, ControlByteFunctions.maxLoad(64));
+        Assert.assertTrue(ControlByteFunctions.shouldRehashInPlace(50, 64));
+        Assert.assertFalse(ControlByteFunctions.shouldRehashInPlace(51, 64));
+    }
+}
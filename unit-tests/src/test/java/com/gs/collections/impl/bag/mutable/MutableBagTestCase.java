@@ -25,6 +25,7 @@ import com.gs.collections.api.bag.MutableBagIterable;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.partition.PartitionMutableCollection;
 import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.IntegerPredicates;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.factory.Predicates2;
@@ -402,6 +403,16 @@ public abstract class MutableBagTestCase extends AbstractCollectionTestCase
         Assert.assertEquals(Iterables.iBag(1, 1, 1, 1, 3, 3), integers.selectByOccurrences(IntPredicates.isEven()));
     }
 
+    @Test
+    public void minNCountsOccurrences()
+    {
+        MutableBagIterable<Integer> bag = this.newWith(3, 1, 3, 2, 1, 3);
+        Assert.assertEquals(FastList.newListWith(1, 1, 2), bag.minN(3, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(3, 3, 3, 2), bag.maxN(4, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(3, 3), bag.topNByInt(2, Integer::intValue));
+        Assert.assertEquals(FastList.newListWith(1, 1, 2, 3, 3, 3), bag.topNByDouble(10, each -> -each.doubleValue()));
+    }
+
     @Test
     public void topOccurrences()
     {
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import java.util.Random;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MinNComparatorProcedureTest
+{
+    @Test
+    public void matchesSortAndTake()
+    {
+        Random random = new Random(11L);
+        for (int size : new int[]{0, 1, 7, 100, 1000})
+        {
+            MutableList<Integer> values = FastList.newList(size);
+            for (int i = 0; i < size; i++)
+            {
+                values.add(random.nextInt(50));
+            }
+            MutableList<Integer> sorted = values.toSortedList();
+            for (int n : new int[]{0, 1, 3, 50, 2000})
+            {
+                MinNComparatorProcedure<Integer> procedure = new MinNComparatorProcedure<>(n, Comparators.naturalOrder());
+                values.forEach(procedure);
+                Assert.assertEquals(sorted.take(n), procedure.getResult());
+            }
+        }
+    }
+
+    @Test
+    public void addAllMergesBatches()
+    {
+        MinNComparatorProcedure<Integer> left = new MinNComparatorProcedure<>(3, Comparators.naturalOrder());
+        MinNComparatorProcedure<Integer> right = new MinNComparatorProcedure<>(3, Comparators.naturalOrder());
+        FastList.newListWith(9, 4, 7, 1).forEach(left);
+        FastList.newListWith(2, 8, 3).forEach(right);
+        left.addAll(right);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), left.getResult());
+    }
+
+    @Test
+    public void occurrences()
+    {
+        MinNComparatorProcedure<String> procedure = new MinNComparatorProcedure<>(4, Comparators.naturalOrder());
+        procedure.value("c", 10);
+        procedure.value("a", 2);
+        procedure.value("b", 1);
+        Assert.assertEquals(FastList.newListWith("a", "a", "b", "c"), procedure.getResult());
+    }
+
+    @Test
+    public void maxNByKeys()
+    {
+        MaxNByLongProcedure<String> byLength = MaxNByLongProcedure.byInt(2, String::length);
+        FastList.newListWith("a", "abcd", "ab", "abc").forEach(byLength);
+        Assert.assertEquals(FastList.newListWith("abcd", "abc"), byLength.getResult());
+
+        MaxNByDoubleProcedure<Double> byValue = new MaxNByDoubleProcedure<>(2, Double::doubleValue);
+        FastList.newListWith(1.0, Double.NaN, -0.0, 2.0).forEach(byValue);
+        Assert.assertEquals(FastList.newListWith(Double.NaN, 2.0), byValue.getResult());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeNThrows()
+    {
+        new MinNComparatorProcedure<Integer>(-1, Comparators.naturalOrder());
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.columnar;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ColumnarTableTest
+{
+    private static final String[] CATEGORIES = {"A", "B", "C", "D", null};
+
+    private final MutableList<Trade> trades = Interval.zeroTo(999).collect(Trade::new).toList();
+    private ColumnarTable<Trade> table;
+    private IntColumn quantity;
+    private DoubleColumn price;
+    private DictionaryColumn<String> category;
+
+    @Before
+    public void setUp()
+    {
+        this.table = ColumnarTable.newTable();
+        this.quantity = this.table.addIntColumn(Trade::getQuantity);
+        this.price = this.table.addDoubleColumn(Trade::getPrice);
+        this.category = this.table.addDictionaryColumn(Trade::getCategory);
+        this.table.addAll(this.trades);
+    }
+
+    @Test
+    public void columns()
+    {
+        Assert.assertEquals(1000, this.table.size());
+        Assert.assertTrue(this.table.notEmpty());
+        Assert.assertEquals(this.trades.collectInt(Trade::getQuantity), this.quantity.asList());
+        Assert.assertEquals(this.trades.collectDouble(Trade::getPrice), this.price.asList());
+        Assert.assertEquals(FastList.newListWith(CATEGORIES), this.category.getDictionary());
+        Assert.assertEquals(5, this.category.getDictionarySize());
+        Assert.assertEquals("C", this.category.get(7));
+        Assert.assertNull(this.category.get(9));
+        Assert.assertEquals(7.25, this.price.get(29), 0.0);
+    }
+
+    @Test
+    public void sumOf()
+    {
+        Assert.assertEquals(this.trades.sumOfInt(Trade::getQuantity), this.table.sumOfInt(this.quantity));
+        Assert.assertEquals(this.trades.sumOfDouble(Trade::getPrice), this.table.sumOfDouble(this.price), 0.0);
+        Assert.assertEquals(this.trades.sumOfDouble(Trade::getPrice), this.table.all().sumOfDouble(this.price), 0.0);
+    }
+
+    @Test
+    public void select()
+    {
+        ColumnSelection large = this.table.select(this.quantity, each -> each > 50);
+        MutableList<Trade> expected = this.trades.select(each -> each.getQuantity() > 50);
+        Assert.assertEquals(expected.size(), large.size());
+        Assert.assertEquals(expected.sumOfInt(Trade::getQuantity), large.sumOfInt(this.quantity));
+        Assert.assertEquals(expected.sumOfDouble(Trade::getPrice), large.sumOfDouble(this.price), 0.0);
+
+        ColumnSelection cheapLarge = large.select(this.price, each -> each < 100.0);
+        MutableList<Trade> expectedCheapLarge = expected.select(each -> each.getPrice() < 100.0);
+        Assert.assertEquals(expectedCheapLarge.size(), cheapLarge.size());
+        Assert.assertEquals(expectedCheapLarge.sumOfDouble(Trade::getPrice), cheapLarge.sumOfDouble(this.price), 0.0);
+        Assert.assertEquals(this.table.select(this.price, each -> each < 100.0).and(large), cheapLarge);
+        Assert.assertTrue(cheapLarge.contains(expectedCheapLarge.getFirst().getId()));
+        Assert.assertFalse(cheapLarge.contains(0));
+    }
+
+    @Test
+    public void selectDictionaryEvaluatesEachValueOnce()
+    {
+        AtomicInteger evaluations = new AtomicInteger();
+        ColumnSelection selection = this.table.select(this.category, each -> {
+            evaluations.incrementAndGet();
+            return "A".equals(each) || each == null;
+        });
+        Assert.assertEquals(5, evaluations.get());
+        Assert.assertEquals(400, selection.size());
+        Assert.assertEquals(
+                this.trades.select(each -> "A".equals(each.getCategory()) || each.getCategory() == null).sumOfInt(Trade::getQuantity),
+                selection.sumOfInt(this.quantity));
+        Verify.assertEmpty(this.table.select(this.category, "E"::equals).rows().toList());
+    }
+
+    @Test
+    public void combine()
+    {
+        ColumnSelection a = this.table.select(this.category, "A"::equals);
+        ColumnSelection even = this.table.select(this.quantity, each -> each % 2 == 0);
+        Assert.assertEquals(
+                this.trades.count(each -> "A".equals(each.getCategory()) || each.getQuantity() % 2 == 0),
+                a.or(even).size());
+        Assert.assertEquals(
+                this.trades.count(each -> "A".equals(each.getCategory()) && each.getQuantity() % 2 != 0),
+                a.andNot(even).size());
+        Assert.assertEquals(this.table.all(), a.or(this.table.all().andNot(a)));
+        Assert.assertTrue(a.and(this.table.all().andNot(a)).isEmpty());
+        Assert.assertTrue(a.notEmpty());
+    }
+
+    @Test
+    public void groupBy()
+    {
+        ColumnSelection large = this.table.select(this.quantity, each -> each > 50);
+        MutableMap<String, ColumnSelection> groups = large.groupBy(this.category);
+        Verify.assertSize(5, groups);
+        groups.forEachKeyValue((category, selection) ->
+                Assert.assertEquals(
+                        large.select(this.category, each -> category == null ? each == null : category.equals(each)),
+                        selection));
+        Assert.assertEquals(
+                this.trades.select(each -> each.getQuantity() > 50).collect(Trade::getCategory).toBag(),
+                large.countBy(this.category));
+        Verify.assertSize(1, this.table.select(this.category, "B"::equals).groupBy(this.category));
+    }
+
+    @Test
+    public void sumBy()
+    {
+        Assert.assertEquals(
+                this.trades.sumByInt(Trade::getCategory, Trade::getQuantity),
+                this.table.all().sumByInt(this.category, this.quantity));
+        Assert.assertEquals(
+                this.trades.sumByDouble(Trade::getCategory, Trade::getPrice),
+                this.table.all().sumByDouble(this.category, this.price));
+        ColumnSelection selection = this.table.select(this.category, each -> !"D".equals(each));
+        Assert.assertEquals(
+                this.trades.reject(each -> "D".equals(each.getCategory())).sumByDouble(Trade::getCategory, Trade::getPrice),
+                selection.sumByDouble(this.category, this.price));
+    }
+
+    @Test
+    public void rows()
+    {
+        ColumnSelection selection = this.table.select(this.quantity, each -> each == 3);
+        Assert.assertEquals(
+                this.trades.select(each -> each.getQuantity() == 3).collect(each -> Tuples.pair(each.getId(), each.getCategory())),
+                selection.rows().collect(row -> Tuples.pair(row.getIndex(), row.get(this.category))).toList());
+        Assert.assertEquals(selection.size(), selection.rows().size());
+
+        Iterator<ColumnarRow> iterator = selection.rows().iterator();
+        ColumnarRow row = iterator.next();
+        Assert.assertEquals(3, row.getIndex());
+        Assert.assertEquals(3, row.getInt(this.quantity));
+        Assert.assertEquals(this.trades.get(3).getPrice(), row.getDouble(this.price), 0.0);
+        Assert.assertEquals(this.table.getRow(3), row);
+        Assert.assertEquals("ColumnarRow[3]", row.toString());
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+        while (iterator.hasNext())
+        {
+            iterator.next();
+        }
+        Verify.assertThrows(NoSuchElementException.class, iterator::next);
+
+        Verify.assertSize(1000, this.table.rows().toList());
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> this.table.getRow(1000));
+    }
+
+    @Test
+    public void columnsOfOtherTables()
+    {
+        ColumnarTable<Trade> other = ColumnarTable.newTable();
+        IntColumn otherQuantity = other.addIntColumn(Trade::getQuantity);
+        other.addAll(this.trades);
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.table.sumOfInt(otherQuantity));
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.table.select(otherQuantity, each -> true));
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.table.all().and(other.all()));
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.table.getRow(0).getInt(otherQuantity));
+        Verify.assertThrows(IllegalStateException.class, () -> this.table.addIntColumn(Trade::getId));
+    }
+
+    @Test
+    public void addWhenAFunctionThrows()
+    {
+        ColumnarTable<Trade> table = ColumnarTable.newTable();
+        IntColumn id = table.addIntColumn(Trade::getId);
+        DictionaryColumn<String> category = table.addDictionaryColumn(Trade::getCategory);
+        DoubleColumn price = table.addDoubleColumn(each -> {
+            if (each.getId() == 3)
+            {
+                throw new IllegalArgumentException();
+            }
+            return each.getPrice();
+        });
+        table.addAll(this.trades.subList(0, 3));
+        Verify.assertThrows(IllegalArgumentException.class, () -> table.add(this.trades.get(3)));
+        Assert.assertEquals(3, table.size());
+        Assert.assertEquals(IntArrayList.newListWith(0, 1, 2), id.asList());
+        Assert.assertEquals(FastList.newListWith("A", "B", "C"), category.getDictionary());
+        Verify.assertSize(3, price.asList());
+
+        table.add(this.trades.get(4));
+        Assert.assertEquals(4, table.getRow(3).getInt(id));
+        Assert.assertEquals(this.trades.get(4).getPrice(), table.getRow(3).getDouble(price), 0.0);
+        Assert.assertNull(table.getRow(3).get(category));
+    }
+
+    @Test
+    public void empty()
+    {
+        ColumnarTable<Trade> empty = ColumnarTable.newTable();
+        DoubleColumn emptyPrice = empty.addDoubleColumn(Trade::getPrice);
+        DictionaryColumn<String> emptyCategory = empty.addDictionaryColumn(Trade::getCategory);
+        Assert.assertTrue(empty.isEmpty());
+        Assert.assertTrue(empty.all().isEmpty());
+        Assert.assertEquals(0.0, empty.sumOfDouble(emptyPrice), 0.0);
+        Verify.assertEmpty(empty.all().groupBy(emptyCategory));
+        Assert.assertTrue(empty.all().sumByDouble(emptyCategory, emptyPrice).isEmpty());
+        Verify.assertIterableEmpty(empty.rows());
+    }
+
+    private static final class Trade
+    {
+        private final int id;
+
+        private Trade(int id)
+        {
+            this.id = id;
+        }
+
+        public int getId()
+        {
+            return this.id;
+        }
+
+        public int getQuantity()
+        {
+            return this.id % 100;
+        }
+
+        public double getPrice()
+        {
+            return this.id * 0.25;
+        }
+
+        public String getCategory()
+        {
+            return CATEGORIES[this.id % CATEGORIES.length];
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.external;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.factory.Functions0;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExternalAggregateTest
+{
+    private static final Function<Integer, Integer> MOD_1000 = each -> each % 1000;
+    private static final Function2<Long, Integer, Long> SUM = (sum, each) -> sum + each;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static MutableMap<Integer, Long> expectedSums(int size)
+    {
+        return Interval.zeroTo(size - 1).toList().aggregateBy(MOD_1000, () -> 0L, SUM);
+    }
+
+    private static void assertMapEquals(MutableMap<?, ?> expected, ExternalAggregateMap<?, ?> actual)
+    {
+        Assert.assertEquals(expected, actual.toImmutable());
+        Assert.assertTrue(actual.equals(expected));
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void aggregateByInMemory()
+    {
+        ExternalAggregateMap<Integer, Long> sums =
+                ExternalAggregate.aggregateBy(Interval.zeroTo(9999), MOD_1000, () -> 0L, SUM, RecordSerializers.integers());
+        Assert.assertEquals(0, sums.getSpilledPartitionCount());
+        assertMapEquals(expectedSums(10000), sums);
+        Assert.assertEquals(1000, sums.size());
+        sums.close();
+    }
+
+    @Test
+    public void aggregateBySpillsPartitions()
+    {
+        File directory = this.temporaryFolder.getRoot();
+        ExternalAggregateMap<Integer, Long> sums =
+                ExternalAggregate.aggregateBy(Interval.zeroTo(9999), MOD_1000, () -> 0L, SUM, RecordSerializers.integers(), 100, directory);
+        Assert.assertEquals(ExternalAggregateMap.PARTITION_COUNT, sums.getSpilledPartitionCount());
+        Verify.assertSize(ExternalAggregateMap.PARTITION_COUNT, directory.listFiles());
+
+        MutableMap<Integer, Long> expected = expectedSums(10000);
+        assertMapEquals(expected, sums);
+        Assert.assertEquals(1000, sums.size());
+        Assert.assertFalse(sums.isEmpty());
+        Assert.assertEquals(expected.keysView().toSet(), sums.keysView().toSet());
+        Assert.assertEquals(expected.valuesView().toBag(), sums.valuesView().toBag());
+        Assert.assertEquals(expected.keyValuesView().toSet(), sums.keyValuesView().toSet());
+        Assert.assertEquals(expected.valuesView().toBag(), sums.toBag());
+
+        // Keys in memory and keys in partitions
+        for (int i = 0; i < 1000; i += 37)
+        {
+            Assert.assertEquals(expected.get(i), sums.get(i));
+            Assert.assertTrue(sums.containsKey(i));
+        }
+        Assert.assertNull(sums.get(1000));
+        Assert.assertFalse(sums.containsKey(1000));
+        Assert.assertTrue(sums.containsValue(expected.get(999)));
+        Assert.assertFalse(sums.containsValue(-1L));
+
+        // Temporary partitions of partitions are deleted after they are read
+        Verify.assertSize(ExternalAggregateMap.PARTITION_COUNT, directory.listFiles());
+        sums.close();
+        Verify.assertSize(0, directory.listFiles());
+        Verify.assertThrows(IllegalStateException.class, () -> sums.forEachKeyValue((key, value) -> { }));
+    }
+
+    @Test
+    public void aggregateByPartitionsRecursively()
+    {
+        // Every partition holds more than ten keys, so each is partitioned again
+        ExternalAggregateMap<Integer, Long> sums =
+                ExternalAggregate.aggregateBy(Interval.zeroTo(19999), MOD_1000, () -> 0L, SUM, RecordSerializers.integers(), 10, this.temporaryFolder.getRoot());
+        MutableMap<Integer, Long> expected = expectedSums(20000);
+        assertMapEquals(expected, sums);
+        Assert.assertEquals(expected.get(555), sums.get(555));
+        Assert.assertEquals(expected.keyValuesView().toSet(), sums.keyValuesView().toSet());
+        sums.close();
+        Verify.assertSize(0, this.temporaryFolder.getRoot().listFiles());
+    }
+
+    @Test
+    public void shortCircuitingAndAbandonedIterators()
+    {
+        // Each partition is partitioned again, so an open partition holds files of its own
+        File directory = this.temporaryFolder.getRoot();
+        ExternalAggregateMap<Integer, Long> sums =
+                ExternalAggregate.aggregateBy(Interval.zeroTo(19999), MOD_1000, () -> 0L, SUM, RecordSerializers.integers(), 10, directory);
+        int spilledFiles = directory.listFiles().length;
+        Assert.assertTrue(sums.containsValue(expectedSums(20000).get(999)));
+        Assert.assertFalse(sums.valuesView().allSatisfy(each -> each < 10L));
+        Assert.assertNotNull(sums.keysView().detect(each -> each > 990));
+        Verify.assertSize(spilledFiles, directory.listFiles());
+
+        // Closing the map closes the partition of an iterator which was abandoned in the middle of it
+        Iterator<Long> iterator = sums.iterator();
+        for (int i = 0; i < 20; i++)
+        {
+            iterator.next();
+        }
+        Assert.assertTrue(directory.listFiles().length > spilledFiles);
+        sums.close();
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertSize(0, directory.listFiles());
+    }
+
+    @Test
+    public void aggregateByWithEqualHashCodes()
+    {
+        // Keys with equal hash codes cannot be partitioned further, so they are aggregated in memory at the last depth
+        MutableList<String> keys = FastList.newListWith("Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB");
+        MutableList<String> records = Interval.zeroTo(599).collect(each -> keys.get(each % 6)).toList();
+        ExternalAggregateMap<String, Integer> counts = ExternalAggregate.aggregateBy(
+                records,
+                each -> each,
+                () -> 0,
+                (count, each) -> count + 1,
+                RecordSerializers.strings(),
+                1,
+                this.temporaryFolder.getRoot());
+        assertMapEquals(keys.toMap(each -> each, each -> 100), counts);
+        counts.close();
+    }
+
+    @Test
+    public void aggregateInPlaceBy()
+    {
+        ExternalAggregateMap<Integer, AtomicInteger> counts = ExternalAggregate.aggregateInPlaceBy(
+                Interval.zeroTo(9999),
+                MOD_1000,
+                AtomicInteger::new,
+                (count, each) -> count.incrementAndGet(),
+                RecordSerializers.integers(),
+                50,
+                this.temporaryFolder.getRoot());
+        Assert.assertEquals(1000, counts.size());
+        Assert.assertTrue(counts.allSatisfy(each -> each.get() == 10));
+        Assert.assertEquals(10000L, counts.sumOfInt(AtomicInteger::get));
+        counts.close();
+    }
+
+    @Test
+    public void groupBy()
+    {
+        ExternalAggregateMap<Integer, MutableList<Integer>> groups =
+                ExternalAggregate.groupBy(Interval.zeroTo(2999), MOD_1000, RecordSerializers.integers(), 100, this.temporaryFolder.getRoot());
+        Assert.assertEquals(FastList.newListWith(7, 1007, 2007), groups.get(7));
+        Assert.assertEquals(FastList.newListWith(993, 1993, 2993), groups.get(993));
+        Assert.assertTrue(groups.equals(Interval.zeroTo(2999).groupBy(MOD_1000).toMap()));
+        groups.close();
+    }
+
+    @Test
+    public void mapOperations()
+    {
+        ExternalAggregateMap<Integer, Long> sums =
+                ExternalAggregate.aggregateBy(Interval.zeroTo(1999), MOD_1000, () -> 0L, SUM, RecordSerializers.integers(), 100, this.temporaryFolder.getRoot());
+        MutableMap<Integer, Long> expected = expectedSums(2000);
+        Assert.assertEquals(expected.select((key, value) -> key < 10), sums.select((key, value) -> key < 10));
+        Assert.assertEquals(expected.reject((key, value) -> key < 10), sums.reject((key, value) -> key < 10));
+        Assert.assertEquals(expected.collectValues((key, value) -> value - key), sums.collectValues((key, value) -> value - key));
+        Assert.assertEquals(expected.collect((key, value) -> Tuples.pair(value, key)), sums.collect((key, value) -> Tuples.pair(value, key)));
+        Assert.assertEquals(expected.flipUniqueValues(), sums.flipUniqueValues());
+        Assert.assertEquals(expected.flip(), sums.flip());
+        Assert.assertEquals(expected.toImmutable(), sums.toImmutable());
+        Assert.assertEquals(Tuples.pair(500, 2000L), sums.detect((key, value) -> key == 500));
+        Assert.assertNull(sums.detect((key, value) -> key == 1000));
+        Assert.assertEquals(expected.select(each -> each > 1500L).toBag(), sums.select(each -> each > 1500L).toBag());
+        Assert.assertEquals(expected.collect(Functions.getToString()).toBag(), sums.collect(Functions.getToString()).toBag());
+        Assert.assertEquals(expected.getIfAbsent(5000, () -> -1L), sums.getIfAbsent(5000, () -> -1L));
+        Assert.assertEquals(expected.getIfAbsentValue(5, -1L), sums.getIfAbsentValue(5, -1L));
+        Assert.assertEquals(expected.toString().length(), sums.toString().length());
+        assertMapEquals(expected, sums);
+        Assert.assertNotEquals(sums, UnifiedMap.newMap(expected).withKeyValue(0, -1L));
+        sums.close();
+    }
+
+    @Test
+    public void iterator()
+    {
+        ExternalAggregateMap<Integer, MutableList<Integer>> groups =
+                ExternalAggregate.groupBy(Interval.zeroTo(9), MOD_1000, RecordSerializers.integers(), 2, this.temporaryFolder.getRoot());
+        Iterator<MutableList<Integer>> iterator = groups.iterator();
+        MutableList<Integer> values = FastList.newList();
+        while (iterator.hasNext())
+        {
+            values.addAll(iterator.next());
+        }
+        Assert.assertEquals(Interval.zeroTo(9), values.sortThis());
+        Verify.assertThrows(NoSuchElementException.class, iterator::next);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+        groups.close();
+    }
+
+    @Test
+    public void empty()
+    {
+        ExternalAggregateMap<Integer, MutableList<Integer>> groups =
+                ExternalAggregate.groupBy(FastList.<Integer>newList(), MOD_1000, RecordSerializers.integers(), 2, null);
+        Assert.assertTrue(groups.isEmpty());
+        assertMapEquals(UnifiedMap.newMap(), groups);
+        Assert.assertEquals("{}", groups.toString());
+        groups.close();
+        Verify.assertThrows(IllegalArgumentException.class, () -> ExternalAggregate.groupBy(FastList.<Integer>newList(), MOD_1000, RecordSerializers.integers(), 0, null));
+        Verify.assertThrows(IllegalArgumentException.class, () -> ExternalAggregate.aggregateBy(FastList.<Integer>newList(), MOD_1000, Functions0.value(0L), SUM, RecordSerializers.integers(), -1, null));
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.external;
+
+import java.io.File;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExternalSortTest
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    private static MutableList<Integer> shuffled(int size)
+    {
+        MutableList<Integer> list = Interval.zeroTo(size - 1).toList();
+        return list.shuffleThis(new Random(42L));
+    }
+
+    @Test
+    public void sortInMemory()
+    {
+        MutableList<Integer> list = shuffled(1000);
+        ExternalSortedIterable<Integer> sorted = ExternalSort.sort(list, Comparators.naturalOrder(), RecordSerializers.integers());
+        Assert.assertEquals(0, sorted.getSpilledRunCount());
+        Assert.assertEquals(Interval.zeroTo(999), sorted.toList());
+        Assert.assertEquals(1000, sorted.size());
+        sorted.close();
+    }
+
+    @Test
+    public void sortSpillsRuns()
+    {
+        File directory = this.temporaryFolder.getRoot();
+        MutableList<Integer> list = shuffled(25000);
+        ExternalSortedIterable<Integer> sorted =
+                ExternalSort.sort(list, Comparators.naturalOrder(), RecordSerializers.integers(), 4000, directory, this.executorService);
+        // Each full buffer is sorted in parallel slices but written as one run
+        Assert.assertEquals(6, sorted.getSpilledRunCount());
+        Verify.assertSize(sorted.getSpilledRunCount(), directory.listFiles());
+        Assert.assertEquals(25000, sorted.size());
+
+        // Each iteration merges the runs again
+        Assert.assertEquals(Interval.zeroTo(24999), sorted.toList());
+        Assert.assertEquals(Interval.zeroTo(24999), sorted.toList());
+        Assert.assertEquals(Interval.zeroTo(99), sorted.take(100).toList());
+
+        sorted.close();
+        Verify.assertSize(0, directory.listFiles());
+        Verify.assertThrows(IllegalStateException.class, sorted::iterator);
+    }
+
+    @Test
+    public void sortMergesRunsInPasses()
+    {
+        File directory = this.temporaryFolder.getRoot();
+        ExternalSortedIterable<Integer> sorted =
+                ExternalSort.sort(shuffled(2550), Comparators.naturalOrder(), RecordSerializers.integers(), 100, 3, directory, this.executorService);
+        Assert.assertTrue(sorted.getSpilledRunCount() <= 2);
+        Verify.assertSize(sorted.getSpilledRunCount(), directory.listFiles());
+        Assert.assertEquals(2550, sorted.size());
+        Assert.assertEquals(Interval.zeroTo(2549), sorted.toList());
+        sorted.close();
+        Verify.assertSize(0, directory.listFiles());
+
+        MutableList<String> list = FastList.newList();
+        for (int i = 0; i < 3000; i++)
+        {
+            list.add((char) ('a' + i % 5) + ":" + i);
+        }
+        Comparator<String> byLetter = Comparators.byFunction(each -> each.charAt(0));
+        ExternalSortedIterable<String> stable = ExternalSort.sort(list, byLetter, RecordSerializers.strings(), 70, 2, directory);
+        Assert.assertEquals(1, stable.getSpilledRunCount());
+        Assert.assertEquals(list.toSortedList(byLetter), stable.toList());
+        stable.close();
+
+        Verify.assertThrows(IllegalArgumentException.class, () -> ExternalSort.sort(list, byLetter, RecordSerializers.strings(), 70, 1, directory));
+    }
+
+    @Test
+    public void sortWhenBufferIsExactlyFull()
+    {
+        ExternalSortedIterable<Integer> sorted =
+                ExternalSort.sort(shuffled(200), Comparators.naturalOrder(), RecordSerializers.integers(), 100, this.temporaryFolder.getRoot());
+        Assert.assertEquals(1, sorted.getSpilledRunCount());
+        Assert.assertEquals(Interval.zeroTo(199), sorted.toList());
+        sorted.close();
+    }
+
+    @Test
+    public void sortIsStable()
+    {
+        MutableList<String> list = FastList.newList();
+        for (int i = 0; i < 3000; i++)
+        {
+            list.add((char) ('a' + i % 5) + ":" + i);
+        }
+        Comparator<String> byLetter = Comparators.byFunction(each -> each.charAt(0));
+        ExternalSortedIterable<String> sorted =
+                ExternalSort.sort(list, byLetter, RecordSerializers.strings(), 70, this.temporaryFolder.getRoot(), this.executorService);
+        Assert.assertEquals(list.toSortedList(byLetter), sorted.toList());
+        sorted.close();
+    }
+
+    @Test
+    public void sortWithJavaSerialization()
+    {
+        MutableList<Object> list = FastList.newList();
+        for (int i = 500; i > 0; i--)
+        {
+            list.add(Tuples.pair(i % 10, String.valueOf(i)));
+        }
+        Comparator<Object> comparator = Comparators.byFunction(each -> each.toString());
+        ExternalSortedIterable<Object> sorted =
+                ExternalSort.sort(list, comparator, RecordSerializers.javaSerialization(), 50, this.temporaryFolder.getRoot());
+        Assert.assertEquals(list.toSortedList(comparator), sorted.toList());
+        sorted.close();
+    }
+
+    @Test
+    public void iterator()
+    {
+        ExternalSortedIterable<String> sorted =
+                ExternalSort.sort(FastList.newListWith("c", null, "a", "b"), Comparator.nullsFirst(Comparator.<String>naturalOrder()), RecordSerializers.strings(), 1, this.temporaryFolder.getRoot());
+        Iterator<String> iterator = sorted.iterator();
+        Assert.assertNull(iterator.next());
+        Assert.assertEquals("a", iterator.next());
+        Assert.assertEquals("b", iterator.next());
+        Assert.assertEquals("c", iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, iterator::next);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+        sorted.close();
+    }
+
+    @Test
+    public void shortCircuitingAndAbandonedIterators()
+    {
+        File directory = this.temporaryFolder.getRoot();
+        ExternalSortedIterable<Integer> sorted =
+                ExternalSort.sort(shuffled(1000), Comparators.naturalOrder(), RecordSerializers.integers(), 100, directory);
+        Assert.assertEquals(Integer.valueOf(0), sorted.getFirst());
+        Assert.assertEquals(Integer.valueOf(500), sorted.detect(each -> each >= 500));
+        Assert.assertTrue(sorted.anySatisfy(each -> each == 7));
+        Assert.assertFalse(sorted.allSatisfy(each -> each < 10));
+        Assert.assertFalse(sorted.noneSatisfy(each -> each == 999));
+        Assert.assertEquals(Interval.zeroTo(9), sorted.take(10).toList());
+
+        // Closing the iterable closes the runs of an iterator which was abandoned before its end
+        Iterator<Integer> iterator = sorted.iterator();
+        Assert.assertEquals(Integer.valueOf(0), iterator.next());
+        sorted.close();
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertSize(0, directory.listFiles());
+    }
+
+    @Test
+    public void sortEmpty()
+    {
+        ExternalSortedIterable<Long> sorted = ExternalSort.sort(FastList.<Long>newList(), Comparators.naturalOrder(), RecordSerializers.longs());
+        Verify.assertIterableEmpty(sorted);
+        Assert.assertTrue(sorted.isEmpty());
+        sorted.close();
+        Verify.assertThrows(IllegalArgumentException.class, () -> ExternalSort.sort(FastList.<Long>newList(), Comparators.naturalOrder(), RecordSerializers.longs(), 0, null));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.factory.primitive;
+
+import com.gs.collections.api.set.primitive.BooleanSet;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.BooleanHashSet;
+import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BooleanSetsTest
+{
+    private final BooleanSet trueOnly = BooleanSets.immutable.of(true);
+    private final BooleanSet both = BooleanHashSet.newSetWith(true, false);
+
+    @Test
+    public void setAlgebra()
+    {
+        Assert.assertEquals(this.both, BooleanSets.union(this.trueOnly, BooleanSets.immutable.of(false)));
+        Assert.assertEquals(this.trueOnly, BooleanSets.intersect(this.both, this.trueOnly));
+        Assert.assertEquals(BooleanHashSet.newSetWith(false), BooleanSets.difference(this.both, this.trueOnly));
+        Assert.assertEquals(new BooleanHashSet(), BooleanSets.difference(this.trueOnly, this.both));
+        Assert.assertEquals(BooleanHashSet.newSetWith(false), BooleanSets.symmetricDifference(this.trueOnly, this.both));
+        Assert.assertTrue(BooleanSets.isSubsetOf(this.trueOnly, this.both));
+        Assert.assertTrue(BooleanSets.isProperSubsetOf(this.trueOnly, this.both));
+        Assert.assertFalse(BooleanSets.isProperSubsetOf(this.both, this.both));
+    }
+
+    @Test
+    public void cartesianProduct()
+    {
+        Assert.assertEquals(
+                UnifiedSet.newSetWith(PrimitiveTuples.pair(true, true), PrimitiveTuples.pair(true, false)),
+                BooleanSets.cartesianProduct(this.trueOnly, this.both).toSet());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import com.gs.collections.impl.utility.LazyIterate;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExternalizedIterableTest
+{
+    private static ObjectInput write(Externalizable externalizable)
+    {
+        try
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream out = new ObjectOutputStream(bytes);
+            externalizable.writeExternal(out);
+            out.close();
+            return new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void readExternalList()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(1000));
+        ExternalizedIterable<Integer> iterable = LazyIterate.readExternalList(write(list));
+        Assert.assertEquals(1000, iterable.size());
+        Assert.assertFalse(iterable.isEmpty());
+        Assert.assertEquals(list, iterable.toList());
+        Verify.assertThrows(IllegalStateException.class, iterable::toList);
+
+        Assert.assertEquals(list.toBag(), LazyIterate.<Integer>readExternalList(write(list)).toBag());
+        Assert.assertArrayEquals(list.toArray(), LazyIterate.<Integer>readExternalList(write(list)).toArray());
+        Assert.assertEquals(
+                list.select(each -> each % 7 == 0).collect(String::valueOf),
+                LazyIterate.<Integer>readExternalList(write(list)).select(each -> each % 7 == 0).collect(String::valueOf).toList());
+        Assert.assertEquals(Interval.oneTo(10), LazyIterate.<Integer>readExternalList(write(list)).take(10).toList());
+    }
+
+    @Test
+    public void readExternalSet()
+    {
+        UnifiedSet<String> set = UnifiedSet.newSet(Interval.oneTo(500).collect(String::valueOf));
+        ExternalizedIterable<String> iterable = LazyIterate.readExternalSet(write(set));
+        Assert.assertEquals(500, iterable.size());
+        MutableSet<String> actual = iterable.toSet();
+        Assert.assertEquals(set, actual);
+        Verify.assertThrows(IllegalStateException.class, iterable::iterator);
+
+        MutableList<String> elements = FastList.newList();
+        LazyIterate.<String>readExternalSet(write(set)).each(elements::add);
+        Assert.assertEquals(set, elements.toSet());
+    }
+
+    @Test
+    public void readExternalMap()
+    {
+        UnifiedMap<Integer, String> map = UnifiedMap.newMap();
+        for (int i = 0; i < 500; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        ExternalizedMapIterable<Integer, String> iterable = LazyIterate.readExternalMap(write(map));
+        Assert.assertEquals(500, iterable.size());
+        MutableMap<Integer, String> actual = iterable.toMap();
+        Assert.assertEquals(map, actual);
+        Verify.assertThrows(IllegalStateException.class, () -> { iterable.toMap(); });
+
+        MutableMap<Integer, String> forEachKeyValue = UnifiedMap.newMap();
+        LazyIterate.<Integer, String>readExternalMap(write(map)).forEachKeyValue(forEachKeyValue::put);
+        Assert.assertEquals(map, forEachKeyValue);
+
+        Assert.assertEquals(
+                map.keyValuesView().toSet(),
+                LazyIterate.<Integer, String>readExternalMap(write(map)).toSet());
+        Assert.assertTrue(LazyIterate.<Integer, String>readExternalMap(write(map)).anySatisfy(each -> each.equals(Tuples.pair(7, "7"))));
+    }
+
+    @Test
+    public void iterator()
+    {
+        Iterator<String> iterator = LazyIterate.<String>readExternalList(write(FastList.newListWith("a", null, "b"))).iterator();
+        Assert.assertEquals("a", iterator.next());
+        Assert.assertNull(iterator.next());
+        Assert.assertEquals("b", iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, iterator::next);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+
+        Iterator<?> mapIterator = LazyIterate.readExternalMap(write(UnifiedMap.newWithKeysValues(1, "1"))).iterator();
+        Assert.assertEquals(Tuples.pair(1, "1"), mapIterator.next());
+        Assert.assertFalse(mapIterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, mapIterator::next);
+    }
+
+    @Test
+    public void empty()
+    {
+        ExternalizedIterable<Object> iterable = LazyIterate.readExternalList(write(FastList.newList()));
+        Assert.assertTrue(iterable.isEmpty());
+        Verify.assertEmpty(iterable.toList());
+        Verify.assertEmpty(LazyIterate.readExternalMap(write(UnifiedMap.newMap())).toMap());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.string.immutable.ByteBufferCharSequence;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.utility.LazyIterate;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedRecordIterableTest
+{
+    private static final Function<Object, String> TO_STRING = Functions.getToString();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    private File write(String content) throws IOException
+    {
+        File file = this.temporaryFolder.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        try
+        {
+            out.write(content.getBytes("ISO-8859-1"));
+        }
+        finally
+        {
+            out.close();
+        }
+        return file;
+    }
+
+    @Test
+    public void lines() throws IOException
+    {
+        MappedRecordIterable lines = LazyIterate.mapLines(this.write("alpha\nbeta\r\n\ngamma"));
+        Assert.assertEquals(FastList.newListWith("alpha", "beta", "", "gamma"), lines.collect(TO_STRING).toList());
+        Assert.assertEquals(4, lines.size());
+        Verify.assertInstanceOf(ByteBufferCharSequence.class, lines.getFirst());
+
+        Assert.assertEquals(FastList.newListWith("a", "b"), LazyIterate.mapLines(this.write("a\nb\n")).collect(TO_STRING).toList());
+        Assert.assertTrue(LazyIterate.mapLines(this.write("")).isEmpty());
+    }
+
+    @Test
+    public void records() throws IOException
+    {
+        MappedRecordIterable records = LazyIterate.mapRecords(this.write("1,2\r,,3"), (byte) ',');
+        Assert.assertEquals(FastList.newListWith("1", "2\r", "", "3"), records.collect(TO_STRING).toList());
+    }
+
+    @Test
+    public void iterator() throws IOException
+    {
+        Iterator<CharSequence> iterator = LazyIterate.mapLines(this.write("x\ny")).iterator();
+        Assert.assertEquals("x", iterator.next().toString());
+        Assert.assertEquals("y", iterator.next().toString());
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, iterator::next);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    public void asParallel() throws IOException
+    {
+        StringBuilder builder = new StringBuilder();
+        MutableList<String> expected = Interval.oneTo(5000).collect(each -> "record-" + each + (each % 7 == 0 ? "" : "-" + each * 31)).toList();
+        expected.each(each -> builder.append(each).append('\n'));
+        MappedRecordIterable lines = LazyIterate.mapLines(this.write(builder.toString()));
+
+        // Batches which are not aligned with records must still yield each record exactly once
+        for (int batchSize : new int[]{1000, 1777, 4099, 1 << 20})
+        {
+            Assert.assertEquals(expected, lines.asParallel(this.executorService, batchSize).collect(TO_STRING).toList());
+            Assert.assertEquals(714, lines.asParallel(this.executorService, batchSize).count(each -> each.charAt(each.length() - 1) != '-' && each.toString().indexOf('-', 7) == -1));
+        }
+        // Batches shorter than a record
+        MappedRecordIterable shortLines = LazyIterate.mapLines(this.write("alpha\nbeta\r\n\ngamma"));
+        for (int batchSize = 1; batchSize <= 20; batchSize++)
+        {
+            Assert.assertEquals(FastList.newListWith("alpha", "beta", "", "gamma"), shortLines.asParallel(this.executorService, batchSize).collect(TO_STRING).toList());
+        }
+        Assert.assertTrue(lines.asParallel(this.executorService, 4096).anySatisfy(each -> "record-4999-154969".equals(each.toString())));
+        Assert.assertTrue(lines.asParallel(this.executorService, 4096).allSatisfy(each -> each.length() > 7));
+        Assert.assertEquals("record-42", lines.asParallel(this.executorService, 4096).detect(each -> each.length() == 9 && each.charAt(7) == '4' && each.charAt(8) == '2').toString());
+    }
+}
@@ -399,6 +399,26 @@ public abstract class ParallelIterableTestCase
         Assert.assertEquals(Integer.valueOf(4), this.classUnderTest().maxBy(String::valueOf));
     }
 
+    @Test
+    public void minN()
+    {
+        Assert.assertEquals(this.getExpected().minN(3, Comparators.naturalOrder()), this.classUnderTest().minN(3, Comparators.naturalOrder()));
+        Assert.assertEquals(this.getExpected().minN(100, Comparators.naturalOrder()), this.classUnderTest().minN(100, Comparators.naturalOrder()));
+        Verify.assertEmpty(this.classUnderTest().select(ignored -> false).minN(3, Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void maxN()
+    {
+        Assert.assertEquals(this.getExpected().maxN(3, Comparators.naturalOrder()), this.classUnderTest().maxN(3, Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void topNBy()
+    {
+        Assert.assertEquals(this.getExpected().topNBy(4, each -> -each), this.classUnderTest().topNBy(4, each -> -each));
+    }
+
     @Test(expected = NoSuchElementException.class)
     public void min_empty_throws_without_comparator()
     {
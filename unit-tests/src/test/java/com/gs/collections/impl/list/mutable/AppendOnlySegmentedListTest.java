@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.mutable;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AppendOnlySegmentedListTest
+{
+    // More than three chunks of 2^15 items
+    private static final int SIZE = 100000;
+
+    private static AppendOnlySegmentedList<Integer> newLargeList()
+    {
+        return AppendOnlySegmentedList.newList(Interval.zeroTo(SIZE - 1));
+    }
+
+    @Test
+    public void addAndGet()
+    {
+        AppendOnlySegmentedList<Integer> list = newLargeList();
+        Assert.assertEquals(SIZE, list.longSize());
+        Assert.assertEquals(SIZE, list.size());
+        for (int i = 0; i < SIZE; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        Assert.assertEquals(Integer.valueOf(40000), list.set(40000L, null));
+        Assert.assertNull(list.get(40000L));
+        Assert.assertTrue(list.notEmpty());
+        Assert.assertTrue(AppendOnlySegmentedList.newList().isEmpty());
+    }
+
+    @Test
+    public void get_throws_index_out_of_bounds()
+    {
+        AppendOnlySegmentedList<String> list = AppendOnlySegmentedList.newListWith("a");
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.get(1L));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1L));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.set(1L, "b"));
+    }
+
+    @Test
+    public void iteration()
+    {
+        AppendOnlySegmentedList<Integer> list = newLargeList();
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; i < SIZE; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), iterator.next());
+        }
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, iterator::next);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+
+        AtomicLong indices = new AtomicLong();
+        list.forEachWithIndex((each, index) -> {
+            Assert.assertEquals(indices.getAndIncrement(), index);
+            Assert.assertEquals(index, each.longValue());
+        });
+        Assert.assertEquals(SIZE, indices.get());
+
+        MutableList<Integer> target = FastList.newList();
+        list.each(target::add);
+        Assert.assertEquals(Interval.zeroTo(SIZE - 1), target);
+        Assert.assertEquals(Interval.zeroTo(SIZE - 1), list.asLazy().toList());
+    }
+
+    @Test
+    public void batchForEach()
+    {
+        AppendOnlySegmentedList<Integer> list = newLargeList();
+        long expected = (long) SIZE * (SIZE - 1) / 2;
+        for (int sectionCount = 1; sectionCount <= 5; sectionCount++)
+        {
+            AtomicLong sum = new AtomicLong();
+            for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++)
+            {
+                list.batchForEach(each -> sum.addAndGet(each), sectionIndex, sectionCount);
+            }
+            Assert.assertEquals(expected, sum.get());
+        }
+        Assert.assertEquals(4, list.getBatchCount(1));
+        Assert.assertEquals(2, list.getBatchCount(SIZE / 2));
+        Assert.assertEquals(1, AppendOnlySegmentedList.newList().getBatchCount(100));
+    }
+
+    @Test
+    public void parallelIterate()
+    {
+        AppendOnlySegmentedList<Integer> list = newLargeList();
+        AtomicLong sum = new AtomicLong();
+        ParallelIterate.forEach(list, each -> sum.addAndGet(each), 1000);
+        Assert.assertEquals((long) SIZE * (SIZE - 1) / 2, sum.get());
+
+        Collection<Integer> odd = ParallelIterate.select(list, IntegerPredicates.isOdd());
+        Assert.assertEquals(Interval.oneToBy(SIZE - 1, 2), odd);
+        Assert.assertEquals(SIZE / 2, ParallelIterate.count(list, IntegerPredicates.isOdd()));
+    }
+
+    @Test
+    public void equalsAndHashCode()
+    {
+        Verify.assertEqualsAndHashCode(newLargeList(), newLargeList());
+        Assert.assertEquals(Interval.zeroTo(SIZE - 1).hashCode(), newLargeList().hashCode());
+        Assert.assertEquals(FastList.newListWith("a", null).hashCode(), AppendOnlySegmentedList.newListWith("a", null).hashCode());
+        Assert.assertEquals(AppendOnlySegmentedList.newListWith("a", null), AppendOnlySegmentedList.newListWith("a", null));
+        Assert.assertNotEquals(AppendOnlySegmentedList.newListWith("a", "b"), AppendOnlySegmentedList.newListWith("a", "c"));
+        Assert.assertNotEquals(AppendOnlySegmentedList.newListWith("a"), FastList.newListWith("a"));
+    }
+
+    @Test
+    public void toStringAndClear()
+    {
+        AppendOnlySegmentedList<String> list = AppendOnlySegmentedList.newListWith("a", null, "b");
+        Assert.assertEquals("[a, null, b]", list.toString());
+        list.clear();
+        Assert.assertEquals("[]", list.toString());
+        Assert.assertTrue(list.isEmpty());
+        list.add("c");
+        Assert.assertEquals("c", list.get(0L));
+    }
+}
@@ -1204,6 +1204,21 @@ public class FastListTest extends AbstractListTestCase
                 FastList.newListWith(42).withAll(Interval.from(10).to(12).toList()));
     }
 
+    @Test
+    public void sortThisByPrimitiveKeyIsStable()
+    {
+        FastList<Twin<Integer>> list = FastList.newList();
+        for (int i = 0; i < 1000; i++)
+        {
+            list.add(Tuples.twin((i * 7919) % 23 - 11, i));
+        }
+        MutableList<Twin<Integer>> expected = list.toSortedList((left, right) -> Integer.compare(left.getOne(), right.getOne()));
+        Assert.assertEquals(expected, list.clone().sortThisByInt(Twin::getOne));
+        Assert.assertEquals(expected, list.clone().sortThisByLong(each -> each.getOne().longValue()));
+        Assert.assertEquals(expected, list.clone().sortThisByFloat(each -> each.getOne().floatValue()));
+        Assert.assertEquals(expected, list.clone().sortThisByDouble(each -> each.getOne().doubleValue()));
+    }
+
     @Test(expected = NoSuchElementException.class)
     public void min_empty_throws_without_comparator()
     {
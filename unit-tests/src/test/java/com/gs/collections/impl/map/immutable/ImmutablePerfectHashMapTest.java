@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.test.domain.CollidingKey;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutablePerfectHashMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutablePerfectHashMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        String string = this.classUnderTest().toString();
+        Assert.assertEquals(20, string.length());
+        for (int i = 1; i <= 4; i++)
+        {
+            Assert.assertTrue(string.contains(i + "=" + i));
+        }
+    }
+
+    @Test
+    public void manyKeys()
+    {
+        UnifiedMap<Integer, String> expected = UnifiedMap.newMap();
+        for (int i = -500; i <= 500; i++)
+        {
+            expected.put(i * 7, String.valueOf(i));
+        }
+        ImmutableMap<Integer, String> map = ImmutablePerfectHashMap.newMap(expected);
+        Verify.assertInstanceOf(ImmutablePerfectHashMap.class, map);
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+        for (int i = -3500; i <= 3500; i++)
+        {
+            Assert.assertEquals(i % 7 == 0 ? String.valueOf(i / 7) : null, map.get(i));
+            Assert.assertEquals(i % 7 == 0, map.containsKey(i));
+        }
+    }
+
+    @Test
+    public void nullAndCollidingHashCodes()
+    {
+        UnifiedMap<Object, Integer> expected = UnifiedMap.newMap();
+        for (int i = 0; i < 20; i++)
+        {
+            expected.put(new CollidingKey(i), i);
+        }
+        expected.put(null, -1);
+        expected.put("a", -2);
+        ImmutableMap<Object, Integer> map = ImmutablePerfectHashMap.newMap(expected);
+        Verify.assertSize(22, map);
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        for (int i = 0; i < 20; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+        Assert.assertEquals(Integer.valueOf(-1), map.get(null));
+        Assert.assertEquals(Integer.valueOf(-2), map.get("a"));
+        Assert.assertNull(map.get(new CollidingKey(20)));
+        Assert.assertFalse(map.containsKey("b"));
+        Assert.assertEquals(expected.keySet(), map.keysView().toSet());
+    }
+
+    @Test
+    public void emptyMap()
+    {
+        Assert.assertSame(Maps.immutable.of(), ImmutablePerfectHashMap.newMap(UnifiedMap.newMap()));
+    }
+}
@@ -16,14 +16,17 @@
 
 package com.gs.collections.impl.map.mutable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.set.MutableSet;
@@ -32,11 +35,15 @@ import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Procedures;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.fixed.ArrayAdapter;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.test.SerializeTestHelper;
 import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.test.domain.CollidingKey;
+import com.gs.collections.impl.test.domain.ComparableCollidingKey;
+import com.gs.collections.impl.test.domain.ForeignComparableCollidingKey;
 import com.gs.collections.impl.tuple.ImmutableEntry;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.Iterate;
@@ -858,6 +865,168 @@ public abstract class UnifiedMapTestCase extends MutableMapTestCase
         Verify.assertArrayEquals(expected, map.keysView().toArray());
     }
 
+    @Test
+    public void longCollisionChains()
+    {
+        this.assertLongCollisionChain(ComparableCollidingKey::new);
+        this.assertLongCollisionChain(CollidingKey::new);
+    }
+
+    @Test
+    public void longCollisionChainOfMixedClasses()
+    {
+        this.assertLongCollisionChainOfMixedClasses(ComparableCollidingKey::new);
+        this.assertLongCollisionChainOfMixedClasses(CollidingKey::new);
+    }
+
+    @Test
+    public void longCollisionChainOfKeysComparableToAnotherClass()
+    {
+        // Keys which are Comparable to some other class must be told apart by equals rather than compareTo
+        this.assertLongCollisionChain(ForeignComparableCollidingKey::new);
+        this.assertLongCollisionChainOfMixedClasses(ForeignComparableCollidingKey::new);
+    }
+
+    private void assertLongCollisionChainOfMixedClasses(Function<Integer, ?> keyFactory)
+    {
+        // A list of 11 hashes to 42 like the colliding keys, and equals lists of other classes
+        MutableMap<Object, Integer> map = this.newMap();
+        for (int i = 0; i < 20; i++)
+        {
+            map.put(keyFactory.valueOf(i), i);
+        }
+        map.put(FastList.newListWith(11), 11);
+        Assert.assertEquals(Integer.valueOf(11), map.get(new ArrayList<>(Arrays.asList(11))));
+        Assert.assertTrue(map.containsKey(new LinkedList<>(Arrays.asList(11))));
+        Assert.assertEquals(Integer.valueOf(11), map.put(new ArrayList<>(Arrays.asList(11)), 12));
+        Verify.assertSize(21, map);
+        Assert.assertEquals(Integer.valueOf(12), map.remove(new LinkedList<>(Arrays.asList(11))));
+        Assert.assertNull(map.get(FastList.newListWith(11)));
+        Verify.assertSize(20, map);
+    }
+
+    @Test
+    public void emptyLongCollisionChains()
+    {
+        this.assertEmptyLongCollisionChain(ComparableCollidingKey::new);
+        this.assertEmptyLongCollisionChain(CollidingKey::new);
+    }
+
+    private void assertEmptyLongCollisionChain(Function<Integer, ?> keyFactory)
+    {
+        // Removing every key of a sorted chain must clear its bucket, or iteration reports a phantom null key
+        for (int key = 0; key < 64; key++)
+        {
+            MutableMap<Object, Integer> map = this.newMap();
+            for (int i = 0; i < 10; i++)
+            {
+                map.put(keyFactory.valueOf(i), i);
+            }
+            for (int i = 0; i < 10; i++)
+            {
+                Assert.assertEquals(Integer.valueOf(i), map.remove(keyFactory.valueOf(i)));
+            }
+            Verify.assertEmpty(map);
+            map.put(key, key);
+            Assert.assertEquals(FastList.newListWith(key), iteratedKeys(map));
+            Assert.assertFalse(map.containsKey(null));
+        }
+
+        // A sorted chain left with one key moves it back into the bucket, by remove and by the iterator
+        MutableMap<Object, Integer> map = this.newMap();
+        for (int i = 0; i < 8; i++)
+        {
+            map.put(i, i);
+        }
+        Object survivor = keyFactory.valueOf(100);
+        map.put(survivor, 100);
+        for (int i = 0; i < 10; i++)
+        {
+            map.put(keyFactory.valueOf(i), i);
+        }
+        for (int i = 0; i < 10; i++)
+        {
+            map.remove(keyFactory.valueOf(i));
+        }
+        Verify.assertSize(9, iteratedKeys(map));
+        Assert.assertEquals(Integer.valueOf(100), map.get(survivor));
+        for (int i = 0; i < 10; i++)
+        {
+            map.put(keyFactory.valueOf(i), i);
+        }
+        Iterator<Object> iterator = map.keySet().iterator();
+        int seen = 0;
+        while (iterator.hasNext())
+        {
+            Object next = iterator.next();
+            seen++;
+            if (!(next instanceof Integer) && !next.equals(survivor))
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(19, seen);
+        Verify.assertSize(9, map);
+        Verify.assertSize(9, iteratedKeys(map));
+        Assert.assertEquals(Integer.valueOf(100), map.get(survivor));
+        Assert.assertFalse(map.containsKey(null));
+    }
+
+    private static MutableList<Object> iteratedKeys(MutableMap<Object, Integer> map)
+    {
+        MutableList<Object> keys = FastList.newList();
+        for (Iterator<Object> iterator = map.keySet().iterator(); iterator.hasNext(); )
+        {
+            keys.add(iterator.next());
+        }
+        return keys;
+    }
+
+    private <K> void assertLongCollisionChain(Function<Integer, K> keyFactory)
+    {
+        MutableMap<K, Integer> map = this.newMap();
+        Map<K, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++)
+        {
+            K key = keyFactory.valueOf(i);
+            Assert.assertNull(map.put(key, i));
+            expected.put(key, i);
+        }
+        for (int i = 0; i < 100; i += 2)
+        {
+            K key = keyFactory.valueOf(i);
+            Assert.assertEquals(Integer.valueOf(i + 100), map.updateValue(key, () -> 0, each -> each + 100));
+            expected.put(key, i + 100);
+        }
+        for (int i = 1; i < 100; i += 4)
+        {
+            K key = keyFactory.valueOf(i);
+            Assert.assertEquals(Integer.valueOf(i), map.remove(key));
+            Assert.assertNull(map.remove(key));
+            expected.remove(key);
+        }
+        Iterator<Map.Entry<K, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            Map.Entry<K, Integer> entry = iterator.next();
+            if (entry.getValue() % 3 == 0)
+            {
+                iterator.remove();
+                expected.remove(entry.getKey());
+            }
+        }
+        Assert.assertEquals(expected, map);
+        for (int i = 0; i < 120; i++)
+        {
+            K key = keyFactory.valueOf(i);
+            Integer absentValue = -i;
+            Assert.assertEquals(expected.get(key), map.get(key));
+            Assert.assertEquals(expected.containsKey(key), map.containsKey(key));
+            Assert.assertEquals(expected.containsKey(key) ? expected.get(key) : absentValue, map.getIfAbsentPut(key, () -> absentValue));
+        }
+        Verify.assertSize(120, map);
+    }
+
     private static final class NoInstanceOfInEquals
     {
         private final int value;
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.map.sorted.immutable;
+
+import java.util.Comparator;
+
+import com.gs.collections.api.map.sorted.ImmutableSortedMap;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableEytzingerSortedMapTest extends ImmutableTreeMapTest
+{
+    @Override
+    protected ImmutableSortedMap<Integer, String> classUnderTest()
+    {
+        return ImmutableEytzingerSortedMap.newMap(TreeSortedMap.newMapWith(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected ImmutableSortedMap<Integer, String> classUnderTest(Comparator<? super Integer> comparator)
+    {
+        return ImmutableEytzingerSortedMap.newMap(TreeSortedMap.newMapWith(comparator, 1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected <K, V> ImmutableSortedMap<K, V> newMap()
+    {
+        return ImmutableEytzingerSortedMap.newMap(TreeSortedMap.<K, V>newMap());
+    }
+
+    @Override
+    protected <K, V> ImmutableSortedMap<K, V> newMapWithKeyValue(K key1, V value1)
+    {
+        return ImmutableEytzingerSortedMap.newMap(TreeSortedMap.newMapWith(key1, value1));
+    }
+
+    @Override
+    protected <K, V> ImmutableSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return ImmutableEytzingerSortedMap.newMap(TreeSortedMap.newMapWith(key1, value1, key2, value2));
+    }
+
+    @Override
+    protected <K, V> ImmutableSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return ImmutableEytzingerSortedMap.newMap(TreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3));
+    }
+
+    @Override
+    protected <K, V> ImmutableSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return ImmutableEytzingerSortedMap.newMap(TreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3, key4, value4));
+    }
+
+    @Test
+    public void manyKeys()
+    {
+        for (int size = 0; size < 70; size++)
+        {
+            TreeSortedMap<Integer, String> expected = TreeSortedMap.newMap(Comparators.<Integer>reverseNaturalOrder());
+            for (int i = 0; i < size; i++)
+            {
+                expected.put(i * 2, String.valueOf(i));
+            }
+            ImmutableSortedMap<Integer, String> map = ImmutableEytzingerSortedMap.newMap(expected);
+            Assert.assertEquals(expected, map);
+            Verify.assertIterablesEqual(expected.keySet(), map.keysView());
+            for (int i = -1; i <= size * 2; i++)
+            {
+                Assert.assertEquals(expected.containsKey(i), map.containsKey(i));
+                Assert.assertEquals(expected.get(i), map.get(i));
+            }
+        }
+    }
+}
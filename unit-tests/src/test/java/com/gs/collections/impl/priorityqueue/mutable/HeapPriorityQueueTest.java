@@ -0,0 +1,198 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.priorityqueue.mutable;
+
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HeapPriorityQueueTest
+{
+    private static MutableList<Integer> scrambled(int size)
+    {
+        return Interval.zeroTo(size - 1).collect(each -> each * 37 % size).toList();
+    }
+
+    private static <T> MutableList<T> drain(HeapPriorityQueue<T> queue)
+    {
+        MutableList<T> result = FastList.newList();
+        while (!queue.isEmpty())
+        {
+            result.add(queue.poll());
+        }
+        return result;
+    }
+
+    @Test
+    public void naturalOrder()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueue();
+        queue.addAll(scrambled(100));
+        Verify.assertSize(100, queue);
+        Assert.assertEquals(Integer.valueOf(0), queue.peek());
+        Assert.assertEquals(Interval.zeroTo(99), drain(queue));
+        Assert.assertNull(queue.peek());
+        Assert.assertNull(queue.poll());
+        Verify.assertThrows(NoSuchElementException.class, () -> { queue.remove(); });
+    }
+
+    @Test
+    public void comparator()
+    {
+        HeapPriorityQueue<String> queue = HeapPriorityQueue.newQueueWith(Comparators.byFunction(String::length), "ccc", "a", "dddd", "bb");
+        Assert.assertEquals(Comparators.byFunction(String::length).getClass(), queue.comparator().getClass());
+        Assert.assertEquals(FastList.newListWith("a", "bb", "ccc", "dddd"), drain(queue));
+
+        HeapPriorityQueue<Integer> reversed = HeapPriorityQueue.newQueue(Collections.reverseOrder());
+        reversed.addAll(scrambled(50));
+        Assert.assertEquals(Interval.fromToBy(49, 0, -1), drain(reversed));
+        Assert.assertNull(HeapPriorityQueue.newQueue().comparator());
+    }
+
+    @Test
+    public void addAll()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueueWith(100, 90);
+        Assert.assertTrue(queue.addAll(scrambled(40)));
+        Assert.assertTrue(queue.addAll(FastList.newListWith(95, -1)));
+        Assert.assertFalse(queue.addAll(FastList.<Integer>newList()));
+        Verify.assertSize(44, queue);
+        MutableList<Integer> expected = scrambled(40).with(100).with(90).with(95).with(-1).sortThis();
+        Assert.assertEquals(expected, drain(queue));
+        Verify.assertThrows(IllegalArgumentException.class, () -> { queue.addAll(queue); });
+        Verify.assertThrows(NullPointerException.class, () -> { queue.addAll(FastList.newListWith(1, null)); });
+        Verify.assertThrows(NullPointerException.class, () -> { queue.offer(null); });
+    }
+
+    @Test
+    public void removeAndContains()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueue(scrambled(30));
+        Assert.assertTrue(queue.contains(29));
+        Assert.assertFalse(queue.contains(30));
+        Assert.assertTrue(queue.remove(0));
+        Assert.assertTrue(queue.remove(15));
+        Assert.assertTrue(queue.remove(29));
+        Assert.assertFalse(queue.remove(15));
+        Assert.assertEquals(Interval.fromTo(1, 28).reject(each -> each == 15).toList(), drain(queue));
+    }
+
+    @Test
+    public void removeAllAndRetainAll()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueue(scrambled(20));
+        Assert.assertTrue(queue.removeAll(Interval.evensFromTo(0, 18)));
+        Assert.assertFalse(queue.removeAll(FastList.newListWith(100)));
+        Assert.assertTrue(queue.retainAll(Interval.fromTo(5, 15)));
+        Assert.assertFalse(queue.retainAll(Interval.fromTo(0, 20)));
+        Assert.assertEquals(FastList.newListWith(5, 7, 9, 11, 13, 15), drain(queue));
+    }
+
+    @Test
+    public void clear()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueueWith(3, 2, 1);
+        queue.clear();
+        Verify.assertEmpty(queue);
+        queue.add(4);
+        Assert.assertEquals(Integer.valueOf(4), queue.peek());
+    }
+
+    @Test
+    public void iterator()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueue(scrambled(10));
+        MutableList<Integer> seen = FastList.newList();
+        Iterator<Integer> iterator = queue.iterator();
+        while (iterator.hasNext())
+        {
+            seen.add(iterator.next());
+        }
+        Assert.assertEquals(Interval.zeroTo(9), seen.sortThis());
+        Verify.assertThrows(NoSuchElementException.class, () -> { iterator.next(); });
+
+        Iterator<Integer> modified = queue.iterator();
+        queue.poll();
+        Verify.assertThrows(ConcurrentModificationException.class, () -> { modified.next(); });
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueue(scrambled(100));
+        MutableList<Integer> seen = FastList.newList();
+        Iterator<Integer> iterator = queue.iterator();
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext())
+        {
+            Integer each = iterator.next();
+            seen.add(each);
+            if (each % 3 != 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        Assert.assertEquals(Interval.zeroTo(99), seen.sortThis());
+        Assert.assertEquals(Interval.fromToBy(0, 99, 3), drain(queue));
+
+        Iterator<Integer> modified = HeapPriorityQueue.newQueueWith(1, 2, 3).iterator();
+        modified.next();
+        modified.remove();
+        Verify.assertThrows(IllegalStateException.class, modified::remove);
+    }
+
+    @Test
+    public void removeIf()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueue(Collections.reverseOrder());
+        queue.addAll(scrambled(50));
+        Assert.assertTrue(queue.removeIf(each -> each % 2 == 0));
+        Assert.assertFalse(queue.removeIf(each -> each % 2 == 0));
+        Assert.assertEquals(Interval.fromToBy(49, 1, -2), drain(queue));
+    }
+
+    @Test
+    public void toArray()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueueWith(2, 1, 3);
+        Object[] array = queue.toArray();
+        Verify.assertSize(3, FastList.newListWith(array));
+        Assert.assertEquals(Integer.valueOf(1), array[0]);
+        Integer[] typed = queue.toArray(new Integer[0]);
+        Assert.assertEquals(3, typed.length);
+    }
+
+    @Test
+    public void serialization()
+    {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.newQueue(Collections.reverseOrder());
+        queue.addAll(scrambled(20));
+        HeapPriorityQueue<Integer> deserialized = SerializeTestHelper.serializeDeserialize(queue);
+        Assert.assertEquals(drain(queue), drain(deserialized));
+    }
+}
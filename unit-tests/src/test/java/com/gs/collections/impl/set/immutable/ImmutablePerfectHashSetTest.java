@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.test.domain.CollidingKey;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutablePerfectHashSetTest
+        extends AbstractImmutableSetTestCase
+{
+    @Override
+    protected ImmutableSet<Integer> classUnderTest()
+    {
+        return ImmutablePerfectHashSet.newSetWith(1, 2, 3, 4);
+    }
+
+    @Override
+    @Test
+    public void getLast()
+    {
+        ImmutableSet<Integer> integers = this.classUnderTest();
+        Assert.assertEquals(integers.toList().getLast(), integers.getLast());
+    }
+
+    @Override
+    @Test
+    public void iterator()
+    {
+        ImmutableSet<Integer> integers = this.classUnderTest();
+        MutableSet<Integer> seen = UnifiedSet.newSet();
+        Iterator<Integer> iterator = integers.iterator();
+        while (iterator.hasNext())
+        {
+            Assert.assertTrue(seen.add(iterator.next()));
+        }
+        Assert.assertEquals(integers, seen);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) iterator::next);
+    }
+
+    @Override
+    @Test
+    public void toSortedListBy()
+    {
+        MutableList<Integer> list = this.classUnderTest().toSortedListBy(String::valueOf);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), list);
+    }
+
+    @Test
+    public void manyElements()
+    {
+        UnifiedSet<Integer> expected = UnifiedSet.newSet(Interval.fromTo(-500, 500).collect(each -> each * 7));
+        ImmutableSet<Integer> set = ImmutablePerfectHashSet.newSet(expected);
+        Verify.assertInstanceOf(ImmutablePerfectHashSet.class, set);
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(expected.hashCode(), set.hashCode());
+        for (int i = -3500; i <= 3500; i++)
+        {
+            Assert.assertEquals(i % 7 == 0, set.contains(i));
+        }
+    }
+
+    @Test
+    public void nullAndCollidingHashCodes()
+    {
+        CollidingKey[] keys = new CollidingKey[20];
+        for (int i = 0; i < keys.length; i++)
+        {
+            keys[i] = new CollidingKey(i);
+        }
+        ImmutableSet<Object> set = ImmutablePerfectHashSet.<Object>newSetWith((Object[]) keys).newWith(null).newWith("a");
+        ImmutableSet<Object> perfect = ImmutablePerfectHashSet.newSet(set);
+        Verify.assertSize(22, perfect);
+        Assert.assertEquals(set, perfect);
+        for (int i = 0; i < keys.length; i++)
+        {
+            Assert.assertTrue(perfect.contains(new CollidingKey(i)));
+        }
+        Assert.assertTrue(perfect.contains(null));
+        Assert.assertTrue(perfect.contains("a"));
+        Assert.assertFalse(perfect.contains(new CollidingKey(20)));
+        Assert.assertFalse(perfect.contains("b"));
+    }
+
+    @Test
+    public void emptySet()
+    {
+        Assert.assertSame(Sets.immutable.of(), ImmutablePerfectHashSet.newSetWith());
+    }
+}
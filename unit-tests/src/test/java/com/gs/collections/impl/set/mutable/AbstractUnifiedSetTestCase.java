@@ -1,5 +1,5 @@
 /*
- * Copyright 2014 Goldman Sachs.
+ * Copyright 2015 Goldman Sachs.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,22 @@
 
 package com.gs.collections.impl.set.mutable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Set;
 import java.util.SortedSet;
 
+import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.impl.IntegerWithCast;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.test.domain.CollidingKey;
+import com.gs.collections.impl.test.domain.ComparableCollidingKey;
+import com.gs.collections.impl.test.domain.ForeignComparableCollidingKey;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -62,4 +73,81 @@ public abstract class AbstractUnifiedSetTestCase extends AbstractMutableSetTestC
             mutableMap.add(new IntegerWithCast(i));
         }
     }
+
+    @Test
+    public void longCollisionChains()
+    {
+        this.assertLongCollisionChain(ComparableCollidingKey::new);
+        this.assertLongCollisionChain(CollidingKey::new);
+    }
+
+    @Test
+    public void longCollisionChainOfMixedClasses()
+    {
+        this.assertLongCollisionChainOfMixedClasses(ComparableCollidingKey::new);
+        this.assertLongCollisionChainOfMixedClasses(CollidingKey::new);
+    }
+
+    @Test
+    public void longCollisionChainOfKeysComparableToAnotherClass()
+    {
+        // Keys which are Comparable to some other class must be told apart by equals rather than compareTo
+        this.assertLongCollisionChain(ForeignComparableCollidingKey::new);
+        this.assertLongCollisionChainOfMixedClasses(ForeignComparableCollidingKey::new);
+    }
+
+    private void assertLongCollisionChainOfMixedClasses(Function<Integer, ?> elementFactory)
+    {
+        // A list of 11 hashes to 42 like the colliding keys, and equals lists of other classes
+        MutableSet<Object> set = this.newWith();
+        for (int i = 0; i < 20; i++)
+        {
+            set.add(elementFactory.valueOf(i));
+        }
+        Assert.assertTrue(set.add(FastList.newListWith(11)));
+        Assert.assertTrue(set.contains(new ArrayList<>(Arrays.asList(11))));
+        Assert.assertTrue(set.contains(new LinkedList<>(Arrays.asList(11))));
+        Assert.assertFalse(set.add(new ArrayList<>(Arrays.asList(11))));
+        Verify.assertSize(21, set);
+        Assert.assertTrue(set.remove(new LinkedList<>(Arrays.asList(11))));
+        Assert.assertFalse(set.contains(FastList.newListWith(11)));
+        Verify.assertSize(20, set);
+    }
+
+    private <T> void assertLongCollisionChain(Function<Integer, T> elementFactory)
+    {
+        MutableSet<T> set = this.newWith();
+        Set<T> expected = new HashSet<>();
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertTrue(set.add(elementFactory.valueOf(i)));
+            Assert.assertFalse(set.add(elementFactory.valueOf(i)));
+            expected.add(elementFactory.valueOf(i));
+        }
+        for (int i = 1; i < 100; i += 4)
+        {
+            Assert.assertTrue(set.remove(elementFactory.valueOf(i)));
+            Assert.assertFalse(set.remove(elementFactory.valueOf(i)));
+            expected.remove(elementFactory.valueOf(i));
+        }
+        Iterator<T> iterator = set.iterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            T element = iterator.next();
+            if (count++ % 3 == 0)
+            {
+                iterator.remove();
+                expected.remove(element);
+            }
+        }
+        Assert.assertEquals(expected, set);
+        for (int i = 0; i < 120; i++)
+        {
+            T element = elementFactory.valueOf(i);
+            Assert.assertEquals(expected.contains(element), set.contains(element));
+            Assert.assertEquals(!expected.contains(element), set.add(element));
+        }
+        Verify.assertSize(120, set);
+    }
 }
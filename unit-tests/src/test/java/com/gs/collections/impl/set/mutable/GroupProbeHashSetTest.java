@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link GroupProbeHashSet}.
+ */
+public class GroupProbeHashSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> GroupProbeHashSet<T> newWith(T... littleElements)
+    {
+        return GroupProbeHashSet.newSetWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedMutableSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableMutableSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Test
+    public void addAndRemoveManyElements()
+    {
+        GroupProbeHashSet<Integer> set = GroupProbeHashSet.newSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 10000; i++)
+        {
+            Assert.assertTrue(set.add(i));
+            expected.add(i);
+        }
+        Assert.assertFalse(set.add(5000));
+        Assert.assertEquals(expected, set);
+        for (int i = 0; i < 10000; i += 3)
+        {
+            Assert.assertTrue(set.remove(i));
+            expected.remove(i);
+        }
+        Assert.assertFalse(set.remove(3));
+        Assert.assertEquals(expected, set);
+        Verify.assertSize(expected.size(), set);
+        for (int i = -10000; i < 20000; i++)
+        {
+            Assert.assertEquals(expected.contains(i), set.contains(i));
+        }
+    }
+
+    @Test
+    public void churnWithoutGrowth()
+    {
+        GroupProbeHashSet<Integer> set = GroupProbeHashSet.newSet(64);
+        for (int i = 0; i < 50; i++)
+        {
+            set.add(i);
+        }
+        for (int i = 50; i < 100000; i++)
+        {
+            Assert.assertTrue(set.remove(i - 50));
+            Assert.assertTrue(set.add(i));
+            Verify.assertSize(50, set);
+        }
+        Assert.assertEquals(Interval.fromTo(99950, 99999).toSet(), set);
+    }
+
+    @Test
+    public void collidingHashCodes()
+    {
+        GroupProbeHashSet<CollidingKey> set = GroupProbeHashSet.newSet();
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertTrue(set.add(new CollidingKey(i)));
+        }
+        Verify.assertSize(100, set);
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertTrue(set.contains(new CollidingKey(i)));
+        }
+        Assert.assertFalse(set.contains(new CollidingKey(100)));
+        for (int i = 0; i < 100; i += 2)
+        {
+            Assert.assertTrue(set.remove(new CollidingKey(i)));
+        }
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertEquals(i % 2 != 0, set.contains(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void nullElement()
+    {
+        GroupProbeHashSet<Integer> set = GroupProbeHashSet.newSetWith(1, null, 3);
+        Assert.assertTrue(set.contains(null));
+        Assert.assertFalse(set.add(null));
+        Verify.assertContainsAll(set, 1, null, 3);
+        Assert.assertTrue(set.remove(null));
+        Assert.assertFalse(set.contains(null));
+        Verify.assertSize(2, set);
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        GroupProbeHashSet<Integer> set = GroupProbeHashSet.newSet(Interval.oneTo(1000));
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(Interval.oneTo(1000).reject(each -> each % 2 == 0).toSet(), set);
+
+        Iterator<Integer> iterator2 = set.iterator();
+        Verify.assertThrows(IllegalStateException.class, iterator2::remove);
+        iterator2.next();
+        iterator2.remove();
+        Verify.assertThrows(IllegalStateException.class, iterator2::remove);
+        Verify.assertSize(499, set);
+    }
+
+    @Test
+    public void serialization()
+    {
+        GroupProbeHashSet<Integer> set = GroupProbeHashSet.newSetWith(1, 2, 3, null);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+        Verify.assertInstanceOf(GroupProbeHashSet.class, SerializeTestHelper.serializeDeserialize(set));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value & 3;
+        }
+    }
+}
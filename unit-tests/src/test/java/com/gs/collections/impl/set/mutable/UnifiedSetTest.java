@@ -33,6 +33,7 @@ import com.gs.collections.impl.math.IntegerSum;
 import com.gs.collections.impl.math.Sum;
 import com.gs.collections.impl.math.SumProcedure;
 import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.test.domain.ComparableCollidingKey;
 import com.gs.collections.impl.test.domain.Key;
 import com.gs.collections.impl.utility.ArrayIterate;
 import org.junit.Assert;
@@ -41,7 +42,7 @@ import org.junit.Test;
 /**
  * JUnit test suite for {@link UnifiedSet}.
  */
-public class UnifiedSetTest extends AbstractMutableSetTestCase
+public class UnifiedSetTest extends AbstractUnifiedSetTestCase
 {
     @Override
     protected <T> UnifiedSet<T> newWith(T... littleElements)
@@ -609,4 +610,31 @@ public class UnifiedSetTest extends AbstractMutableSetTestCase
         chainedWithOneSlot.remove(COLLISION_2);
         Assert.assertSame(COLLISION_1, chainedWithOneSlot.getLast());
     }
+
+    @Test
+    public void poolWithLongCollisionChain()
+    {
+        UnifiedSet<ComparableCollidingKey> pool = UnifiedSet.newSet();
+        for (int i = 0; i < 50; i++)
+        {
+            ComparableCollidingKey key = new ComparableCollidingKey(i);
+            Assert.assertSame(key, pool.put(key));
+            Assert.assertSame(key, pool.put(new ComparableCollidingKey(i)));
+            Assert.assertSame(key, pool.get(new ComparableCollidingKey(i)));
+        }
+        for (int i = 0; i < 50; i += 2)
+        {
+            Assert.assertEquals(new ComparableCollidingKey(i), pool.removeFromPool(new ComparableCollidingKey(i)));
+            Assert.assertNull(pool.removeFromPool(new ComparableCollidingKey(i)));
+            Assert.assertNull(pool.get(new ComparableCollidingKey(i)));
+        }
+        Verify.assertSize(25, pool);
+
+        UnifiedSet<ComparableCollidingKey> copy = pool.clone();
+        Assert.assertEquals(pool, copy);
+        Assert.assertTrue(copy.add(new ComparableCollidingKey(0)));
+        Assert.assertTrue(copy.remove(new ComparableCollidingKey(1)));
+        Assert.assertFalse(pool.contains(new ComparableCollidingKey(0)));
+        Assert.assertTrue(pool.contains(new ComparableCollidingKey(1)));
+    }
 }
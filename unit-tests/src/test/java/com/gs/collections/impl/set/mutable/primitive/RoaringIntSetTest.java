@@ -0,0 +1,261 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import java.util.Random;
+
+import com.gs.collections.api.iterator.MutableIntIterator;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.factory.primitive.IntSets;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RoaringIntSet}.
+ */
+public class RoaringIntSetTest extends AbstractIntSetTestCase
+{
+    @Override
+    protected final RoaringIntSet classUnderTest()
+    {
+        return RoaringIntSet.newSetWith(1, 2, 3);
+    }
+
+    @Override
+    protected RoaringIntSet newWith(int... elements)
+    {
+        return RoaringIntSet.newSetWith(elements);
+    }
+
+    private static IntHashSet clustered(long seed)
+    {
+        Random random = new Random(seed);
+        IntHashSet set = new IntHashSet();
+        for (int cluster = 0; cluster < 20; cluster++)
+        {
+            int start = random.nextInt() >> 4;
+            int length = random.nextInt(20000);
+            int step = 1 + random.nextInt(3);
+            for (int i = 0; i < length; i += step)
+            {
+                set.add(start + i);
+            }
+        }
+        for (int i = 0; i < 1000; i++)
+        {
+            set.add(random.nextInt());
+        }
+        return set;
+    }
+
+    @Test
+    public void ascendingOrder()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWith(70000, -1, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, -70000, 65535, 65536);
+        Assert.assertEquals(
+                IntArrayList.newListWith(Integer.MIN_VALUE, -70000, -1, 0, 65535, 65536, 70000, Integer.MAX_VALUE),
+                IntArrayList.newListWith(set.toArray()));
+        Assert.assertEquals("[-2147483648, -70000, -1, 0, 65535, 65536, 70000, 2147483647]", set.toString());
+        Assert.assertEquals(Integer.MIN_VALUE, set.min());
+        Assert.assertEquals(Integer.MAX_VALUE, set.max());
+    }
+
+    @Test
+    public void denseChunks()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        IntHashSet expected = new IntHashSet();
+        for (int i = -100000; i < 100000; i += 3)
+        {
+            set.add(i);
+            expected.add(i);
+        }
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(set, expected);
+        Assert.assertEquals(expected.hashCode(), set.hashCode());
+        for (int i = -100000; i < 100000; i += 6)
+        {
+            Assert.assertTrue(set.remove(i));
+            expected.remove(i);
+        }
+        Assert.assertFalse(set.remove(-100000));
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(expected.size(), set.size());
+    }
+
+    @Test
+    public void arrayToBitmapAndBack()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int i = 0; i <= 8192; i += 2)
+        {
+            set.add(i);
+        }
+        Verify.assertSize(4097, set);
+        Assert.assertEquals(8192, set.max());
+        Assert.assertEquals(4096, set.select(2048));
+        for (int i = 0; i <= 8192; i += 4)
+        {
+            Assert.assertTrue(set.remove(i));
+        }
+        Verify.assertSize(2048, set);
+        Assert.assertEquals(8190, set.max());
+        Assert.assertEquals(2, set.min());
+        Assert.assertTrue(set.contains(4094));
+        Assert.assertFalse(set.contains(4096));
+    }
+
+    @Test
+    public void runOptimize()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int i = 1000; i < 200000; i++)
+        {
+            set.add(i);
+        }
+        set.add(-5);
+        RoaringIntSet copy = new RoaringIntSet(set);
+        Assert.assertTrue(set.runOptimize());
+        Assert.assertFalse(set.runOptimize());
+        Assert.assertEquals(copy, set);
+        Assert.assertTrue(set.contains(199999));
+        Assert.assertFalse(set.contains(200000));
+        Assert.assertFalse(set.contains(999));
+        Assert.assertEquals(199001, set.rank(199999));
+        Assert.assertEquals(65536, set.select(65536 - 1000 + 1));
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+
+        Assert.assertTrue(set.remove(5000));
+        Assert.assertFalse(set.contains(5000));
+        Assert.assertTrue(set.add(5000));
+        Assert.assertTrue(set.add(200000));
+        Assert.assertEquals(copy.with(200000), set);
+    }
+
+    @Test
+    public void rankAndSelect()
+    {
+        IntHashSet expected = RoaringIntSetTest.clustered(1L);
+        RoaringIntSet set = RoaringIntSet.newSet(expected);
+        int[] sorted = expected.toSortedArray();
+        for (int i = 0; i < sorted.length; i += 97)
+        {
+            Assert.assertEquals(sorted[i], set.select(i));
+            Assert.assertEquals(i + 1, set.rank(sorted[i]));
+            Assert.assertEquals(i, set.rank(sorted[i] - 1));
+        }
+        Assert.assertEquals(0, set.rank(Integer.MIN_VALUE) - (set.contains(Integer.MIN_VALUE) ? 1 : 0));
+        Assert.assertEquals(sorted.length, set.rank(Integer.MAX_VALUE));
+        set.runOptimize();
+        for (int i = 0; i < sorted.length; i += 97)
+        {
+            Assert.assertEquals(sorted[i], set.select(i));
+            Assert.assertEquals(i + 1, set.rank(sorted[i]));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void select_throws()
+    {
+        this.classUnderTest().select(3);
+    }
+
+    @Test
+    public void setOperations()
+    {
+        IntHashSet one = RoaringIntSetTest.clustered(2L);
+        IntHashSet two = RoaringIntSetTest.clustered(3L);
+        two.addAll(one.select(each -> (each & 1) == 0));
+        RoaringIntSet roaringOne = RoaringIntSet.newSet(one);
+        RoaringIntSet roaringTwo = RoaringIntSet.newSet(two);
+
+        IntHashSet union = IntHashSet.newSet(one).withAll(two);
+        MutableIntSet intersect = one.select(two::contains);
+        MutableIntSet difference = one.reject(two::contains);
+        IntHashSet symmetricDifference = IntHashSet.newSet(difference).withAll(two.reject(one::contains));
+
+        Assert.assertEquals(union, roaringOne.union(roaringTwo));
+        Assert.assertEquals(intersect, roaringOne.intersect(roaringTwo));
+        Assert.assertEquals(difference, roaringOne.difference(roaringTwo));
+        Assert.assertEquals(symmetricDifference, roaringOne.symmetricDifference(roaringTwo));
+        Assert.assertEquals(one, roaringOne);
+        Assert.assertEquals(two, roaringTwo);
+
+        roaringOne.runOptimize();
+        Assert.assertEquals(union, roaringOne.union(roaringTwo));
+        Assert.assertEquals(intersect, roaringTwo.intersect(roaringOne));
+        Assert.assertEquals(symmetricDifference, roaringOne.symmetricDifference(roaringTwo));
+
+        Assert.assertEquals(union, new RoaringIntSet(roaringOne).or(roaringTwo));
+        Assert.assertEquals(intersect, new RoaringIntSet(roaringOne).and(roaringTwo));
+        Assert.assertEquals(difference, new RoaringIntSet(roaringOne).andNot(roaringTwo));
+        Assert.assertEquals(symmetricDifference, new RoaringIntSet(roaringOne).xor(roaringTwo));
+
+        RoaringIntSet mutable = new RoaringIntSet(roaringOne);
+        Assert.assertTrue(mutable.removeAll(roaringTwo));
+        Assert.assertEquals(difference, mutable);
+        Assert.assertTrue(mutable.addAll(roaringTwo));
+        Assert.assertEquals(union, mutable);
+        Assert.assertTrue(mutable.retainAll(roaringOne));
+        Assert.assertEquals(one, mutable);
+        Assert.assertFalse(mutable.retainAll(roaringOne));
+        Verify.assertEmpty(mutable.intersect(new RoaringIntSet()));
+    }
+
+    @Test
+    public void setsFactoryUsesChunkedOperations()
+    {
+        RoaringIntSet one = RoaringIntSet.newSetWith(1, 2, 3, 70000);
+        RoaringIntSet two = RoaringIntSet.newSetWith(3, 70000, 140000);
+        Verify.assertInstanceOf(RoaringIntSet.class, IntSets.union(one, two));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3, 70000, 140000), IntSets.union(one, two));
+        Assert.assertEquals(IntHashSet.newSetWith(3, 70000), IntSets.intersect(one, two));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2), IntSets.difference(one, two));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 140000), IntSets.symmetricDifference(one, two));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 140000), IntSets.symmetricDifference(one, IntHashSet.newSet(two)));
+    }
+
+    @Test
+    public void iteratorRemoveAcrossChunks()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWith(1, 70000, 70001, 140000, -3);
+        MutableIntIterator iterator = set.intIterator();
+        IntArrayList seen = new IntArrayList();
+        while (iterator.hasNext())
+        {
+            int each = iterator.next();
+            seen.add(each);
+            if (each != 70001)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(IntArrayList.newListWith(-3, 1, 70000, 70001, 140000), seen);
+        Assert.assertEquals(RoaringIntSet.newSetWith(70001), set);
+    }
+
+    @Test
+    public void serialization()
+    {
+        RoaringIntSet set = RoaringIntSet.newSet(RoaringIntSetTest.clustered(4L));
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+        set.runOptimize();
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import java.util.Random;
+
+import com.gs.collections.api.iterator.MutableLongIterator;
+import com.gs.collections.api.set.primitive.MutableLongSet;
+import com.gs.collections.impl.factory.primitive.LongSets;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RoaringLongSet}.
+ */
+public class RoaringLongSetTest extends AbstractLongSetTestCase
+{
+    @Override
+    protected final RoaringLongSet classUnderTest()
+    {
+        return RoaringLongSet.newSetWith(1L, 2L, 3L);
+    }
+
+    @Override
+    protected RoaringLongSet newWith(long... elements)
+    {
+        return RoaringLongSet.newSetWith(elements);
+    }
+
+    private static LongHashSet clustered(long seed)
+    {
+        Random random = new Random(seed);
+        LongHashSet set = new LongHashSet();
+        for (int cluster = 0; cluster < 20; cluster++)
+        {
+            long start = random.nextLong() >> 4;
+            int length = random.nextInt(20000);
+            int step = 1 + random.nextInt(3);
+            for (int i = 0; i < length; i += step)
+            {
+                set.add(start + i);
+            }
+        }
+        for (int i = 0; i < 1000; i++)
+        {
+            set.add(random.nextLong());
+        }
+        return set;
+    }
+
+    @Test
+    public void ascendingOrder()
+    {
+        RoaringLongSet set = RoaringLongSet.newSetWith(70000, -1, 0, Long.MIN_VALUE, Long.MAX_VALUE, -70000, 65535, 65536);
+        Assert.assertEquals(
+                LongArrayList.newListWith(Long.MIN_VALUE, -70000, -1, 0, 65535, 65536, 70000, Long.MAX_VALUE),
+                LongArrayList.newListWith(set.toArray()));
+        Assert.assertEquals("[-9223372036854775808, -70000, -1, 0, 65535, 65536, 70000, 9223372036854775807]", set.toString());
+        Assert.assertEquals(Long.MIN_VALUE, set.min());
+        Assert.assertEquals(Long.MAX_VALUE, set.max());
+    }
+
+    @Test
+    public void denseChunks()
+    {
+        RoaringLongSet set = new RoaringLongSet();
+        LongHashSet expected = new LongHashSet();
+        for (long i = -100000L; i < 100000L; i += 3L)
+        {
+            set.add(i);
+            expected.add(i);
+        }
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(set, expected);
+        Assert.assertEquals(expected.hashCode(), set.hashCode());
+        for (long i = -100000L; i < 100000L; i += 6L)
+        {
+            Assert.assertTrue(set.remove(i));
+            expected.remove(i);
+        }
+        Assert.assertFalse(set.remove(-100000));
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(expected.size(), set.size());
+    }
+
+    @Test
+    public void arrayToBitmapAndBack()
+    {
+        RoaringLongSet set = new RoaringLongSet();
+        for (long i = 0L; i <= 8192L; i += 2L)
+        {
+            set.add(i);
+        }
+        Verify.assertSize(4097, set);
+        Assert.assertEquals(8192L, set.max());
+        Assert.assertEquals(4096L, set.select(2048));
+        for (long i = 0L; i <= 8192L; i += 4L)
+        {
+            Assert.assertTrue(set.remove(i));
+        }
+        Verify.assertSize(2048, set);
+        Assert.assertEquals(8190L, set.max());
+        Assert.assertEquals(2L, set.min());
+        Assert.assertTrue(set.contains(4094L));
+        Assert.assertFalse(set.contains(4096L));
+    }
+
+    @Test
+    public void runOptimize()
+    {
+        RoaringLongSet set = new RoaringLongSet();
+        for (long i = 1000L; i < 200000L; i++)
+        {
+            set.add(i);
+        }
+        set.add(-5);
+        RoaringLongSet copy = new RoaringLongSet(set);
+        Assert.assertTrue(set.runOptimize());
+        Assert.assertFalse(set.runOptimize());
+        Assert.assertEquals(copy, set);
+        Assert.assertTrue(set.contains(199999));
+        Assert.assertFalse(set.contains(200000));
+        Assert.assertFalse(set.contains(999));
+        Assert.assertEquals(199001, set.rank(199999));
+        Assert.assertEquals(65536, set.select(65536 - 1000 + 1));
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+
+        Assert.assertTrue(set.remove(5000));
+        Assert.assertFalse(set.contains(5000));
+        Assert.assertTrue(set.add(5000));
+        Assert.assertTrue(set.add(200000));
+        Assert.assertEquals(copy.with(200000), set);
+    }
+
+    @Test
+    public void rankAndSelect()
+    {
+        LongHashSet expected = RoaringLongSetTest.clustered(1L);
+        RoaringLongSet set = RoaringLongSet.newSet(expected);
+        long[] sorted = expected.toSortedArray();
+        for (int i = 0; i < sorted.length; i += 97)
+        {
+            Assert.assertEquals(sorted[i], set.select(i));
+            Assert.assertEquals(i + 1, set.rank(sorted[i]));
+            Assert.assertEquals(i, set.rank(sorted[i] - 1));
+        }
+        Assert.assertEquals(0, set.rank(Long.MIN_VALUE) - (set.contains(Long.MIN_VALUE) ? 1 : 0));
+        Assert.assertEquals(sorted.length, set.rank(Long.MAX_VALUE));
+        set.runOptimize();
+        for (int i = 0; i < sorted.length; i += 97)
+        {
+            Assert.assertEquals(sorted[i], set.select(i));
+            Assert.assertEquals(i + 1, set.rank(sorted[i]));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void select_throws()
+    {
+        this.classUnderTest().select(3);
+    }
+
+    @Test
+    public void setOperations()
+    {
+        LongHashSet one = RoaringLongSetTest.clustered(2L);
+        LongHashSet two = RoaringLongSetTest.clustered(3L);
+        two.addAll(one.select(each -> (each & 1) == 0));
+        RoaringLongSet roaringOne = RoaringLongSet.newSet(one);
+        RoaringLongSet roaringTwo = RoaringLongSet.newSet(two);
+
+        LongHashSet union = LongHashSet.newSet(one).withAll(two);
+        MutableLongSet intersect = one.select(two::contains);
+        MutableLongSet difference = one.reject(two::contains);
+        LongHashSet symmetricDifference = LongHashSet.newSet(difference).withAll(two.reject(one::contains));
+
+        Assert.assertEquals(union, roaringOne.union(roaringTwo));
+        Assert.assertEquals(intersect, roaringOne.intersect(roaringTwo));
+        Assert.assertEquals(difference, roaringOne.difference(roaringTwo));
+        Assert.assertEquals(symmetricDifference, roaringOne.symmetricDifference(roaringTwo));
+        Assert.assertEquals(one, roaringOne);
+        Assert.assertEquals(two, roaringTwo);
+
+        roaringOne.runOptimize();
+        Assert.assertEquals(union, roaringOne.union(roaringTwo));
+        Assert.assertEquals(intersect, roaringTwo.intersect(roaringOne));
+        Assert.assertEquals(symmetricDifference, roaringOne.symmetricDifference(roaringTwo));
+
+        Assert.assertEquals(union, new RoaringLongSet(roaringOne).or(roaringTwo));
+        Assert.assertEquals(intersect, new RoaringLongSet(roaringOne).and(roaringTwo));
+        Assert.assertEquals(difference, new RoaringLongSet(roaringOne).andNot(roaringTwo));
+        Assert.assertEquals(symmetricDifference, new RoaringLongSet(roaringOne).xor(roaringTwo));
+
+        RoaringLongSet mutable = new RoaringLongSet(roaringOne);
+        Assert.assertTrue(mutable.removeAll(roaringTwo));
+        Assert.assertEquals(difference, mutable);
+        Assert.assertTrue(mutable.addAll(roaringTwo));
+        Assert.assertEquals(union, mutable);
+        Assert.assertTrue(mutable.retainAll(roaringOne));
+        Assert.assertEquals(one, mutable);
+        Assert.assertFalse(mutable.retainAll(roaringOne));
+        Verify.assertEmpty(mutable.intersect(new RoaringLongSet()));
+    }
+
+    @Test
+    public void setsFactoryUsesChunkedOperations()
+    {
+        RoaringLongSet one = RoaringLongSet.newSetWith(1, 2, 3, 70000);
+        RoaringLongSet two = RoaringLongSet.newSetWith(3, 70000, 140000);
+        Verify.assertInstanceOf(RoaringLongSet.class, LongSets.union(one, two));
+        Assert.assertEquals(LongHashSet.newSetWith(1, 2, 3, 70000, 140000), LongSets.union(one, two));
+        Assert.assertEquals(LongHashSet.newSetWith(3, 70000), LongSets.intersect(one, two));
+        Assert.assertEquals(LongHashSet.newSetWith(1, 2), LongSets.difference(one, two));
+        Assert.assertEquals(LongHashSet.newSetWith(1, 2, 140000), LongSets.symmetricDifference(one, two));
+        Assert.assertEquals(LongHashSet.newSetWith(1, 2, 140000), LongSets.symmetricDifference(one, LongHashSet.newSet(two)));
+    }
+
+    @Test
+    public void iteratorRemoveAcrossChunks()
+    {
+        RoaringLongSet set = RoaringLongSet.newSetWith(1, 70000, 70001, 140000, -3);
+        MutableLongIterator iterator = set.longIterator();
+        LongArrayList seen = new LongArrayList();
+        while (iterator.hasNext())
+        {
+            long each = iterator.next();
+            seen.add(each);
+            if (each != 70001)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(LongArrayList.newListWith(-3, 1, 70000, 70001, 140000), seen);
+        Assert.assertEquals(RoaringLongSet.newSetWith(70001), set);
+    }
+
+    @Test
+    public void serialization()
+    {
+        RoaringLongSet set = RoaringLongSet.newSet(RoaringLongSetTest.clustered(4L));
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+        set.runOptimize();
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.set.sorted.immutable;
+
+import java.util.Comparator;
+
+import com.gs.collections.api.set.sorted.ImmutableSortedSet;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableEytzingerSortedSetTest
+        extends ImmutableTreeSetTest
+{
+    @Override
+    protected ImmutableSortedSet<Integer> classUnderTest()
+    {
+        return ImmutableEytzingerSortedSet.newSetWith(1, 2, 3, 4);
+    }
+
+    @Override
+    protected ImmutableSortedSet<Integer> classUnderTest(Comparator<? super Integer> comparator)
+    {
+        return ImmutableEytzingerSortedSet.newSetWith(comparator, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void manyElements()
+    {
+        for (int size = 1; size < 70; size++)
+        {
+            TreeSortedSet<Integer> expected = TreeSortedSet.newSet(Interval.zeroToBy(size * 2 - 2, 2));
+            ImmutableSortedSet<Integer> set = ImmutableEytzingerSortedSet.newSet(expected);
+            Assert.assertEquals(expected, set);
+            Verify.assertIterablesEqual(expected, set);
+            for (int i = -1; i <= size * 2; i++)
+            {
+                Assert.assertEquals(expected.contains(i), set.contains(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.string.immutable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ByteBufferCharSequenceTest
+{
+    private static ByteBufferCharSequence view(String prefix, String content, String suffix, Charset charset)
+    {
+        byte[] prefixBytes = prefix.getBytes(charset);
+        byte[] contentBytes = content.getBytes(charset);
+        ByteBuffer buffer = ByteBuffer.wrap((prefix + content + suffix).getBytes(charset));
+        return new ByteBufferCharSequence(buffer, prefixBytes.length, contentBytes.length);
+    }
+
+    @Test
+    public void charSequence()
+    {
+        ByteBufferCharSequence sequence = view("xx", "caf\u00e9,42", "yy", Charset.forName("ISO-8859-1"));
+        Assert.assertEquals(7, sequence.length());
+        Assert.assertEquals('\u00e9', sequence.charAt(3));
+        Assert.assertEquals("caf\u00e9,42", sequence.toString());
+        Assert.assertEquals("42", sequence.subSequence(5, 7).toString());
+        Assert.assertEquals("", sequence.subSequence(7, 7).toString());
+        Assert.assertEquals("caf\u00e9,42".hashCode(), sequence.hashCode());
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(7));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(3, 8));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> new ByteBufferCharSequence(ByteBuffer.allocate(2), 1, 2));
+    }
+
+    @Test
+    public void toStringWithCharset()
+    {
+        Charset utf8 = Charset.forName("UTF-8");
+        ByteBufferCharSequence sequence = view("\u4e16", "caf\u00e9", "\u754c", utf8);
+        Assert.assertEquals(5, sequence.length());
+        Assert.assertEquals("caf\u00e9", sequence.toString(utf8));
+        Assert.assertEquals("caf\u00c3\u00a9", sequence.toString(Charset.forName("ISO-8859-1")));
+    }
+
+    @Test
+    public void equalsAndHashCode()
+    {
+        Charset latin1 = Charset.forName("ISO-8859-1");
+        Verify.assertEqualsAndHashCode(view("a", "key", "b", latin1), view("", "key", "", latin1));
+        Assert.assertNotEquals(view("", "key", "", latin1), view("", "kez", "", latin1));
+        Assert.assertNotEquals(view("", "key", "", latin1), view("", "keys", "", latin1));
+        Assert.assertNotEquals(view("", "key", "", latin1), "key");
+    }
+}
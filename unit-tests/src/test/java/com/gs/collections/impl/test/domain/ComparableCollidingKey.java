@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.test.domain;
+
+/**
+ * A {@link Comparable} key whose hash code is the same for every instance, which forces every key into one collision
+ * chain.
+ */
+public final class ComparableCollidingKey implements Comparable<ComparableCollidingKey>
+{
+    private final int value;
+
+    public ComparableCollidingKey(int value)
+    {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass())
+        {
+            return false;
+        }
+
+        ComparableCollidingKey that = (ComparableCollidingKey) obj;
+
+        return this.value == that.value;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 42;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ComparableCollidingKey{" + this.value + '}';
+    }
+
+    @Override
+    public int compareTo(ComparableCollidingKey other)
+    {
+        return this.value < other.value ? -1 : this.value == other.value ? 0 : 1;
+    }
+}
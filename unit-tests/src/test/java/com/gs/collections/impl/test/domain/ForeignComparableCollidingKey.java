@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.test.domain;
+
+/**
+ * A key whose hash code is the same for every instance and which is {@link Comparable} to Strings rather than to its
+ * own class, so comparing two of these keys with compareTo throws ClassCastException.
+ */
+public final class ForeignComparableCollidingKey implements Comparable<String>
+{
+    private final int value;
+
+    public ForeignComparableCollidingKey(int value)
+    {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass())
+        {
+            return false;
+        }
+
+        ForeignComparableCollidingKey that = (ForeignComparableCollidingKey) obj;
+
+        return this.value == that.value;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 42;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ForeignComparableCollidingKey{" + this.value + '}';
+    }
+
+    @Override
+    public int compareTo(String other)
+    {
+        return String.valueOf(this.value).compareTo(other);
+    }
+}
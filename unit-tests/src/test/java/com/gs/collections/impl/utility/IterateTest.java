@@ -53,12 +53,17 @@ import com.gs.collections.api.map.primitive.ObjectDoubleMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectDoubleBagMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectFloatListMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectIntListMultimap;
+import com.gs.collections.api.multimap.primitive.MutableObjectLongListMultimap;
 import com.gs.collections.api.multimap.set.MutableSetMultimap;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.api.tuple.Twin;
 import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.mutable.primitive.DoubleHashBag;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.IntegerPredicates;
@@ -90,8 +95,12 @@ import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.math.IntegerSum;
 import com.gs.collections.impl.math.Sum;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.multimap.primitive.ObjectDoubleHashBagMultimap;
+import com.gs.collections.impl.multimap.primitive.ObjectIntArrayListMultimap;
+import com.gs.collections.impl.multimap.primitive.ObjectIntHashSetMultimap;
 import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
 import com.gs.collections.impl.test.Verify;
 import com.gs.collections.impl.tuple.Tuples;
 import org.junit.Assert;
@@ -513,6 +522,42 @@ public class IterateTest
         Verify.assertThrows(IllegalArgumentException.class, () -> Iterate.groupBy(null, null, null));
     }
 
+    @Test
+    public void groupByInt()
+    {
+        FastList<String> source = FastList.newListWith("Ted", "Sally", "Mary", "Bob", "Sara");
+        MutableObjectIntListMultimap<Character> result1 = Iterate.groupByInt(source, StringFunctions.firstLetter(), String::length);
+        MutableObjectIntListMultimap<Character> result2 = Iterate.groupByInt(LazyIterate.adapt(source), StringFunctions.firstLetter(), String::length);
+        ObjectIntHashSetMultimap<Character> result3 = Iterate.groupByInt(new ArrayList<>(source), StringFunctions.firstLetter(), String::length, ObjectIntHashSetMultimap.newMultimap());
+        ObjectIntArrayListMultimap<Character> expected = ObjectIntArrayListMultimap.newMultimap();
+        expected.put('T', 3);
+        expected.put('S', 5);
+        expected.put('M', 4);
+        expected.put('B', 3);
+        expected.put('S', 4);
+        Assert.assertEquals(expected, result1);
+        Assert.assertEquals(expected, result2);
+        Assert.assertEquals(IntHashSet.newSetWith(5, 4), result3.get('S'));
+        Verify.assertThrows(IllegalArgumentException.class, () -> Iterate.groupByInt(null, null, null));
+    }
+
+    @Test
+    public void groupByLong()
+    {
+        MutableObjectLongListMultimap<Boolean> result = Iterate.groupByLong(Interval.oneTo(5), each -> each % 2 == 0, Integer::longValue);
+        Assert.assertEquals(LongArrayList.newListWith(1L, 3L, 5L), result.get(Boolean.FALSE));
+        Assert.assertEquals(LongArrayList.newListWith(2L, 4L), result.get(Boolean.TRUE));
+    }
+
+    @Test
+    public void groupByFloatAndDouble()
+    {
+        MutableObjectFloatListMultimap<Boolean> floats = Iterate.groupByFloat(Interval.oneTo(3), each -> each > 1, Integer::floatValue);
+        Assert.assertEquals(FloatArrayList.newListWith(2.0f, 3.0f), floats.get(Boolean.TRUE));
+        MutableObjectDoubleBagMultimap<Boolean> doubles = Iterate.groupByDouble(Interval.oneTo(3), each -> each > 1, each -> 1.0, ObjectDoubleHashBagMultimap.newMultimap());
+        Assert.assertEquals(DoubleHashBag.newBagWith(1.0, 1.0), doubles.get(Boolean.TRUE));
+    }
+
     @Test
     public void groupByEachWithTarget()
     {
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HashTableCapacitiesTest
+{
+    @Test
+    public void forSize()
+    {
+        Assert.assertEquals(2, HashTableCapacities.forSize(0));
+        Assert.assertEquals(2, HashTableCapacities.forSize(1));
+        Assert.assertEquals(16, HashTableCapacities.forSize(8));
+        Assert.assertEquals(32, HashTableCapacities.forSize(9));
+        Assert.assertEquals(2, HashTableCapacities.forSize(-1));
+        Assert.assertEquals(1 << 30, HashTableCapacities.forSize(Integer.MAX_VALUE));
+    }
+}